@@ -0,0 +1,38 @@
+package com.paklog.ordermanagement.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
+
+/**
+ * Order ID generation: time-ordered UUIDs against random (version 4) UUIDs.
+ *
+ * Run with several threads to see the contention on the SecureRandom behind randomUUID:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderIdBenchmark -t 8"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderIdBenchmark {
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return TimeOrderedUuid.next();
+    }
+
+    @Benchmark
+    public UUID random() {
+        return UUID.randomUUID();
+    }
+}
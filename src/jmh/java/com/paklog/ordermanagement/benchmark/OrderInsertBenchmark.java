@@ -0,0 +1,104 @@
+package com.paklog.ordermanagement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
+
+/**
+ * Order inserts into a large collection keyed by time-ordered or by random order IDs.
+ *
+ * Needs a MongoDB server, given by -Dbenchmark.mongodb.uri (default localhost). The difference
+ * only shows once the _id index no longer fits in the WiredTiger cache, so start mongod with a
+ * small cache and preload enough orders, for example:
+ * mongod --wiredTigerCacheSizeGB 0.25
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderInsertBenchmark -p preloadedOrders=20000000 -t 8"
+ *
+ * Each ID strategy uses its own collection, which is kept between runs once preloaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    private static final int PRELOAD_BATCH_SIZE = 1000;
+
+    @Param({"timeOrdered", "random"})
+    private String ids;
+
+    @Param({"1000000"})
+    private long preloadedOrders;
+
+    private MongoClient client;
+    private MongoCollection<Document> orders;
+    private Supplier<UUID> idGenerator;
+    private String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MongoClientSettings settings = MongoClientSettings.builder()
+            .applyConnectionString(new ConnectionString(
+                System.getProperty("benchmark.mongodb.uri", "mongodb://localhost:27017")))
+            .uuidRepresentation(UuidRepresentation.STANDARD)
+            .build();
+        client = MongoClients.create(settings);
+        orders = client.getDatabase("order_management_benchmark").getCollection("orders_" + ids);
+        idGenerator = "random".equals(ids) ? UUID::randomUUID : TimeOrderedUuid::next;
+        payload = "x".repeat(1024);
+
+        List<Document> batch = new ArrayList<>(PRELOAD_BATCH_SIZE);
+        for (long count = orders.estimatedDocumentCount(); count < preloadedOrders; count++) {
+            batch.add(order());
+            if (batch.size() == PRELOAD_BATCH_SIZE) {
+                orders.insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            orders.insertMany(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public void insertOrder() {
+        orders.insertOne(order());
+    }
+
+    private Document order() {
+        return new Document("_id", idGenerator.get())
+            .append("status", "RECEIVED")
+            .append("payload", payload);
+    }
+}
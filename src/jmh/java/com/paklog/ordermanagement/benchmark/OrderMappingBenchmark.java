@@ -0,0 +1,103 @@
+package com.paklog.ordermanagement.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
+import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+import com.paklog.ordermanagement.infrastructure.config.MongoCodecConfig;
+
+/**
+ * Mapping an order to and from its document: the reflective MappingMongoConverter against the
+ * same converter with the hand-written codecs registered, as the application configures it.
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderMappingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    @Param({"reflective", "codec"})
+    private String mapping;
+
+    @Param({"5", "100"})
+    private int itemCount;
+
+    private MappingMongoConverter converter;
+    private FulfillmentOrder order;
+    private Document document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MongoCustomConversions conversions = "codec".equals(mapping)
+            ? new MongoCodecConfig().mongoCustomConversions()
+            : new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        order = order(itemCount);
+        document = write();
+    }
+
+    @Benchmark
+    public Document write() {
+        Document target = new Document();
+        converter.write(order, target);
+        return target;
+    }
+
+    @Benchmark
+    public FulfillmentOrder read() {
+        return converter.read(FulfillmentOrder.class, document);
+    }
+
+    private static FulfillmentOrder order(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem("SKU-" + i, "item-" + i, 1 + i % 3, null, "Handle with care"));
+        }
+        FulfillmentOrder order = new FulfillmentOrder(TimeOrderedUuid.next(), "seller-order-1", "display-1",
+            LocalDateTime.now(), "Thank you for your order", "STANDARD",
+            new Address("Jane Doe", "1 Main St", null, "Springfield", "IL", "62701", "US"), items, "idem-1");
+        order.setStatus(FulfillmentOrderStatus.RECEIVED);
+        order.getUnfulfillableItems().add(new UnfulfillableItem("SKU-0", "item-0", 1, 0, UnfulfillableReason.INSUFFICIENT_STOCK));
+        order.getUnfulfillableItems().add(new UnfulfillableItem("SKU-1", "item-1", 2, 1, UnfulfillableReason.INSUFFICIENT_STOCK));
+        order.setAddressFingerprint(1234567890123L);
+        order.setAddressBandKeys(List.of(11L, 22L, 33L, 44L));
+        order.setVersion(3L);
+        return order;
+    }
+}
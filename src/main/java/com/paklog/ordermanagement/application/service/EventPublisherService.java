@@ -3,6 +3,7 @@ package com.paklog.ordermanagement.application.service;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -24,7 +25,7 @@ import io.cloudevents.jackson.JsonFormat;
 public class EventPublisherService {
     
     private static final Logger logger = LoggerFactory.getLogger(EventPublisherService.class);
-    private static final String KAFKA_TOPIC = "fulfillment.order_management.v1.events";
+    public static final String KAFKA_TOPIC = "fulfillment.order_management.v1.events";
     
     private final OutboxEventRepository outboxEventRepository;
     private final KafkaTemplate<String, String> kafkaTemplate;
@@ -44,19 +45,7 @@ public class EventPublisherService {
         logger.info("Publishing event to outbox - EventType: {}, EventId: {}", event.getType(), event.getId());
         
         try {
-            // Convert event to CloudEvent format
-            logger.debug("Converting to CloudEvent format - EventId: {}", event.getId());
-            CloudEvent cloudEvent = convertToCloudEvent(event);
-            
-            // Serialize CloudEvent to JSON
-            logger.debug("Serializing CloudEvent to JSON - EventId: {}", event.getId());
-            JsonFormat jsonFormat = new JsonFormat();
-            byte[] serializedEvent = jsonFormat.serialize(cloudEvent);
-            String eventData = new String(serializedEvent);
-            
-            // Create outbox event
-            logger.debug("Creating outbox event - EventId: {}, Size: {} bytes", event.getId(), eventData.length());
-            OutboxEvent outboxEvent = new OutboxEvent(event.getType(), eventData);
+            OutboxEvent outboxEvent = toOutboxEvent(event);
             
             // Save to outbox
             logger.debug("Persisting event to outbox - EventId: {}", event.getId());
@@ -74,6 +63,39 @@ public class EventPublisherService {
         }
     }
     
+    /**
+     * Writes a batch of events to the outbox with a single insert.
+     *
+     * @param events the events to publish, in order
+     */
+    public void publishEvents(List<FulfillmentOrderEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant startTime = Instant.now();
+        logger.info("Publishing events to outbox - Count: {}", events.size());
+        
+        try {
+            List<OutboxEvent> outboxEvents = new ArrayList<>(events.size());
+            for (FulfillmentOrderEvent event : events) {
+                outboxEvents.add(toOutboxEvent(event));
+            }
+            
+            // One insertMany for the whole batch
+            outboxEventRepository.insert(outboxEvents);
+            
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.info("Successfully published events to outbox - Count: {}, Duration: {}ms", 
+                    events.size(), duration.toMillis());
+            
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to publish events to outbox - Count: {}, Error: {}, Duration: {}ms", 
+                    events.size(), e.getMessage(), duration.toMillis(), e);
+            throw new RuntimeException("Failed to publish events", e);
+        }
+    }
+    
     public void publishOutboxEvents() {
         Instant startTime = Instant.now();
         logger.debug("Starting outbox event publishing cycle");
@@ -132,6 +154,22 @@ public class EventPublisherService {
         }
     }
     
+    private OutboxEvent toOutboxEvent(FulfillmentOrderEvent event) throws JsonProcessingException {
+        // Convert event to CloudEvent format
+        logger.debug("Converting to CloudEvent format - EventId: {}", event.getId());
+        CloudEvent cloudEvent = convertToCloudEvent(event);
+        
+        // Serialize CloudEvent to JSON
+        logger.debug("Serializing CloudEvent to JSON - EventId: {}", event.getId());
+        JsonFormat jsonFormat = new JsonFormat();
+        byte[] serializedEvent = jsonFormat.serialize(cloudEvent);
+        String eventData = new String(serializedEvent);
+        
+        // Create outbox event
+        logger.debug("Creating outbox event - EventId: {}, Size: {} bytes", event.getId(), eventData.length());
+        return new OutboxEvent(event.getType(), eventData);
+    }
+    
     private CloudEvent convertToCloudEvent(FulfillmentOrderEvent event) throws JsonProcessingException {
         CloudEventBuilder builder = CloudEventBuilder.v1()
                 .withId(event.getId())
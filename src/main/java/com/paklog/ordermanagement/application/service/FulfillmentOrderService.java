@@ -2,18 +2,38 @@ package com.paklog.ordermanagement.application.service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.paklog.ordermanagement.domain.config.LargeOrderConfig;
 import com.paklog.ordermanagement.domain.event.FulfillmentOrderCancelledEvent;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderEvent;
 import com.paklog.ordermanagement.domain.event.FulfillmentOrderReceivedEvent;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
 import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+import com.paklog.ordermanagement.domain.repository.OrderItemChunkRepository;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.domain.service.RecentOrderIndex;
 
 @Service
 public class FulfillmentOrderService {
@@ -21,15 +41,37 @@ public class FulfillmentOrderService {
     private static final Logger logger = LoggerFactory.getLogger(FulfillmentOrderService.class);
 
     private final FulfillmentOrderRepository fulfillmentOrderRepository;
+    private final OrderItemChunkRepository orderItemChunkRepository;
     private final EventPublisherService eventPublisherService;
+    private final LargeOrderConfig largeOrderConfig;
+    private final RecentOrderIndex recentOrderIndex;
 
     public FulfillmentOrderService(FulfillmentOrderRepository fulfillmentOrderRepository,
-                                  EventPublisherService eventPublisherService) {
+                                  OrderItemChunkRepository orderItemChunkRepository,
+                                  EventPublisherService eventPublisherService,
+                                  LargeOrderConfig largeOrderConfig,
+                                  @Autowired(required = false) RecentOrderIndex recentOrderIndex) {
         this.fulfillmentOrderRepository = fulfillmentOrderRepository;
+        this.orderItemChunkRepository = orderItemChunkRepository;
         this.eventPublisherService = eventPublisherService;
-        logger.info("FulfillmentOrderService initialized");
+        this.largeOrderConfig = largeOrderConfig;
+        this.recentOrderIndex = recentOrderIndex;
+        logger.info("FulfillmentOrderService initialized - LargeOrderItemThreshold: {}, ChunkSize: {}",
+                largeOrderConfig.getItemThreshold(), largeOrderConfig.getChunkSize());
     }
 
+    /**
+     * Creates an order, or returns the existing one on an idempotent replay.
+     *
+     * The order is inserted directly and the unique indexes on idempotencyKey and
+     * sellerFulfillmentOrderId reject duplicates, so a new order takes a single round trip and
+     * concurrent requests cannot both pass a check-then-save. A rejected insert is resolved
+     * with one read by idempotency key.
+     *
+     * @param order the new order
+     * @return the created order, or the existing order with the same idempotency key
+     * @throws IllegalStateException if another order with the same sellerFulfillmentOrderId exists
+     */
     @Transactional
     public FulfillmentOrder createOrder(FulfillmentOrder order) {
         Instant startTime = Instant.now();
@@ -39,53 +81,227 @@ public class FulfillmentOrderService {
                 order.getItems() != null ? order.getItems().size() : 0);
 
         try {
-            // Check for idempotent replay
-        Optional<FulfillmentOrder> existingByKey =
-            fulfillmentOrderRepository.findByIdempotencyKey(order.getIdempotencyKey());
-
-        if (existingByKey.isPresent()) {
-            return existingByKey.get();
-        }
-
-        // Check if order with same sellerFulfillmentOrderId already exists
-            logger.debug("Checking for existing order with SellerOrderId: {}", order.getSellerFulfillmentOrderId());
-            Optional<FulfillmentOrder> existingOrder =
-                fulfillmentOrderRepository.findBySellerFulfillmentOrderId(order.getSellerFulfillmentOrderId());
-
-            if (existingOrder.isPresent()) {
-                Duration duration = Duration.between(startTime, Instant.now());
-                logger.warn("Duplicate order creation attempt - SellerOrderId: {}, ExistingOrderId: {}, Duration: {}ms",
-                        order.getSellerFulfillmentOrderId(),
-                        existingOrder.get().getOrderId(),
-                        duration.toMillis());
-                throw new IllegalStateException("Order with sellerFulfillmentOrderId already exists");
-            }
+            return receiveAndSave(order);
+
+        } catch (DuplicateKeyException e) {
+            return resolveDuplicate(order, startTime);
+
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to create fulfillment order - OrderId: {}, SellerOrderId: {}, Error: {}, Duration: {}ms",
+                    order.getOrderId(), order.getSellerFulfillmentOrderId(), e.getMessage(), duration.toMillis(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a batch of orders with one bulk insert and one outbox write. Orders rejected by a
+     * unique index are resolved as in {@link #createOrder(FulfillmentOrder)}, with a single read
+     * for all of them, except that a taken sellerFulfillmentOrderId is reported by omission
+     * rather than thrown.
+     *
+     * @param orders the new orders, with distinct idempotency keys
+     * @return by ID of the submitted order, the created order or the existing order with the
+     *         same idempotency key; orders whose sellerFulfillmentOrderId is taken are absent
+     * @throws OrderBatchInsertException if the insert failed for another reason, after the
+     *         events of the inserted orders were published and the chunks of the others removed
+     */
+    public Map<UUID, FulfillmentOrder> createOrders(List<FulfillmentOrder> orders) {
+        Instant startTime = Instant.now();
+        logger.info("Creating fulfillment orders - Count: {}", orders.size());
 
-            // Receive the order
-            logger.debug("Processing order transition to RECEIVED - OrderId: {}", order.getOrderId());
+        // Receive the orders; large orders write their items to the chunk collection first
+        List<OrderItemChunk> chunks = new ArrayList<>();
+        for (FulfillmentOrder order : orders) {
             order.receive();
+            order.updateAddressFingerprint();
+            if (planItemStorage(order)) {
+                chunks.addAll(OrderItemChunk.split(order.getOrderId(), order.getItems(), largeOrderConfig.getChunkSize()));
+            }
+        }
+        if (!chunks.isEmpty()) {
+            logger.debug("Persisting item chunks - Orders: {}, Chunks: {}", orders.size(), chunks.size());
+            orderItemChunkRepository.saveChunks(chunks);
+        }
 
-            // Save the order
-            logger.debug("Persisting fulfillment order to database - OrderId: {}", order.getOrderId());
-            FulfillmentOrder savedOrder = fulfillmentOrderRepository.saveOrder(order);
+        // Insert all orders at once; the unique indexes reject duplicates one by one
+        Set<UUID> rejected;
+        OrderBatchInsertException failure = null;
+        try {
+            rejected = insertWithoutChunkedItems(orders);
+        } catch (OrderBatchInsertException e) {
+            // The other orders of the unordered insert were written and still need their events
+            rejected = e.getNotInserted();
+            failure = e;
+        }
 
-            // Publish event
-            logger.debug("Publishing FulfillmentOrderReceivedEvent - OrderId: {}", savedOrder.getOrderId());
-            FulfillmentOrderReceivedEvent event = new FulfillmentOrderReceivedEvent(savedOrder);
-            eventPublisherService.publishEvent(event);
+        Map<UUID, FulfillmentOrder> created = new LinkedHashMap<>();
+        List<FulfillmentOrderEvent> events = new ArrayList<>();
+        List<FulfillmentOrder> duplicates = new ArrayList<>();
+        for (FulfillmentOrder order : orders) {
+            if (rejected.contains(order.getOrderId())) {
+                if (order.hasChunkedItems()) {
+                    orderItemChunkRepository.deleteByOrderId(order.getOrderId());
+                }
+                duplicates.add(order);
+                continue;
+            }
+            if (recentOrderIndex != null) {
+                recentOrderIndex.record(order);
+            }
+            events.add(new FulfillmentOrderReceivedEvent(order));
+            created.put(order.getOrderId(), order);
+        }
+        eventPublisherService.publishEvents(events);
 
+        if (failure != null) {
             Duration duration = Duration.between(startTime, Instant.now());
-            logger.info("Successfully created fulfillment order - OrderId: {}, Status: {}, Duration: {}ms",
-                    savedOrder.getOrderId(), savedOrder.getStatus(), duration.toMillis());
+            logger.error("Failed to create fulfillment orders - Count: {}, Inserted: {}, NotInserted: {}, Error: {}, Duration: {}ms",
+                    orders.size(), events.size(), rejected.size(), failure.getMessage(), duration.toMillis(), failure);
+            throw failure;
+        }
 
-            return savedOrder;
+        // A duplicate with a known idempotency key is a replay, otherwise its seller order ID is taken
+        if (!duplicates.isEmpty()) {
+            List<String> idempotencyKeys = new ArrayList<>(duplicates.size());
+            for (FulfillmentOrder duplicate : duplicates) {
+                idempotencyKeys.add(duplicate.getIdempotencyKey());
+            }
+            Map<String, FulfillmentOrder> existing = findByIdempotencyKeys(idempotencyKeys);
+            for (FulfillmentOrder duplicate : duplicates) {
+                FulfillmentOrder replayed = existing.get(duplicate.getIdempotencyKey());
+                if (replayed != null) {
+                    created.put(duplicate.getOrderId(), replayed);
+                } else {
+                    logger.warn("Duplicate order creation attempt - SellerOrderId: {}",
+                            duplicate.getSellerFulfillmentOrderId());
+                }
+            }
+        }
 
-        } catch (Exception e) {
-            Duration duration = Duration.between(startTime, Instant.now());
-            logger.error("Failed to create fulfillment order - OrderId: {}, SellerOrderId: {}, Error: {}, Duration: {}ms",
-                    order.getOrderId(), order.getSellerFulfillmentOrderId(), e.getMessage(), duration.toMillis(), e);
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.info("Successfully created fulfillment orders - Count: {}, Inserted: {}, Duplicates: {}, Duration: {}ms",
+                orders.size(), events.size(), duplicates.size(), duration.toMillis());
+        return created;
+    }
+
+    /**
+     * Looks up an order previously created with the same idempotency key.
+     *
+     * @param idempotencyKey the idempotency key of the create request
+     * @return the existing order, if this is a replay
+     */
+    public Optional<FulfillmentOrder> findByIdempotencyKey(String idempotencyKey) {
+        return fulfillmentOrderRepository.findByIdempotencyKey(idempotencyKey).map(this::loadItems);
+    }
+
+    /**
+     * Looks up the orders previously created with any of the given idempotency keys.
+     *
+     * @param idempotencyKeys the idempotency keys of the create requests
+     * @return the existing orders by idempotency key
+     */
+    public Map<String, FulfillmentOrder> findByIdempotencyKeys(Collection<String> idempotencyKeys) {
+        Map<String, FulfillmentOrder> existing = new HashMap<>();
+        if (idempotencyKeys.isEmpty()) {
+            return existing;
+        }
+        for (FulfillmentOrder order : fulfillmentOrderRepository.findByIdempotencyKeyIn(idempotencyKeys)) {
+            existing.put(order.getIdempotencyKey(), loadItems(order));
+        }
+        return existing;
+    }
+
+    /**
+     * Decides how the items of a new order are stored: inline, or in chunks when the order has
+     * more items than the large-order threshold. Events built from the order afterwards carry
+     * an item summary instead of the items of a large order.
+     *
+     * @param order the new order
+     * @return true if the order takes the large-order path
+     */
+    public boolean planItemStorage(FulfillmentOrder order) {
+        if (order.hasChunkedItems() || !largeOrderConfig.isLargeOrder(order.getItemCount())) {
+            return order.hasChunkedItems();
+        }
+        int chunks = order.chunkItems(largeOrderConfig.getChunkSize());
+        logger.info("Large order items stored in chunks - OrderId: {}, ItemCount: {}, Chunks: {}",
+                order.getOrderId(), order.getItemCount(), chunks);
+        return true;
+    }
+
+    /**
+     * Resolves an insert rejected by a unique index: an existing order with the same
+     * idempotency key makes this a replay, otherwise the sellerFulfillmentOrderId is taken.
+     */
+    private FulfillmentOrder resolveDuplicate(FulfillmentOrder order, Instant startTime) {
+        Optional<FulfillmentOrder> replayed = order.getIdempotencyKey() != null
+            ? findByIdempotencyKey(order.getIdempotencyKey())
+            : Optional.empty();
+
+        Duration duration = Duration.between(startTime, Instant.now());
+        if (replayed.isPresent()) {
+            logger.info("Idempotent replay of fulfillment order - OrderId: {}, IdempotencyKey: {}, Duration: {}ms",
+                    replayed.get().getOrderId(), order.getIdempotencyKey(), duration.toMillis());
+            return replayed.get();
+        }
+
+        logger.warn("Duplicate order creation attempt - SellerOrderId: {}, Duration: {}ms",
+                order.getSellerFulfillmentOrderId(), duration.toMillis());
+        throw new IllegalStateException("Order with sellerFulfillmentOrderId already exists");
+    }
+
+    /**
+     * Receives and inserts a new order, and publishes the FulfillmentOrderReceivedEvent.
+     *
+     * @param order the new order
+     * @return the inserted order
+     * @throws DuplicateKeyException if the idempotency key or sellerFulfillmentOrderId is taken
+     */
+    @Transactional
+    public FulfillmentOrder receiveAndSave(FulfillmentOrder order) {
+        Instant startTime = Instant.now();
+
+        // Receive the order
+        logger.debug("Processing order transition to RECEIVED - OrderId: {}", order.getOrderId());
+        order.receive();
+        order.updateAddressFingerprint();
+
+        // Large orders write their items to the chunk collection first
+        if (planItemStorage(order)) {
+            logger.debug("Persisting item chunks - OrderId: {}, Chunks: {}",
+                    order.getOrderId(), order.getItemChunkCount());
+            orderItemChunkRepository.saveChunks(
+                OrderItemChunk.split(order.getOrderId(), order.getItems(), largeOrderConfig.getChunkSize()));
+        }
+
+        // Insert the order; the unique indexes reject duplicates
+        logger.debug("Persisting fulfillment order to database - OrderId: {}", order.getOrderId());
+        FulfillmentOrder savedOrder;
+        try {
+            savedOrder = withoutChunkedItems(order, fulfillmentOrderRepository::insertOrder);
+        } catch (DuplicateKeyException e) {
+            if (order.hasChunkedItems()) {
+                orderItemChunkRepository.deleteByOrderId(order.getOrderId());
+            }
             throw e;
         }
+
+        // Known to this pod's duplicate index right away; other pods learn it from the event
+        if (recentOrderIndex != null) {
+            recentOrderIndex.record(savedOrder);
+        }
+
+        // Publish event
+        logger.debug("Publishing FulfillmentOrderReceivedEvent - OrderId: {}", savedOrder.getOrderId());
+        FulfillmentOrderReceivedEvent event = new FulfillmentOrderReceivedEvent(savedOrder);
+        eventPublisherService.publishEvent(event);
+
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.info("Successfully created fulfillment order - OrderId: {}, Status: {}, Duration: {}ms",
+                savedOrder.getOrderId(), savedOrder.getStatus(), duration.toMillis());
+
+        return savedOrder;
     }
 
     public Optional<FulfillmentOrder> getOrderById(UUID orderId) {
@@ -93,7 +309,7 @@ public class FulfillmentOrderService {
         logger.debug("Retrieving fulfillment order from database - OrderId: {}", orderId);
 
         try {
-            Optional<FulfillmentOrder> order = fulfillmentOrderRepository.findById(orderId);
+            Optional<FulfillmentOrder> order = fulfillmentOrderRepository.findById(orderId).map(this::loadItems);
             Duration duration = Duration.between(startTime, Instant.now());
 
             if (order.isPresent()) {
@@ -114,27 +330,47 @@ public class FulfillmentOrderService {
         }
     }
 
+    /**
+     * Searches orders page by page. Items are loaded only when the criteria ask for them,
+     * including the chunked items of large orders.
+     */
+    public OrderSearchPage searchOrders(OrderSearchCriteria criteria) {
+        Instant startTime = Instant.now();
+        OrderSearchPage page = fulfillmentOrderRepository.searchOrders(criteria);
+        if (criteria.isIncludeItems()) {
+            page.getOrders().forEach(this::loadItems);
+        }
+
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.debug("Searched fulfillment orders - Results: {}, HasMore: {}, Duration: {}ms",
+                page.getOrders().size(), page.getNext() != null, duration.toMillis());
+        return page;
+    }
+
+    /**
+     * Streams the orders matching the criteria straight from a database cursor, with the
+     * chunked items of large orders loaded as each order is reached. The caller must close
+     * the stream.
+     */
+    public Stream<FulfillmentOrder> streamOrders(OrderSearchCriteria criteria) {
+        logger.debug("Streaming fulfillment orders - Status: {}, ReceivedFrom: {}, ReceivedTo: {}, Limit: {}",
+                criteria.getStatus(), criteria.getReceivedFrom(), criteria.getReceivedTo(), criteria.getLimit());
+        return fulfillmentOrderRepository.streamOrders(criteria).map(this::loadItems);
+    }
+
     @Transactional
     public FulfillmentOrder cancelOrder(UUID orderId, String cancellationReason) {
         Instant startTime = Instant.now();
         logger.info("Cancelling fulfillment order - OrderId: {}, Reason: {}", orderId, cancellationReason);
 
         try {
-            logger.debug("Retrieving order for cancellation - OrderId: {}", orderId);
-            FulfillmentOrder order = fulfillmentOrderRepository.findById(orderId)
-                .orElseThrow(() -> {
-                    Duration duration = Duration.between(startTime, Instant.now());
-                    logger.warn("Order not found for cancellation - OrderId: {}, Duration: {}ms",
-                            orderId, duration.toMillis());
-                    return new IllegalArgumentException("Order not found");
-                });
-
-            logger.debug("Processing order cancellation - OrderId: {}, CurrentStatus: {}",
-                    orderId, order.getStatus());
-            order.cancel(cancellationReason);
-
-            logger.debug("Persisting cancelled order - OrderId: {}", orderId);
-            FulfillmentOrder savedOrder = fulfillmentOrderRepository.saveOrder(order);
+            // One conditional update: a concurrent transition either happened before and makes
+            // this one fail, or happens after and sees CANCELLED
+            logger.debug("Applying cancellation transition - OrderId: {}", orderId);
+            FulfillmentOrder savedOrder = fulfillmentOrderRepository
+                .transitionStatus(FulfillmentOrder.cancellation(orderId, cancellationReason))
+                .map(this::loadItems)
+                .orElseThrow(() -> rejectedCancellation(orderId, cancellationReason, startTime));
 
             // Publish cancellation event
             logger.debug("Publishing FulfillmentOrderCancelledEvent - OrderId: {}", orderId);
@@ -163,4 +399,75 @@ public class FulfillmentOrderService {
             throw e;
         }
     }
+
+    /**
+     * Explains why a cancellation transition matched no order: the order does not exist, or its
+     * current status does not allow cancelling, as the domain model reports it.
+     */
+    private RuntimeException rejectedCancellation(UUID orderId, String cancellationReason, Instant startTime) {
+        Optional<FulfillmentOrder> current = fulfillmentOrderRepository.findById(orderId);
+        if (current.isEmpty()) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.warn("Order not found for cancellation - OrderId: {}, Duration: {}ms",
+                    orderId, duration.toMillis());
+            return new IllegalArgumentException("Order not found");
+        }
+        if (current.get().getArchivedAt() != null) {
+            return new IllegalStateException("Archived orders cannot be changed");
+        }
+        try {
+            current.get().cancel(cancellationReason);
+        } catch (IllegalStateException e) {
+            return e;
+        }
+        // Cancellable now, so its status changed between the update and this read
+        return new IllegalStateException("Order was modified concurrently");
+    }
+
+    private FulfillmentOrder withoutChunkedItems(FulfillmentOrder order,
+                                                 UnaryOperator<FulfillmentOrder> write) {
+        if (!order.hasChunkedItems()) {
+            return write.apply(order);
+        }
+
+        List<OrderItem> items = order.getItems();
+        FulfillmentOrder savedOrder;
+        order.setItems(null);
+        try {
+            savedOrder = write.apply(order);
+        } finally {
+            order.setItems(items);
+        }
+        savedOrder.setItems(items);
+        return savedOrder;
+    }
+
+    /**
+     * Bulk inserts orders, leaving the chunked items of large orders out of their documents.
+     */
+    private Set<UUID> insertWithoutChunkedItems(List<FulfillmentOrder> orders) {
+        Map<FulfillmentOrder, List<OrderItem>> chunkedItems = new HashMap<>();
+        for (FulfillmentOrder order : orders) {
+            if (order.hasChunkedItems()) {
+                chunkedItems.put(order, order.getItems());
+                order.setItems(null);
+            }
+        }
+        try {
+            return fulfillmentOrderRepository.insertOrders(orders);
+        } finally {
+            chunkedItems.forEach(FulfillmentOrder::setItems);
+        }
+    }
+
+    /**
+     * Loads the chunked items of a large order back into it.
+     */
+    private FulfillmentOrder loadItems(FulfillmentOrder order) {
+        if (order.hasChunkedItems() && order.getItems() == null) {
+            order.setItems(OrderItemChunk.join(
+                orderItemChunkRepository.findByOrderIdOrderByChunkIndexAsc(order.getOrderId())));
+        }
+        return order;
+    }
 }
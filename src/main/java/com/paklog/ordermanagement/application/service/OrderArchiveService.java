@@ -0,0 +1,142 @@
+package com.paklog.ordermanagement.application.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.paklog.ordermanagement.domain.config.OrderArchiveConfig;
+import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+import com.paklog.ordermanagement.domain.repository.OrderArchiveBatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Application service moving old terminal orders out of the operational collection into the
+ * archive, so that the working set and its indexes only hold orders that can still change.
+ *
+ * A run archives batches until no candidate is left or the maximum run duration is reached.
+ * It never competes with intake for MongoDB: batches are paced so the instance archives at
+ * most the configured number of orders per second, and the run pauses while more orders than
+ * the threshold are in intake on this instance. Every instance runs the job; concurrent runs
+ * are safe, because moving an order is idempotent.
+ *
+ * Archived orders are counted in order.archive.orders, tagged by outcome, and each batch is
+ * timed in order.archive.batch.
+ */
+@Service
+public class OrderArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderArchiveService.class);
+
+    private final FulfillmentOrderRepository fulfillmentOrderRepository;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final OrderArchiveConfig config;
+    private final Counter archivedCounter;
+    private final Counter changedCounter;
+    private final Counter intakePausesCounter;
+    private final Timer batchTimer;
+
+    public OrderArchiveService(FulfillmentOrderRepository fulfillmentOrderRepository,
+                               OrderIntakePipeline orderIntakePipeline,
+                               OrderArchiveConfig config,
+                               MeterRegistry meterRegistry) {
+        this.fulfillmentOrderRepository = fulfillmentOrderRepository;
+        this.orderIntakePipeline = orderIntakePipeline;
+        this.config = config;
+        this.archivedCounter = Counter.builder("order.archive.orders")
+            .description("Orders moved to the archive, or left operational because they changed meanwhile")
+            .tag("outcome", "archived")
+            .register(meterRegistry);
+        this.changedCounter = Counter.builder("order.archive.orders")
+            .description("Orders moved to the archive, or left operational because they changed meanwhile")
+            .tag("outcome", "changed")
+            .register(meterRegistry);
+        this.intakePausesCounter = Counter.builder("order.archive.intake.pauses")
+            .description("Times the archive job paused for order intake")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.archive.batch")
+            .description("Duration of moving one batch of orders to the archive")
+            .register(meterRegistry);
+        logger.info("OrderArchiveService initialized - Enabled: {}, MinAge: {}, Statuses: {}, MaxOrdersPerSecond: {}",
+            config.isEnabled(), config.getMinAge(), config.getStatuses(), config.getMaxOrdersPerSecond());
+    }
+
+    // The first run waits one interval, by which time the index catalog has created the
+    // compressed archive collection
+    @Scheduled(initialDelayString = "${order-management.order-archive.interval:PT10M}",
+        fixedDelayString = "${order-management.order-archive.interval:PT10M}")
+    public void archiveScheduled() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            archiveOrders();
+        } catch (Exception e) {
+            logger.error("Order archive run failed - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs the archive until no candidate is left or the maximum run duration is reached.
+     *
+     * @return the number of orders archived
+     */
+    public int archiveOrders() {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + config.getMaxRunDuration().toNanos();
+        LocalDateTime receivedBefore = LocalDateTime.now().minus(config.getMinAge());
+        long nanosPerOrder = Duration.ofSeconds(1).toNanos() / Math.max(1, config.getMaxOrdersPerSecond());
+        int archived = 0;
+        int batches = 0;
+
+        while (System.nanoTime() < deadlineNanos) {
+            if (orderIntakePipeline.getInFlight() > config.getMaxIntakeInFlight()) {
+                intakePausesCounter.increment();
+                if (!pause(config.getIntakeBackoff())) {
+                    break;
+                }
+                continue;
+            }
+
+            long batchStartNanos = System.nanoTime();
+            OrderArchiveBatch batch = batchTimer.record(() -> fulfillmentOrderRepository.archiveOrders(
+                config.getStatuses(), receivedBefore, config.getBatchSize()));
+            archivedCounter.increment(batch.archived());
+            changedCounter.increment(batch.found() - batch.archived());
+            archived += batch.archived();
+            batches++;
+
+            if (batch.found() < config.getBatchSize()) {
+                break;
+            }
+            // A batch of n orders takes at least n / maxOrdersPerSecond seconds
+            long remainingNanos = batch.found() * nanosPerOrder - (System.nanoTime() - batchStartNanos);
+            if (remainingNanos > 0 && !pause(Duration.ofNanos(remainingNanos))) {
+                break;
+            }
+        }
+
+        logger.info("Order archive run completed - Archived: {}, Batches: {}, ReceivedBefore: {}, Duration: {}ms",
+            archived, batches, receivedBefore, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        return archived;
+    }
+
+    /**
+     * Sleeps for the given time. Returns false if interrupted, which ends the run.
+     */
+    boolean pause(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
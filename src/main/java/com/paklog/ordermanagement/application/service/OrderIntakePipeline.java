@@ -0,0 +1,527 @@
+package com.paklog.ordermanagement.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Service;
+
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderEvent;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderPartiallyAcceptedEvent;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderStockUnavailableEvent;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderValidatedEvent;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
+import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+import com.paklog.ordermanagement.domain.service.OrderValidationService;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.CatalogLookup;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.InventoryAvailabilityResult;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.InventoryLookup;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.ValidationResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Application service running the intake of a new fulfillment order as a staged pipeline.
+ *
+ * The independent checks run concurrently on virtual threads in one {@link StageScope}:
+ * - idempotency: looks up an order created earlier with the same idempotency key
+ * - business-rules: item, shipping speed and order value rules
+ * - product-catalog: SKU existence in the product catalog
+ * - inventory: stock availability of every item
+ *
+ * The first stage to fail cancels the others: an idempotent replay or an invalid order ends
+ * the intake as soon as it is known. Once all checks have passed, the fulfillment policy is
+ * applied, the order is persisted and events are published, in that order. End-to-end
+ * latency is therefore close to the slowest check rather than their sum.
+ *
+ * A sellerFulfillmentOrderId already used by another order is not checked up front: the
+ * insert itself is rejected by the unique index, which also settles concurrent duplicates.
+ *
+ * Each stage's duration is recorded in the order.intake.stage timer, tagged by stage and outcome.
+ */
+@Service
+public class OrderIntakePipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIntakePipeline.class);
+
+    private final OrderValidationService orderValidationService;
+    private final FulfillmentOrderService fulfillmentOrderService;
+    private final EventPublisherService eventPublisherService;
+    private final MeterRegistry meterRegistry;
+    private final TaskDecorator taskDecorator;
+
+    // Orders currently in intake on this instance, whether submitted alone or in a batch
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OrderIntakePipeline(OrderValidationService orderValidationService,
+                               FulfillmentOrderService fulfillmentOrderService,
+                               EventPublisherService eventPublisherService,
+                               MeterRegistry meterRegistry,
+                               @Autowired(required = false) TaskDecorator taskDecorator) {
+        this.orderValidationService = orderValidationService;
+        this.fulfillmentOrderService = fulfillmentOrderService;
+        this.eventPublisherService = eventPublisherService;
+        this.meterRegistry = meterRegistry;
+        this.taskDecorator = taskDecorator;
+        logger.info("OrderIntakePipeline initialized - ContextPropagation: {}", taskDecorator != null);
+    }
+
+    /**
+     * Runs the intake of a new order.
+     *
+     * @param order the order converted from the create request
+     * @return the outcome of the intake
+     * @throws IllegalStateException if another order with the same sellerFulfillmentOrderId exists
+     */
+    public IntakeResult submit(FulfillmentOrder order) {
+        inFlight.incrementAndGet();
+        try {
+            return runIntake(order);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private IntakeResult runIntake(FulfillmentOrder order) {
+        Instant startTime = Instant.now();
+        logger.debug("Starting order intake - OrderId: {}, SellerOrderId: {}",
+            order.getOrderId(), order.getSellerFulfillmentOrderId());
+
+        StageScope.Subtask<InventoryAvailabilityResult> inventory;
+
+        try (StageScope scope = new StageScope("intake", taskDecorator, this::recordStage)) {
+            scope.fork("idempotency", () -> {
+                Optional<FulfillmentOrder> existing = fulfillmentOrderService.findByIdempotencyKey(order.getIdempotencyKey());
+                if (existing.isPresent()) {
+                    throw new ReplayDetected(existing.get());
+                }
+                return null;
+            });
+            scope.fork("business-rules", () -> requireValid(orderValidationService.validateBusinessRules(order)));
+            scope.fork("product-catalog", () -> requireValid(orderValidationService.validateProductCatalog(order)));
+            inventory = scope.fork("inventory", () -> orderValidationService.checkInventoryAvailability(order));
+
+            scope.join();
+
+        } catch (ReplayDetected replay) {
+            logger.info("Idempotent replay of fulfillment order - OrderId: {}, Duration: {}ms",
+                replay.getExistingOrder().getOrderId(), Duration.between(startTime, Instant.now()).toMillis());
+            return IntakeResult.replayed(replay.getExistingOrder());
+
+        } catch (ValidationRejected rejected) {
+            logger.warn("Order validation failed - OrderId: {}, Errors: {}", order.getOrderId(), rejected.getErrors());
+            return IntakeResult.invalid(rejected.getErrors());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException("Order intake interrupted", e);
+        }
+
+        logger.debug("Order intake checks completed - OrderId: {}, Duration: {}ms",
+            order.getOrderId(), Duration.between(startTime, Instant.now()).toMillis());
+
+        // Apply fulfillment policy
+        InventoryAvailabilityResult inventoryResult = inventory.get();
+        if (!applyFulfillmentPolicy(order, inventoryResult)) {
+            // FILL_OR_KILL policy and items unavailable
+            logger.warn("Order rejected due to FILL_OR_KILL policy - OrderId: {}, UnavailableItems: {}",
+                order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
+            return IntakeResult.rejected(order);
+        }
+
+        // Create and persist the order; a concurrent request with the same idempotency key
+        // may have won the insert, in which case its order is returned
+        FulfillmentOrder createdOrder = timed("persist", () -> fulfillmentOrderService.createOrder(order));
+        if (!createdOrder.getOrderId().equals(order.getOrderId())) {
+            logger.info("Idempotent replay of fulfillment order detected on insert - OrderId: {}",
+                createdOrder.getOrderId());
+            return IntakeResult.replayed(createdOrder);
+        }
+
+        timed("events", () -> {
+            for (FulfillmentOrderEvent event : intakeEvents(createdOrder)) {
+                eventPublisherService.publishEvent(event);
+            }
+            return null;
+        });
+        logger.info("Order validation successful - OrderId: {}", createdOrder.getOrderId());
+
+        return IntakeResult.created(createdOrder);
+    }
+
+    /**
+     * Runs the intake of a batch of new orders, each with its own idempotency key.
+     *
+     * The remote checks are made once for the whole batch and run concurrently in one
+     * {@link StageScope}: a single read finds the orders already created with any of the
+     * idempotency keys, and each distinct SKU of the batch is looked up once in the product
+     * catalog and once in the inventory. Every order is then validated and its fulfillment
+     * policy applied against those results, and the accepted orders are persisted with one
+     * bulk insert and their events with one outbox write.
+     *
+     * Unlike {@link #submit(FulfillmentOrder)}, a taken sellerFulfillmentOrderId does not
+     * throw: it is reported as a {@link IntakeResult.Outcome#CONFLICT} for that order alone.
+     *
+     * @param orders the orders converted from the create requests
+     * @return the outcome of each order, in the order submitted
+     */
+    public List<IntakeResult> submitBatch(List<FulfillmentOrder> orders) {
+        inFlight.addAndGet(orders.size());
+        try {
+            return runBatchIntake(orders);
+        } finally {
+            inFlight.addAndGet(-orders.size());
+        }
+    }
+
+    /**
+     * Number of orders currently in intake on this instance. Background jobs competing with
+     * intake for MongoDB, such as the order archive, back off while it is high.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private List<IntakeResult> runBatchIntake(List<FulfillmentOrder> orders) {
+        Instant startTime = Instant.now();
+        logger.info("Starting batch order intake - Orders: {}", orders.size());
+
+        Map<UUID, IntakeResult> results = new HashMap<>();
+
+        // A key repeated within the batch cannot tell a retry from a second order
+        List<FulfillmentOrder> candidates = new ArrayList<>(orders.size());
+        Set<String> idempotencyKeys = new HashSet<>();
+        for (FulfillmentOrder order : orders) {
+            if (idempotencyKeys.add(order.getIdempotencyKey())) {
+                candidates.add(order);
+            } else {
+                results.put(order.getOrderId(), IntakeResult.invalid(
+                    List.of("Idempotency key is repeated in the batch: " + order.getIdempotencyKey())));
+            }
+        }
+
+        StageScope.Subtask<Map<String, FulfillmentOrder>> existing;
+        StageScope.Subtask<CatalogLookup> catalog;
+        StageScope.Subtask<InventoryLookup> inventory;
+
+        try (StageScope scope = new StageScope("intake-batch", taskDecorator, this::recordStage)) {
+            existing = scope.fork("batch-idempotency", () -> fulfillmentOrderService.findByIdempotencyKeys(idempotencyKeys));
+            catalog = scope.fork("batch-product-catalog", () -> orderValidationService.lookUpCatalog(candidates));
+            inventory = scope.fork("batch-inventory", () -> orderValidationService.lookUpInventory(candidates));
+
+            scope.join();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException("Batch order intake interrupted", e);
+        }
+
+        List<FulfillmentOrder> accepted = timed("batch-validation", () -> {
+            List<FulfillmentOrder> valid = new ArrayList<>(candidates.size());
+            for (FulfillmentOrder order : candidates) {
+                FulfillmentOrder replayed = existing.get().get(order.getIdempotencyKey());
+                if (replayed != null) {
+                    results.put(order.getOrderId(), IntakeResult.replayed(replayed));
+                    continue;
+                }
+                ValidationResult validation = orderValidationService.validate(order, catalog.get());
+                if (!validation.isValid()) {
+                    results.put(order.getOrderId(), IntakeResult.invalid(validation.getErrors()));
+                    continue;
+                }
+                InventoryAvailabilityResult availability =
+                    orderValidationService.checkInventoryAvailability(order, inventory.get());
+                if (!applyFulfillmentPolicy(order, availability)) {
+                    results.put(order.getOrderId(), IntakeResult.rejected(order));
+                    continue;
+                }
+                valid.add(order);
+            }
+            return valid;
+        });
+
+        if (!accepted.isEmpty()) {
+            // Orders rejected by the unique indexes are either replays or taken seller order IDs
+            Map<UUID, FulfillmentOrder> created;
+            try {
+                created = timed("batch-persist", () -> fulfillmentOrderService.createOrders(accepted));
+            } catch (OrderBatchInsertException e) {
+                // The orders inserted before the failure are kept, so they still get their intake events
+                List<FulfillmentOrderEvent> events = new ArrayList<>();
+                for (FulfillmentOrder order : accepted) {
+                    if (!e.getNotInserted().contains(order.getOrderId())) {
+                        events.addAll(intakeEvents(order));
+                    }
+                }
+                eventPublisherService.publishEvents(events);
+                throw e;
+            }
+
+            List<FulfillmentOrderEvent> events = new ArrayList<>();
+            for (FulfillmentOrder order : accepted) {
+                FulfillmentOrder createdOrder = created.get(order.getOrderId());
+                if (createdOrder == null) {
+                    results.put(order.getOrderId(),
+                        IntakeResult.conflict("Order with sellerFulfillmentOrderId already exists"));
+                } else if (!createdOrder.getOrderId().equals(order.getOrderId())) {
+                    results.put(order.getOrderId(), IntakeResult.replayed(createdOrder));
+                } else {
+                    events.addAll(intakeEvents(createdOrder));
+                    results.put(order.getOrderId(), IntakeResult.created(createdOrder));
+                }
+            }
+
+            timed("batch-events", () -> {
+                eventPublisherService.publishEvents(events);
+                return null;
+            });
+        }
+
+        List<IntakeResult> ordered = new ArrayList<>(orders.size());
+        Map<IntakeResult.Outcome, Integer> outcomes = new EnumMap<>(IntakeResult.Outcome.class);
+        for (FulfillmentOrder order : orders) {
+            IntakeResult result = results.get(order.getOrderId());
+            ordered.add(result);
+            outcomes.merge(result.getOutcome(), 1, Integer::sum);
+        }
+        logger.info("Batch order intake completed - Orders: {}, Outcomes: {}, Duration: {}ms",
+            orders.size(), outcomes, Duration.between(startTime, Instant.now()).toMillis());
+        return ordered;
+    }
+
+    private static ValidationResult requireValid(ValidationResult result) {
+        if (!result.isValid()) {
+            throw new ValidationRejected(result.getErrors());
+        }
+        return result;
+    }
+
+    /**
+     * Applies the fulfillment policy based on inventory availability.
+     *
+     * @param order the order to process
+     * @param inventoryResult the inventory availability result
+     * @return true if order should be accepted, false if rejected
+     */
+    private boolean applyFulfillmentPolicy(FulfillmentOrder order, InventoryAvailabilityResult inventoryResult) {
+        FulfillmentPolicy policy = order.getFulfillmentPolicy();
+
+        if (inventoryResult.isAllAvailable()) {
+            // All items available, no need to apply policy restrictions
+            logger.debug("All items available - OrderId: {}, Policy: {}", order.getOrderId(), policy);
+            return true;
+        }
+
+        // Items are unavailable, apply policy
+        for (UnfulfillableItem item : inventoryResult.getUnfulfillableItems()) {
+            order.addUnfulfillableItem(item);
+        }
+
+        switch (policy) {
+            case FILL_OR_KILL:
+                // Reject the entire order
+                logger.info("FILL_OR_KILL policy: Rejecting order due to unavailable items - OrderId: {}",
+                    order.getOrderId());
+                return false;
+
+            case FILL_ALL:
+                // Accept the order, will publish stock unavailable event
+                logger.info("FILL_ALL policy: Accepting order despite unavailable items - OrderId: {}, UnavailableCount: {}",
+                    order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
+                return true;
+
+            case FILL_ALL_AVAILABLE:
+                // Accept the order with partial fulfillment
+                logger.info("FILL_ALL_AVAILABLE policy: Accepting order for partial fulfillment - OrderId: {}, UnavailableCount: {}",
+                    order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
+                return true;
+
+            default:
+                logger.error("Unknown fulfillment policy - OrderId: {}, Policy: {}", order.getOrderId(), policy);
+                return false;
+        }
+    }
+
+    /**
+     * Events announcing the intake of a created order: the validation success event, followed
+     * by the inventory-related events that depend on its unfulfillable items and policy.
+     *
+     * @param order the created order
+     * @return the events to publish, in order
+     */
+    private List<FulfillmentOrderEvent> intakeEvents(FulfillmentOrder order) {
+        List<FulfillmentOrderEvent> events = new ArrayList<>(3);
+        logger.debug("Publishing FulfillmentOrderValidatedEvent - OrderId: {}", order.getOrderId());
+        events.add(new FulfillmentOrderValidatedEvent(order));
+
+        if (!order.hasUnfulfillableItems()) {
+            return events;
+        }
+
+        FulfillmentPolicy policy = order.getFulfillmentPolicy();
+
+        if (policy == FulfillmentPolicy.FILL_ALL_AVAILABLE && order.isPartiallyFulfillable()) {
+            // Publish partial fulfillment event
+            logger.debug("Publishing FulfillmentOrderPartiallyAcceptedEvent - OrderId: {}, UnfulfillableItems: {}",
+                order.getOrderId(), order.getUnfulfillableItems().size());
+            events.add(new FulfillmentOrderPartiallyAcceptedEvent(order));
+        }
+
+        if (policy == FulfillmentPolicy.FILL_ALL || order.hasUnfulfillableItems()) {
+            // Publish stock unavailable event
+            logger.debug("Publishing FulfillmentOrderStockUnavailableEvent - OrderId: {}, UnavailableItems: {}",
+                order.getOrderId(), order.getUnfulfillableItems().size());
+            events.add(new FulfillmentOrderStockUnavailableEvent(order));
+        }
+        return events;
+    }
+
+    /**
+     * Runs a sequential stage on the calling thread and records its duration.
+     */
+    private <T> T timed(String stage, Callable<T> task) {
+        long startNanos = System.nanoTime();
+        String outcome = "failure";
+        try {
+            T result = task.call();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            recordStage(stage, Duration.ofNanos(System.nanoTime() - startNanos), outcome);
+        }
+    }
+
+    private void recordStage(String stage, Duration duration, String outcome) {
+        logger.debug("Intake stage completed - Stage: {}, Outcome: {}, Duration: {}ms", stage, outcome, duration.toMillis());
+        Timer.builder("order.intake.stage")
+            .description("Duration of each order intake stage")
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(duration);
+    }
+
+    /**
+     * Outcome of an order intake.
+     */
+    public static class IntakeResult {
+
+        public enum Outcome {
+            /** The order was validated and persisted */
+            CREATED,
+            /** An order with the same idempotency key already exists and is returned instead */
+            REPLAYED,
+            /** The order violates business rules or references unknown SKUs */
+            INVALID,
+            /** The order was valid but its FILL_OR_KILL policy could not be met */
+            REJECTED,
+            /** Another order already uses the sellerFulfillmentOrderId; only reported for batches */
+            CONFLICT
+        }
+
+        private final Outcome outcome;
+        private final FulfillmentOrder order;
+        private final List<String> errors;
+
+        private IntakeResult(Outcome outcome, FulfillmentOrder order, List<String> errors) {
+            this.outcome = outcome;
+            this.order = order;
+            this.errors = errors;
+        }
+
+        public static IntakeResult created(FulfillmentOrder order) {
+            return new IntakeResult(Outcome.CREATED, order, List.of());
+        }
+
+        public static IntakeResult replayed(FulfillmentOrder order) {
+            return new IntakeResult(Outcome.REPLAYED, order, List.of());
+        }
+
+        public static IntakeResult invalid(List<String> errors) {
+            return new IntakeResult(Outcome.INVALID, null, errors);
+        }
+
+        public static IntakeResult rejected(FulfillmentOrder order) {
+            return new IntakeResult(Outcome.REJECTED, order, List.of());
+        }
+
+        public static IntakeResult conflict(String error) {
+            return new IntakeResult(Outcome.CONFLICT, null, List.of(error));
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * True when the order was created or replayed.
+         */
+        public boolean isAccepted() {
+            return outcome == Outcome.CREATED || outcome == Outcome.REPLAYED;
+        }
+
+        public FulfillmentOrder getOrder() {
+            return order;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * Ends the intake early when the idempotency key matches an existing order.
+     */
+    private static class ReplayDetected extends RuntimeException {
+
+        private final FulfillmentOrder existingOrder;
+
+        ReplayDetected(FulfillmentOrder existingOrder) {
+            super("Idempotent replay", null, false, false);
+            this.existingOrder = existingOrder;
+        }
+
+        FulfillmentOrder getExistingOrder() {
+            return existingOrder;
+        }
+    }
+
+    /**
+     * Ends the intake early when a validation stage reports errors.
+     */
+    private static class ValidationRejected extends RuntimeException {
+
+        private final List<String> errors;
+
+        ValidationRejected(List<String> errors) {
+            super("Validation failed", null, false, false);
+            this.errors = errors;
+        }
+
+        List<String> getErrors() {
+            return errors;
+        }
+    }
+}
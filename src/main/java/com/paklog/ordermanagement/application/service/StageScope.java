@@ -0,0 +1,190 @@
+package com.paklog.ordermanagement.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Structured scope for running independent stages concurrently on virtual threads.
+ *
+ * Stages are forked into the scope, the owner waits for all of them with {@link #join()},
+ * and the first stage to fail cancels the others (shutdown-on-failure). Closing the scope
+ * cancels anything still running and waits for all stage threads to finish, so no stage
+ * outlives the scope that started it. This mirrors StructuredTaskScope.ShutdownOnFailure,
+ * which is still a preview API in Java 21.
+ *
+ * Stages are cancelled by interrupting their threads rather than through executor futures:
+ * cancelling a future of a thread-per-task executor completes it at once and lets close()
+ * return while the interrupted thread is still running.
+ *
+ * A scope is owned by the thread that created it: fork, join and close must be called from it.
+ */
+public final class StageScope implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final TaskDecorator taskDecorator;
+    private final StageListener listener;
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param name prefix for the names of the stage threads
+     * @param taskDecorator decorates each stage, e.g. to propagate logging and request context; may be null
+     * @param listener notified with the outcome and duration of every stage that ran
+     */
+    public StageScope(String name, TaskDecorator taskDecorator, StageListener listener) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+        this.taskDecorator = taskDecorator;
+        this.listener = listener;
+    }
+
+    /**
+     * Starts a stage on its own virtual thread. A stage forked after the scope has shut down never runs.
+     */
+    public <T> Subtask<T> fork(String stage, Callable<? extends T> task) {
+        Subtask<T> subtask = new Subtask<>(stage);
+        if (shutdown) {
+            subtask.state = Subtask.State.CANCELLED;
+            subtask.done.countDown();
+            return subtask;
+        }
+
+        subtasks.add(subtask);
+        Runnable body = () -> run(subtask, task);
+        executor.execute(taskDecorator != null ? taskDecorator.decorate(body) : body);
+        return subtask;
+    }
+
+    /**
+     * Waits until all stages have completed. After the first failure the remaining stages are
+     * interrupted, so this returns as soon as they have stopped.
+     *
+     * @throws RuntimeException the first stage failure, unchecked failures as thrown
+     * @throws CompletionException wrapping the first stage failure if it was a checked exception
+     * @throws InterruptedException if the owner is interrupted while waiting; the stages are cancelled
+     */
+    public void join() throws InterruptedException {
+        try {
+            for (Subtask<?> subtask : subtasks) {
+                subtask.done.await();
+            }
+        } catch (InterruptedException e) {
+            shutdown();
+            throw e;
+        }
+
+        Throwable failure = firstFailure.get();
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    /**
+     * Cancels every stage that has not completed yet.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Subtask<?> subtask : subtasks) {
+            Thread thread = subtask.thread;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Cancels any stage still running and waits for all stage threads to finish.
+     */
+    @Override
+    public void close() {
+        shutdown();
+        executor.close();
+    }
+
+    private <T> void run(Subtask<T> subtask, Callable<? extends T> task) {
+        long startNanos = System.nanoTime();
+        subtask.thread = Thread.currentThread();
+        try {
+            // Publish the thread before reading the flag, so shutdown() either sees it or we see the flag
+            if (shutdown) {
+                subtask.state = Subtask.State.CANCELLED;
+                listener.onStageCompleted(subtask.stage, Duration.ZERO, "cancelled");
+                return;
+            }
+            subtask.result = task.call();
+            subtask.state = Subtask.State.SUCCESS;
+            listener.onStageCompleted(subtask.stage, Duration.ofNanos(System.nanoTime() - startNanos), "success");
+        } catch (Throwable t) {
+            Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+            if (firstFailure.compareAndSet(null, t)) {
+                subtask.state = Subtask.State.FAILED;
+                listener.onStageCompleted(subtask.stage, duration, "failure");
+                shutdown();
+            } else {
+                subtask.state = Subtask.State.CANCELLED;
+                listener.onStageCompleted(subtask.stage, duration, "cancelled");
+            }
+        } finally {
+            subtask.thread = null;
+            subtask.done.countDown();
+        }
+    }
+
+    /**
+     * Handle to the result of a forked stage, available after a successful {@link #join()}.
+     */
+    public static final class Subtask<T> implements Supplier<T> {
+
+        enum State { RUNNING, SUCCESS, FAILED, CANCELLED }
+
+        private final String stage;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile State state = State.RUNNING;
+        private volatile T result;
+        private volatile Thread thread;
+
+        private Subtask(String stage) {
+            this.stage = stage;
+        }
+
+        /**
+         * @throws IllegalStateException if the stage did not complete successfully
+         */
+        @Override
+        public T get() {
+            if (state != State.SUCCESS) {
+                throw new IllegalStateException("Stage " + stage + " has not completed successfully: " + state);
+            }
+            return result;
+        }
+
+        public String getStage() {
+            return stage;
+        }
+    }
+
+    /**
+     * Receives the outcome ("success", "failure" or "cancelled") and duration of each stage.
+     */
+    @FunctionalInterface
+    public interface StageListener {
+
+        void onStageCompleted(String stage, Duration duration, String outcome);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.concurrent.TimeUnit;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
 import com.paklog.ordermanagement.infrastructure.repository.mongodb.MongoFulfillmentOrderRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,7 +65,7 @@ public class DatabaseSeeder implements CommandLineRunner {
         }
 
         return new FulfillmentOrder(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "seller-order-" + faker.number().digits(10),
             "display-order-" + faker.number().digits(8),
             LocalDateTime.now().minusDays(faker.number().numberBetween(1, 30)),
@@ -0,0 +1,47 @@
+package com.paklog.ordermanagement.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the in-memory index of recently received orders.
+ *
+ * The index holds hashes of the duplicate detection keys of every order received within the
+ * duplicate detection window, so a duplicate check only queries MongoDB when the index reports
+ * a possible match. Each pod warms its index from MongoDB at startup and keeps it current from
+ * the order events on the event topic.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.duplicate-index")
+public class DuplicateIndexConfig {
+
+    /**
+     * Enable the in-memory duplicate index.
+     * When disabled, or until the index is warm, every duplicate check queries MongoDB.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Consumer group prefix for the event listener that keeps the index current.
+     * Each pod appends a random suffix so that every pod receives every order event.
+     */
+    private String consumerGroupPrefix = "order-management-duplicate-index";
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getConsumerGroupPrefix() {
+        return consumerGroupPrefix;
+    }
+
+    public void setConsumerGroupPrefix(String consumerGroupPrefix) {
+        this.consumerGroupPrefix = consumerGroupPrefix;
+    }
+}
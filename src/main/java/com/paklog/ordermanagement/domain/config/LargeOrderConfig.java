@@ -0,0 +1,51 @@
+package com.paklog.ordermanagement.domain.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for large orders.
+ *
+ * Orders with more items than the threshold are validated in chunks, store their items in a
+ * separate collection instead of inline in the order document, and are published in events
+ * as an item summary plus a reference instead of the full item list.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.large-order")
+public class LargeOrderConfig {
+
+    /**
+     * Orders with more items than this take the large-order path
+     */
+    private int itemThreshold = 500;
+
+    /**
+     * Number of items per chunk, for both remote lookups and stored item chunks
+     */
+    private int chunkSize = 500;
+
+    // Getters and Setters
+
+    public int getItemThreshold() {
+        return itemThreshold;
+    }
+
+    public void setItemThreshold(int itemThreshold) {
+        this.itemThreshold = itemThreshold;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Whether an order with this many items takes the large-order path.
+     */
+    public boolean isLargeOrder(int itemCount) {
+        return itemCount > itemThreshold;
+    }
+}
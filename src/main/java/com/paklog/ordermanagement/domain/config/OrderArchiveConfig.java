@@ -0,0 +1,143 @@
+package com.paklog.ordermanagement.domain.config;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+
+/**
+ * Configuration properties for archiving terminal orders.
+ *
+ * Orders in a terminal status and received longer ago than the minimum age are moved in small
+ * batches from the operational collection to a compressed archive collection, where they stay
+ * readable by ID but can no longer change. The job is paced to a maximum rate and pauses while
+ * order intake on the same instance is busy.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.order-archive")
+public class OrderArchiveConfig {
+
+    /**
+     * Enable the archive job. Archived orders stay readable by ID either way.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Orders received longer ago than this are archived
+     */
+    private Duration minAge = Duration.ofDays(90);
+
+    /**
+     * Statuses in which an order is archived; all must be terminal
+     */
+    private Set<FulfillmentOrderStatus> statuses = EnumSet.of(
+        FulfillmentOrderStatus.SHIPPED, FulfillmentOrderStatus.CANCELLED, FulfillmentOrderStatus.INVALIDATED);
+
+    /**
+     * Number of orders moved per batch
+     */
+    private int batchSize = 200;
+
+    /**
+     * Upper bound on the archive rate of one instance, in orders per second
+     */
+    private int maxOrdersPerSecond = 500;
+
+    /**
+     * Delay between the end of one run and the start of the next
+     */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * A run stops after this long and resumes at the next interval
+     */
+    private Duration maxRunDuration = Duration.ofMinutes(5);
+
+    /**
+     * The job pauses while more orders than this are in intake on the instance
+     */
+    private int maxIntakeInFlight = 8;
+
+    /**
+     * How long the job pauses before checking intake again
+     */
+    private Duration intakeBackoff = Duration.ofSeconds(1);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Duration minAge) {
+        this.minAge = minAge;
+    }
+
+    public Set<FulfillmentOrderStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<FulfillmentOrderStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxOrdersPerSecond() {
+        return maxOrdersPerSecond;
+    }
+
+    public void setMaxOrdersPerSecond(int maxOrdersPerSecond) {
+        this.maxOrdersPerSecond = maxOrdersPerSecond;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getMaxRunDuration() {
+        return maxRunDuration;
+    }
+
+    public void setMaxRunDuration(Duration maxRunDuration) {
+        this.maxRunDuration = maxRunDuration;
+    }
+
+    public int getMaxIntakeInFlight() {
+        return maxIntakeInFlight;
+    }
+
+    public void setMaxIntakeInFlight(int maxIntakeInFlight) {
+        this.maxIntakeInFlight = maxIntakeInFlight;
+    }
+
+    public Duration getIntakeBackoff() {
+        return intakeBackoff;
+    }
+
+    public void setIntakeBackoff(Duration intakeBackoff) {
+        this.intakeBackoff = intakeBackoff;
+    }
+}
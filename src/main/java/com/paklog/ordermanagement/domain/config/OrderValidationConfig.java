@@ -1,6 +1,7 @@
 package com.paklog.ordermanagement.domain.config;
 
 import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -19,20 +20,27 @@ public class OrderValidationConfig {
     private int maxTotalQuantity = 100000;
 
     /**
-     * Maximum number of items allowed per order
+     * Maximum number of items allowed per order.
+     * Orders above order-management.large-order.item-threshold take the large-order path.
      */
-    private int maxItemsPerOrder = 100;
+    private int maxItemsPerOrder = 10000;
 
     /**
-     * Minimum order value (in USD)
+     * Minimum order value (in the order value currency)
      */
     private BigDecimal minOrderValue = BigDecimal.valueOf(0.01);
 
     /**
-     * Maximum order value (in USD)
+     * Maximum order value (in the order value currency)
      */
     private BigDecimal maxOrderValue = BigDecimal.valueOf(1000000.00);
 
+    /**
+     * ISO 4217 currency of the order value limits.
+     * Product prices in another currency cannot be checked against the limits.
+     */
+    private String orderValueCurrency = "USD";
+
     /**
      * Enable product catalog validation
      */
@@ -54,14 +62,31 @@ public class OrderValidationConfig {
      */
     private int duplicateDetectionWindowHours = 24;
 
+    /**
+     * Minimum address similarity (Jaccard similarity of normalized address shingles, 0 to 1)
+     * for an order to count as a near duplicate of one with the same displayable order ID
+     */
+    private double nearDuplicateSimilarityThreshold = 0.7;
+
+    /**
+     * Incremented whenever a property changes, so rules compiled from this configuration can
+     * tell that they are stale and need to be recompiled.
+     */
+    private final AtomicLong revision = new AtomicLong();
+
     // Getters and Setters
 
+    public long getRevision() {
+        return revision.get();
+    }
+
     public int getMaxTotalQuantity() {
         return maxTotalQuantity;
     }
 
     public void setMaxTotalQuantity(int maxTotalQuantity) {
         this.maxTotalQuantity = maxTotalQuantity;
+        revision.incrementAndGet();
     }
 
     public int getMaxItemsPerOrder() {
@@ -70,6 +95,7 @@ public class OrderValidationConfig {
 
     public void setMaxItemsPerOrder(int maxItemsPerOrder) {
         this.maxItemsPerOrder = maxItemsPerOrder;
+        revision.incrementAndGet();
     }
 
     public BigDecimal getMinOrderValue() {
@@ -78,6 +104,7 @@ public class OrderValidationConfig {
 
     public void setMinOrderValue(BigDecimal minOrderValue) {
         this.minOrderValue = minOrderValue;
+        revision.incrementAndGet();
     }
 
     public BigDecimal getMaxOrderValue() {
@@ -86,6 +113,16 @@ public class OrderValidationConfig {
 
     public void setMaxOrderValue(BigDecimal maxOrderValue) {
         this.maxOrderValue = maxOrderValue;
+        revision.incrementAndGet();
+    }
+
+    public String getOrderValueCurrency() {
+        return orderValueCurrency;
+    }
+
+    public void setOrderValueCurrency(String orderValueCurrency) {
+        this.orderValueCurrency = orderValueCurrency;
+        revision.incrementAndGet();
     }
 
     public boolean isCheckProductCatalog() {
@@ -94,6 +131,7 @@ public class OrderValidationConfig {
 
     public void setCheckProductCatalog(boolean checkProductCatalog) {
         this.checkProductCatalog = checkProductCatalog;
+        revision.incrementAndGet();
     }
 
     public boolean isRejectDuplicateSkus() {
@@ -102,6 +140,7 @@ public class OrderValidationConfig {
 
     public void setRejectDuplicateSkus(boolean rejectDuplicateSkus) {
         this.rejectDuplicateSkus = rejectDuplicateSkus;
+        revision.incrementAndGet();
     }
 
     public boolean isEnableOrderValueValidation() {
@@ -110,6 +149,7 @@ public class OrderValidationConfig {
 
     public void setEnableOrderValueValidation(boolean enableOrderValueValidation) {
         this.enableOrderValueValidation = enableOrderValueValidation;
+        revision.incrementAndGet();
     }
 
     public int getDuplicateDetectionWindowHours() {
@@ -118,6 +158,16 @@ public class OrderValidationConfig {
 
     public void setDuplicateDetectionWindowHours(int duplicateDetectionWindowHours) {
         this.duplicateDetectionWindowHours = duplicateDetectionWindowHours;
+        revision.incrementAndGet();
+    }
+
+    public double getNearDuplicateSimilarityThreshold() {
+        return nearDuplicateSimilarityThreshold;
+    }
+
+    public void setNearDuplicateSimilarityThreshold(double nearDuplicateSimilarityThreshold) {
+        this.nearDuplicateSimilarityThreshold = nearDuplicateSimilarityThreshold;
+        revision.incrementAndGet();
     }
 
     // Removed: checkInventoryAvailability - inventory check is now always performed,
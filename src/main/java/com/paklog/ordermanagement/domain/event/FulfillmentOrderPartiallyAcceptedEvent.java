@@ -39,9 +39,9 @@ public class FulfillmentOrderPartiallyAcceptedEvent extends FulfillmentOrderEven
         }
 
         public PartialFulfillmentData(FulfillmentOrder order) {
-            this.order = order;
+            this.order = OrderItemsSummary.payloadOf(order);
             this.unfulfillableItems = order.getUnfulfillableItems();
-            this.totalItemsRequested = order.getItems().size();
+            this.totalItemsRequested = order.getItemCount();
             this.itemsUnfulfillable = unfulfillableItems != null ? unfulfillableItems.size() : 0;
             this.itemsFulfillable = totalItemsRequested - itemsUnfulfillable;
             this.summary = String.format(
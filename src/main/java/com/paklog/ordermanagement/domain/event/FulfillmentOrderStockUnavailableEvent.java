@@ -39,9 +39,9 @@ public class FulfillmentOrderStockUnavailableEvent extends FulfillmentOrderEvent
         }
 
         public StockUnavailableData(FulfillmentOrder order) {
-            this.order = order;
+            this.order = OrderItemsSummary.payloadOf(order);
             this.unavailableItems = order.getUnfulfillableItems();
-            this.totalItemsRequested = order.getItems().size();
+            this.totalItemsRequested = order.getItemCount();
             this.itemsUnavailable = unavailableItems != null ? unavailableItems.size() : 0;
             this.totalQuantityShortfall = calculateTotalShortfall();
             this.summary = String.format(
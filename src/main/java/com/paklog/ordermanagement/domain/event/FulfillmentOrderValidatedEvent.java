@@ -18,12 +18,14 @@ public class FulfillmentOrderValidatedEvent extends FulfillmentOrderEvent {
 
     public static class FulfillmentOrderData {
         private FulfillmentOrder order;
+        private OrderItemsSummary itemsSummary;
 
         public FulfillmentOrderData() {
         }
 
         public FulfillmentOrderData(FulfillmentOrder order) {
-            this.order = order;
+            this.order = OrderItemsSummary.payloadOf(order);
+            this.itemsSummary = OrderItemsSummary.of(order);
         }
 
         public FulfillmentOrder getOrder() {
@@ -33,5 +35,16 @@ public class FulfillmentOrderValidatedEvent extends FulfillmentOrderEvent {
         public void setOrder(FulfillmentOrder order) {
             this.order = order;
         }
+
+        /**
+         * Item summary of a large order, whose order payload comes without items; null otherwise.
+         */
+        public OrderItemsSummary getItemsSummary() {
+            return itemsSummary;
+        }
+
+        public void setItemsSummary(OrderItemsSummary itemsSummary) {
+            this.itemsSummary = itemsSummary;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.paklog.ordermanagement.domain.event;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+
+/**
+ * Item summary carried by events of large orders in place of the full item list.
+ * Consumers that need the items fetch the order from the reference.
+ */
+public class OrderItemsSummary {
+    private int itemCount;
+    private long totalQuantity;
+    private int itemChunkCount;
+    private String itemsReference;
+
+    public OrderItemsSummary() {
+    }
+
+    public OrderItemsSummary(FulfillmentOrder order) {
+        this.itemCount = order.getItemCount();
+        this.itemChunkCount = order.getItemChunkCount();
+        this.itemsReference = "/fulfillment_orders/" + order.getOrderId();
+        if (order.getItems() != null) {
+            for (OrderItem item : order.getItems()) {
+                if (item.getQuantity() != null) {
+                    totalQuantity += item.getQuantity();
+                }
+            }
+        }
+    }
+
+    /**
+     * Order as it goes into an event payload: in full for orders with inline items, without
+     * its items for large orders, whose events carry an OrderItemsSummary instead.
+     */
+    static FulfillmentOrder payloadOf(FulfillmentOrder order) {
+        return order.hasChunkedItems() ? order.withoutItems() : order;
+    }
+
+    /**
+     * Summary for large orders, null for orders with inline items.
+     */
+    static OrderItemsSummary of(FulfillmentOrder order) {
+        return order.hasChunkedItems() ? new OrderItemsSummary(order) : null;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public long getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    public void setTotalQuantity(long totalQuantity) {
+        this.totalQuantity = totalQuantity;
+    }
+
+    public int getItemChunkCount() {
+        return itemChunkCount;
+    }
+
+    public void setItemChunkCount(int itemChunkCount) {
+        this.itemChunkCount = itemChunkCount;
+    }
+
+    public String getItemsReference() {
+        return itemsReference;
+    }
+
+    public void setItemsReference(String itemsReference) {
+        this.itemsReference = itemsReference;
+    }
+}
@@ -0,0 +1,66 @@
+package com.paklog.ordermanagement.domain.model;
+
+/**
+ * Fingerprint of the fields fuzzy duplicate detection compares: recipient name, address
+ * line 1 and postal code, normalized, plus the number of items.
+ *
+ * Normalization matches comparing the fields lowercased, trimmed and with whitespace runs
+ * collapsed to one space, and is folded into a 64-bit FNV-1a hash in a single pass without
+ * building intermediate strings. Two orders the fuzzy check treats as alike therefore have
+ * equal fingerprints, so the check becomes an equality lookup.
+ */
+public final class AddressFingerprint {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private AddressFingerprint() {
+    }
+
+    /**
+     * @return the fingerprint, or null when there is no address to compare
+     */
+    public static Long of(Address address, int itemCount) {
+        if (address == null) {
+            return null;
+        }
+        long hash = FNV_OFFSET_BASIS;
+        hash = hashNormalized(hash, address.getName());
+        hash = hashNormalized(hash, address.getAddressLine1());
+        hash = hashNormalized(hash, address.getPostalCode());
+        return mix(hash, itemCount);
+    }
+
+    private static long hashNormalized(long hash, String value) {
+        if (value != null) {
+            boolean started = false;
+            boolean pendingSpace = false;
+            for (int i = 0, length = value.length(); i < length; i++) {
+                char c = value.charAt(i);
+                if (isSpace(c)) {
+                    pendingSpace = started;
+                    continue;
+                }
+                if (pendingSpace) {
+                    hash = mix(hash, ' ');
+                    pendingSpace = false;
+                }
+                hash = mix(hash, Character.toLowerCase(c));
+                started = true;
+            }
+        }
+        // Field separator, so "ab" + "c" and "a" + "bc" differ
+        return mix(hash, 0);
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static long mix(long hash, int value) {
+        hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+        hash = (hash ^ ((value >>> 8) & 0xff)) * FNV_PRIME;
+        hash = (hash ^ ((value >>> 16) & 0xff)) * FNV_PRIME;
+        return (hash ^ (value >>> 24)) * FNV_PRIME;
+    }
+}
@@ -0,0 +1,309 @@
+package com.paklog.ordermanagement.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing of destination addresses for near-duplicate detection.
+ *
+ * An address is split into its text and its numbers. The text (recipient name, address lines
+ * and city) is lowercased, stripped of punctuation and unit designators, has common street
+ * suffixes abbreviated, and is cut into character 3-gram shingles, so "Apt 4" and "#4", or
+ * "Main Street" and "Main St.", yield the same shingles and a typo only changes a few. The
+ * numbers (house and unit numbers, postal code digits) must match exactly: a different house
+ * number is a different address however alike the text looks.
+ *
+ * A MinHash signature of {@value #HASHES} values estimates the Jaccard similarity of two
+ * shingle sets. It is cut into {@value #BANDS} bands of {@value #ROWS} rows, and each band is
+ * hashed, together with the numbers and the item count, into one band key. Two orders share at
+ * least one band key with high probability when their text similarity is high and rarely when
+ * it is low, so candidates come from an index lookup on the band keys instead of pairwise
+ * comparison, and are then confirmed with {@link #similarity}.
+ *
+ * Confirmation also compares the street words one by one, allowing one typo per word: the
+ * street name is a small share of the text, so "Oak" and "Elm" would otherwise barely move
+ * the overall similarity.
+ */
+public final class AddressMinHash {
+
+    public static final int BANDS = 10;
+    public static final int ROWS = 2;
+    public static final int HASHES = BANDS * ROWS;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final Set<String> UNIT_DESIGNATORS = Set.of(
+        "apt", "apartment", "unit", "suite", "ste", "no", "number", "nr");
+
+    private static final Map<String, String> ABBREVIATIONS = Map.ofEntries(
+        Map.entry("street", "st"),
+        Map.entry("avenue", "ave"),
+        Map.entry("av", "ave"),
+        Map.entry("road", "rd"),
+        Map.entry("boulevard", "blvd"),
+        Map.entry("drive", "dr"),
+        Map.entry("lane", "ln"),
+        Map.entry("court", "ct"),
+        Map.entry("place", "pl"),
+        Map.entry("highway", "hwy"),
+        Map.entry("north", "n"),
+        Map.entry("south", "s"),
+        Map.entry("east", "e"),
+        Map.entry("west", "w"));
+
+    private AddressMinHash() {
+    }
+
+    /**
+     * Band keys of the address for an order with the given number of items.
+     *
+     * @return {@value #BANDS} band keys, or null when there is no address to compare
+     */
+    public static List<Long> bandKeys(Address address, int itemCount) {
+        if (address == null) {
+            return null;
+        }
+        Normalized normalized = normalize(address);
+        long[] signature = signature(shingles(normalized.text()));
+        long scope = finish(normalized.numbers() ^ (itemCount * GOLDEN_GAMMA));
+
+        List<Long> keys = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            long key = finish(scope + band * GOLDEN_GAMMA);
+            for (int row = 0; row < ROWS; row++) {
+                key = finish(key ^ signature[band * ROWS + row]);
+            }
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Jaccard similarity of the text shingles of two addresses, or 0 when their numbers differ
+     * or their street words do not match.
+     */
+    public static double similarity(Address first, Address second) {
+        if (first == null || second == null) {
+            return 0;
+        }
+        Normalized a = normalize(first);
+        Normalized b = normalize(second);
+        if (a.numbers() != b.numbers() || !streetWordsMatch(a.streetWords(), b.streetWords())) {
+            return 0;
+        }
+        return jaccard(shingles(a.text()), shingles(b.text()));
+    }
+
+    /**
+     * Lowercased text tokens without unit designators, the words of the address lines, and an
+     * order-independent hash of the numeric tokens.
+     */
+    static Normalized normalize(Address address) {
+        StringBuilder text = new StringBuilder(64);
+        List<String> numbers = new ArrayList<>(4);
+        tokenize(address.getName(), text, numbers);
+        int streetStart = text.length();
+        tokenize(address.getAddressLine1(), text, numbers);
+        tokenize(address.getAddressLine2(), text, numbers);
+        String street = text.substring(streetStart).trim();
+        tokenize(address.getCity(), text, numbers);
+        tokenize(address.getPostalCode(), text, numbers);
+
+        numbers.sort(null);
+        long numbersHash = 0x84222325cbf29ce4L;
+        for (String number : numbers) {
+            for (int i = 0; i < number.length(); i++) {
+                numbersHash = finish(numbersHash ^ number.charAt(i));
+            }
+            numbersHash = finish(numbersHash ^ '|');
+        }
+        return new Normalized(text.toString(), street.isEmpty() ? new String[0] : street.split(" "), numbersHash);
+    }
+
+    private static void tokenize(String value, StringBuilder text, List<String> numbers) {
+        if (value == null) {
+            return;
+        }
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c)) {
+                int start = i;
+                while (i < length && Character.isDigit(value.charAt(i))) {
+                    i++;
+                }
+                numbers.add(stripLeadingZeros(value.substring(start, i)));
+            } else if (Character.isLetter(c)) {
+                int start = i;
+                while (i < length && Character.isLetter(value.charAt(i))) {
+                    i++;
+                }
+                appendWord(value.substring(start, i).toLowerCase(), text);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void appendWord(String word, StringBuilder text) {
+        if (UNIT_DESIGNATORS.contains(word)) {
+            return;
+        }
+        if (text.length() > 0) {
+            text.append(' ');
+        }
+        text.append(canonical(word));
+    }
+
+    /**
+     * The abbreviation of a street suffix or direction, also when it is misspelled by one typo.
+     */
+    private static String canonical(String word) {
+        String abbreviation = ABBREVIATIONS.get(word);
+        if (abbreviation != null) {
+            return abbreviation;
+        }
+        if (word.length() >= 3) {
+            for (Map.Entry<String, String> entry : ABBREVIATIONS.entrySet()) {
+                if (entry.getKey().length() > entry.getValue().length() && isTypo(word, entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return word;
+    }
+
+    private static String stripLeadingZeros(String number) {
+        int start = 0;
+        while (start < number.length() - 1 && number.charAt(start) == '0') {
+            start++;
+        }
+        return number.substring(start);
+    }
+
+    /**
+     * Whether both addresses have the same street words in the same order, each pair equal or
+     * one {@linkplain #isTypo typo} apart.
+     */
+    static boolean streetWordsMatch(String[] first, String[] second) {
+        if (first.length != second.length) {
+            return false;
+        }
+        for (int i = 0; i < first.length; i++) {
+            if (!first[i].equals(second[i]) && !isTypo(first[i], second[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether two different words are one typo apart: two adjacent letters swapped, in words of
+     * at least three letters, or one letter substituted, inserted or dropped, in words of at
+     * least five. Shorter words must match exactly, since one letter tells "Hill" from "Mill".
+     */
+    static boolean isTypo(String first, String second) {
+        int shorter = Math.min(first.length(), second.length());
+        int lengthDifference = first.length() - second.length();
+        if (shorter < 3 || Math.abs(lengthDifference) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < shorter && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        if (lengthDifference == 0) {
+            boolean transposed = i + 1 < first.length()
+                && first.charAt(i) == second.charAt(i + 1)
+                && first.charAt(i + 1) == second.charAt(i)
+                && first.regionMatches(i + 2, second, i + 2, first.length() - i - 2);
+            return transposed
+                || (shorter >= 5 && first.regionMatches(i + 1, second, i + 1, first.length() - i - 1));
+        }
+        if (shorter < 5) {
+            return false;
+        }
+        return lengthDifference > 0
+            ? first.regionMatches(i + 1, second, i, second.length() - i)
+            : first.regionMatches(i, second, i + 1, first.length() - i);
+    }
+
+    /**
+     * Sorted, distinct hashes of the character 3-grams of the text, padded with a space on
+     * either side so that word boundaries count.
+     */
+    static long[] shingles(String text) {
+        String padded = " " + text + " ";
+        int count = Math.max(1, padded.length() - SHINGLE_LENGTH + 1);
+        long[] shingles = new long[count];
+        for (int i = 0; i < count; i++) {
+            long shingle = 0;
+            for (int j = i; j < Math.min(i + SHINGLE_LENGTH, padded.length()); j++) {
+                shingle = (shingle << 16) | padded.charAt(j);
+            }
+            shingles[i] = finish(shingle);
+        }
+        Arrays.sort(shingles);
+
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (shingles[i] != shingles[distinct - 1]) {
+                shingles[distinct++] = shingles[i];
+            }
+        }
+        return Arrays.copyOf(shingles, distinct);
+    }
+
+    /**
+     * MinHash signature: for each of {@value #HASHES} hash functions, the minimum over all
+     * shingles. Each function re-mixes the shingle hash with its own offset.
+     */
+    static long[] signature(long[] shingles) {
+        long[] signature = new long[HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < HASHES; i++) {
+                long value = finish(shingle + (i + 1) * GOLDEN_GAMMA);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static double jaccard(long[] first, long[] second) {
+        int i = 0;
+        int j = 0;
+        int shared = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        int union = first.length + second.length - shared;
+        return union == 0 ? 1 : (double) shared / union;
+    }
+
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    record Normalized(String text, String[] streetWords, long numbers) {
+    }
+}
@@ -2,20 +2,30 @@ package com.paklog.ordermanagement.domain.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+// Indexes are declared in infrastructure.repository.mongodb.index.IndexCatalog
 @Document(collection = "fulfillment_orders")
 public class FulfillmentOrder {
 
     private static final Logger logger = LoggerFactory.getLogger(FulfillmentOrder.class);
 
+    /**
+     * Statuses from which an order can be cancelled.
+     */
+    public static final Set<FulfillmentOrderStatus> CANCELLABLE_STATUSES = EnumSet.of(
+        FulfillmentOrderStatus.NEW, FulfillmentOrderStatus.RECEIVED,
+        FulfillmentOrderStatus.VALIDATED, FulfillmentOrderStatus.INVALIDATED);
+
     @Id
     private UUID orderId;
     private String sellerFulfillmentOrderId;
@@ -28,11 +38,20 @@ public class FulfillmentOrder {
     private List<OrderItem> items;
     private LocalDateTime receivedDate;
     private String cancellationReason;
-    @Indexed(unique = true, sparse = true)
     private String idempotencyKey;
     private FulfillmentPolicy fulfillmentPolicy;
     private FulfillmentAction fulfillmentAction;
     private List<UnfulfillableItem> unfulfillableItems;
+    // Large orders keep their items in OrderItemChunk documents instead of inline
+    private int itemCount;
+    private int itemChunkCount;
+    private Long addressFingerprint;
+    private List<Long> addressBandKeys;
+    // Incremented by every update; orders stored before versioning have none until their first transition
+    @Version
+    private Long version;
+    // Set when a terminal order is moved to the archive collection, which makes it read-only
+    private LocalDateTime archivedAt;
 
     public FulfillmentOrder() {
         // Default constructor for frameworks
@@ -51,6 +70,7 @@ public class FulfillmentOrder {
         this.shippingSpeedCategory = shippingSpeedCategory;
         this.destinationAddress = destinationAddress;
         this.items = items;
+        this.itemCount = items != null ? items.size() : 0;
         this.status = FulfillmentOrderStatus.NEW;
         this.receivedDate = LocalDateTime.now();
         this.idempotencyKey = idempotencyKey;
@@ -106,6 +126,15 @@ public class FulfillmentOrder {
         this.status = FulfillmentOrderStatus.INVALIDATED;
     }
 
+    /**
+     * The stored-order counterpart of {@link #cancel}: cancels the order with the given ID in one
+     * conditional update, if it is still cancellable.
+     */
+    public static StatusTransition cancellation(UUID orderId, String cancellationReason) {
+        return StatusTransition.of(orderId, CANCELLABLE_STATUSES, FulfillmentOrderStatus.CANCELLED)
+            .set("cancellationReason", cancellationReason);
+    }
+
     public void cancel(String cancellationReason) {
         if (this.status == FulfillmentOrderStatus.SHIPPED) {
             logger.warn("Cannot cancel shipped order - OrderId: {}, CurrentStatus: {}, Reason: {}", 
@@ -197,6 +226,31 @@ public class FulfillmentOrder {
 
     public void setItems(List<OrderItem> items) {
         this.items = items;
+        if (items != null) {
+            this.itemCount = items.size();
+        }
+    }
+
+    /**
+     * Number of items in the order, also known while chunked items are not loaded.
+     */
+    public int getItemCount() {
+        return items != null ? items.size() : itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Number of OrderItemChunk documents holding the items, 0 when they are stored inline.
+     */
+    public int getItemChunkCount() {
+        return itemChunkCount;
+    }
+
+    public void setItemChunkCount(int itemChunkCount) {
+        this.itemChunkCount = itemChunkCount;
     }
 
     public LocalDateTime getReceivedDate() {
@@ -279,6 +333,101 @@ public class FulfillmentOrder {
         }
     }
 
+    public Long getAddressFingerprint() {
+        return addressFingerprint;
+    }
+
+    public void setAddressFingerprint(Long addressFingerprint) {
+        this.addressFingerprint = addressFingerprint;
+    }
+
+    public List<Long> getAddressBandKeys() {
+        return addressBandKeys;
+    }
+
+    public void setAddressBandKeys(List<Long> addressBandKeys) {
+        this.addressBandKeys = addressBandKeys;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * When the order was moved to the archive, or null for an operational order.
+     */
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Computes the {@link AddressFingerprint} and the {@link AddressMinHash} band keys from the
+     * current address and item count. Done when the order is written, so fuzzy duplicate
+     * detection can match on them.
+     */
+    public void updateAddressFingerprint() {
+        this.addressFingerprint = AddressFingerprint.of(destinationAddress, getItemCount());
+        this.addressBandKeys = AddressMinHash.bandKeys(destinationAddress, getItemCount());
+    }
+
+    /**
+     * Marks the items to be stored in chunks of the given size instead of inline.
+     *
+     * @param chunkSize maximum number of items per chunk
+     * @return the number of chunks
+     */
+    public int chunkItems(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.itemCount = getItemCount();
+        this.itemChunkCount = (itemCount + chunkSize - 1) / chunkSize;
+        return itemChunkCount;
+    }
+
+    /**
+     * Checks if the items are stored in chunks instead of inline.
+     */
+    public boolean hasChunkedItems() {
+        return itemChunkCount > 0;
+    }
+
+    /**
+     * Copy of this order without its item list, for payloads that reference the items instead.
+     */
+    public FulfillmentOrder withoutItems() {
+        FulfillmentOrder copy = new FulfillmentOrder();
+        copy.orderId = orderId;
+        copy.sellerFulfillmentOrderId = sellerFulfillmentOrderId;
+        copy.displayableOrderId = displayableOrderId;
+        copy.displayableOrderDate = displayableOrderDate;
+        copy.displayableOrderComment = displayableOrderComment;
+        copy.shippingSpeedCategory = shippingSpeedCategory;
+        copy.destinationAddress = destinationAddress;
+        copy.status = status;
+        copy.receivedDate = receivedDate;
+        copy.cancellationReason = cancellationReason;
+        copy.idempotencyKey = idempotencyKey;
+        copy.fulfillmentPolicy = fulfillmentPolicy;
+        copy.fulfillmentAction = fulfillmentAction;
+        copy.unfulfillableItems = unfulfillableItems;
+        copy.itemCount = getItemCount();
+        copy.itemChunkCount = itemChunkCount;
+        copy.addressFingerprint = addressFingerprint;
+        copy.addressBandKeys = addressBandKeys;
+        copy.version = version;
+        copy.archivedAt = archivedAt;
+        return copy;
+    }
+
     /**
      * Checks if the order has any unfulfillable items.
      */
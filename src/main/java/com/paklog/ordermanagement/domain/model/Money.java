@@ -0,0 +1,138 @@
+package com.paklog.ordermanagement.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Monetary amount held as a whole number of minor units (e.g. cents) of a currency.
+ *
+ * Arithmetic is exact long arithmetic: it never rounds, and overflow raises an
+ * {@link ArithmeticException} instead of wrapping. Rounding only happens when converting
+ * from a {@link BigDecimal} with more fraction digits than the currency has.
+ *
+ * Hot loops that sum many amounts can work on {@link #getMinorUnits()} directly with
+ * {@link Math#multiplyExact(long, long)} and {@link Math#addExact(long, long)} and only wrap
+ * the result in a Money at the end.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Currency USD = Currency.getInstance("USD");
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "Currency is required");
+    }
+
+    /**
+     * An amount given in minor units of the currency, e.g. 1234 for USD 12.34.
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Converts a decimal amount, rounding half up to the currency's fraction digits.
+     *
+     * @throws ArithmeticException if the amount does not fit in a long number of minor units
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        Objects.requireNonNull(amount, "Amount is required");
+        int digits = fractionDigits(currency);
+        BigDecimal minor = amount.setScale(digits, RoundingMode.HALF_UP).movePointRight(digits);
+        return new Money(minor.longValueExact(), currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ
+     * @throws ArithmeticException on overflow
+     */
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * @throws ArithmeticException on overflow
+     */
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public boolean hasSameCurrency(Money other) {
+        return currency.equals(other.currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, fractionDigits(currency));
+    }
+
+    /**
+     * The amount with the currency's fraction digits and no grouping, e.g. "1234.50".
+     */
+    public String toPlainString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    private static int fractionDigits(Currency currency) {
+        // Pseudo-currencies report -1; treat them as having no minor unit
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Money money = (Money) o;
+        return minorUnits == money.minorUnits && currency.equals(money.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minorUnits, currency);
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString() + " " + currency.getCurrencyCode();
+    }
+}
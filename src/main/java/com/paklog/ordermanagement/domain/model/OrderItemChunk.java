@@ -0,0 +1,96 @@
+package com.paklog.ordermanagement.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A slice of the items of a large fulfillment order.
+ *
+ * Orders above the large-order threshold keep their items in these documents instead of
+ * inline, so the order document stays small no matter how many lines it has.
+ * Chunks of one order are numbered from 0 and loaded back in that order.
+ */
+@Document(collection = "fulfillment_order_item_chunks")
+public class OrderItemChunk {
+
+    @Id
+    private String id;
+    private UUID orderId;
+    private int chunkIndex;
+    private List<OrderItem> items;
+
+    public OrderItemChunk() {
+        // Default constructor for frameworks
+    }
+
+    public OrderItemChunk(UUID orderId, int chunkIndex, List<OrderItem> items) {
+        this.id = orderId + ":" + chunkIndex;
+        this.orderId = orderId;
+        this.chunkIndex = chunkIndex;
+        this.items = items;
+    }
+
+    /**
+     * Splits the items of an order into chunks of at most chunkSize items.
+     */
+    public static List<OrderItemChunk> split(UUID orderId, List<OrderItem> items, int chunkSize) {
+        List<OrderItemChunk> chunks = new ArrayList<>((items.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0, index = 0; from < items.size(); from += chunkSize, index++) {
+            int to = Math.min(from + chunkSize, items.size());
+            chunks.add(new OrderItemChunk(orderId, index, new ArrayList<>(items.subList(from, to))));
+        }
+        return chunks;
+    }
+
+    /**
+     * Joins chunks, ordered by chunk index, back into the item list.
+     */
+    public static List<OrderItem> join(List<OrderItemChunk> chunks) {
+        int size = 0;
+        for (OrderItemChunk chunk : chunks) {
+            size += chunk.getItems().size();
+        }
+        List<OrderItem> items = new ArrayList<>(size);
+        for (OrderItemChunk chunk : chunks) {
+            items.addAll(chunk.getItems());
+        }
+        return items;
+    }
+
+    // Getters and setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderItem> items) {
+        this.items = items;
+    }
+}
@@ -1,5 +1,8 @@
 package com.paklog.ordermanagement.domain.model;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 /**
  * Enumeration of shipping speed categories for fulfillment orders.
  * Defines the service level agreement for order delivery.
@@ -36,6 +39,10 @@ public enum ShippingSpeedCategory {
      */
     SCHEDULED;
 
+    private static final String VALID_VALUES = Arrays.stream(values())
+        .map(Enum::name)
+        .collect(Collectors.joining(", "));
+
     /**
      * Convert string to enum, case-insensitive
      */
@@ -46,10 +53,14 @@ public enum ShippingSpeedCategory {
         try {
             return ShippingSpeedCategory.valueOf(value.toUpperCase());
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(
-                "Invalid shipping speed category: " + value +
-                ". Valid values are: STANDARD, EXPEDITED, PRIORITY, SAME_DAY, NEXT_DAY, SCHEDULED"
-            );
+            throw new IllegalArgumentException(invalidValueMessage(value));
         }
     }
+
+    /**
+     * Message for a value that is not a shipping speed category, listing the valid ones
+     */
+    public static String invalidValueMessage(Object value) {
+        return "Invalid shipping speed category: " + value + ". Valid values are: " + VALID_VALUES;
+    }
 }
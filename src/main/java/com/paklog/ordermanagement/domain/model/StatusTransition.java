@@ -0,0 +1,82 @@
+package com.paklog.ordermanagement.domain.model;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A status change applied to a stored order as one conditional update: it only takes effect if
+ * the order is still in one of the allowed states, and, when an expected version is given,
+ * has not been modified since it was read. Only the status, the fields set here and the
+ * version are written.
+ */
+public class StatusTransition {
+
+    private final UUID orderId;
+    private final Set<FulfillmentOrderStatus> allowedFrom;
+    private final FulfillmentOrderStatus target;
+    private final Map<String, Object> changes = new LinkedHashMap<>();
+    private Long expectedVersion;
+
+    private StatusTransition(UUID orderId, Set<FulfillmentOrderStatus> allowedFrom, FulfillmentOrderStatus target) {
+        if (allowedFrom.isEmpty()) {
+            throw new IllegalArgumentException("A transition needs at least one allowed source status");
+        }
+        this.orderId = orderId;
+        this.allowedFrom = Collections.unmodifiableSet(EnumSet.copyOf(allowedFrom));
+        this.target = target;
+    }
+
+    public static StatusTransition of(UUID orderId, Set<FulfillmentOrderStatus> allowedFrom,
+                                      FulfillmentOrderStatus target) {
+        return new StatusTransition(orderId, allowedFrom, target);
+    }
+
+    /**
+     * Also writes the given field of the order.
+     *
+     * @param field the property name on {@link FulfillmentOrder}
+     * @param value the new value
+     */
+    public StatusTransition set(String field, Object value) {
+        if ("status".equals(field) || "version".equals(field)) {
+            throw new IllegalArgumentException("Field is managed by the transition: " + field);
+        }
+        changes.put(field, value);
+        return this;
+    }
+
+    /**
+     * Only applies the transition if the stored order still has this version.
+     */
+    public StatusTransition expectingVersion(Long version) {
+        this.expectedVersion = version;
+        return this;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public Set<FulfillmentOrderStatus> getAllowedFrom() {
+        return allowedFrom;
+    }
+
+    public FulfillmentOrderStatus getTarget() {
+        return target;
+    }
+
+    public Map<String, Object> getChanges() {
+        return Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * The version the stored order must have, or null to only check its status.
+     */
+    public Long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
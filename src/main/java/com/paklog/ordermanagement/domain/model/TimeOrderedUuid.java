@@ -0,0 +1,87 @@
+package com.paklog.ordermanagement.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Time-ordered UUIDs in the version 7 layout of RFC 9562, used as order IDs.
+ *
+ * The first 48 bits are the Unix time in milliseconds, so IDs created close together sort
+ * close together and new orders are appended to the right edge of the _id index instead of
+ * landing on random pages of it. Within a millisecond, each thread counts up from a random
+ * start in a 26-bit counter kept in rand_a and the top of rand_b; the remaining 48 bits are
+ * random. IDs from one thread are therefore strictly increasing, even if the clock steps back,
+ * and IDs from different threads differ in their random bits.
+ *
+ * Generation takes no lock and draws from {@link ThreadLocalRandom} rather than the shared
+ * SecureRandom behind {@link UUID#randomUUID()}. IDs carry their creation time and are partly
+ * predictable, so they must not be used as secrets.
+ */
+public final class TimeOrderedUuid {
+
+    private static final int VERSION = 7;
+
+    private static final int COUNTER_BITS = 26;
+    private static final int COUNTER_BITS_IN_RAND_B = COUNTER_BITS - 12;
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+
+    /**
+     * Counters start below half their range, leaving at least 2^25 IDs per thread and millisecond.
+     */
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+
+    private static final long RANDOM_MASK = (1L << (62 - COUNTER_BITS_IN_RAND_B)) - 1;
+    private static final long VARIANT = 0b10L << 62;
+
+    private static final ThreadLocal<Sequence> SEQUENCE = ThreadLocal.withInitial(Sequence::new);
+
+    private TimeOrderedUuid() {
+    }
+
+    /**
+     * Returns a new ID, greater than every ID previously returned on this thread.
+     */
+    public static UUID next() {
+        return SEQUENCE.get().next(System.currentTimeMillis(), ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns the creation time encoded in a time-ordered UUID.
+     *
+     * @throws IllegalArgumentException if the UUID is not version 7
+     */
+    public static Instant timestampOf(UUID uuid) {
+        if (uuid.version() != VERSION) {
+            throw new IllegalArgumentException("Not a time-ordered UUID: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Timestamp and counter of the last ID generated by one thread.
+     */
+    static final class Sequence {
+
+        private long lastMillis = Long.MIN_VALUE;
+        private long counter;
+
+        UUID next(long nowMillis, RandomGenerator random) {
+            if (nowMillis > lastMillis) {
+                lastMillis = nowMillis;
+                counter = random.nextLong(COUNTER_SEED_BOUND);
+            } else if (++counter > MAX_COUNTER) {
+                // Counter exhausted within the millisecond, or the clock stepped back: borrow the
+                // next millisecond so IDs keep increasing
+                lastMillis++;
+                counter = random.nextLong(COUNTER_SEED_BOUND);
+            }
+            long mostSignificant = (lastMillis << 16) | ((long) VERSION << 12) | (counter >>> COUNTER_BITS_IN_RAND_B);
+            long leastSignificant = VARIANT
+                | ((counter & ((1L << COUNTER_BITS_IN_RAND_B) - 1)) << (62 - COUNTER_BITS_IN_RAND_B))
+                | (random.nextLong() & RANDOM_MASK);
+            return new UUID(mostSignificant, leastSignificant);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.paklog.ordermanagement.domain.port;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.paklog.ordermanagement.domain.port.InventoryServicePort.InventoryCheckResult;
+
+/**
+ * Non-blocking port for Inventory Service integration.
+ * Mirrors {@link InventoryServicePort} but completes asynchronously, so callers can compose
+ * inventory lookups with other remote calls without holding a thread for the round trip.
+ *
+ * This is a hexagonal architecture port - implementations will be in infrastructure layer.
+ * When no implementation is present, callers fall back to the blocking {@link InventoryServicePort}.
+ */
+public interface AsyncInventoryServicePort {
+
+    /**
+     * Checks if all items in the order have sufficient inventory.
+     *
+     * @param items map of SKU to required quantity
+     * @return future completing with the availability details; never completes exceptionally
+     *         for per-SKU failures, which are reported as unavailable items
+     */
+    CompletableFuture<InventoryCheckResult> checkAvailabilityAsync(Map<String, Integer> items);
+}
@@ -0,0 +1,35 @@
+package com.paklog.ordermanagement.domain.port;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductDetails;
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductValidationResult;
+
+/**
+ * Non-blocking port for Product Catalog Service integration.
+ * Mirrors {@link ProductCatalogServicePort} but completes asynchronously, so callers can compose
+ * catalog lookups with other remote calls without holding a thread for the round trip.
+ *
+ * This is a hexagonal architecture port - implementations will be in infrastructure layer.
+ * When no implementation is present, callers fall back to the blocking {@link ProductCatalogServicePort}.
+ */
+public interface AsyncProductCatalogServicePort {
+
+    /**
+     * Validates that all SKUs in the order exist in the product catalog.
+     *
+     * @param skus list of SKUs to validate
+     * @return future completing with the validation details
+     */
+    CompletableFuture<ProductValidationResult> validateProductsAsync(List<String> skus);
+
+    /**
+     * Gets product details for multiple SKUs.
+     *
+     * @param skus list of SKUs
+     * @return future completing with a map of SKU to ProductDetails for the SKUs that were found
+     */
+    CompletableFuture<Map<String, ProductDetails>> getProductDetailsAsync(List<String> skus);
+}
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.paklog.ordermanagement.domain.model.Money;
+
 /**
  * Port interface for Product Catalog Service integration.
  * Defines operations needed to validate products for order processing.
@@ -82,22 +84,30 @@ public interface ProductCatalogServicePort {
 
     /**
      * Product details from catalog.
+     * The unit price is kept as {@link Money} so order totals can be summed in exact minor units.
      */
     class ProductDetails {
         private final String sku;
         private final String name;
-        private final BigDecimal price;
+        private final Money unitPrice;
         private final boolean active;
         private final String category;
 
-        public ProductDetails(String sku, String name, BigDecimal price, boolean active, String category) {
+        public ProductDetails(String sku, String name, Money unitPrice, boolean active, String category) {
             this.sku = sku;
             this.name = name;
-            this.price = price;
+            this.unitPrice = unitPrice;
             this.active = active;
             this.category = category;
         }
 
+        /**
+         * Details with a USD price.
+         */
+        public ProductDetails(String sku, String name, BigDecimal price, boolean active, String category) {
+            this(sku, name, price != null ? Money.of(price, Money.USD) : null, active, category);
+        }
+
         public String getSku() {
             return sku;
         }
@@ -107,7 +117,11 @@ public interface ProductCatalogServicePort {
         }
 
         public BigDecimal getPrice() {
-            return price;
+            return unitPrice != null ? unitPrice.toBigDecimal() : null;
+        }
+
+        public Money getUnitPrice() {
+            return unitPrice;
         }
 
         public boolean isActive() {
@@ -1,31 +1,145 @@
 package com.paklog.ordermanagement.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.StatusTransition;
 
 public interface FulfillmentOrderRepository {
     FulfillmentOrder saveOrder(FulfillmentOrder order);
+
+    /**
+     * Inserts a new order, relying on the unique indexes on idempotencyKey and
+     * sellerFulfillmentOrderId instead of checking for existing orders first.
+     *
+     * @param order the new order
+     * @return the inserted order
+     * @throws org.springframework.dao.DuplicateKeyException if either key is already taken
+     */
+    FulfillmentOrder insertOrder(FulfillmentOrder order);
+
+    /**
+     * Inserts a batch of new orders in one round trip. The inserts are unordered: an order
+     * rejected by the unique index on idempotencyKey or sellerFulfillmentOrderId does not
+     * prevent the others from being inserted.
+     *
+     * @param orders the new orders
+     * @return the IDs of the orders rejected as duplicates; all other orders were inserted
+     * @throws OrderBatchInsertException if any order failed for another reason, naming the
+     *         orders that were not inserted
+     */
+    Set<UUID> insertOrders(List<FulfillmentOrder> orders);
+
+    /**
+     * Finds an order among the operational orders, falling back to the archive for terminal
+     * orders moved there by {@link #archiveOrders}. Archived orders have their archivedAt set
+     * and their items inline.
+     *
+     * @param orderId the order ID
+     * @return the order, or empty if it is in neither
+     */
     Optional<FulfillmentOrder> findById(UUID orderId);
+
+    /**
+     * Applies a status transition in one round trip, writing only the status, the transition's
+     * fields and an incremented version. Concurrent transitions of the same order cannot
+     * overwrite each other: the second one finds the order no longer in an allowed state.
+     *
+     * @param transition the order, allowed source states, target state and changed fields
+     * @return the order after the transition, or empty if it does not exist, is not in an
+     *         allowed state, or does not have the expected version
+     */
+    Optional<FulfillmentOrder> transitionStatus(StatusTransition transition);
     Optional<FulfillmentOrder> findBySellerFulfillmentOrderId(String sellerFulfillmentOrderId);
     Optional<FulfillmentOrder> findByIdempotencyKey(String idempotencyKey);
+    List<FulfillmentOrder> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
     void deleteById(UUID orderId);
 
     /**
-     * Finds orders by displayable order ID within a time range.
-     * Used for fuzzy duplicate detection.
+     * Finds orders with the same displayable order ID and address fingerprint received within
+     * a time range. Used for fuzzy duplicate detection; answered from the fuzzy_duplicate_idx
+     * index alone, so only orderId and receivedDate are populated.
      *
      * @param displayableOrderId the displayable order ID
+     * @param addressFingerprint the address fingerprint
      * @param startTime start of time range
      * @param endTime end of time range
-     * @return list of matching orders
+     * @return list of matching orders, with only orderId and receivedDate set
      */
-    List<FulfillmentOrder> findByDisplayableOrderIdAndReceivedDateBetween(
+    List<FulfillmentOrder> findFuzzyDuplicateCandidates(
         String displayableOrderId,
+        Long addressFingerprint,
         LocalDateTime startTime,
         LocalDateTime endTime
     );
+
+    /**
+     * Finds orders with the same displayable order ID that share at least one address band key
+     * and were received within a time range. Used for near-duplicate detection; only orderId,
+     * destinationAddress and receivedDate are populated.
+     *
+     * @param displayableOrderId the displayable order ID
+     * @param addressBandKeys the {@link com.paklog.ordermanagement.domain.model.AddressMinHash} band keys
+     * @param startTime start of time range
+     * @param endTime end of time range
+     * @return list of candidate orders
+     */
+    List<FulfillmentOrder> findNearDuplicateCandidates(
+        String displayableOrderId,
+        List<Long> addressBandKeys,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+    );
+
+    /**
+     * Streams the duplicate detection keys of orders received since the given time, for
+     * warming the in-memory duplicate index. Only idempotencyKey, sellerFulfillmentOrderId,
+     * displayableOrderId, addressFingerprint, addressBandKeys and receivedDate are populated.
+     * The caller must close the stream.
+     *
+     * @param since start of the time range
+     * @return stream of partially populated orders
+     */
+    Stream<FulfillmentOrder> streamReceivedSince(LocalDateTime since);
+
+    /**
+     * Searches orders page by page, continuing from the position in the criteria. Only the
+     * summary fields are populated, plus the destination address and inline items when the
+     * criteria ask for them; chunked items of large orders are not loaded.
+     *
+     * @param criteria filters, included fields, position and page size
+     * @return the page, with the position of its last order when more results follow
+     */
+    OrderSearchPage searchOrders(OrderSearchCriteria criteria);
+
+    /**
+     * Streams the orders matching the criteria from one cursor, in the same order as the
+     * search and continuing from the position in the criteria, without holding the result set
+     * in memory. Orders are whole, except for the chunked items of large orders; the limit
+     * caps the number of orders and the included fields of the criteria do not apply.
+     * The caller must close the stream.
+     *
+     * @param criteria filters, position and maximum number of orders
+     * @return stream of matching orders
+     */
+    Stream<FulfillmentOrder> streamOrders(OrderSearchCriteria criteria);
+
+    /**
+     * Moves up to the given number of orders in one of the statuses and received before the
+     * given time from the operational orders to the archive, together with their chunked items.
+     * An order that changes while it is being moved stays operational.
+     *
+     * @param statuses the terminal statuses to archive
+     * @param receivedBefore only orders received before this are archived
+     * @param limit maximum number of orders to move
+     * @return the number of orders found to archive, and of those actually moved
+     */
+    OrderArchiveBatch archiveOrders(Set<FulfillmentOrderStatus> statuses, LocalDateTime receivedBefore, int limit);
 }
@@ -0,0 +1,10 @@
+package com.paklog.ordermanagement.domain.repository;
+
+/**
+ * Outcome of moving one batch of terminal orders to the archive.
+ *
+ * @param found orders matching the statuses and age, at most the batch size
+ * @param archived orders moved to the archive; fewer than found when some changed meanwhile
+ */
+public record OrderArchiveBatch(int found, int archived) {
+}
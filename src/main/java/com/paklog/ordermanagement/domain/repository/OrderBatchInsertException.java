@@ -0,0 +1,27 @@
+package com.paklog.ordermanagement.domain.repository;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Thrown when a batch insert fails for a reason other than a duplicate key. The inserts are
+ * unordered, so the orders not named here were inserted despite the failure.
+ */
+public class OrderBatchInsertException extends DataAccessException {
+
+    private final Set<UUID> notInserted;
+
+    public OrderBatchInsertException(Set<UUID> notInserted, Throwable cause) {
+        super("Failed to insert " + notInserted.size() + " orders of the batch", cause);
+        this.notInserted = Set.copyOf(notInserted);
+    }
+
+    /**
+     * @return the IDs of the orders that were not inserted, whether rejected as duplicates or failed
+     */
+    public Set<UUID> getNotInserted() {
+        return notInserted;
+    }
+}
@@ -0,0 +1,20 @@
+package com.paklog.ordermanagement.domain.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
+
+public interface OrderItemChunkRepository {
+    void saveChunks(List<OrderItemChunk> chunks);
+
+    /**
+     * Finds the item chunks of an order, ordered by chunk index.
+     *
+     * @param orderId the order ID
+     * @return the chunks, empty if the order keeps its items inline
+     */
+    List<OrderItemChunk> findByOrderIdOrderByChunkIndexAsc(UUID orderId);
+
+    void deleteByOrderId(UUID orderId);
+}
@@ -0,0 +1,103 @@
+package com.paklog.ordermanagement.domain.repository;
+
+import java.time.LocalDateTime;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+
+/**
+ * Filters and keyset position of an order search.
+ *
+ * Results are ordered on indexed fields only, so each page continues from the position of the
+ * last order of the previous page instead of skipping over it: newest first by receivedDate
+ * and orderId, or by sellerFulfillmentOrderId when searching by seller order ID prefix.
+ * All filters are optional and combine with AND.
+ */
+public class OrderSearchCriteria {
+
+    private final FulfillmentOrderStatus status;
+    private final LocalDateTime receivedFrom;
+    private final LocalDateTime receivedTo;
+    private final String shippingSpeedCategory;
+    private final String sellerOrderIdPrefix;
+    private final boolean includeItems;
+    private final boolean includeAddress;
+    private final OrderSearchPosition after;
+    private final int limit;
+
+    /**
+     * @param status only orders in this status, or null
+     * @param receivedFrom only orders received at or after this time, or null
+     * @param receivedTo only orders received before this time, or null
+     * @param shippingSpeedCategory only orders with this shipping speed, or null
+     * @param sellerOrderIdPrefix only orders whose sellerFulfillmentOrderId starts with this, or null
+     * @param includeItems whether to load the items of each order
+     * @param includeAddress whether to load the destination address of each order
+     * @param after position of the last order of the previous page, or null for the first page
+     * @param limit maximum number of orders to return
+     * @throws IllegalArgumentException if the position belongs to the other ordering
+     */
+    public OrderSearchCriteria(FulfillmentOrderStatus status, LocalDateTime receivedFrom, LocalDateTime receivedTo,
+                               String shippingSpeedCategory, String sellerOrderIdPrefix,
+                               boolean includeItems, boolean includeAddress,
+                               OrderSearchPosition after, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        boolean bySellerOrderId = sellerOrderIdPrefix != null && !sellerOrderIdPrefix.isEmpty();
+        if (after != null && after.isBySellerOrderId() != bySellerOrderId) {
+            throw new IllegalArgumentException("Page token does not belong to this search");
+        }
+        this.status = status;
+        this.receivedFrom = receivedFrom;
+        this.receivedTo = receivedTo;
+        this.shippingSpeedCategory = shippingSpeedCategory;
+        this.sellerOrderIdPrefix = bySellerOrderId ? sellerOrderIdPrefix : null;
+        this.includeItems = includeItems;
+        this.includeAddress = includeAddress;
+        this.after = after;
+        this.limit = limit;
+    }
+
+    /**
+     * Whether results are ordered by sellerFulfillmentOrderId rather than newest first.
+     */
+    public boolean isBySellerOrderId() {
+        return sellerOrderIdPrefix != null;
+    }
+
+    public FulfillmentOrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getReceivedFrom() {
+        return receivedFrom;
+    }
+
+    public LocalDateTime getReceivedTo() {
+        return receivedTo;
+    }
+
+    public String getShippingSpeedCategory() {
+        return shippingSpeedCategory;
+    }
+
+    public String getSellerOrderIdPrefix() {
+        return sellerOrderIdPrefix;
+    }
+
+    public boolean isIncludeItems() {
+        return includeItems;
+    }
+
+    public boolean isIncludeAddress() {
+        return includeAddress;
+    }
+
+    public OrderSearchPosition getAfter() {
+        return after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.paklog.ordermanagement.domain.repository;
+
+import java.util.List;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+
+/**
+ * One page of order search results, and the position to continue from.
+ */
+public class OrderSearchPage {
+
+    private final List<FulfillmentOrder> orders;
+    private final OrderSearchPosition next;
+
+    public OrderSearchPage(List<FulfillmentOrder> orders, OrderSearchPosition next) {
+        this.orders = orders;
+        this.next = next;
+    }
+
+    public List<FulfillmentOrder> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Position of the last order of this page, or null when there are no more results.
+     */
+    public OrderSearchPosition getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,93 @@
+package com.paklog.ordermanagement.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+
+/**
+ * Keyset position in an order search: the sort key of the last order of a page.
+ * Serialized as an opaque page token for clients.
+ */
+public class OrderSearchPosition {
+
+    private static final String BY_RECEIVED_DATE = "r";
+    private static final String BY_SELLER_ORDER_ID = "s";
+    private static final char SEPARATOR = '~';
+
+    private final LocalDateTime receivedDate;
+    private final UUID orderId;
+    private final String sellerFulfillmentOrderId;
+
+    private OrderSearchPosition(LocalDateTime receivedDate, UUID orderId, String sellerFulfillmentOrderId) {
+        this.receivedDate = receivedDate;
+        this.orderId = orderId;
+        this.sellerFulfillmentOrderId = sellerFulfillmentOrderId;
+    }
+
+    public static OrderSearchPosition byReceivedDate(LocalDateTime receivedDate, UUID orderId) {
+        return new OrderSearchPosition(receivedDate, orderId, null);
+    }
+
+    public static OrderSearchPosition bySellerOrderId(String sellerFulfillmentOrderId) {
+        return new OrderSearchPosition(null, null, sellerFulfillmentOrderId);
+    }
+
+    /**
+     * Position of the given order in a search with the given ordering.
+     */
+    public static OrderSearchPosition of(FulfillmentOrder order, boolean bySellerOrderId) {
+        return bySellerOrderId
+            ? bySellerOrderId(order.getSellerFulfillmentOrderId())
+            : byReceivedDate(order.getReceivedDate(), order.getOrderId());
+    }
+
+    public boolean isBySellerOrderId() {
+        return sellerFulfillmentOrderId != null;
+    }
+
+    public LocalDateTime getReceivedDate() {
+        return receivedDate;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getSellerFulfillmentOrderId() {
+        return sellerFulfillmentOrderId;
+    }
+
+    public String toPageToken() {
+        String value = isBySellerOrderId()
+            ? BY_SELLER_ORDER_ID + SEPARATOR + sellerFulfillmentOrderId
+            : BY_RECEIVED_DATE + SEPARATOR + receivedDate + SEPARATOR + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is not a page token
+     */
+    public static OrderSearchPosition fromPageToken(String pageToken) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            String kind = separator > 0 ? value.substring(0, separator) : "";
+            String rest = value.substring(separator + 1);
+            if (BY_SELLER_ORDER_ID.equals(kind) && !rest.isEmpty()) {
+                return bySellerOrderId(rest);
+            }
+            int second = rest.indexOf(SEPARATOR);
+            if (BY_RECEIVED_DATE.equals(kind) && second > 0) {
+                return byReceivedDate(LocalDateTime.parse(rest.substring(0, second)),
+                    UUID.fromString(rest.substring(second + 1)));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Fall through to the common error
+        }
+        throw new IllegalArgumentException("Invalid page token");
+    }
+}
@@ -10,13 +10,20 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
-import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.AddressFingerprint;
+import com.paklog.ordermanagement.domain.model.AddressMinHash;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
 
 /**
  * Domain service for detecting duplicate orders using multiple criteria.
  * Implements fuzzy matching to prevent duplicate order submissions.
+ *
+ * Once the {@link RecentOrderIndex} is warm each criterion is checked there first, and MongoDB
+ * is only queried for a criterion the index reports as a possible match, so an order that is
+ * not a duplicate costs no reads. The index covers the detection window only: an exact
+ * duplicate of an older order is not reported here, and is instead rejected by the unique
+ * indexes when it is inserted.
  */
 @Service
 public class DuplicateOrderDetectionService {
@@ -25,12 +32,15 @@ public class DuplicateOrderDetectionService {
 
     private final FulfillmentOrderRepository orderRepository;
     private final OrderValidationConfig config;
+    private final RecentOrderIndex recentOrderIndex;
     private final Duration duplicateWindow;
 
     public DuplicateOrderDetectionService(FulfillmentOrderRepository orderRepository,
-                                          OrderValidationConfig config) {
+                                          OrderValidationConfig config,
+                                          RecentOrderIndex recentOrderIndex) {
         this.orderRepository = orderRepository;
         this.config = config;
+        this.recentOrderIndex = recentOrderIndex;
         this.duplicateWindow = Duration.ofHours(config.getDuplicateDetectionWindowHours());
         logger.info("DuplicateOrderDetectionService initialized - Detection window: {} hours",
             config.getDuplicateDetectionWindowHours());
@@ -45,8 +55,12 @@ public class DuplicateOrderDetectionService {
     public DuplicateCheckResult checkForDuplicate(FulfillmentOrder order) {
         logger.debug("Performing duplicate order check - OrderId: {}", order.getOrderId());
 
+        // Misses of a cold index cannot be trusted yet
+        boolean indexWarm = recentOrderIndex.isWarm();
+
         // 1. Check by idempotency key (exact match)
-        if (order.getIdempotencyKey() != null) {
+        if (order.getIdempotencyKey() != null &&
+                (!indexWarm || recentOrderIndex.mightContainIdempotencyKey(order.getIdempotencyKey()))) {
             Optional<FulfillmentOrder> existingByKey =
                 orderRepository.findByIdempotencyKey(order.getIdempotencyKey());
 
@@ -62,7 +76,8 @@ public class DuplicateOrderDetectionService {
         }
 
         // 2. Check by seller order ID (exact match)
-        if (order.getSellerFulfillmentOrderId() != null) {
+        if (order.getSellerFulfillmentOrderId() != null &&
+                (!indexWarm || recentOrderIndex.mightContainSellerOrderId(order.getSellerFulfillmentOrderId()))) {
             Optional<FulfillmentOrder> existingBySellerId =
                 orderRepository.findBySellerFulfillmentOrderId(order.getSellerFulfillmentOrderId());
 
@@ -79,83 +94,84 @@ public class DuplicateOrderDetectionService {
 
         // 3. Check by fuzzy match (displayable order ID + address + similar timestamp)
         // This catches accidental resubmissions with different seller order IDs
-        DuplicateCheckResult fuzzyResult = checkFuzzyDuplicate(order);
+        DuplicateCheckResult fuzzyResult = checkFuzzyDuplicate(order, indexWarm);
         if (fuzzyResult.isDuplicate()) {
             return fuzzyResult;
         }
 
+        // 4. Check by near match (displayable order ID + similar address, via LSH band keys)
+        // This catches resubmissions with reformatted or slightly misspelled addresses
+        DuplicateCheckResult nearResult = checkNearDuplicate(order, indexWarm);
+        if (nearResult.isDuplicate()) {
+            return nearResult;
+        }
+
         logger.debug("No duplicate detected - OrderId: {}", order.getOrderId());
         return DuplicateCheckResult.notDuplicate();
     }
 
     /**
      * Performs fuzzy matching to detect potential duplicate orders.
-     * Considers orders with same displayable ID and address within configured time window as potential duplicates.
+     * Considers orders with same displayable ID, address and item count within configured time window as potential duplicates.
+     * Address and item count are compared through the {@link AddressFingerprint} stored on each order, so candidates
+     * come from a single covered index lookup; only a match loads the existing order.
      */
-    private DuplicateCheckResult checkFuzzyDuplicate(FulfillmentOrder order) {
+    private DuplicateCheckResult checkFuzzyDuplicate(FulfillmentOrder order, boolean indexWarm) {
         if (order.getDisplayableOrderId() == null || order.getDisplayableOrderId().isBlank()) {
             logger.debug("Skipping fuzzy duplicate check - No displayable order ID");
             return DuplicateCheckResult.notDuplicate();
         }
 
+        Long fingerprint = AddressFingerprint.of(order.getDestinationAddress(), order.getItemCount());
+        if (fingerprint == null) {
+            logger.debug("Skipping fuzzy duplicate check - No destination address");
+            return DuplicateCheckResult.notDuplicate();
+        }
+
+        if (indexWarm && !recentOrderIndex.mightContainAddress(order.getDisplayableOrderId(), fingerprint)) {
+            logger.debug("No fuzzy duplicate in recent order index - DisplayableOrderId: {}",
+                order.getDisplayableOrderId());
+            return DuplicateCheckResult.notDuplicate();
+        }
+
         try {
             // Calculate time window for fuzzy matching
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime windowStart = now.minus(duplicateWindow);
 
-            logger.debug("Fuzzy duplicate check - DisplayableOrderId: {}, Window: {} to {}",
-                order.getDisplayableOrderId(), windowStart, now);
+            logger.debug("Fuzzy duplicate check - DisplayableOrderId: {}, Fingerprint: {}, Window: {} to {}",
+                order.getDisplayableOrderId(), fingerprint, windowStart, now);
 
-            // Query for orders with same displayable ID within time window
-            List<FulfillmentOrder> potentialDuplicates = orderRepository
-                .findByDisplayableOrderIdAndReceivedDateBetween(
-                    order.getDisplayableOrderId(),
-                    windowStart,
-                    now
-                );
-
-            if (potentialDuplicates.isEmpty()) {
-                logger.debug("No fuzzy duplicates found for displayable order ID: {}",
-                    order.getDisplayableOrderId());
-                return DuplicateCheckResult.notDuplicate();
-            }
+            // Query for orders with same displayable ID and fingerprint within time window
+            List<FulfillmentOrder> candidates = orderRepository.findFuzzyDuplicateCandidates(
+                order.getDisplayableOrderId(),
+                fingerprint,
+                windowStart,
+                now
+            );
 
-            // Check each potential duplicate for address similarity
-            for (FulfillmentOrder existingOrder : potentialDuplicates) {
+            for (FulfillmentOrder candidate : candidates) {
                 // Skip if it's the same order (by ID)
-                if (existingOrder.getOrderId() != null &&
-                    existingOrder.getOrderId().equals(order.getOrderId())) {
+                if (candidate.getOrderId() == null || candidate.getOrderId().equals(order.getOrderId())) {
                     continue;
                 }
 
-                // Check if addresses are similar
-                if (isSimilarAddress(order.getDestinationAddress(),
-                                    existingOrder.getDestinationAddress())) {
-
-                    // Check if item counts match (additional fuzzy match criteria)
-                    int orderItemCount = order.getItems() != null ? order.getItems().size() : 0;
-                    int existingItemCount = existingOrder.getItems() != null ?
-                        existingOrder.getItems().size() : 0;
-
-                    if (orderItemCount == existingItemCount) {
-                        logger.warn("Fuzzy duplicate detected - DisplayableOrderId: {}, " +
-                            "ExistingOrderId: {}, MatchedOn: address+itemCount",
-                            order.getDisplayableOrderId(), existingOrder.getOrderId());
-
-                        return DuplicateCheckResult.duplicate(
-                            DuplicateReason.FUZZY_MATCH,
-                            existingOrder,
-                            String.format("Similar order found with same displayable ID (%s), " +
-                                "matching address, and same item count (%d) within %d hours",
-                                order.getDisplayableOrderId(), orderItemCount,
-                                config.getDuplicateDetectionWindowHours())
-                        );
-                    }
-                }
+                logger.warn("Fuzzy duplicate detected - DisplayableOrderId: {}, " +
+                    "ExistingOrderId: {}, MatchedOn: address+itemCount",
+                    order.getDisplayableOrderId(), candidate.getOrderId());
+
+                return DuplicateCheckResult.duplicate(
+                    DuplicateReason.FUZZY_MATCH,
+                    orderRepository.findById(candidate.getOrderId()).orElse(candidate),
+                    String.format("Similar order found with same displayable ID (%s), " +
+                        "matching address, and same item count (%d) within %d hours",
+                        order.getDisplayableOrderId(), order.getItemCount(),
+                        config.getDuplicateDetectionWindowHours())
+                );
             }
 
-            logger.debug("No fuzzy duplicate match found despite {} candidates",
-                potentialDuplicates.size());
+            logger.debug("No fuzzy duplicates found for displayable order ID: {}",
+                order.getDisplayableOrderId());
             return DuplicateCheckResult.notDuplicate();
 
         } catch (Exception e) {
@@ -167,34 +183,74 @@ public class DuplicateOrderDetectionService {
     }
 
     /**
-     * Checks if two addresses are similar enough to be considered duplicates.
+     * Detects orders whose address is similar but not equal to that of an earlier order with the
+     * same displayable order ID, number of items and address numbers.
+     * Candidates share at least one {@link AddressMinHash} band key with the order, so they come
+     * from one index lookup however many orders there are; each is then confirmed by computing
+     * the exact similarity of the two addresses.
      */
-    private boolean isSimilarAddress(Address addr1, Address addr2) {
-        if (addr1 == null || addr2 == null) {
-            return false;
+    private DuplicateCheckResult checkNearDuplicate(FulfillmentOrder order, boolean indexWarm) {
+        if (order.getDisplayableOrderId() == null || order.getDisplayableOrderId().isBlank()) {
+            return DuplicateCheckResult.notDuplicate();
         }
 
-        // Normalize and compare key fields
-        boolean sameRecipient = normalizeString(addr1.getName())
-            .equals(normalizeString(addr2.getName()));
+        List<Long> bandKeys = AddressMinHash.bandKeys(order.getDestinationAddress(), order.getItemCount());
+        if (bandKeys == null) {
+            return DuplicateCheckResult.notDuplicate();
+        }
 
-        boolean sameStreet = normalizeString(addr1.getAddressLine1())
-            .equals(normalizeString(addr2.getAddressLine1()));
+        if (indexWarm && !recentOrderIndex.mightContainAnyAddressBand(order.getDisplayableOrderId(), bandKeys)) {
+            logger.debug("No near duplicate in recent order index - DisplayableOrderId: {}",
+                order.getDisplayableOrderId());
+            return DuplicateCheckResult.notDuplicate();
+        }
 
-        boolean samePostalCode = normalizeString(addr1.getPostalCode())
-            .equals(normalizeString(addr2.getPostalCode()));
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime windowStart = now.minus(duplicateWindow);
 
-        return sameRecipient && sameStreet && samePostalCode;
-    }
+            List<FulfillmentOrder> candidates = orderRepository.findNearDuplicateCandidates(
+                order.getDisplayableOrderId(),
+                bandKeys,
+                windowStart,
+                now
+            );
 
-    /**
-     * Normalizes string for comparison (lowercase, trim, remove extra spaces).
-     */
-    private String normalizeString(String str) {
-        if (str == null) {
-            return "";
+            double threshold = config.getNearDuplicateSimilarityThreshold();
+            for (FulfillmentOrder candidate : candidates) {
+                if (candidate.getOrderId() == null || candidate.getOrderId().equals(order.getOrderId())) {
+                    continue;
+                }
+
+                double similarity = AddressMinHash.similarity(order.getDestinationAddress(),
+                    candidate.getDestinationAddress());
+                if (similarity < threshold) {
+                    continue;
+                }
+
+                logger.warn("Near duplicate detected - DisplayableOrderId: {}, ExistingOrderId: {}, Similarity: {}",
+                    order.getDisplayableOrderId(), candidate.getOrderId(), similarity);
+
+                return DuplicateCheckResult.duplicate(
+                    DuplicateReason.NEAR_MATCH,
+                    orderRepository.findById(candidate.getOrderId()).orElse(candidate),
+                    String.format("Similar order found with same displayable ID (%s), " +
+                        "similar address (%.0f%% similar), and same item count (%d) within %d hours",
+                        order.getDisplayableOrderId(), similarity * 100, order.getItemCount(),
+                        config.getDuplicateDetectionWindowHours())
+                );
+            }
+
+            logger.debug("No near duplicates found for displayable order ID: {} - Candidates: {}",
+                order.getDisplayableOrderId(), candidates.size());
+            return DuplicateCheckResult.notDuplicate();
+
+        } catch (Exception e) {
+            logger.error("Error during near duplicate check - OrderId: {}, Error: {}",
+                order.getOrderId(), e.getMessage(), e);
+            // Fail open - don't block order processing due to fuzzy match errors
+            return DuplicateCheckResult.notDuplicate();
         }
-        return str.toLowerCase().trim().replaceAll("\\s+", " ");
     }
 
     /**
@@ -247,7 +303,8 @@ public class DuplicateOrderDetectionService {
     public enum DuplicateReason {
         IDEMPOTENCY_KEY("Duplicate idempotency key"),
         SELLER_ORDER_ID("Duplicate seller order ID"),
-        FUZZY_MATCH("Similar order detected (same displayable ID, address, and timeframe)");
+        FUZZY_MATCH("Similar order detected (same displayable ID, address, and timeframe)"),
+        NEAR_MATCH("Similar order detected (same displayable ID, similar address, and timeframe)");
 
         private final String description;
 
@@ -1,12 +1,18 @@
 package com.paklog.ordermanagement.domain.service;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -14,19 +20,44 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.paklog.ordermanagement.domain.config.LargeOrderConfig;
 import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.model.OrderItem;
-import com.paklog.ordermanagement.domain.model.ShippingSpeedCategory;
 import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
 import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+import com.paklog.ordermanagement.domain.port.AsyncInventoryServicePort;
+import com.paklog.ordermanagement.domain.port.AsyncProductCatalogServicePort;
 import com.paklog.ordermanagement.domain.port.InventoryServicePort;
 import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort;
+import com.paklog.ordermanagement.domain.service.validation.CompiledRuleSet;
+import com.paklog.ordermanagement.domain.service.validation.ValidationErrorCode;
+import com.paklog.ordermanagement.domain.service.validation.Violations;
 
 /**
  * Domain service for validating business rules on fulfillment orders.
  * This service encapsulates complex validation logic that spans multiple aggregates
  * or requires domain knowledge and external service integrations.
+ *
+ * Remote lookups go through the non-blocking ports when they are available: the lookups of
+ * every chunk, and the per-SKU requests within each, run concurrently while the calling thread
+ * waits for all of them. Without those ports the blocking ports are called one chunk at a time.
+ *
+ * Local rules are compiled from {@link OrderValidationConfig} into a {@link CompiledRuleSet}
+ * and recompiled on first use after the configuration changes. Violations are collected as
+ * {@link ValidationErrorCode}s; messages are rendered only when a result's errors are read.
+ *
+ * Orders above the {@link LargeOrderConfig} threshold are looked up in chunks: each catalog
+ * and inventory request covers at most one chunk of items and the results are merged, so no
+ * single request grows with the size of the order.
+ *
+ * A failed remote lookup is reported in the result rather than thrown, except a
+ * {@link CancellationException}: the caller no longer needs the result, e.g. an intake stage
+ * cancelled after another check failed.
+ *
+ * A batch of orders is looked up once for the whole batch: {@link #lookUpCatalog(List)} and
+ * {@link #lookUpInventory(List)} query each distinct SKU of the batch a single time, and the
+ * orders are then validated against those results without further remote calls.
  */
 @Service
 public class OrderValidationService {
@@ -36,15 +67,44 @@ public class OrderValidationService {
     private final OrderValidationConfig config;
     private final InventoryServicePort inventoryService;
     private final ProductCatalogServicePort productCatalogService;
+    private final AsyncInventoryServicePort asyncInventoryService;
+    private final AsyncProductCatalogServicePort asyncProductCatalogService;
+    private final LargeOrderConfig largeOrderConfig;
+
+    private volatile CompiledRuleSet compiledRules;
+
+    public OrderValidationService(OrderValidationConfig config,
+                                 InventoryServicePort inventoryService,
+                                 ProductCatalogServicePort productCatalogService) {
+        this(config, inventoryService, productCatalogService, null, null);
+    }
 
+    public OrderValidationService(OrderValidationConfig config,
+                                 InventoryServicePort inventoryService,
+                                 ProductCatalogServicePort productCatalogService,
+                                 AsyncInventoryServicePort asyncInventoryService,
+                                 AsyncProductCatalogServicePort asyncProductCatalogService) {
+        this(config, inventoryService, productCatalogService, asyncInventoryService, asyncProductCatalogService,
+            new LargeOrderConfig());
+    }
+
+    @Autowired
     public OrderValidationService(OrderValidationConfig config,
                                  @Autowired(required = false) InventoryServicePort inventoryService,
-                                 @Autowired(required = false) ProductCatalogServicePort productCatalogService) {
+                                 @Autowired(required = false) ProductCatalogServicePort productCatalogService,
+                                 @Autowired(required = false) AsyncInventoryServicePort asyncInventoryService,
+                                 @Autowired(required = false) AsyncProductCatalogServicePort asyncProductCatalogService,
+                                 LargeOrderConfig largeOrderConfig) {
         this.config = config;
+        this.largeOrderConfig = largeOrderConfig;
         this.inventoryService = inventoryService;
         this.productCatalogService = productCatalogService;
-        logger.info("OrderValidationService initialized - InventoryServiceAvailable: {}, ProductCatalogCheck: {}",
-            inventoryService != null, config.isCheckProductCatalog());
+        this.asyncInventoryService = asyncInventoryService;
+        this.asyncProductCatalogService = asyncProductCatalogService;
+        this.compiledRules = CompiledRuleSet.compile(config);
+        logger.info("OrderValidationService initialized - InventoryServiceAvailable: {}, ProductCatalogCheck: {}, AsyncInventory: {}, AsyncCatalog: {}, CompiledRules: {}",
+            inventoryService != null, config.isCheckProductCatalog(),
+            asyncInventoryService != null, asyncProductCatalogService != null, compiledRules.getRuleCount());
     }
 
     /**
@@ -56,173 +116,158 @@ public class OrderValidationService {
     public ValidationResult validate(FulfillmentOrder order) {
         logger.debug("Validating fulfillment order - OrderId: {}", order.getOrderId());
 
-        List<String> errors = new ArrayList<>();
-
-        // Validate items (SKU duplicates, quantities)
-        validateItems(order.getItems(), errors);
-
-        // Validate shipping speed category
-        validateShippingSpeedCategory(order.getShippingSpeedCategory(), errors);
-
-        // Validate order value (if enabled)
-        if (config.isEnableOrderValueValidation()) {
-            validateOrderValue(order, errors);
-        }
+        // Validate items, shipping speed and order value
+        Violations violations = new Violations();
+        applyBusinessRules(order, violations);
 
         // Validate product catalog (if enabled)
-        if (config.isCheckProductCatalog() && productCatalogService != null) {
-            validateProductCatalog(order, errors);
+        if (config.isCheckProductCatalog() && hasCatalog()) {
+            validateProductCatalog(order, violations);
         }
 
         // Note: Inventory availability is no longer validated here.
         // It's checked separately via checkInventoryAvailability() method
         // and handled based on fulfillment policy.
 
-        ValidationResult result = errors.isEmpty()
-            ? ValidationResult.success()
-            : ValidationResult.failure(errors);
+        return toValidationResult(order, violations);
+    }
 
-        if (result.isValid()) {
-            logger.debug("Order validation successful - OrderId: {}", order.getOrderId());
-        } else {
-            logger.warn("Order validation failed - OrderId: {}, Errors: {}",
-                order.getOrderId(), errors);
-        }
+    /**
+     * Validates the business rules of a fulfillment order: items, shipping speed category and,
+     * if enabled, order value. Together with {@link #validateProductCatalog(FulfillmentOrder)}
+     * this covers {@link #validate(FulfillmentOrder)}, split so both can run concurrently.
+     *
+     * @param order the order to validate
+     * @return ValidationResult containing any validation errors
+     */
+    public ValidationResult validateBusinessRules(FulfillmentOrder order) {
+        logger.debug("Validating business rules - OrderId: {}", order.getOrderId());
 
-        return result;
+        Violations violations = new Violations();
+        applyBusinessRules(order, violations);
+        return toValidationResult(order, violations);
     }
 
     /**
-     * Validates order items for business rule compliance.
+     * Validates that all SKUs of a fulfillment order exist in the product catalog.
+     * Succeeds without a lookup when product catalog checks are disabled.
+     *
+     * @param order the order to validate
+     * @return ValidationResult containing any validation errors
      */
-    private void validateItems(List<OrderItem> items, List<String> errors) {
-        if (items == null || items.isEmpty()) {
-            errors.add("Order must contain at least one item");
-            return;
+    public ValidationResult validateProductCatalog(FulfillmentOrder order) {
+        if (!config.isCheckProductCatalog() || !hasCatalog()) {
+            return ValidationResult.success();
         }
 
-        // Check for duplicate SKUs
-        Set<String> seenSkus = new HashSet<>();
-        Set<String> duplicateSkus = new HashSet<>();
+        logger.debug("Validating product catalog - OrderId: {}", order.getOrderId());
 
-        for (OrderItem item : items) {
-            if (item.getSellerSku() != null) {
-                if (!seenSkus.add(item.getSellerSku())) {
-                    duplicateSkus.add(item.getSellerSku());
+        Violations violations = new Violations();
+        validateProductCatalog(order, violations);
+        return toValidationResult(order, violations);
+    }
+
+    /**
+     * Recompiles the local rules from the current configuration.
+     * Happens automatically on the next validation after a configuration property changes.
+     *
+     * @return the newly compiled rules
+     */
+    public synchronized CompiledRuleSet reloadRules() {
+        CompiledRuleSet previous = compiledRules;
+        CompiledRuleSet reloaded = CompiledRuleSet.compile(config);
+        compiledRules = reloaded;
+        logger.info("Validation rules reloaded - Rules: {}, Revision: {} -> {}",
+            reloaded.getRuleCount(), previous.getRevision(), reloaded.getRevision());
+        return reloaded;
+    }
+
+    private CompiledRuleSet currentRules() {
+        CompiledRuleSet current = compiledRules;
+        if (current.getRevision() != config.getRevision()) {
+            synchronized (this) {
+                current = compiledRules;
+                if (current.getRevision() != config.getRevision()) {
+                    current = reloadRules();
                 }
             }
         }
+        return current;
+    }
 
-        if (!duplicateSkus.isEmpty()) {
-            errors.add("Duplicate SKUs found in order: " + String.join(", ", duplicateSkus) +
-                ". Please consolidate quantities for duplicate items.");
-        }
-
-        // Validate total quantity
-        int totalQuantity = items.stream()
-            .mapToInt(item -> item.getQuantity() != null ? item.getQuantity() : 0)
-            .sum();
-
-        if (totalQuantity > config.getMaxTotalQuantity()) {
-            errors.add("Total order quantity (" + totalQuantity +
-                ") exceeds maximum allowed (" + config.getMaxTotalQuantity() + ")");
-        }
+    private void applyBusinessRules(FulfillmentOrder order, Violations violations) {
+        // Validate items (SKU duplicates, quantities) and shipping speed category
+        currentRules().evaluate(order, violations);
 
-        if (totalQuantity == 0) {
-            errors.add("Total order quantity must be greater than 0");
+        // Validate order value (if enabled)
+        if (config.isEnableOrderValueValidation()) {
+            validateOrderValue(order, violations);
         }
     }
 
-    /**
-     * Validates shipping speed category is valid.
-     */
-    private void validateShippingSpeedCategory(String shippingSpeedCategory, List<String> errors) {
-        if (shippingSpeedCategory == null || shippingSpeedCategory.isBlank()) {
-            errors.add("Shipping speed category is required");
-            return;
+    private ValidationResult toValidationResult(FulfillmentOrder order, Violations violations) {
+        if (violations.isEmpty()) {
+            logger.debug("Order validation successful - OrderId: {}", order.getOrderId());
+            return ValidationResult.success();
         }
 
-        try {
-            ShippingSpeedCategory.fromString(shippingSpeedCategory);
-        } catch (IllegalArgumentException e) {
-            errors.add(e.getMessage());
-        }
+        logger.warn("Order validation failed - OrderId: {}, Errors: {}",
+            order.getOrderId(), violations);
+        return ValidationResult.failure(violations);
     }
 
     /**
      * Validates total order value is within acceptable limits.
      * Requires product catalog integration to fetch prices.
      */
-    private void validateOrderValue(FulfillmentOrder order, List<String> errors) {
-        if (productCatalogService == null) {
+    private void validateOrderValue(FulfillmentOrder order, Violations violations) {
+        if (!hasCatalog()) {
             logger.warn("Cannot validate order value - Product Catalog service not available");
             return;
         }
 
         try {
-            List<String> skus = order.getItems().stream()
-                .map(OrderItem::getSellerSku)
-                .collect(Collectors.toList());
-
             Map<String, ProductCatalogServicePort.ProductDetails> productDetails =
-                productCatalogService.getProductDetails(skus);
-
-            BigDecimal totalValue = BigDecimal.ZERO;
-
-            for (OrderItem item : order.getItems()) {
-                ProductCatalogServicePort.ProductDetails details = productDetails.get(item.getSellerSku());
-                if (details != null && details.getPrice() != null) {
-                    BigDecimal itemTotal = details.getPrice()
-                        .multiply(BigDecimal.valueOf(item.getQuantity()));
-                    totalValue = totalValue.add(itemTotal);
-                }
-            }
+                mergeProductDetails(getProductDetails(skuChunks(order)));
 
-            if (totalValue.compareTo(config.getMinOrderValue()) < 0) {
-                errors.add(String.format("Order value ($%.2f) is below minimum ($%.2f)",
-                    totalValue, config.getMinOrderValue()));
-            }
-
-            if (totalValue.compareTo(config.getMaxOrderValue()) > 0) {
-                errors.add(String.format("Order value ($%.2f) exceeds maximum ($%.2f)",
-                    totalValue, config.getMaxOrderValue()));
-            }
-
-            logger.debug("Order value validation - OrderId: {}, TotalValue: ${}",
-                order.getOrderId(), totalValue);
+            currentRules().evaluateOrderValue(order, productDetails, violations);
 
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error validating order value - OrderId: {}, Error: {}",
                 order.getOrderId(), e.getMessage(), e);
-            errors.add("Unable to validate order value: " + e.getMessage());
+            violations.add(ValidationErrorCode.ORDER_VALUE_UNAVAILABLE, e.getMessage());
         }
     }
 
     /**
      * Validates all SKUs exist in the product catalog.
      */
-    private void validateProductCatalog(FulfillmentOrder order, List<String> errors) {
+    private void validateProductCatalog(FulfillmentOrder order, Violations violations) {
         try {
-            List<String> skus = order.getItems().stream()
-                .map(OrderItem::getSellerSku)
-                .collect(Collectors.toList());
-
-            ProductCatalogServicePort.ProductValidationResult result =
-                productCatalogService.validateProducts(skus);
-
-            if (!result.isAllValid()) {
-                errors.add("Invalid SKUs found: " + String.join(", ", result.getInvalidSkus()) +
-                    ". These products do not exist in the catalog.");
-                logger.warn("Product catalog validation failed - OrderId: {}, InvalidSKUs: {}",
-                    order.getOrderId(), result.getInvalidSkus());
-            } else {
-                logger.debug("Product catalog validation successful - OrderId: {}", order.getOrderId());
-            }
+            ProductCatalogServicePort.ProductValidationResult result = mergeProductValidation(validateProducts(skuChunks(order)));
 
+            applyProductCatalogResult(order, result, violations);
+
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error validating product catalog - OrderId: {}, Error: {}",
                 order.getOrderId(), e.getMessage(), e);
-            errors.add("Unable to validate product catalog: " + e.getMessage());
+            violations.add(ValidationErrorCode.PRODUCT_CATALOG_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    private void applyProductCatalogResult(FulfillmentOrder order,
+                                           ProductCatalogServicePort.ProductValidationResult result,
+                                           Violations violations) {
+        if (!result.isAllValid()) {
+            violations.add(ValidationErrorCode.INVALID_SKUS, result.getInvalidSkus());
+            logger.warn("Product catalog validation failed - OrderId: {}, InvalidSKUs: {}",
+                order.getOrderId(), result.getInvalidSkus());
+        } else {
+            logger.debug("Product catalog validation successful - OrderId: {}", order.getOrderId());
         }
     }
 
@@ -234,70 +279,457 @@ public class OrderValidationService {
      * @return InventoryAvailabilityResult containing unfulfillable items
      */
     public InventoryAvailabilityResult checkInventoryAvailability(FulfillmentOrder order) {
-        if (inventoryService == null) {
+        if (!hasInventory()) {
             logger.warn("Inventory service not available - OrderId: {}. Treating all items as available.",
                 order.getOrderId());
             return InventoryAvailabilityResult.allAvailable();
         }
 
         try {
-            Map<String, Integer> itemsToCheck = new HashMap<>();
-            Map<String, OrderItem> itemsBySku = new HashMap<>();
+            Map<String, OrderItem> itemsBySku = itemsBySku(order);
+
+            return toAvailabilityResult(order, mergeInventoryChecks(checkAvailability(quantityChunks(order))), itemsBySku);
+
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error checking inventory availability - OrderId: {}, Error: {}",
+                order.getOrderId(), e.getMessage(), e);
+            return inventoryServiceError(order, e.getMessage());
+        }
+    }
+
+    /**
+     * Looks up the product catalog data of a batch of orders. Each distinct SKU of the batch is
+     * validated and, when order value validation is enabled, priced once, in chunks, however
+     * many orders reference it.
+     *
+     * @param orders the orders of the batch
+     * @return the catalog data for {@link #validate(FulfillmentOrder, CatalogLookup)}; a failed
+     *         lookup is recorded in it rather than thrown
+     */
+    public CatalogLookup lookUpCatalog(List<FulfillmentOrder> orders) {
+        boolean checkCatalog = config.isCheckProductCatalog() && hasCatalog();
+        boolean checkOrderValue = config.isEnableOrderValueValidation() && hasCatalog();
+        if (!checkCatalog && !checkOrderValue) {
+            return new CatalogLookup(false, Set.of(), null, null, null);
+        }
 
-            for (OrderItem item : order.getItems()) {
-                itemsToCheck.put(item.getSellerSku(), item.getQuantity());
-                itemsBySku.put(item.getSellerSku(), item);
+        Set<String> skus = new LinkedHashSet<>();
+        for (FulfillmentOrder order : orders) {
+            for (OrderItem item : itemsOf(order)) {
+                skus.add(item.getSellerSku());
             }
+        }
+        List<List<String>> chunks = chunks(new ArrayList<>(skus));
+
+        Set<String> invalidSkus = Set.of();
+        String catalogError = null;
+        if (checkCatalog) {
+            try {
+                ProductCatalogServicePort.ProductValidationResult result = mergeProductValidation(validateProducts(chunks));
+                if (!result.isAllValid()) {
+                    invalidSkus = new HashSet<>(result.getInvalidSkus());
+                }
+            } catch (CancellationException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("Error validating product catalog for batch - Orders: {}, Error: {}",
+                    orders.size(), e.getMessage(), e);
+                catalogError = e.getMessage();
+            }
+        }
+
+        Map<String, ProductCatalogServicePort.ProductDetails> productDetails = null;
+        String orderValueError = null;
+        if (checkOrderValue) {
+            try {
+                productDetails = mergeProductDetails(getProductDetails(chunks));
+            } catch (CancellationException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.error("Error looking up product details for batch - Orders: {}, Error: {}",
+                    orders.size(), e.getMessage(), e);
+                orderValueError = e.getMessage();
+            }
+        }
 
-            InventoryServicePort.InventoryCheckResult result =
-                inventoryService.checkAvailability(itemsToCheck);
+        logger.info("Batch catalog lookup completed - Orders: {}, DistinctSkus: {}, Chunks: {}, InvalidSkus: {}",
+            orders.size(), skus.size(), chunks.size(), invalidSkus.size());
+        return new CatalogLookup(checkCatalog, invalidSkus, catalogError, productDetails, orderValueError);
+    }
 
-            if (result.isAllAvailable()) {
-                logger.info("All items available in inventory - OrderId: {}", order.getOrderId());
-                return InventoryAvailabilityResult.allAvailable();
+    /**
+     * Validates an order of a batch against all business rules, taking the catalog data from a
+     * lookup made for the whole batch instead of querying the catalog.
+     *
+     * @param order the order to validate
+     * @param catalog the result of {@link #lookUpCatalog(List)} for a batch containing the order
+     * @return ValidationResult containing any validation errors
+     */
+    public ValidationResult validate(FulfillmentOrder order, CatalogLookup catalog) {
+        Violations violations = currentRules().evaluate(order);
+
+        if (catalog.productDetails != null) {
+            currentRules().evaluateOrderValue(order, catalog.productDetails, violations);
+        } else if (catalog.orderValueError != null) {
+            violations.add(ValidationErrorCode.ORDER_VALUE_UNAVAILABLE, catalog.orderValueError);
+        }
+
+        if (catalog.catalogChecked) {
+            if (catalog.catalogError != null) {
+                violations.add(ValidationErrorCode.PRODUCT_CATALOG_UNAVAILABLE, catalog.catalogError);
+            } else {
+                applyProductCatalogResult(order, catalog.resultFor(order), violations);
             }
+        }
+
+        return toValidationResult(order, violations);
+    }
+
+    /**
+     * Looks up the inventory of a batch of orders. Each distinct SKU of the batch is checked
+     * once, for the largest quantity any order of the batch requests: a SKU reported available
+     * covers every order, and for a SKU reported short the available quantity decides each
+     * order on its own, exactly as separate checks would.
+     *
+     * @param orders the orders of the batch
+     * @return the stock data for {@link #checkInventoryAvailability(FulfillmentOrder, InventoryLookup)};
+     *         a failed lookup is recorded in it rather than thrown
+     */
+    public InventoryLookup lookUpInventory(List<FulfillmentOrder> orders) {
+        if (!hasInventory()) {
+            logger.warn("Inventory service not available - Orders: {}. Treating all items as available.",
+                orders.size());
+            return new InventoryLookup(false, Map.of(), null);
+        }
 
-            // Convert to domain unfulfillable items
-            List<UnfulfillableItem> unfulfillableItems = new ArrayList<>();
-            for (InventoryServicePort.UnavailableItem unavailable : result.getUnavailableItems()) {
-                OrderItem originalItem = itemsBySku.get(unavailable.getSku());
-                UnfulfillableReason reason = unavailable.getAvailable() == 0
-                    ? UnfulfillableReason.SKU_NOT_FOUND
-                    : UnfulfillableReason.INSUFFICIENT_STOCK;
-
-                UnfulfillableItem unfulfillable = new UnfulfillableItem(
-                    unavailable.getSku(),
-                    originalItem != null ? originalItem.getSellerFulfillmentOrderItemId() : "unknown",
-                    unavailable.getRequested(),
-                    unavailable.getAvailable(),
-                    reason
-                );
-                unfulfillableItems.add(unfulfillable);
+        Map<String, Integer> largestQuantities = new LinkedHashMap<>();
+        for (FulfillmentOrder order : orders) {
+            for (OrderItem item : itemsOf(order)) {
+                if (item.getQuantity() != null) {
+                    largestQuantities.merge(item.getSellerSku(), item.getQuantity(), Math::max);
+                }
+            }
+        }
+
+        int chunkSize = largeOrderConfig.getChunkSize();
+        List<Map<String, Integer>> chunks = new ArrayList<>();
+        Map<String, Integer> chunk = null;
+        for (Map.Entry<String, Integer> entry : largestQuantities.entrySet()) {
+            if (chunk == null || chunk.size() == chunkSize) {
+                chunk = new HashMap<>();
+                chunks.add(chunk);
             }
+            chunk.put(entry.getKey(), entry.getValue());
+        }
+
+        try {
+            List<InventoryServicePort.InventoryCheckResult> chunkResults = checkAvailability(chunks);
 
-            logger.info("Inventory check completed - OrderId: {}, UnavailableItems: {}",
-                order.getOrderId(), unfulfillableItems.size());
+            Map<String, Integer> shortSkus = new HashMap<>();
+            for (InventoryServicePort.InventoryCheckResult result : chunkResults) {
+                for (InventoryServicePort.UnavailableItem unavailable : result.getUnavailableItems()) {
+                    shortSkus.put(unavailable.getSku(), unavailable.getAvailable());
+                }
+            }
 
-            return InventoryAvailabilityResult.partiallyAvailable(unfulfillableItems);
+            logger.info("Batch inventory lookup completed - Orders: {}, DistinctSkus: {}, Chunks: {}, ShortSkus: {}",
+                orders.size(), largestQuantities.size(), chunks.size(), shortSkus.size());
+            return new InventoryLookup(true, shortSkus, null);
 
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("Error checking inventory availability - OrderId: {}, Error: {}",
-                order.getOrderId(), e.getMessage(), e);
-            // In case of error, treat as all unavailable for safety
-            List<UnfulfillableItem> allUnavailable = new ArrayList<>();
-            for (OrderItem item : order.getItems()) {
-                allUnavailable.add(new UnfulfillableItem(
-                    item.getSellerSku(),
-                    item.getSellerFulfillmentOrderItemId(),
-                    item.getQuantity(),
-                    0,
-                    UnfulfillableReason.INVENTORY_SERVICE_ERROR
-                ));
+            logger.error("Error checking inventory availability for batch - Orders: {}, Error: {}",
+                orders.size(), e.getMessage(), e);
+            return new InventoryLookup(true, Map.of(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks inventory availability for an order of a batch, taking the stock levels from a
+     * lookup made for the whole batch instead of querying the inventory service.
+     *
+     * @param order the order to check
+     * @param inventory the result of {@link #lookUpInventory(List)} for a batch containing the order
+     * @return InventoryAvailabilityResult containing unfulfillable items
+     */
+    public InventoryAvailabilityResult checkInventoryAvailability(FulfillmentOrder order, InventoryLookup inventory) {
+        if (!inventory.checked) {
+            return InventoryAvailabilityResult.allAvailable();
+        }
+        if (inventory.error != null) {
+            return inventoryServiceError(order, inventory.error);
+        }
+
+        List<UnfulfillableItem> unfulfillableItems = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            Integer available = inventory.shortSkus.get(item.getSellerSku());
+            if (available == null || item.getQuantity() == null || item.getQuantity() <= available) {
+                continue;
+            }
+            unfulfillableItems.add(new UnfulfillableItem(
+                item.getSellerSku(),
+                item.getSellerFulfillmentOrderItemId(),
+                item.getQuantity(),
+                available,
+                available == 0 ? UnfulfillableReason.SKU_NOT_FOUND : UnfulfillableReason.INSUFFICIENT_STOCK
+            ));
+        }
+
+        if (unfulfillableItems.isEmpty()) {
+            return InventoryAvailabilityResult.allAvailable();
+        }
+        logger.debug("Inventory check completed from batch lookup - OrderId: {}, UnavailableItems: {}",
+            order.getOrderId(), unfulfillableItems.size());
+        return InventoryAvailabilityResult.partiallyAvailable(unfulfillableItems);
+    }
+
+    /**
+     * SKUs of the order, as a single list or, for a large order, as consecutive chunks.
+     * Empty when the order has no items.
+     */
+    private List<List<String>> skuChunks(FulfillmentOrder order) {
+        List<OrderItem> items = order.getItems();
+        if (items == null || items.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> skus = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            skus.add(item.getSellerSku());
+        }
+        if (!largeOrderConfig.isLargeOrder(skus.size())) {
+            return List.of(skus);
+        }
+
+        List<List<String>> chunks = chunks(skus);
+        logger.debug("Large order looked up in chunks - OrderId: {}, Items: {}, Chunks: {}",
+            order.getOrderId(), skus.size(), chunks.size());
+        return chunks;
+    }
+
+    /**
+     * Requested quantity by SKU, as a single map or, for a large order, one map per chunk.
+     */
+    private List<Map<String, Integer>> quantityChunks(FulfillmentOrder order) {
+        List<OrderItem> items = order.getItems();
+        int chunkSize = largeOrderConfig.isLargeOrder(items.size()) ? largeOrderConfig.getChunkSize() : items.size();
+
+        List<Map<String, Integer>> chunks = new ArrayList<>();
+        Map<String, Integer> chunk = null;
+        for (OrderItem item : items) {
+            if (chunk == null || chunk.size() == chunkSize) {
+                chunk = new HashMap<>();
+                chunks.add(chunk);
+            }
+            chunk.put(item.getSellerSku(), item.getQuantity());
+        }
+        return chunks;
+    }
+
+    /**
+     * Consecutive chunks of the given SKUs, each at most one large-order chunk long.
+     */
+    private List<List<String>> chunks(List<String> skus) {
+        int chunkSize = largeOrderConfig.getChunkSize();
+        List<List<String>> chunks = new ArrayList<>((skus.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < skus.size(); from += chunkSize) {
+            chunks.add(skus.subList(from, Math.min(from + chunkSize, skus.size())));
+        }
+        return chunks;
+    }
+
+    private static List<OrderItem> itemsOf(FulfillmentOrder order) {
+        return order.getItems() != null ? order.getItems() : List.of();
+    }
+
+    private static Map<String, OrderItem> itemsBySku(FulfillmentOrder order) {
+        Map<String, OrderItem> itemsBySku = new HashMap<>();
+        for (OrderItem item : order.getItems()) {
+            itemsBySku.put(item.getSellerSku(), item);
+        }
+        return itemsBySku;
+    }
+
+    private boolean hasCatalog() {
+        return productCatalogService != null || asyncProductCatalogService != null;
+    }
+
+    private boolean hasInventory() {
+        return inventoryService != null || asyncInventoryService != null;
+    }
+
+    /**
+     * Validates each chunk of SKUs against the product catalog, returning the results in chunk order.
+     */
+    private List<ProductCatalogServicePort.ProductValidationResult> validateProducts(List<List<String>> chunks) {
+        if (asyncProductCatalogService != null) {
+            return await(allOf(chunks, asyncProductCatalogService::validateProductsAsync));
+        }
+        List<ProductCatalogServicePort.ProductValidationResult> results = new ArrayList<>(chunks.size());
+        for (List<String> chunk : chunks) {
+            results.add(productCatalogService.validateProducts(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Looks up the product details of each chunk of SKUs, returning the results in chunk order.
+     */
+    private List<Map<String, ProductCatalogServicePort.ProductDetails>> getProductDetails(List<List<String>> chunks) {
+        if (asyncProductCatalogService != null) {
+            return await(allOf(chunks, asyncProductCatalogService::getProductDetailsAsync));
+        }
+        List<Map<String, ProductCatalogServicePort.ProductDetails>> results = new ArrayList<>(chunks.size());
+        for (List<String> chunk : chunks) {
+            results.add(productCatalogService.getProductDetails(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Checks the stock of each chunk of items, returning the results in chunk order.
+     */
+    private List<InventoryServicePort.InventoryCheckResult> checkAvailability(List<Map<String, Integer>> chunks) {
+        if (asyncInventoryService != null) {
+            return await(allOf(chunks, asyncInventoryService::checkAvailabilityAsync));
+        }
+        List<InventoryServicePort.InventoryCheckResult> results = new ArrayList<>(chunks.size());
+        for (Map<String, Integer> chunk : chunks) {
+            results.add(inventoryService.checkAvailability(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Waits for lookups made through a non-blocking port. An interrupt abandons the wait with a
+     * {@link CancellationException} and leaves the lookups to complete on their own.
+     */
+    private static <T> T await(CompletableFuture<T> lookups) {
+        try {
+            return lookups.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Lookup abandoned");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
-            return InventoryAvailabilityResult.serviceError(allUnavailable, e.getMessage());
+            throw new CompletionException(e.getCause());
         }
     }
 
+    /**
+     * Starts one lookup per chunk and completes with their results in chunk order.
+     */
+    private static <C, R> CompletableFuture<List<R>> allOf(List<C> chunks,
+                                                          Function<C, CompletableFuture<R>> lookup) {
+        if (chunks.size() == 1) {
+            return lookup.apply(chunks.get(0)).thenApply(List::of);
+        }
+        List<CompletableFuture<R>> futures = new ArrayList<>(chunks.size());
+        for (C chunk : chunks) {
+            futures.add(lookup.apply(chunk));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(ignored -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    private static Map<String, ProductCatalogServicePort.ProductDetails> mergeProductDetails(
+            List<Map<String, ProductCatalogServicePort.ProductDetails>> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        Map<String, ProductCatalogServicePort.ProductDetails> merged = new HashMap<>();
+        for (Map<String, ProductCatalogServicePort.ProductDetails> chunk : chunks) {
+            merged.putAll(chunk);
+        }
+        return merged;
+    }
+
+    private static ProductCatalogServicePort.ProductValidationResult mergeProductValidation(
+            List<ProductCatalogServicePort.ProductValidationResult> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        List<String> invalidSkus = new ArrayList<>();
+        for (ProductCatalogServicePort.ProductValidationResult chunk : chunks) {
+            if (!chunk.isAllValid()) {
+                invalidSkus.addAll(chunk.getInvalidSkus());
+            }
+        }
+        return invalidSkus.isEmpty()
+            ? ProductCatalogServicePort.ProductValidationResult.valid()
+            : ProductCatalogServicePort.ProductValidationResult.invalid(invalidSkus,
+                invalidSkus.size() + " SKUs not found in " + chunks.size() + " chunks");
+    }
+
+    private static InventoryServicePort.InventoryCheckResult mergeInventoryChecks(
+            List<InventoryServicePort.InventoryCheckResult> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        List<InventoryServicePort.UnavailableItem> unavailableItems = new ArrayList<>();
+        for (InventoryServicePort.InventoryCheckResult chunk : chunks) {
+            if (!chunk.isAllAvailable()) {
+                unavailableItems.addAll(chunk.getUnavailableItems());
+            }
+        }
+        return unavailableItems.isEmpty()
+            ? InventoryServicePort.InventoryCheckResult.available()
+            : InventoryServicePort.InventoryCheckResult.unavailable(unavailableItems,
+                unavailableItems.size() + " items unavailable in " + chunks.size() + " chunks");
+    }
+
+    private InventoryAvailabilityResult toAvailabilityResult(FulfillmentOrder order,
+                                                             InventoryServicePort.InventoryCheckResult result,
+                                                             Map<String, OrderItem> itemsBySku) {
+        if (result.isAllAvailable()) {
+            logger.info("All items available in inventory - OrderId: {}", order.getOrderId());
+            return InventoryAvailabilityResult.allAvailable();
+        }
+
+        // Convert to domain unfulfillable items
+        List<UnfulfillableItem> unfulfillableItems = new ArrayList<>();
+        for (InventoryServicePort.UnavailableItem unavailable : result.getUnavailableItems()) {
+            OrderItem originalItem = itemsBySku.get(unavailable.getSku());
+            UnfulfillableReason reason = unavailable.getAvailable() == 0
+                ? UnfulfillableReason.SKU_NOT_FOUND
+                : UnfulfillableReason.INSUFFICIENT_STOCK;
+
+            UnfulfillableItem unfulfillable = new UnfulfillableItem(
+                unavailable.getSku(),
+                originalItem != null ? originalItem.getSellerFulfillmentOrderItemId() : "unknown",
+                unavailable.getRequested(),
+                unavailable.getAvailable(),
+                reason
+            );
+            unfulfillableItems.add(unfulfillable);
+        }
+
+        logger.info("Inventory check completed - OrderId: {}, UnavailableItems: {}",
+            order.getOrderId(), unfulfillableItems.size());
+
+        return InventoryAvailabilityResult.partiallyAvailable(unfulfillableItems);
+    }
+
+    private InventoryAvailabilityResult inventoryServiceError(FulfillmentOrder order, String errorMessage) {
+        // In case of error, treat as all unavailable for safety
+        List<UnfulfillableItem> allUnavailable = new ArrayList<>();
+        for (OrderItem item : order.getItems()) {
+            allUnavailable.add(new UnfulfillableItem(
+                item.getSellerSku(),
+                item.getSellerFulfillmentOrderItemId(),
+                item.getQuantity(),
+                0,
+                UnfulfillableReason.INVENTORY_SERVICE_ERROR
+            ));
+        }
+        return InventoryAvailabilityResult.serviceError(allUnavailable, errorMessage);
+    }
+
     /**
      * Result of inventory availability check.
      */
@@ -341,24 +773,105 @@ public class OrderValidationService {
         }
     }
 
+    /**
+     * Product catalog data looked up once for a batch of orders.
+     */
+    public static class CatalogLookup {
+        private final boolean catalogChecked;
+        private final Set<String> invalidSkus;
+        private final String catalogError;
+        private final Map<String, ProductCatalogServicePort.ProductDetails> productDetails;
+        private final String orderValueError;
+
+        private CatalogLookup(boolean catalogChecked, Set<String> invalidSkus, String catalogError,
+                              Map<String, ProductCatalogServicePort.ProductDetails> productDetails,
+                              String orderValueError) {
+            this.catalogChecked = catalogChecked;
+            this.invalidSkus = invalidSkus;
+            this.catalogError = catalogError;
+            this.productDetails = productDetails;
+            this.orderValueError = orderValueError;
+        }
+
+        /**
+         * The catalog validation result restricted to the SKUs of one order.
+         */
+        ProductCatalogServicePort.ProductValidationResult resultFor(FulfillmentOrder order) {
+            if (invalidSkus.isEmpty()) {
+                return ProductCatalogServicePort.ProductValidationResult.valid();
+            }
+            Set<String> orderInvalidSkus = new LinkedHashSet<>();
+            for (OrderItem item : itemsOf(order)) {
+                if (invalidSkus.contains(item.getSellerSku())) {
+                    orderInvalidSkus.add(item.getSellerSku());
+                }
+            }
+            return orderInvalidSkus.isEmpty()
+                ? ProductCatalogServicePort.ProductValidationResult.valid()
+                : ProductCatalogServicePort.ProductValidationResult.invalid(new ArrayList<>(orderInvalidSkus),
+                    orderInvalidSkus.size() + " SKUs not found");
+        }
+
+        public Set<String> getInvalidSkus() {
+            return invalidSkus;
+        }
+
+        public String getCatalogError() {
+            return catalogError;
+        }
+    }
+
+    /**
+     * Stock levels looked up once for a batch of orders. Only SKUs that are short for the
+     * largest quantity requested in the batch are kept, with their available quantity.
+     */
+    public static class InventoryLookup {
+        private final boolean checked;
+        private final Map<String, Integer> shortSkus;
+        private final String error;
+
+        private InventoryLookup(boolean checked, Map<String, Integer> shortSkus, String error) {
+            this.checked = checked;
+            this.shortSkus = shortSkus;
+            this.error = error;
+        }
+
+        public Map<String, Integer> getShortSkus() {
+            return shortSkus;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
     /**
      * Result of validation containing success status and error messages.
+     * Results built from {@link Violations} render their messages on first access.
      */
     public static class ValidationResult {
+        private static final ValidationResult SUCCESS = new ValidationResult(true, List.of(), null);
+
         private final boolean valid;
-        private final List<String> errors;
+        private final Violations violations;
+        private volatile List<String> errors;
 
-        private ValidationResult(boolean valid, List<String> errors) {
+        private ValidationResult(boolean valid, List<String> errors, Violations violations) {
             this.valid = valid;
-            this.errors = errors != null ? new ArrayList<>(errors) : new ArrayList<>();
+            this.errors = errors != null ? List.copyOf(errors) : null;
+            this.violations = violations;
         }
 
         public static ValidationResult success() {
-            return new ValidationResult(true, new ArrayList<>());
+            return SUCCESS;
         }
 
         public static ValidationResult failure(List<String> errors) {
-            return new ValidationResult(false, errors);
+            return new ValidationResult(false, errors != null ? errors : List.of(), null);
+        }
+
+        public static ValidationResult failure(Violations violations) {
+            return new ValidationResult(false, null, violations);
         }
 
         public boolean isValid() {
@@ -366,11 +879,23 @@ public class OrderValidationService {
         }
 
         public List<String> getErrors() {
-            return new ArrayList<>(errors);
+            List<String> rendered = errors;
+            if (rendered == null) {
+                rendered = List.copyOf(violations.messages());
+                errors = rendered;
+            }
+            return new ArrayList<>(rendered);
+        }
+
+        /**
+         * Codes of the violations found; empty for results built from plain messages.
+         */
+        public List<ValidationErrorCode> getErrorCodes() {
+            return violations != null ? violations.codes() : List.of();
         }
 
         public String getErrorMessage() {
-            return String.join("; ", errors);
+            return String.join("; ", getErrors());
         }
     }
 }
@@ -0,0 +1,356 @@
+package com.paklog.ordermanagement.domain.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.paklog.ordermanagement.domain.config.DuplicateIndexConfig;
+import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+
+/**
+ * In-memory sliding-window index of the duplicate detection keys of recently received orders.
+ *
+ * Every order received within the duplicate detection window contributes 64-bit hashes of its
+ * idempotency key, its seller order ID, and its displayable order ID combined with its address
+ * fingerprint and with each of its address band keys. Hashes are kept in one primitive
+ * open-addressing set per hour of receipt, in a ring of window + 1 hourly buckets. A bucket is
+ * reused for a new hour by clearing it as a whole, so expiry never walks individual entries.
+ *
+ * The index answers "might an order with this key have been received recently?". A miss is
+ * definite for orders the index has seen; a hit only means MongoDB has to confirm it, since
+ * different keys can share a hash. Orders received by other pods are added from the order
+ * events, so they are only known here once their event has been consumed; exact duplicates
+ * that slip through that gap are still rejected by the unique indexes on insert.
+ *
+ * Until the startup warm-up from MongoDB has completed the index reports itself as not warm
+ * and callers must not trust its misses.
+ */
+@Component
+public class RecentOrderIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentOrderIndex.class);
+
+    private static final long IDEMPOTENCY_KEY_SEED = 0x9e3779b97f4a7c15L;
+    private static final long SELLER_ORDER_ID_SEED = 0xc2b2ae3d27d4eb4fL;
+    private static final long ADDRESS_SEED = 0x165667b19e3779f9L;
+    private static final long ADDRESS_BAND_SEED = 0x27d4eb2f165667c5L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final FulfillmentOrderRepository orderRepository;
+    private final DuplicateIndexConfig config;
+    private final Clock clock;
+    private final int windowHours;
+    private final Bucket[] buckets;
+
+    private volatile boolean warm;
+
+    @Autowired
+    public RecentOrderIndex(FulfillmentOrderRepository orderRepository,
+                            OrderValidationConfig validationConfig,
+                            DuplicateIndexConfig config) {
+        this(orderRepository, validationConfig, config, Clock.systemDefaultZone());
+    }
+
+    RecentOrderIndex(FulfillmentOrderRepository orderRepository,
+                     OrderValidationConfig validationConfig,
+                     DuplicateIndexConfig config,
+                     Clock clock) {
+        this.orderRepository = orderRepository;
+        this.config = config;
+        this.clock = clock;
+        this.windowHours = Math.max(1, validationConfig.getDuplicateDetectionWindowHours());
+        this.buckets = new Bucket[windowHours + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        logger.info("RecentOrderIndex initialized - Enabled: {}, WindowHours: {}, Buckets: {}",
+            config.isEnabled(), windowHours, buckets.length);
+    }
+
+    /**
+     * Whether the startup warm-up has completed, so that misses can be trusted.
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Loads the keys of all orders received within the window from MongoDB.
+     * Runs once the application is ready; orders recorded while it runs are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (!config.isEnabled()) {
+            logger.info("RecentOrderIndex disabled - Duplicate checks will query MongoDB");
+            return;
+        }
+
+        Instant startTime = Instant.now();
+        LocalDateTime since = LocalDateTime.now(clock).minusHours(windowHours);
+        long count = 0;
+
+        try (Stream<FulfillmentOrder> orders = orderRepository.streamReceivedSince(since)) {
+            for (FulfillmentOrder order : (Iterable<FulfillmentOrder>) orders::iterator) {
+                record(order);
+                count++;
+            }
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("RecentOrderIndex warm-up failed - Loaded: {}, Error: {}, Duration: {}ms. Duplicate checks will query MongoDB.",
+                count, e.getMessage(), duration.toMillis(), e);
+            return;
+        }
+
+        warm = true;
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.info("RecentOrderIndex warmed - Orders: {}, Since: {}, Duration: {}ms",
+            count, since, duration.toMillis());
+    }
+
+    /**
+     * Records the keys of a received order in the bucket of its receipt hour.
+     * Orders received before the window are ignored.
+     */
+    public void record(FulfillmentOrder order) {
+        record(order.getIdempotencyKey(), order.getSellerFulfillmentOrderId(),
+            order.getDisplayableOrderId(), order.getAddressFingerprint(), order.getAddressBandKeys(),
+            order.getReceivedDate());
+    }
+
+    /**
+     * Records the keys of a received order, e.g. from an order event.
+     */
+    public void record(String idempotencyKey, String sellerFulfillmentOrderId,
+                       String displayableOrderId, Long addressFingerprint, List<Long> addressBandKeys,
+                       LocalDateTime receivedDate) {
+        long currentHour = currentHour();
+        long hour = receivedDate != null ? hourOf(receivedDate) : currentHour;
+        if (hour < currentHour - windowHours) {
+            return;
+        }
+        // A receipt date ahead of the local clock goes into the current hour
+        hour = Math.min(hour, currentHour);
+
+        Bucket bucket = bucketOf(hour);
+        if (idempotencyKey != null) {
+            bucket.add(hour, hash(IDEMPOTENCY_KEY_SEED, idempotencyKey));
+        }
+        if (sellerFulfillmentOrderId != null) {
+            bucket.add(hour, hash(SELLER_ORDER_ID_SEED, sellerFulfillmentOrderId));
+        }
+        if (displayableOrderId != null && addressFingerprint != null) {
+            bucket.add(hour, addressHash(displayableOrderId, addressFingerprint));
+        }
+        if (displayableOrderId != null && addressBandKeys != null) {
+            long displayableOrderIdHash = hash(ADDRESS_BAND_SEED, displayableOrderId);
+            for (Long bandKey : addressBandKeys) {
+                bucket.add(hour, finish(displayableOrderIdHash ^ bandKey));
+            }
+        }
+    }
+
+    /**
+     * False only if no order with this idempotency key was recorded within the window.
+     */
+    public boolean mightContainIdempotencyKey(String idempotencyKey) {
+        return contains(hash(IDEMPOTENCY_KEY_SEED, idempotencyKey));
+    }
+
+    /**
+     * False only if no order with this seller order ID was recorded within the window.
+     */
+    public boolean mightContainSellerOrderId(String sellerFulfillmentOrderId) {
+        return contains(hash(SELLER_ORDER_ID_SEED, sellerFulfillmentOrderId));
+    }
+
+    /**
+     * False only if no order with this displayable order ID and address fingerprint was
+     * recorded within the window.
+     */
+    public boolean mightContainAddress(String displayableOrderId, long addressFingerprint) {
+        return contains(addressHash(displayableOrderId, addressFingerprint));
+    }
+
+    /**
+     * False only if no order with this displayable order ID sharing any of these address band
+     * keys was recorded within the window.
+     */
+    public boolean mightContainAnyAddressBand(String displayableOrderId, List<Long> addressBandKeys) {
+        long displayableOrderIdHash = hash(ADDRESS_BAND_SEED, displayableOrderId);
+        for (Long bandKey : addressBandKeys) {
+            if (contains(finish(displayableOrderIdHash ^ bandKey))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of hashes held in buckets that are still within the window.
+     */
+    public long size() {
+        long oldestHour = currentHour() - windowHours;
+        long size = 0;
+        for (Bucket bucket : buckets) {
+            size += bucket.size(oldestHour);
+        }
+        return size;
+    }
+
+    private boolean contains(long hash) {
+        long currentHour = currentHour();
+        long oldestHour = currentHour - windowHours;
+        for (Bucket bucket : buckets) {
+            if (bucket.contains(oldestHour, currentHour, hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Bucket bucketOf(long hour) {
+        return buckets[(int) Math.floorMod(hour, (long) buckets.length)];
+    }
+
+    private long currentHour() {
+        return hourOf(LocalDateTime.now(clock));
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 3600L);
+    }
+
+    private static long addressHash(String displayableOrderId, long addressFingerprint) {
+        return finish(hash(ADDRESS_SEED, displayableOrderId) ^ addressFingerprint);
+    }
+
+    private static long hash(long seed, String value) {
+        long hash = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return finish(hash);
+    }
+
+    /**
+     * Final avalanche step, so that probing uses well-mixed low bits.
+     */
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * Hashes of the orders received in one hour, in a primitive open-addressing set.
+     * The bucket is cleared as a whole when it is reused for a later hour.
+     */
+    private static final class Bucket {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private long hour = Long.MIN_VALUE;
+        // Zero marks an empty slot; a zero hash is tracked by its own flag
+        private long[] slots = new long[INITIAL_CAPACITY];
+        private int size;
+        private boolean containsZero;
+
+        synchronized void add(long hour, long hash) {
+            if (hour != this.hour) {
+                if (hour < this.hour) {
+                    // The bucket has moved on to a later hour; this entry has already expired
+                    return;
+                }
+                reset(hour);
+            }
+
+            if (hash == 0) {
+                containsZero = true;
+                return;
+            }
+            // Kept at most half full
+            if ((size + 1) * 2 > slots.length) {
+                grow();
+            }
+            if (insert(slots, hash)) {
+                size++;
+            }
+        }
+
+        synchronized boolean contains(long oldestHour, long currentHour, long hash) {
+            if (hour < oldestHour || hour > currentHour) {
+                return false;
+            }
+            if (hash == 0) {
+                return containsZero;
+            }
+            int mask = slots.length - 1;
+            for (int slot = (int) hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                if (slots[slot] == hash) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized int size(long oldestHour) {
+            if (hour < oldestHour) {
+                return 0;
+            }
+            return size + (containsZero ? 1 : 0);
+        }
+
+        private void reset(long hour) {
+            this.hour = hour;
+            // Shrinks back, so one busy hour does not pin its table for the rest of the ring
+            if (slots.length == INITIAL_CAPACITY) {
+                Arrays.fill(slots, 0L);
+            } else {
+                slots = new long[INITIAL_CAPACITY];
+            }
+            size = 0;
+            containsZero = false;
+        }
+
+        private void grow() {
+            long[] grown = new long[slots.length * 2];
+            for (long hash : slots) {
+                if (hash != 0) {
+                    insert(grown, hash);
+                }
+            }
+            slots = grown;
+        }
+
+        private static boolean insert(long[] table, long hash) {
+            int mask = table.length - 1;
+            int slot = (int) hash & mask;
+            while (table[slot] != 0) {
+                if (table[slot] == hash) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = hash;
+            return true;
+        }
+    }
+}
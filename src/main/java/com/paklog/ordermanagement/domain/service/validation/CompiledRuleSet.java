@@ -0,0 +1,281 @@
+package com.paklog.ordermanagement.domain.service.validation;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.Money;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.ShippingSpeedCategory;
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductDetails;
+
+/**
+ * The local validation rules of an {@link OrderValidationConfig}, compiled into a flat array.
+ *
+ * Compilation reads every threshold and toggle once: disabled rules are left out entirely and
+ * enabled ones capture their limits as fields, so evaluating an order is a single loop over
+ * the array with no configuration lookups. On a valid order the only allocations are the
+ * {@link Violations} holder and, for longer item lists, one int array for the duplicate check.
+ *
+ * Rules that need remote lookups (order value, product catalog) are not part of the compiled
+ * set; OrderValidationService fetches their data and reports into the same {@link Violations}.
+ * The order value limits are still compiled here, to {@link Money}, so the total can be
+ * checked with {@link #evaluateOrderValue} in exact minor units without allocating.
+ *
+ * A compiled set is immutable and safe to share between threads. It records the
+ * configuration revision it was compiled from so callers can tell when it is stale.
+ */
+public final class CompiledRuleSet {
+
+    /**
+     * Item lists up to this size are checked for duplicate SKUs with a pairwise scan; longer
+     * lists use a single open-addressing table of item indexes.
+     */
+    static final int LINEAR_DUPLICATE_SCAN_LIMIT = 8;
+
+    private final ValidationRule[] rules;
+    private final Money minOrderValue;
+    private final Money maxOrderValue;
+    private final long revision;
+
+    private CompiledRuleSet(ValidationRule[] rules, Money minOrderValue, Money maxOrderValue, long revision) {
+        this.rules = rules;
+        this.minOrderValue = minOrderValue;
+        this.maxOrderValue = maxOrderValue;
+        this.revision = revision;
+    }
+
+    /**
+     * Compiles the local rules enabled in the given configuration.
+     */
+    public static CompiledRuleSet compile(OrderValidationConfig config) {
+        List<ValidationRule> compiled = new ArrayList<>();
+        compiled.add(new ItemsRule(config.getMaxItemsPerOrder(), config.getMaxTotalQuantity(),
+            config.isRejectDuplicateSkus()));
+        compiled.add(new ShippingSpeedRule());
+
+        Currency currency = Currency.getInstance(config.getOrderValueCurrency());
+        return new CompiledRuleSet(compiled.toArray(new ValidationRule[0]),
+            Money.of(config.getMinOrderValue(), currency),
+            Money.of(config.getMaxOrderValue(), currency),
+            config.getRevision());
+    }
+
+    /**
+     * Evaluates every compiled rule against the order.
+     *
+     * @param order the order to validate
+     * @return the violations found, empty if the order passes all rules
+     */
+    public Violations evaluate(FulfillmentOrder order) {
+        Violations violations = new Violations();
+        evaluate(order, violations);
+        return violations;
+    }
+
+    /**
+     * Evaluates every compiled rule against the order, reporting into an existing collection.
+     */
+    public void evaluate(FulfillmentOrder order, Violations violations) {
+        for (ValidationRule rule : rules) {
+            rule.evaluate(order, violations);
+        }
+    }
+
+    /**
+     * Checks the order total computed from catalog unit prices against the order value limits.
+     * Items without a known price do not count towards the total.
+     *
+     * @param order the order to check
+     * @param productDetails catalog details by SKU
+     * @param violations collection receiving the violations found
+     */
+    public void evaluateOrderValue(FulfillmentOrder order, Map<String, ProductDetails> productDetails,
+                                    Violations violations) {
+        Currency currency = maxOrderValue.getCurrency();
+        long total = 0;
+
+        List<OrderItem> items = order.getItems();
+        for (int i = 0, size = items.size(); i < size; i++) {
+            OrderItem item = items.get(i);
+            ProductDetails details = productDetails.get(item.getSellerSku());
+            Money unitPrice = details != null ? details.getUnitPrice() : null;
+            if (unitPrice == null || item.getQuantity() == null) {
+                continue;
+            }
+            if (!currency.equals(unitPrice.getCurrency())) {
+                violations.add(ValidationErrorCode.ORDER_VALUE_CURRENCY_MISMATCH,
+                    item.getSellerSku(), unitPrice.getCurrency().getCurrencyCode(), currency.getCurrencyCode());
+                return;
+            }
+            try {
+                total = Math.addExact(total, Math.multiplyExact(unitPrice.getMinorUnits(), item.getQuantity().longValue()));
+            } catch (ArithmeticException e) {
+                violations.add(ValidationErrorCode.ORDER_VALUE_OVERFLOW, maxOrderValue);
+                return;
+            }
+        }
+
+        if (total < minOrderValue.getMinorUnits()) {
+            violations.add(ValidationErrorCode.ORDER_VALUE_BELOW_MINIMUM, Money.ofMinor(total, currency), minOrderValue);
+        }
+
+        if (total > maxOrderValue.getMinorUnits()) {
+            violations.add(ValidationErrorCode.ORDER_VALUE_ABOVE_MAXIMUM, Money.ofMinor(total, currency), maxOrderValue);
+        }
+    }
+
+    public Money getMinOrderValue() {
+        return minOrderValue;
+    }
+
+    public Money getMaxOrderValue() {
+        return maxOrderValue;
+    }
+
+    /**
+     * Configuration revision this set was compiled from.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    public int getRuleCount() {
+        return rules.length;
+    }
+
+    /**
+     * Item presence and count, duplicate SKUs and total quantity.
+     */
+    private static final class ItemsRule implements ValidationRule {
+
+        private final int maxItems;
+        private final int maxTotalQuantity;
+        private final boolean rejectDuplicateSkus;
+
+        ItemsRule(int maxItems, int maxTotalQuantity, boolean rejectDuplicateSkus) {
+            this.maxItems = maxItems;
+            this.maxTotalQuantity = maxTotalQuantity;
+            this.rejectDuplicateSkus = rejectDuplicateSkus;
+        }
+
+        @Override
+        public void evaluate(FulfillmentOrder order, Violations violations) {
+            List<OrderItem> items = order.getItems();
+            if (items == null || items.isEmpty()) {
+                violations.add(ValidationErrorCode.ITEMS_REQUIRED);
+                return;
+            }
+
+            // Oversized orders are rejected before any per-item work is spent on them
+            if (items.size() > maxItems) {
+                violations.add(ValidationErrorCode.TOO_MANY_ITEMS, items.size(), maxItems);
+                return;
+            }
+
+            long totalQuantity = 0;
+            for (int i = 0, size = items.size(); i < size; i++) {
+                Integer quantity = items.get(i).getQuantity();
+                if (quantity != null) {
+                    totalQuantity += quantity;
+                }
+            }
+
+            // Duplicates are rare, so only a positive answer pays for collecting the SKUs
+            if (rejectDuplicateSkus && hasDuplicateSkus(items)) {
+                violations.add(ValidationErrorCode.DUPLICATE_SKUS, findDuplicateSkus(items));
+            }
+
+            if (totalQuantity > maxTotalQuantity) {
+                violations.add(ValidationErrorCode.TOTAL_QUANTITY_EXCEEDED, totalQuantity, maxTotalQuantity);
+            }
+
+            if (totalQuantity == 0) {
+                violations.add(ValidationErrorCode.TOTAL_QUANTITY_ZERO);
+            }
+        }
+
+        private static boolean hasDuplicateSkus(List<OrderItem> items) {
+            int size = items.size();
+            if (size <= LINEAR_DUPLICATE_SCAN_LIMIT) {
+                for (int i = 1; i < size; i++) {
+                    String sku = items.get(i).getSellerSku();
+                    if (sku == null) {
+                        continue;
+                    }
+                    for (int j = 0; j < i; j++) {
+                        if (sku.equals(items.get(j).getSellerSku())) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+
+            // Slots hold item index + 1, zero marks an empty slot; at most half full
+            int[] slots = new int[Integer.highestOneBit(size * 2 - 1) << 1];
+            int mask = slots.length - 1;
+            for (int i = 0; i < size; i++) {
+                String sku = items.get(i).getSellerSku();
+                if (sku == null) {
+                    continue;
+                }
+                int hash = sku.hashCode();
+                int slot = (hash ^ (hash >>> 16)) & mask;
+                while (slots[slot] != 0) {
+                    if (sku.equals(items.get(slots[slot] - 1).getSellerSku())) {
+                        return true;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = i + 1;
+            }
+            return false;
+        }
+
+        private static Set<String> findDuplicateSkus(List<OrderItem> items) {
+            Set<String> seenSkus = new HashSet<>(items.size() * 2);
+            Set<String> duplicateSkus = null;
+            for (OrderItem item : items) {
+                String sku = item.getSellerSku();
+                if (sku != null && !seenSkus.add(sku)) {
+                    if (duplicateSkus == null) {
+                        duplicateSkus = new LinkedHashSet<>();
+                    }
+                    duplicateSkus.add(sku);
+                }
+            }
+            return duplicateSkus != null ? duplicateSkus : Set.of();
+        }
+    }
+
+    /**
+     * Shipping speed category must be present and name a known category, ignoring case.
+     */
+    private static final class ShippingSpeedRule implements ValidationRule {
+
+        private static final ShippingSpeedCategory[] CATEGORIES = ShippingSpeedCategory.values();
+
+        @Override
+        public void evaluate(FulfillmentOrder order, Violations violations) {
+            String category = order.getShippingSpeedCategory();
+            if (category == null || category.isBlank()) {
+                violations.add(ValidationErrorCode.SHIPPING_SPEED_REQUIRED);
+                return;
+            }
+
+            for (ShippingSpeedCategory known : CATEGORIES) {
+                if (known.name().equalsIgnoreCase(category)) {
+                    return;
+                }
+            }
+            violations.add(ValidationErrorCode.SHIPPING_SPEED_INVALID, category);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.paklog.ordermanagement.domain.service.validation;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import com.paklog.ordermanagement.domain.model.Money;
+import com.paklog.ordermanagement.domain.model.ShippingSpeedCategory;
+
+/**
+ * Stable codes for order validation violations.
+ *
+ * Rules report a code plus the few values the message needs; the human readable message is
+ * only rendered when it is actually asked for, so a rejected order that is never logged or
+ * returned in full costs no string building.
+ */
+public enum ValidationErrorCode {
+
+    ITEMS_REQUIRED(args -> "Order must contain at least one item"),
+
+    TOO_MANY_ITEMS(args -> "Order contains " + args[0] + " items, which exceeds maximum allowed (" +
+        args[1] + ")"),
+
+    DUPLICATE_SKUS(args -> "Duplicate SKUs found in order: " + join(args[0]) +
+        ". Please consolidate quantities for duplicate items."),
+
+    TOTAL_QUANTITY_EXCEEDED(args -> "Total order quantity (" + args[0] +
+        ") exceeds maximum allowed (" + args[1] + ")"),
+
+    TOTAL_QUANTITY_ZERO(args -> "Total order quantity must be greater than 0"),
+
+    SHIPPING_SPEED_REQUIRED(args -> "Shipping speed category is required"),
+
+    SHIPPING_SPEED_INVALID(args -> ShippingSpeedCategory.invalidValueMessage(args[0])),
+
+    ORDER_VALUE_BELOW_MINIMUM(args -> "Order value (" + amount(args[0]) + ") is below minimum (" +
+        amount(args[1]) + ")"),
+
+    ORDER_VALUE_ABOVE_MAXIMUM(args -> "Order value (" + amount(args[0]) + ") exceeds maximum (" +
+        amount(args[1]) + ")"),
+
+    ORDER_VALUE_OVERFLOW(args -> "Order value is too large to compute and exceeds maximum (" +
+        amount(args[0]) + ")"),
+
+    ORDER_VALUE_CURRENCY_MISMATCH(args -> "Unable to validate order value: price of " + args[0] +
+        " is in " + args[1] + " but order value limits are in " + args[2]),
+
+    ORDER_VALUE_UNAVAILABLE(args -> "Unable to validate order value: " + args[0]),
+
+    INVALID_SKUS(args -> "Invalid SKUs found: " + join(args[0]) +
+        ". These products do not exist in the catalog."),
+
+    PRODUCT_CATALOG_UNAVAILABLE(args -> "Unable to validate product catalog: " + args[0]);
+
+    private final Function<Object[], String> renderer;
+
+    ValidationErrorCode(Function<Object[], String> renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Renders the message for this code from the values the rule reported.
+     */
+    public String render(Object[] args) {
+        return renderer.apply(args);
+    }
+
+    private static String amount(Object money) {
+        Money value = (Money) money;
+        String plain = value.toPlainString();
+        return Money.USD.equals(value.getCurrency()) ? "$" + plain : plain + " " + value.getCurrency().getCurrencyCode();
+    }
+
+    private static String join(Object values) {
+        StringBuilder joined = new StringBuilder();
+        for (Object value : (Collection<?>) values) {
+            if (joined.length() > 0) {
+                joined.append(", ");
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+}
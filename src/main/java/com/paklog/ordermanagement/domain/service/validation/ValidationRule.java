@@ -0,0 +1,22 @@
+package com.paklog.ordermanagement.domain.service.validation;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+
+/**
+ * A single local validation rule.
+ *
+ * Rules are created once when a {@link CompiledRuleSet} is compiled and then evaluated for
+ * every order, possibly from several threads at once. Thresholds should be captured as
+ * fields at compile time and rules must not keep per-order state.
+ */
+@FunctionalInterface
+public interface ValidationRule {
+
+    /**
+     * Evaluates the rule against an order, reporting any violations.
+     *
+     * @param order the order to check
+     * @param violations collection receiving the violations found
+     */
+    void evaluate(FulfillmentOrder order, Violations violations);
+}
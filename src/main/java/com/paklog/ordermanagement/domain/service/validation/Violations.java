@@ -0,0 +1,99 @@
+package com.paklog.ordermanagement.domain.service.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, append-only collection of validation violations.
+ *
+ * Nothing is allocated until the first violation is reported. Each violation is a
+ * {@link ValidationErrorCode} and the values its message needs; messages are rendered on
+ * demand by {@link #messages()}.
+ *
+ * Not thread-safe: a Violations instance belongs to a single evaluation.
+ */
+public final class Violations {
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private ValidationErrorCode[] codes;
+    private Object[][] args;
+    private int size;
+
+    /**
+     * Reports a violation.
+     *
+     * @param code the violation code
+     * @param values the values rendered into the message, in the order the code expects
+     */
+    public void add(ValidationErrorCode code, Object... values) {
+        if (codes == null) {
+            codes = new ValidationErrorCode[INITIAL_CAPACITY];
+            args = new Object[INITIAL_CAPACITY][];
+        } else if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+            args = Arrays.copyOf(args, size * 2);
+        }
+        codes[size] = code;
+        args[size] = values.length == 0 ? NO_ARGS : values;
+        size++;
+    }
+
+    /**
+     * Appends all violations reported to another collection.
+     */
+    public void addAll(Violations other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.codes[i], other.args[i]);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public ValidationErrorCode codeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Violation index " + index + " out of bounds for size " + size);
+        }
+        return codes[index];
+    }
+
+    public boolean contains(ValidationErrorCode code) {
+        for (int i = 0; i < size; i++) {
+            if (codes[i] == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Codes of the reported violations, in reporting order.
+     */
+    public List<ValidationErrorCode> codes() {
+        return size == 0 ? List.of() : List.of(Arrays.copyOf(codes, size));
+    }
+
+    /**
+     * Renders the message of every reported violation, in reporting order.
+     */
+    public List<String> messages() {
+        List<String> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(codes[i].render(args[i]));
+        }
+        return messages;
+    }
+
+    @Override
+    public String toString() {
+        return codes().toString();
+    }
+}
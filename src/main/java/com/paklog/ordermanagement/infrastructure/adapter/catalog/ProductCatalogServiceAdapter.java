@@ -5,9 +5,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,10 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort;
+import com.paklog.ordermanagement.infrastructure.config.SkuIndexConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -24,6 +30,10 @@ import io.github.resilience4j.retry.annotation.Retry;
  * Implements the ProductCatalogServicePort using REST API calls.
  *
  * This adapter is only enabled when product catalog checks are configured.
+ * When a {@link SkuExistenceIndex} is available, it answers for the SKUs whose local result is
+ * trusted (see {@link SkuIndexConfig}); the rest are looked up remotely. Remote calls go through
+ * the "productCatalog" adaptive concurrency limiter. A lookup whose thread is interrupted, which is
+ * how the intake cancels it, throws {@link CancellationException}.
  */
 @Component
 @ConditionalOnProperty(name = "order-management.validation.check-product-catalog", havingValue = "true")
@@ -33,12 +43,19 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
 
     private final RestTemplate restTemplate;
     private final String productCatalogServiceUrl;
+    private final SkuExistenceIndex skuIndex;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     public ProductCatalogServiceAdapter(RestTemplate restTemplate,
-                                       @Value("${order-management.integration.product-catalog-service.url}") String productCatalogServiceUrl) {
+                                       @Value("${order-management.integration.product-catalog-service.url}") String productCatalogServiceUrl,
+                                       @Autowired(required = false) SkuExistenceIndex skuIndex,
+                                       ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
         this.restTemplate = restTemplate;
         this.productCatalogServiceUrl = productCatalogServiceUrl;
-        logger.info("ProductCatalogServiceAdapter initialized - URL: {}", productCatalogServiceUrl);
+        this.skuIndex = skuIndex;
+        this.concurrencyLimiter = concurrencyLimiterRegistry.limiter("productCatalog");
+        logger.info("ProductCatalogServiceAdapter initialized - URL: {}, SkuIndexEnabled: {}",
+            productCatalogServiceUrl, skuIndex != null);
     }
 
     @Override
@@ -46,13 +63,24 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
         logger.debug("Validating {} SKUs against product catalog", skus.size());
 
         List<String> invalidSkus = new ArrayList<>();
+        int remoteLookups = 0;
 
         for (String sku : skus) {
+            if (isTrustedAbsent(sku)) {
+                invalidSkus.add(sku);
+                continue;
+            }
+            if (isTrustedLocally(sku)) {
+                continue;
+            }
+            remoteLookups++;
             if (!productExists(sku)) {
                 invalidSkus.add(sku);
             }
         }
 
+        logger.debug("Catalog validation - Skus: {}, RemoteLookups: {}", skus.size(), remoteLookups);
+
         if (invalidSkus.isEmpty()) {
             logger.info("All {} SKUs are valid", skus.size());
             return ProductValidationResult.valid();
@@ -68,13 +96,21 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
     @CircuitBreaker(name = "productCatalog", fallbackMethod = "productExistsFallback")
     @Retry(name = "productCatalog")
     public boolean productExists(String sku) {
+        if (isTrustedAbsent(sku)) {
+            logger.debug("Product absent from local SKU index - SKU: {}", sku);
+            return false;
+        }
+
         try {
             String url = productCatalogServiceUrl + "/products/" + sku;
             logger.debug("Checking if product exists - SKU: {}, URL: {}", sku, url);
 
-            ProductResponse response = restTemplate.getForObject(url, ProductResponse.class);
+            ProductResponse response = concurrencyLimiter.execute(() -> restTemplate.getForObject(url, ProductResponse.class));
 
             boolean exists = response != null && response.getSku() != null;
+            if (exists && skuIndex != null) {
+                skuIndex.recordPresent(sku);
+            }
             logger.debug("Product exists check - SKU: {}, Exists: {}", sku, exists);
 
             return exists;
@@ -83,7 +119,14 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
             logger.debug("Product not found in catalog - SKU: {}", sku);
             return false;
 
+        } catch (ConcurrencyLimitExceededException e) {
+            throw e; // Rejected before reaching the service - handled by the fallback
+
         } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || AdaptiveConcurrencyLimiter.isInterruption(e)) {
+                logger.debug("Product existence check cancelled - SKU: {}", sku);
+                throw new CancellationException("Product existence check cancelled");
+            }
             logger.error("Error checking product existence - SKU: {}, Error: {}", sku, e.getMessage(), e);
             throw e; // Throw to trigger circuit breaker
         }
@@ -103,23 +146,28 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
     @CircuitBreaker(name = "productCatalog", fallbackMethod = "getProductDetailsFallback")
     @Retry(name = "productCatalog")
     public Optional<ProductDetails> getProductDetails(String sku) {
+        if (isTrustedAbsent(sku)) {
+            logger.debug("Product absent from local SKU index - SKU: {}", sku);
+            return Optional.empty();
+        }
+
         try {
             String url = productCatalogServiceUrl + "/products/" + sku;
             logger.debug("Fetching product details - SKU: {}", sku);
 
-            ProductResponse response = restTemplate.getForObject(url, ProductResponse.class);
+            ProductResponse response = concurrencyLimiter.execute(() -> restTemplate.getForObject(url, ProductResponse.class));
 
             if (response != null) {
                 ProductDetails details = new ProductDetails(
                     response.getSku(),
                     response.getTitle(),
-                    response.getPrice(),
+                    response.getUnitPrice(),
                     response.getActive() != null ? response.getActive() : false,
                     response.getCategory()
                 );
 
                 logger.debug("Retrieved product details - SKU: {}, Title: {}, Price: {}",
-                    sku, details.getName(), details.getPrice());
+                    sku, details.getName(), details.getUnitPrice());
 
                 return Optional.of(details);
             }
@@ -130,6 +178,9 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
             logger.debug("Product not found - SKU: {}", sku);
             return Optional.empty();
 
+        } catch (ConcurrencyLimitExceededException e) {
+            throw e; // Rejected before reaching the service - handled by the fallback
+
         } catch (Exception e) {
             logger.error("Error fetching product details - SKU: {}, Error: {}", sku, e.getMessage(), e);
             throw e; // Throw to trigger circuit breaker
@@ -152,6 +203,9 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
         Map<String, ProductDetails> results = new HashMap<>();
 
         for (String sku : skus) {
+            if (isTrustedAbsent(sku)) {
+                continue;
+            }
             getProductDetails(sku).ifPresent(details -> results.put(sku, details));
         }
 
@@ -159,4 +213,18 @@ public class ProductCatalogServiceAdapter implements ProductCatalogServicePort {
 
         return results;
     }
+
+    /**
+     * True when the local SKU index reports the SKU as absent and negatives are not confirmed remotely.
+     */
+    private boolean isTrustedAbsent(String sku) {
+        return skuIndex != null && skuIndex.isTrustedAbsent(sku);
+    }
+
+    /**
+     * True when the local SKU index reports the SKU as present and positives are not confirmed remotely.
+     */
+    private boolean isTrustedLocally(String sku) {
+        return skuIndex != null && skuIndex.isTrustedPresent(sku);
+    }
 }
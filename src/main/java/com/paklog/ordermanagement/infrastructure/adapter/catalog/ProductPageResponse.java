@@ -0,0 +1,47 @@
+package com.paklog.ordermanagement.infrastructure.adapter.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO for Product Catalog Service paged product listing.
+ * Maps to Product Catalog Service GET /products?page={page}&size={size} response.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductPageResponse {
+
+    @JsonProperty("content")
+    private List<ProductResponse> content = new ArrayList<>();
+
+    @JsonProperty("is_last")
+    private Boolean last;
+
+    public ProductPageResponse() {
+    }
+
+    public ProductPageResponse(List<ProductResponse> content, Boolean last) {
+        this.content = content;
+        this.last = last;
+    }
+
+    // Getters and Setters
+
+    public List<ProductResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<ProductResponse> content) {
+        this.content = content;
+    }
+
+    public Boolean getLast() {
+        return last;
+    }
+
+    public void setLast(Boolean last) {
+        this.last = last;
+    }
+}
@@ -1,8 +1,11 @@
 package com.paklog.ordermanagement.infrastructure.adapter.catalog;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paklog.ordermanagement.domain.model.Money;
 
 /**
  * DTO for Product Catalog Service product response.
@@ -21,6 +24,9 @@ public class ProductResponse {
     @JsonProperty("price")
     private BigDecimal price;
 
+    @JsonProperty("currency")
+    private String currency;
+
     @JsonProperty("active")
     private Boolean active;
 
@@ -64,6 +70,25 @@ public class ProductResponse {
         this.price = price;
     }
 
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    /**
+     * Price as {@link Money}; the catalog quotes USD unless the response names a currency.
+     */
+    @JsonIgnore
+    public Money getUnitPrice() {
+        if (price == null) {
+            return null;
+        }
+        return Money.of(price, currency != null ? Currency.getInstance(currency) : Money.USD);
+    }
+
     public Boolean getActive() {
         return active;
     }
@@ -0,0 +1,156 @@
+package com.paklog.ordermanagement.infrastructure.adapter.catalog;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.paklog.ordermanagement.infrastructure.config.SkuIndexConfig;
+
+/**
+ * Local SKU existence index backed by a Bloom filter.
+ *
+ * The index is built from a paged scan of the product catalog. Each refresh scans into a
+ * fresh filter and swaps it in only once the scan has completed, so a failed scan keeps the
+ * previous snapshot. Between scans, SKUs the catalog confirms remotely are added to the current
+ * filter, so SKUs created after the scan are looked up remotely once and then known locally. Until the first scan completes the index reports itself as not ready
+ * and callers must fall back to remote lookups.
+ */
+@Component
+@ConditionalOnProperty(
+    name = {
+        "order-management.validation.check-product-catalog",
+        "order-management.integration.product-catalog-service.sku-index.enabled"
+    },
+    havingValue = "true")
+public class SkuExistenceIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkuExistenceIndex.class);
+
+    private final RestTemplate restTemplate;
+    private final String productCatalogServiceUrl;
+    private final SkuIndexConfig config;
+
+    private volatile SkuBloomFilter filter;
+    private volatile long indexedSkuCount;
+
+    public SkuExistenceIndex(RestTemplate restTemplate,
+                             @Value("${order-management.integration.product-catalog-service.url}") String productCatalogServiceUrl,
+                             SkuIndexConfig config) {
+        this.restTemplate = restTemplate;
+        this.productCatalogServiceUrl = productCatalogServiceUrl;
+        this.config = config;
+        logger.info("SkuExistenceIndex initialized - ExpectedSkus: {}, FalsePositiveProbability: {}, RefreshInterval: {}",
+            config.getExpectedSkus(), config.getFalsePositiveProbability(), config.getRefreshInterval());
+    }
+
+    /**
+     * Whether a catalog snapshot has been loaded.
+     */
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    /**
+     * Returns false only if the SKU is definitely absent from the last catalog snapshot.
+     * Returns true when the SKU is probably present or the index is not ready yet.
+     */
+    public boolean mightContain(String sku) {
+        SkuBloomFilter current = filter;
+        return current == null || current.mightContain(sku);
+    }
+
+    /**
+     * True when a snapshot is loaded, reports the SKU as absent, and local negatives are not
+     * configured to be confirmed remotely. A negative only covers the catalog as of the last
+     * scan, so by default it is confirmed.
+     */
+    public boolean isTrustedAbsent(String sku) {
+        SkuBloomFilter current = filter;
+        return current != null && !config.isConfirmNegatives() && !current.mightContain(sku);
+    }
+
+    /**
+     * True when a snapshot is loaded, reports the SKU as present, and local positives
+     * are not configured to be confirmed remotely.
+     */
+    public boolean isTrustedPresent(String sku) {
+        SkuBloomFilter current = filter;
+        return current != null && !config.isConfirmPositives() && current.mightContain(sku);
+    }
+
+    /**
+     * Records a SKU that the catalog confirmed to exist, so later lookups are answered locally.
+     */
+    public void recordPresent(String sku) {
+        SkuBloomFilter current = filter;
+        if (current != null && sku != null) {
+            current.put(sku);
+        }
+    }
+
+    public long getIndexedSkuCount() {
+        return indexedSkuCount;
+    }
+
+    /**
+     * Scans the catalog page by page into a new filter and swaps it in.
+     * Runs at startup and then every refresh interval.
+     */
+    @Scheduled(initialDelay = 0,
+        fixedDelayString = "${order-management.integration.product-catalog-service.sku-index.refresh-interval:PT15M}")
+    public void refresh() {
+        Instant startTime = Instant.now();
+        logger.debug("Starting SKU index refresh from product catalog");
+
+        SkuBloomFilter next = new SkuBloomFilter(config.getExpectedSkus(), config.getFalsePositiveProbability());
+        long count = 0;
+        int page = 0;
+
+        try {
+            while (true) {
+                String url = productCatalogServiceUrl + "/products?page=" + page + "&size=" + config.getPageSize();
+                ProductPageResponse response = restTemplate.getForObject(url, ProductPageResponse.class);
+
+                if (response == null || response.getContent() == null) {
+                    break;
+                }
+
+                for (ProductResponse product : response.getContent()) {
+                    if (product.getSku() != null) {
+                        next.put(product.getSku());
+                        count++;
+                    }
+                }
+
+                if (response.getLast() == null || response.getLast() || response.getContent().isEmpty()) {
+                    break;
+                }
+                page++;
+            }
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("SKU index refresh failed - Page: {}, Error: {}, Duration: {}ms. Keeping previous snapshot (ready: {}).",
+                page, e.getMessage(), duration.toMillis(), isReady(), e);
+            return;
+        }
+
+        if (count > config.getExpectedSkus()) {
+            logger.warn("Catalog holds more SKUs than the index was sized for - Indexed: {}, Expected: {}. False positive rate will exceed target.",
+                count, config.getExpectedSkus());
+        }
+
+        filter = next;
+        indexedSkuCount = count;
+
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.info("SKU index refreshed - Skus: {}, Pages: {}, Bits: {}, HashFunctions: {}, Duration: {}ms",
+            count, page + 1, next.getBitCount(), next.getHashFunctions(), duration.toMillis());
+    }
+}
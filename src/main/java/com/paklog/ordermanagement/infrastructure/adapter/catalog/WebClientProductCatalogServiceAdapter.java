@@ -0,0 +1,184 @@
+package com.paklog.ordermanagement.infrastructure.adapter.catalog;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.paklog.ordermanagement.domain.port.AsyncProductCatalogServicePort;
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductDetails;
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductValidationResult;
+import com.paklog.ordermanagement.infrastructure.config.OutboundHttpClientConfig;
+import com.paklog.ordermanagement.infrastructure.config.ReactiveIntegrationConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking adapter implementation for Product Catalog Service integration.
+ * Implements the AsyncProductCatalogServicePort using WebClient, issuing the per-SKU product
+ * lookups of an order concurrently.
+ *
+ * Uses the same "productCatalog" circuit breaker, retry and concurrency limiter instances and
+ * the same local {@link SkuExistenceIndex} as {@link ProductCatalogServiceAdapter}.
+ * This adapter is only enabled when product catalog checks and the reactive integration are configured.
+ */
+@Component
+@ConditionalOnProperty(
+    name = {
+        "order-management.validation.check-product-catalog",
+        "order-management.integration.reactive.enabled"
+    },
+    havingValue = "true")
+public class WebClientProductCatalogServiceAdapter implements AsyncProductCatalogServicePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebClientProductCatalogServiceAdapter.class);
+
+    private final WebClient webClient;
+    private final String productCatalogServiceUrl;
+    private final SkuExistenceIndex skuIndex;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+    private final int maxConcurrency;
+
+    public WebClientProductCatalogServiceAdapter(WebClient outboundWebClient,
+                                                 @Value("${order-management.integration.product-catalog-service.url}") String productCatalogServiceUrl,
+                                                 @Autowired(required = false) SkuExistenceIndex skuIndex,
+                                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                                 RetryRegistry retryRegistry,
+                                                 ConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                                 OutboundHttpClientConfig httpClientConfig,
+                                                 ReactiveIntegrationConfig reactiveConfig) {
+        this.webClient = outboundWebClient;
+        this.productCatalogServiceUrl = productCatalogServiceUrl;
+        this.skuIndex = skuIndex;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("productCatalog");
+        this.retry = retryRegistry.retry("productCatalog");
+        this.concurrencyLimiter = concurrencyLimiterRegistry.limiter("productCatalog");
+        this.readTimeout = httpClientConfig.getReadTimeout();
+        this.maxConcurrency = reactiveConfig.getMaxConcurrency();
+        logger.info("WebClientProductCatalogServiceAdapter initialized - URL: {}, MaxConcurrency: {}, SkuIndexEnabled: {}",
+            productCatalogServiceUrl, maxConcurrency, skuIndex != null);
+    }
+
+    @Override
+    public CompletableFuture<ProductValidationResult> validateProductsAsync(List<String> skus) {
+        logger.debug("Validating {} SKUs against product catalog asynchronously", skus.size());
+
+        // Captured here: the lookups run on client threads where the caller's deadline is not bound
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+
+        return Flux.fromIterable(skus)
+            .flatMapSequential(sku -> productExists(sku, deadline).filter(exists -> !exists).map(exists -> sku), maxConcurrency)
+            .collectList()
+            .map(invalidSkus -> {
+                if (invalidSkus.isEmpty()) {
+                    logger.info("All {} SKUs are valid", skus.size());
+                    return ProductValidationResult.valid();
+                }
+                String message = String.format("%d of %d SKUs not found in catalog",
+                    invalidSkus.size(), skus.size());
+                logger.warn(message + " - Invalid SKUs: {}", invalidSkus);
+                return ProductValidationResult.invalid(invalidSkus, message);
+            })
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, ProductDetails>> getProductDetailsAsync(List<String> skus) {
+        logger.debug("Fetching details for {} SKUs asynchronously", skus.size());
+
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+
+        return Flux.fromIterable(skus)
+            .filter(sku -> !isTrustedAbsent(sku))
+            .flatMap(sku -> fetchProduct(sku, deadline).map(response -> Map.entry(sku, toDetails(response))), maxConcurrency)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+            .doOnNext(results -> logger.info("Retrieved details for {} of {} SKUs", results.size(), skus.size()))
+            .toFuture();
+    }
+
+    /**
+     * Resolves existence locally when the SKU index can answer, otherwise remotely.
+     * Fails safe to false when the catalog cannot be reached, like the blocking adapter's fallback.
+     */
+    private Mono<Boolean> productExists(String sku, Optional<RequestDeadline> deadline) {
+        if (isTrustedAbsent(sku)) {
+            return Mono.just(false);
+        }
+        if (skuIndex != null && skuIndex.isTrustedPresent(sku)) {
+            return Mono.just(true);
+        }
+        return fetchProduct(sku, deadline)
+            .map(response -> response.getSku() != null)
+            .defaultIfEmpty(false);
+    }
+
+    /**
+     * Fetches one product. Completes empty when the product is not found or the call fails.
+     * Each attempt, including retries, fails fast once the deadline has passed and has its
+     * timeout capped at the time left.
+     */
+    private Mono<ProductResponse> fetchProduct(String sku, Optional<RequestDeadline> deadline) {
+        return Mono.defer(() -> {
+            deadline.ifPresent(d -> d.checkNotExpired("product lookup"));
+            return webClient.get()
+                .uri(productCatalogServiceUrl + "/products/{sku}", sku)
+                .retrieve()
+                .bodyToMono(ProductResponse.class)
+                .timeout(deadline.map(d -> d.cap(readTimeout)).orElse(readTimeout))
+                .transform(concurrencyLimiter::limit);
+        })
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                logger.debug("Product not found in catalog - SKU: {}", sku);
+                return Mono.empty();
+            })
+            .transformDeferred(RetryOperator.of(retry))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .doOnNext(response -> {
+                if (skuIndex != null && response.getSku() != null) {
+                    skuIndex.recordPresent(response.getSku());
+                }
+            })
+            .onErrorResume(e -> {
+                logger.warn("Product Catalog call failed - SKU: {}, Error: {}. Treating as not found (fail-safe).",
+                    sku, e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private ProductDetails toDetails(ProductResponse response) {
+        return new ProductDetails(
+            response.getSku(),
+            response.getTitle(),
+            response.getUnitPrice(),
+            response.getActive() != null ? response.getActive() : false,
+            response.getCategory()
+        );
+    }
+
+    private boolean isTrustedAbsent(String sku) {
+        return skuIndex != null && skuIndex.isTrustedAbsent(sku);
+    }
+}
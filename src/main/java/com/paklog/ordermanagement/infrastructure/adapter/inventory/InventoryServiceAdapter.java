@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,6 +15,10 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.paklog.ordermanagement.domain.port.InventoryServicePort;
+import com.paklog.ordermanagement.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+import com.paklog.ordermanagement.infrastructure.resilience.DeadlineExceededException;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
@@ -23,6 +28,10 @@ import io.github.resilience4j.retry.annotation.Retry;
  * Implements the InventoryServicePort using REST API calls.
  *
  * This adapter is always enabled to support partial fulfillment policy decisions.
+ * Calls go through the "inventory" adaptive concurrency limiter.
+ *
+ * An availability check stops as soon as its thread is interrupted, which is how the intake
+ * cancels it once another check has failed, and throws {@link CancellationException}.
  */
 @Component
 public class InventoryServiceAdapter implements InventoryServicePort {
@@ -31,11 +40,14 @@ public class InventoryServiceAdapter implements InventoryServicePort {
 
     private final RestTemplate restTemplate;
     private final String inventoryServiceUrl;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     public InventoryServiceAdapter(RestTemplate restTemplate,
-                                   @Value("${order-management.integration.inventory-service.url}") String inventoryServiceUrl) {
+                                   @Value("${order-management.integration.inventory-service.url}") String inventoryServiceUrl,
+                                   ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
         this.restTemplate = restTemplate;
         this.inventoryServiceUrl = inventoryServiceUrl;
+        this.concurrencyLimiter = concurrencyLimiterRegistry.limiter("inventory");
         logger.info("InventoryServiceAdapter initialized - URL: {}", inventoryServiceUrl);
     }
 
@@ -47,6 +59,9 @@ public class InventoryServiceAdapter implements InventoryServicePort {
         int checkedCount = 0;
 
         for (Map.Entry<String, Integer> entry : items.entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw cancelled(checkedCount, items.size());
+            }
             String sku = entry.getKey();
             Integer requestedQty = entry.getValue();
 
@@ -54,10 +69,10 @@ public class InventoryServiceAdapter implements InventoryServicePort {
                 String url = inventoryServiceUrl + "/stock_levels/" + sku;
                 logger.debug("Fetching stock level - SKU: {}, URL: {}", sku, url);
 
-                InventoryStockLevelResponse response = restTemplate.getForObject(
+                InventoryStockLevelResponse response = concurrencyLimiter.execute(() -> restTemplate.getForObject(
                     url,
                     InventoryStockLevelResponse.class
-                );
+                ));
 
                 if (response != null) {
                     Integer available = response.getAvailableToPromise();
@@ -82,7 +97,22 @@ public class InventoryServiceAdapter implements InventoryServicePort {
                 logger.warn("SKU not found in inventory - SKU: {}", sku);
                 checkedCount++;
 
+            } catch (DeadlineExceededException e) {
+                // No time left for the remaining SKUs
+                logger.warn("Inventory check abandoned - Checked: {} of {} SKUs, Reason: {}",
+                    checkedCount, items.size(), e.getMessage());
+                throw e;
+
+            } catch (ConcurrencyLimitExceededException e) {
+                // Inventory service is saturated - shed this lookup instead of waiting
+                unavailableItems.add(new UnavailableItem(sku, requestedQty, 0));
+                logger.warn("Inventory lookup rejected - SKU: {}, Limit: {}", sku, e.getLimit());
+                checkedCount++;
+
             } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted() || AdaptiveConcurrencyLimiter.isInterruption(e)) {
+                    throw cancelled(checkedCount, items.size());
+                }
                 logger.error("Error checking inventory for SKU: {} - Error: {}", sku, e.getMessage(), e);
                 // For circuit breaker/timeout scenarios, we might want to fail fast
                 // For now, we'll treat as unavailable
@@ -102,6 +132,11 @@ public class InventoryServiceAdapter implements InventoryServicePort {
         }
     }
 
+    private static CancellationException cancelled(int checkedCount, int skuCount) {
+        logger.debug("Inventory check cancelled - Checked: {} of {} SKUs", checkedCount, skuCount);
+        return new CancellationException("Inventory check cancelled");
+    }
+
     @Override
     @CircuitBreaker(name = "inventory", fallbackMethod = "isAvailableFallback")
     @Retry(name = "inventory")
@@ -110,10 +145,10 @@ public class InventoryServiceAdapter implements InventoryServicePort {
             String url = inventoryServiceUrl + "/stock_levels/" + sku;
             logger.debug("Checking single SKU availability - SKU: {}, Quantity: {}", sku, quantity);
 
-            InventoryStockLevelResponse response = restTemplate.getForObject(
+            InventoryStockLevelResponse response = concurrencyLimiter.execute(() -> restTemplate.getForObject(
                 url,
                 InventoryStockLevelResponse.class
-            );
+            ));
 
             if (response != null && response.getAvailableToPromise() != null) {
                 boolean available = response.getAvailableToPromise() >= quantity;
@@ -128,6 +163,9 @@ public class InventoryServiceAdapter implements InventoryServicePort {
             logger.warn("SKU not found in inventory - SKU: {}", sku);
             return false;
 
+        } catch (ConcurrencyLimitExceededException e) {
+            throw e; // Rejected before reaching the service - handled by the fallback
+
         } catch (Exception e) {
             logger.error("Error checking inventory for SKU: {} - Error: {}", sku, e.getMessage(), e);
             throw e; // Throw to trigger circuit breaker
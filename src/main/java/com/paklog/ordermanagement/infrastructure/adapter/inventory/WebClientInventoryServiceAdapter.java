@@ -0,0 +1,149 @@
+package com.paklog.ordermanagement.infrastructure.adapter.inventory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.paklog.ordermanagement.domain.port.AsyncInventoryServicePort;
+import com.paklog.ordermanagement.domain.port.InventoryServicePort.InventoryCheckResult;
+import com.paklog.ordermanagement.domain.port.InventoryServicePort.UnavailableItem;
+import com.paklog.ordermanagement.infrastructure.config.OutboundHttpClientConfig;
+import com.paklog.ordermanagement.infrastructure.config.ReactiveIntegrationConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking adapter implementation for Inventory Service integration.
+ * Implements the AsyncInventoryServicePort using WebClient, issuing the per-SKU stock level
+ * lookups of an order concurrently.
+ *
+ * Uses the same "inventory" circuit breaker, retry and concurrency limiter instances as {@link InventoryServiceAdapter}.
+ * This adapter is only enabled when the reactive integration is configured.
+ */
+@Component
+@ConditionalOnProperty(name = "order-management.integration.reactive.enabled", havingValue = "true")
+public class WebClientInventoryServiceAdapter implements AsyncInventoryServicePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebClientInventoryServiceAdapter.class);
+
+    private final WebClient webClient;
+    private final String inventoryServiceUrl;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+    private final int maxConcurrency;
+
+    public WebClientInventoryServiceAdapter(WebClient outboundWebClient,
+                                            @Value("${order-management.integration.inventory-service.url}") String inventoryServiceUrl,
+                                            CircuitBreakerRegistry circuitBreakerRegistry,
+                                            RetryRegistry retryRegistry,
+                                            ConcurrencyLimiterRegistry concurrencyLimiterRegistry,
+                                            OutboundHttpClientConfig httpClientConfig,
+                                            ReactiveIntegrationConfig reactiveConfig) {
+        this.webClient = outboundWebClient;
+        this.inventoryServiceUrl = inventoryServiceUrl;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("inventory");
+        this.retry = retryRegistry.retry("inventory");
+        this.concurrencyLimiter = concurrencyLimiterRegistry.limiter("inventory");
+        this.readTimeout = httpClientConfig.getReadTimeout();
+        this.maxConcurrency = reactiveConfig.getMaxConcurrency();
+        logger.info("WebClientInventoryServiceAdapter initialized - URL: {}, MaxConcurrency: {}",
+            inventoryServiceUrl, maxConcurrency);
+    }
+
+    @Override
+    public CompletableFuture<InventoryCheckResult> checkAvailabilityAsync(Map<String, Integer> items) {
+        logger.debug("Checking inventory availability asynchronously for {} SKUs", items.size());
+
+        // Captured here: the lookups run on client threads where the caller's deadline is not bound
+        Optional<RequestDeadline> deadline = RequestDeadline.current();
+
+        return Flux.fromIterable(items.entrySet())
+            .flatMap(entry -> checkSku(entry.getKey(), entry.getValue(), deadline), maxConcurrency)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collectList()
+            .map(unavailableItems -> toResult(unavailableItems, items.size()))
+            .toFuture();
+    }
+
+    /**
+     * Looks up one SKU. Completes with the unavailable item, or empty when stock is sufficient.
+     * A missing SKU or a failed call (after retries, with the circuit open, or past the request
+     * deadline) is reported as unavailable.
+     */
+    private Mono<Optional<UnavailableItem>> checkSku(String sku, int requestedQty, Optional<RequestDeadline> deadline) {
+        return fetchStockLevel(sku, deadline)
+            .map(response -> evaluate(sku, requestedQty, response.getAvailableToPromise()))
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                logger.warn("SKU not found in inventory - SKU: {}", sku);
+                return Mono.just(Optional.of(new UnavailableItem(sku, requestedQty, 0)));
+            })
+            .transformDeferred(RetryOperator.of(retry))
+            .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+            .defaultIfEmpty(Optional.empty())
+            .onErrorResume(e -> {
+                logger.error("Error checking inventory for SKU: {} - Error: {}", sku, e.getMessage());
+                return Mono.just(Optional.of(new UnavailableItem(sku, requestedQty, 0)));
+            });
+    }
+
+    /**
+     * One lookup attempt. Each attempt, including retries, fails fast once the deadline has
+     * passed and has its timeout capped at the time left.
+     */
+    private Mono<InventoryStockLevelResponse> fetchStockLevel(String sku, Optional<RequestDeadline> deadline) {
+        return Mono.defer(() -> {
+            deadline.ifPresent(d -> d.checkNotExpired("inventory lookup"));
+            return webClient.get()
+                .uri(inventoryServiceUrl + "/stock_levels/{sku}", sku)
+                .retrieve()
+                .bodyToMono(InventoryStockLevelResponse.class)
+                .timeout(deadline.map(d -> d.cap(readTimeout)).orElse(readTimeout))
+                .transform(concurrencyLimiter::limit);
+        });
+    }
+
+    private Optional<UnavailableItem> evaluate(String sku, int requestedQty, Integer available) {
+        if (available == null || available < requestedQty) {
+            int actualAvailable = available != null ? available : 0;
+            logger.warn("Insufficient inventory - SKU: {}, Requested: {}, Available: {}",
+                sku, requestedQty, actualAvailable);
+            return Optional.of(new UnavailableItem(sku, requestedQty, actualAvailable));
+        }
+        logger.debug("Sufficient inventory - SKU: {}, Requested: {}, Available: {}", sku, requestedQty, available);
+        return Optional.empty();
+    }
+
+    private InventoryCheckResult toResult(List<UnavailableItem> unavailableItems, int checkedCount) {
+        if (unavailableItems.isEmpty()) {
+            logger.info("All items available - Checked: {} SKUs", checkedCount);
+            return InventoryCheckResult.available();
+        }
+        String message = String.format("Inventory check failed: %d of %d items unavailable",
+            unavailableItems.size(), checkedCount);
+        logger.warn(message);
+        return InventoryCheckResult.unavailable(unavailableItems, message);
+    }
+}
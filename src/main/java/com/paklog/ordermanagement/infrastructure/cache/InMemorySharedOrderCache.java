@@ -0,0 +1,57 @@
+package com.paklog.ordermanagement.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-local stand-in for a shared order cache, with the same expiry semantics.
+ * Enabled with order-management.order-cache.shared-tier=IN_MEMORY; it is only shared by the
+ * callers within one pod, so it is meant for tests and single-pod runs.
+ */
+@Component
+@ConditionalOnProperty(name = "order-management.order-cache.shared-tier", havingValue = "IN_MEMORY")
+public class InMemorySharedOrderCache implements SharedOrderCache {
+
+    private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemorySharedOrderCache() {
+        this(Clock.systemUTC());
+    }
+
+    InMemorySharedOrderCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public byte[] get(UUID orderId) {
+        Entry entry = entries.get(orderId);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.millis() >= entry.expiresAtMillis()) {
+            entries.remove(orderId, entry);
+            return null;
+        }
+        return entry.body();
+    }
+
+    @Override
+    public void put(UUID orderId, byte[] body, Duration ttl) {
+        entries.put(orderId, new Entry(body, clock.millis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(UUID orderId) {
+        entries.remove(orderId);
+    }
+
+    private record Entry(byte[] body, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,312 @@
+package com.paklog.ordermanagement.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.paklog.ordermanagement.infrastructure.config.OrderCacheConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Two-level read-through cache of serialized single-order responses.
+ *
+ * The first level is an in-process map of response bodies, bounded by their total size and
+ * evicted with the CLOCK approximation of LRU: entries read since the sweep last passed them
+ * get a second chance, so reads never take a lock. The optional second level is a
+ * {@link SharedOrderCache} consulted on a first-level miss. Only a miss on both loads the
+ * order, and the loaded body is stored in both.
+ *
+ * Entries are invalidated by order events, both the ones this pod publishes and the ones
+ * consumed from the event topic, and otherwise expire after their time to live. A load that
+ * overlaps an invalidation of the same order is not stored, so a body read before the change
+ * cannot outlive the event that announced it. That guard is per pod: the shared tier can still
+ * briefly hold a body stored by another pod, which its shorter time to live bounds.
+ */
+@Component
+public class OrderResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderResponseCache.class);
+
+    /**
+     * Number of invalidation counters orders are hashed onto.
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+    private final long ttlMillis;
+    private final Duration sharedTtl;
+    private final SharedOrderCache shared;
+    private final Clock clock;
+
+    private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> clockQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+    private final Timer entryAge;
+    private final Timer invalidationLag;
+
+    @Autowired
+    public OrderResponseCache(OrderCacheConfig config, ObjectProvider<SharedOrderCache> shared,
+                              MeterRegistry meterRegistry) {
+        this(config, shared.getIfAvailable(), meterRegistry, Clock.systemUTC());
+    }
+
+    OrderResponseCache(OrderCacheConfig config, SharedOrderCache shared, MeterRegistry meterRegistry, Clock clock) {
+        this.enabled = config.isEnabled();
+        this.maxBytes = config.getMaxBytes();
+        this.maxEntryBytes = config.getMaxEntryBytes();
+        this.ttlMillis = config.getTtl().toMillis();
+        this.sharedTtl = config.getSharedTtl();
+        this.shared = shared;
+        this.clock = clock;
+
+        this.localHits = requests(meterRegistry, "local", "hit");
+        this.localMisses = requests(meterRegistry, "local", "miss");
+        this.sharedHits = requests(meterRegistry, "shared", "hit");
+        this.sharedMisses = requests(meterRegistry, "shared", "miss");
+        this.sizeEvictions = evictions(meterRegistry, "size");
+        this.expiredEvictions = evictions(meterRegistry, "expired");
+        this.invalidations = evictions(meterRegistry, "invalidated");
+        this.entryAge = Timer.builder("order.cache.entry.age")
+            .description("Time since the served in-memory entry was loaded")
+            .register(meterRegistry);
+        this.invalidationLag = Timer.builder("order.cache.invalidation.lag")
+            .description("Time from an order change to the invalidation of its entry on this pod")
+            .register(meterRegistry);
+        Gauge.builder("order.cache.local.bytes", bytes, AtomicLong::get)
+            .description("Size of the response bodies held in memory")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("order.cache.local.entries", entries, ConcurrentMap::size)
+            .description("Number of responses held in memory")
+            .register(meterRegistry);
+
+        logger.info("Order response cache initialized - Enabled: {}, MaxBytes: {}, Ttl: {}, SharedTier: {}",
+            enabled, maxBytes, config.getTtl(), shared != null ? shared.getClass().getSimpleName() : "none");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("order.cache.requests")
+            .description("Order response cache lookups")
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("order.cache.evictions")
+            .description("In-memory order responses removed")
+            .tag("cause", cause)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached response body of an order, loading and caching it on a miss.
+     *
+     * @param loader loads the body, or returns null if the order does not exist
+     * @return the body, or null if the order does not exist; absent orders are not cached
+     */
+    public byte[] get(UUID orderId, Function<UUID, byte[]> loader) {
+        if (!enabled) {
+            return loader.apply(orderId);
+        }
+
+        Entry entry = entries.get(orderId);
+        if (entry != null) {
+            long age = clock.millis() - entry.storedAtMillis;
+            if (age < ttlMillis) {
+                entry.referenced = true;
+                localHits.increment();
+                entryAge.record(age, TimeUnit.MILLISECONDS);
+                return entry.body;
+            }
+            if (remove(orderId, entry)) {
+                expiredEvictions.increment();
+            }
+        }
+        localMisses.increment();
+
+        // Captured before reading, so an invalidation racing the read prevents storing it
+        long generation = generations.get(stripe(orderId));
+
+        byte[] body = getShared(orderId);
+        if (body != null) {
+            sharedHits.increment();
+        } else {
+            if (shared != null) {
+                sharedMisses.increment();
+            }
+            body = loader.apply(orderId);
+            if (body == null) {
+                return null;
+            }
+            if (generations.get(stripe(orderId)) == generation) {
+                putShared(orderId, body);
+            }
+        }
+
+        if (generations.get(stripe(orderId)) == generation) {
+            Entry stored = store(orderId, body);
+            // An invalidation between the check and the store has to win
+            if (stored != null && generations.get(stripe(orderId)) != generation) {
+                remove(orderId, stored);
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Evicts an order changed by this pod from both tiers.
+     */
+    public void invalidate(UUID orderId) {
+        generations.incrementAndGet(stripe(orderId));
+        Entry entry = entries.get(orderId);
+        if (entry != null && remove(orderId, entry)) {
+            invalidations.increment();
+        }
+        evictShared(orderId);
+    }
+
+    /**
+     * Evicts an order announced as changed by an order event, recording how long after the
+     * change the invalidation arrived.
+     *
+     * @param changedAt when the event was raised, or null if unknown
+     */
+    public void invalidate(UUID orderId, Instant changedAt) {
+        invalidate(orderId);
+        if (changedAt != null) {
+            invalidationLag.record(Math.max(0, clock.millis() - changedAt.toEpochMilli()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    private Entry store(UUID orderId, byte[] body) {
+        if (body.length > maxEntryBytes) {
+            return null;
+        }
+        Entry entry = new Entry(orderId, body, clock.millis());
+        Entry previous = entries.put(orderId, entry);
+        if (previous != null) {
+            bytes.addAndGet(-previous.body.length);
+        }
+        bytes.addAndGet(body.length);
+        clockQueue.offer(entry);
+        evictToSize();
+        return entry;
+    }
+
+    /**
+     * Sweeps the clock until the entries fit: entries read since the last pass get a second
+     * chance, the others are evicted.
+     */
+    private void evictToSize() {
+        while (bytes.get() > maxBytes) {
+            Entry entry = clockQueue.poll();
+            if (entry == null) {
+                return;
+            }
+            if (entries.get(entry.orderId) != entry) {
+                // Already invalidated, expired or replaced
+                continue;
+            }
+            if (entry.referenced) {
+                entry.referenced = false;
+                clockQueue.offer(entry);
+            } else if (remove(entry.orderId, entry)) {
+                sizeEvictions.increment();
+            }
+        }
+    }
+
+    private boolean remove(UUID orderId, Entry entry) {
+        if (entries.remove(orderId, entry)) {
+            bytes.addAndGet(-entry.body.length);
+            return true;
+        }
+        return false;
+    }
+
+    private byte[] getShared(UUID orderId) {
+        if (shared == null) {
+            return null;
+        }
+        try {
+            return shared.get(orderId);
+        } catch (RuntimeException e) {
+            logger.warn("Shared order cache read failed - OrderId: {}, Error: {}", orderId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putShared(UUID orderId, byte[] body) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            shared.put(orderId, body, sharedTtl);
+        } catch (RuntimeException e) {
+            logger.warn("Shared order cache write failed - OrderId: {}, Error: {}", orderId, e.getMessage());
+        }
+    }
+
+    private void evictShared(UUID orderId) {
+        if (shared == null) {
+            return;
+        }
+        try {
+            shared.evict(orderId);
+        } catch (RuntimeException e) {
+            logger.warn("Shared order cache eviction failed - OrderId: {}, Error: {}", orderId, e.getMessage());
+        }
+    }
+
+    private static int stripe(UUID orderId) {
+        return orderId.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    private static final class Entry {
+        final UUID orderId;
+        final byte[] body;
+        final long storedAtMillis;
+        volatile boolean referenced;
+
+        Entry(UUID orderId, byte[] body, long storedAtMillis) {
+            this.orderId = orderId;
+            this.body = body;
+            this.storedAtMillis = storedAtMillis;
+        }
+    }
+}
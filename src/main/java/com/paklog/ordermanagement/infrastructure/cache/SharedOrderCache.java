@@ -0,0 +1,23 @@
+package com.paklog.ordermanagement.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Shared tier of the order response cache, consulted by every pod on an in-memory miss.
+ *
+ * Implementations hold serialized response bodies by order ID in a store reachable from all
+ * pods. A deployment provides one as a bean; {@link InMemorySharedOrderCache} stands in for
+ * tests and single-pod runs. Failures should be thrown: the cache treats them as misses.
+ */
+public interface SharedOrderCache {
+
+    /**
+     * @return the stored body, or null if there is none
+     */
+    byte[] get(UUID orderId);
+
+    void put(UUID orderId, byte[] body, Duration ttl);
+
+    void evict(UUID orderId);
+}
@@ -0,0 +1,108 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the adaptive concurrency limiters placed in front of each
+ * downstream dependency.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.resilience.concurrency-limit")
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Enable adaptive concurrency limiting of outbound calls
+     */
+    private boolean enabled = true;
+
+    /**
+     * Limit each dependency starts with before any latency has been observed
+     */
+    private int initialLimit = 20;
+
+    /**
+     * Lower bound for the limit; the dependency always gets at least this many concurrent calls
+     */
+    private int minLimit = 2;
+
+    /**
+     * Upper bound for the limit
+     */
+    private int maxLimit = 200;
+
+    /**
+     * Factor the limit is multiplied by when congestion is detected
+     */
+    private double backoffRatio = 0.9;
+
+    /**
+     * A call slower than this is always treated as congestion
+     */
+    private Duration slowCallThreshold = Duration.ofSeconds(1);
+
+    /**
+     * A call slower than this multiple of the long-term average latency is treated as congestion
+     */
+    private double latencyTolerance = 2.0;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public Duration getSlowCallThreshold() {
+        return slowCallThreshold;
+    }
+
+    public void setSlowCallThreshold(Duration slowCallThreshold) {
+        this.slowCallThreshold = slowCallThreshold;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+}
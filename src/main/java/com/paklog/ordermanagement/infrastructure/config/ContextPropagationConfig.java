@@ -0,0 +1,42 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
+
+/**
+ * Configuration for carrying request context onto the threads that work on a request's behalf.
+ */
+@Configuration
+public class ContextPropagationConfig {
+
+    /**
+     * Task decorator copying the logging MDC (correlation, request and user IDs) and the
+     * {@link RequestDeadline} of the submitting thread to the thread running the task.
+     * Used by the order intake pipeline's virtual threads and by Spring's task executor.
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return task -> {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            Optional<RequestDeadline> deadline = RequestDeadline.current();
+
+            return () -> {
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                try (RequestDeadline.Scope scope = deadline.map(RequestDeadline::bind).orElse(() -> { })) {
+                    task.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the idempotent-replay response store.
+ * The final response to an order creation is recorded by Idempotency-Key, and retries with the
+ * same key are answered from the record without running the request again.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.idempotency")
+public class IdempotencyConfig {
+
+    /**
+     * Enable the idempotent-replay response store
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long a recorded response is replayed
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Longest a retry waits for an in-flight request with the same key on this instance,
+     * further capped by the retry's own request deadline
+     */
+    private Duration inFlightWait = Duration.ofSeconds(10);
+
+    /**
+     * Responses with larger bodies are not recorded
+     */
+    private int maxBodyBytes = 1024 * 1024;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getInFlightWait() {
+        return inFlightWait;
+    }
+
+    public void setInFlightWait(Duration inFlightWait) {
+        this.inFlightWait = inFlightWait;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the MongoDB index catalog.
+ * At startup the indexes declared in the catalog are built in the background, and each hot
+ * repository query is explained to verify that it is answered from an index.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.index-catalog")
+public class IndexCatalogConfig {
+
+    /**
+     * Build the catalog indexes at startup
+     */
+    private boolean enabled = true;
+
+    /**
+     * Explain the hot queries once the indexes are built
+     */
+    private boolean verifyQueryPlans = true;
+
+    /**
+     * What to do when a hot query is planned as a collection scan
+     */
+    private CollectionScanAction onCollectionScan = CollectionScanAction.WARN;
+
+    public enum CollectionScanAction {
+        /** Log a warning and stay ready */
+        WARN,
+        /** Log an error and report the instance as not ready */
+        FAIL_READINESS
+    }
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isVerifyQueryPlans() {
+        return verifyQueryPlans;
+    }
+
+    public void setVerifyQueryPlans(boolean verifyQueryPlans) {
+        this.verifyQueryPlans = verifyQueryPlans;
+    }
+
+    public CollectionScanAction getOnCollectionScan() {
+        return onCollectionScan;
+    }
+
+    public void setOnCollectionScan(CollectionScanAction onCollectionScan) {
+        this.onCollectionScan = onCollectionScan;
+    }
+}
@@ -0,0 +1,57 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mongodb.client.MongoClient;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring.ConnectionPoolWaitMonitor;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring.MongoCommandMonitor;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring.SlowCommandLog;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring.SlowCommandsEndpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Adds command and connection pool listeners to the MongoDB client, next to the driver metrics
+ * Spring Boot already registers, and exposes the slow commands they capture.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order-management.mongo-monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class MongoClientMonitoringConfig {
+
+    /**
+     * The client is looked up when a slow query is first explained, since the client itself is
+     * built with the listeners that feed this log.
+     */
+    @Bean
+    public SlowCommandLog slowCommandLog(MongoMonitoringConfig config, ObjectProvider<MongoClient> mongoClient) {
+        SlowCommandLog.Explainer explainer = config.isExplainSlowCommands()
+            ? (database, command) -> mongoClient.getObject().getDatabase(database).runCommand(
+                new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")))
+            : null;
+        return new SlowCommandLog(config.getSlowCommandCapacity(), explainer, config.getExplainInterval(),
+            command -> Thread.ofVirtual().name("mongo-explain").start(command));
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoMonitoringCustomizer(MongoMonitoringConfig config,
+                                                                          SlowCommandLog slowCommandLog,
+                                                                          MeterRegistry meterRegistry) {
+        MongoCommandMonitor commandMonitor = new MongoCommandMonitor(meterRegistry, slowCommandLog,
+            config.getSlowThreshold());
+        ConnectionPoolWaitMonitor poolWaitMonitor = new ConnectionPoolWaitMonitor(meterRegistry);
+        return builder -> builder
+            .addCommandListener(commandMonitor)
+            .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolWaitMonitor));
+    }
+
+    @Bean
+    public SlowCommandsEndpoint slowCommandsEndpoint(SlowCommandLog slowCommandLog) {
+        return new SlowCommandsEndpoint(slowCommandLog);
+    }
+}
@@ -0,0 +1,86 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for command-level MongoDB monitoring.
+ *
+ * Every command records the bytes it sent and received and the documents it returned; commands
+ * slower than the threshold are kept in a bounded log with their redacted shape and, for queries,
+ * the plan MongoDB chose for them. Latency itself is recorded by the driver metrics Spring Boot
+ * configures (mongodb.driver.commands).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.mongo-monitoring")
+public class MongoMonitoringConfig {
+
+    /**
+     * Enable command and connection pool monitoring
+     */
+    private boolean enabled = true;
+
+    /**
+     * Commands taking longer than this are kept in the slow command log
+     */
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+    /**
+     * Number of slow commands kept; the oldest are overwritten
+     */
+    private int slowCommandCapacity = 100;
+
+    /**
+     * Explain slow queries to capture the plan MongoDB chose for them
+     */
+    private boolean explainSlowCommands = true;
+
+    /**
+     * A slow query reuses the plan of the same shape explained within this interval
+     */
+    private Duration explainInterval = Duration.ofMinutes(1);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getSlowCommandCapacity() {
+        return slowCommandCapacity;
+    }
+
+    public void setSlowCommandCapacity(int slowCommandCapacity) {
+        this.slowCommandCapacity = slowCommandCapacity;
+    }
+
+    public boolean isExplainSlowCommands() {
+        return explainSlowCommands;
+    }
+
+    public void setExplainSlowCommands(boolean explainSlowCommands) {
+        this.explainSlowCommands = explainSlowCommands;
+    }
+
+    public Duration getExplainInterval() {
+        return explainInterval;
+    }
+
+    public void setExplainInterval(Duration explainInterval) {
+        this.explainInterval = explainInterval;
+    }
+}
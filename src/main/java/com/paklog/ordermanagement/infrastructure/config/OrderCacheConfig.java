@@ -0,0 +1,122 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the read-through cache of single-order responses.
+ *
+ * GET /fulfillment_orders/{order_id} is answered from serialized response bodies kept in
+ * memory on each pod, backed by an optional shared tier. Entries are evicted by the order
+ * events of every pod; the time to live only bounds staleness when an event is missed.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.order-cache")
+public class OrderCacheConfig {
+
+    /**
+     * Shared tier behind the in-process cache.
+     */
+    public enum SharedTier {
+        /** No shared tier, or one provided as a SharedOrderCache bean by the deployment */
+        NONE,
+        /** A process-local stand-in for a shared store, for tests and single-pod runs */
+        IN_MEMORY
+    }
+
+    /**
+     * Enable the order response cache
+     */
+    private boolean enabled = true;
+
+    /**
+     * Total size of the response bodies kept in memory on each pod
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Responses larger than this are not kept in memory
+     */
+    private int maxEntryBytes = 1024 * 1024;
+
+    /**
+     * Longest an in-memory entry is served without an invalidating event
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * Shared tier to consult on an in-memory miss
+     */
+    private SharedTier sharedTier = SharedTier.NONE;
+
+    /**
+     * Longest a shared entry is served without an invalidating event
+     */
+    private Duration sharedTtl = Duration.ofMinutes(1);
+
+    /**
+     * Consumer group prefix for the event listener that invalidates entries.
+     * Each pod appends a random suffix so that every pod receives every order event.
+     */
+    private String consumerGroupPrefix = "order-management-order-cache";
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public void setMaxEntryBytes(int maxEntryBytes) {
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public SharedTier getSharedTier() {
+        return sharedTier;
+    }
+
+    public void setSharedTier(SharedTier sharedTier) {
+        this.sharedTier = sharedTier;
+    }
+
+    public Duration getSharedTtl() {
+        return sharedTtl;
+    }
+
+    public void setSharedTtl(Duration sharedTtl) {
+        this.sharedTtl = sharedTtl;
+    }
+
+    public String getConsumerGroupPrefix() {
+        return consumerGroupPrefix;
+    }
+
+    public void setConsumerGroupPrefix(String consumerGroupPrefix) {
+        this.consumerGroupPrefix = consumerGroupPrefix;
+    }
+}
@@ -0,0 +1,42 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the order ID encoding migration.
+ * At startup the stored order IDs are checked against spring.data.mongodb.uuid-representation;
+ * when it is standard and the migration is enabled, IDs stored as java-legacy are rewritten.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.order-id-migration")
+public class OrderIdMigrationConfig {
+
+    /**
+     * Rewrite java-legacy order IDs as standard ones at startup; only while no other instance writes orders
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of documents read per batch
+     */
+    private int batchSize = 500;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
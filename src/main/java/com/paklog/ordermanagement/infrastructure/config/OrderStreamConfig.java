@@ -0,0 +1,57 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the NDJSON order import and export.
+ * Imports are read and submitted one micro-batch at a time, each with its own time budget in
+ * place of the request deadline; exports stream from a database cursor under one overall budget.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.order-stream")
+public class OrderStreamConfig {
+
+    /**
+     * Orders read from an import before they are submitted together
+     */
+    private int importBatchSize = 500;
+
+    /**
+     * Time budget for validating and persisting one import batch
+     */
+    private Duration importBatchTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Time budget for a whole export
+     */
+    private Duration exportTimeout = Duration.ofMinutes(30);
+
+    // Getters and Setters
+
+    public int getImportBatchSize() {
+        return importBatchSize;
+    }
+
+    public void setImportBatchSize(int importBatchSize) {
+        this.importBatchSize = importBatchSize;
+    }
+
+    public Duration getImportBatchTimeout() {
+        return importBatchTimeout;
+    }
+
+    public void setImportBatchTimeout(Duration importBatchTimeout) {
+        this.importBatchTimeout = importBatchTimeout;
+    }
+
+    public Duration getExportTimeout() {
+        return exportTimeout;
+    }
+
+    public void setExportTimeout(Duration exportTimeout) {
+        this.exportTimeout = exportTimeout;
+    }
+}
@@ -0,0 +1,153 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the outbound HTTP client shared by external service adapters.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.integration.http-client")
+public class OutboundHttpClientConfig {
+
+    /**
+     * Client implementation backing the RestTemplate.
+     * APACHE is a pooled HTTP/1.1 client with per-route limits and pool metrics.
+     * JDK is the java.net.http client, which can multiplex requests over HTTP/2.
+     */
+    private ClientType type = ClientType.APACHE;
+
+    /**
+     * Maximum number of pooled connections across all hosts (APACHE only)
+     */
+    private int maxConnectionsTotal = 200;
+
+    /**
+     * Maximum number of pooled connections per host (APACHE only)
+     */
+    private int maxConnectionsPerRoute = 50;
+
+    /**
+     * Maximum time to establish a TCP connection
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for a response
+     */
+    private Duration readTimeout = Duration.ofSeconds(3);
+
+    /**
+     * Maximum time to wait for a connection from the pool (APACHE only)
+     */
+    private Duration poolAcquireTimeout = Duration.ofMillis(500);
+
+    /**
+     * Maximum lifetime of a pooled connection (APACHE only)
+     */
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    /**
+     * Idle connections are evicted after this duration (APACHE only)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Idle connections are revalidated before reuse after this duration (APACHE only)
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    /**
+     * Negotiate HTTP/2 when the downstream supports it (JDK only)
+     */
+    private boolean http2 = true;
+
+    public enum ClientType {
+        APACHE,
+        JDK
+    }
+
+    // Getters and Setters
+
+    public ClientType getType() {
+        return type;
+    }
+
+    public void setType(ClientType type) {
+        this.type = type;
+    }
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    public void setPoolAcquireTimeout(Duration poolAcquireTimeout) {
+        this.poolAcquireTimeout = poolAcquireTimeout;
+    }
+
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public void setConnectionTimeToLive(Duration connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+}
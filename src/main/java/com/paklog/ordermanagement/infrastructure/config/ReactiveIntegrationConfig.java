@@ -0,0 +1,40 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the non-blocking WebClient adapters.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.integration.reactive")
+public class ReactiveIntegrationConfig {
+
+    /**
+     * Enable the WebClient-based asynchronous inventory and catalog adapters
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of concurrent per-SKU requests issued for a single order
+     */
+    private int maxConcurrency = 16;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+}
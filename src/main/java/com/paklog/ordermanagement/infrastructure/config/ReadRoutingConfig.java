@@ -0,0 +1,85 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.QueryClass;
+
+/**
+ * Configuration properties for routing MongoDB reads to replica set members by query class.
+ *
+ * Consistent reads always go to the primary. Every other class uses the read preference
+ * configured for it; reads allowed on a secondary skip members lagging more than the staleness
+ * bound behind the primary.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.read-routing")
+public class ReadRoutingConfig {
+
+    /**
+     * Read preference modes a query class can be routed with.
+     */
+    public enum Mode {
+        PRIMARY,
+        PRIMARY_PREFERRED,
+        SECONDARY,
+        SECONDARY_PREFERRED,
+        NEAREST
+    }
+
+    /**
+     * Enable read routing; when disabled every read goes to the primary
+     */
+    private boolean enabled = true;
+
+    /**
+     * Furthest a secondary may lag behind the primary and still serve reads.
+     * MongoDB requires at least 90 seconds.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(90);
+
+    /**
+     * Read preference of each query class; classes left out go to the primary
+     */
+    private Map<QueryClass, Mode> routes = defaultRoutes();
+
+    private static Map<QueryClass, Mode> defaultRoutes() {
+        Map<QueryClass, Mode> routes = new EnumMap<>(QueryClass.class);
+        routes.put(QueryClass.CONSISTENT, Mode.PRIMARY);
+        routes.put(QueryClass.STATUS, Mode.PRIMARY);
+        routes.put(QueryClass.SEARCH, Mode.SECONDARY_PREFERRED);
+        routes.put(QueryClass.DUPLICATE_SCAN, Mode.SECONDARY_PREFERRED);
+        routes.put(QueryClass.ANALYTICS, Mode.SECONDARY_PREFERRED);
+        return routes;
+    }
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public Map<QueryClass, Mode> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<QueryClass, Mode> routes) {
+        this.routes = routes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.paklog.ordermanagement.infrastructure.resilience.DeadlineRepositoryInterceptor;
+
+/**
+ * Makes every Spring Data repository consult the request deadline before each call, so an
+ * order request that has run out of time does not go on to write to MongoDB.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order-management.resilience.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryDeadlineConfig {
+
+    /**
+     * Adds {@link DeadlineRepositoryInterceptor} to the proxy of every repository.
+     * Static so the post-processor is registered before the repository factory beans are created.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryDeadlinePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new DeadlineRepositoryInterceptor())));
+                }
+                return bean;
+            }
+        };
+    }
+}
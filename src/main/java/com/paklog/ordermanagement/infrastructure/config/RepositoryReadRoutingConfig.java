@@ -0,0 +1,59 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.ReadRouter;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.ReadRoutingInterceptor;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.RoutingMongoTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes the reads of every Spring Data repository to the replica set members their query
+ * class allows, so status polling, search and scans stop competing with writes on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order-management.read-routing.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryReadRoutingConfig {
+
+    @Bean
+    public ReadRouter readRouter(ReadRoutingConfig config, MeterRegistry meterRegistry) {
+        return new ReadRouter(config, meterRegistry);
+    }
+
+    /**
+     * Replaces the auto-configured template, so repositories and their fragments read with the
+     * routed read preference.
+     */
+    @Bean
+    public RoutingMongoTemplate mongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        return new RoutingMongoTemplate(mongoDatabaseFactory, mongoConverter);
+    }
+
+    /**
+     * Adds {@link ReadRoutingInterceptor} to the proxy of every repository.
+     * Static so the post-processor is registered before the repository factory beans are created;
+     * the router is only looked up when a repository is created.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryReadRoutingPostProcessor(ObjectProvider<ReadRouter> readRouter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new ReadRoutingInterceptor(
+                            readRouter.getObject(), repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for request-scoped deadlines.
+ * Every fulfillment order request gets an overall time budget that outbound calls, retries
+ * and repository calls consult.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.resilience.deadline")
+public class RequestDeadlineConfig {
+
+    /**
+     * Enable request deadlines
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time budget of a request that does not send a timeout header
+     */
+    private Duration defaultTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Upper bound for a caller-supplied timeout
+     */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Time an outbound attempt needs at least to be useful; retries are skipped when less
+     * than the retry wait plus this is left
+     */
+    private Duration minAttemptTime = Duration.ofMillis(300);
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    public void setDefaultTimeout(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Duration getMaxTimeout() {
+        return maxTimeout;
+    }
+
+    public void setMaxTimeout(Duration maxTimeout) {
+        this.maxTimeout = maxTimeout;
+    }
+
+    public Duration getMinAttemptTime() {
+        return minAttemptTime;
+    }
+
+    public void setMinAttemptTime(Duration minAttemptTime) {
+        this.minAttemptTime = minAttemptTime;
+    }
+}
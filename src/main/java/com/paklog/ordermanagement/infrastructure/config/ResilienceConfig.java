@@ -2,16 +2,27 @@ package com.paklog.ordermanagement.infrastructure.config;
 
 import java.time.Duration;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.paklog.ordermanagement.infrastructure.idempotency.IdempotencyFilter;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.MongoIdempotentResponseRepository;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+import com.paklog.ordermanagement.infrastructure.resilience.DeadlineExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadlineFilter;
+import com.paklog.ordermanagement.infrastructure.resilience.RetryBudget;
+
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
- * Configuration for Resilience4j circuit breakers, retries, and other resilience patterns.
+ * Configuration for Resilience4j circuit breakers, retries, adaptive concurrency limits,
+ * and other resilience patterns.
  * Provides fault tolerance for external service calls.
  */
 @Configuration
@@ -28,6 +39,9 @@ public class ResilienceConfig {
      * - Minimum Calls: 5 - Requires 5 calls before calculating failure rate
      * - Wait Duration in Open State: 30 seconds - Circuit stays open for 30s before attempting recovery
      * - Permitted Calls in Half-Open: 3 - Allows 3 test calls when recovering
+     *
+     * Calls rejected by a concurrency limiter or a passed request deadline are ignored: they
+     * never reached the dependency.
      */
     @Bean
     public CircuitBreakerRegistry circuitBreakerRegistry() {
@@ -42,6 +56,7 @@ public class ResilienceConfig {
             .permittedNumberOfCallsInHalfOpenState(3)
             .automaticTransitionFromOpenToHalfOpenEnabled(true)
             .recordExceptions(Exception.class)
+            .ignoreExceptions(ConcurrencyLimitExceededException.class, DeadlineExceededException.class)
             .build();
 
         return CircuitBreakerRegistry.of(defaultConfig);
@@ -53,15 +68,81 @@ public class ResilienceConfig {
      * Retry Parameters:
      * - Max Attempts: 3 - Retries up to 3 times
      * - Wait Duration: 1 second - Waits 1s between retries
+     *
+     * A retry must also be affordable: it is skipped when the request deadline leaves less than
+     * the wait plus the minimum attempt time, or when the shared {@link RetryBudget} is empty.
+     * Calls rejected by a concurrency limiter or a passed deadline are not retried, so overload
+     * is not amplified.
      */
     @Bean
-    public RetryRegistry retryRegistry() {
-        RetryConfig defaultConfig = RetryConfig.custom()
-            .maxAttempts(3)
-            .waitDuration(Duration.ofSeconds(1))
-            .retryExceptions(Exception.class)
+    public RetryRegistry retryRegistry(RetryBudget retryBudget, RequestDeadlineConfig deadlineConfig) {
+        return RetryRegistry.of(retryConfig(retryBudget, 3, Duration.ofSeconds(1), deadlineConfig.getMinAttemptTime()));
+    }
+
+    /**
+     * The exception predicate only classifies failures: Resilience4j also evaluates it for the
+     * last attempt, after which nothing is retried. The budget is charged in the interval
+     * function instead, which only runs when another attempt follows; a negative interval makes
+     * Resilience4j give up with the last failure.
+     */
+    static RetryConfig retryConfig(RetryBudget retryBudget, int maxAttempts, Duration waitDuration,
+                                   Duration minAttemptTime) {
+        Duration nextAttemptNeeds = waitDuration.plus(minAttemptTime);
+        long waitMillis = waitDuration.toMillis();
+
+        return RetryConfig.custom()
+            .maxAttempts(maxAttempts)
+            .intervalBiFunction((attempt, outcome) -> retryBudget.tryAcquireRetry(nextAttemptNeeds) ? waitMillis : -1L)
+            .retryOnException(e -> !(e instanceof ConcurrencyLimitExceededException)
+                && !(e instanceof DeadlineExceededException))
             .build();
+    }
+
+    /**
+     * Token-bucket retry budget shared by all outbound calls.
+     * See {@link RetryBudgetConfig} for the tuning parameters.
+     */
+    @Bean
+    public RetryBudget retryBudget(RetryBudgetConfig config, MeterRegistry meterRegistry) {
+        return new RetryBudget(config, meterRegistry);
+    }
 
-        return RetryRegistry.of(defaultConfig);
+    /**
+     * Registry of adaptive concurrency limiters, one per downstream dependency.
+     * Each limiter discovers its dependency's capacity from observed latency and fast-rejects
+     * calls beyond it. See {@link ConcurrencyLimitConfig} for the tuning parameters.
+     */
+    @Bean
+    public ConcurrencyLimiterRegistry concurrencyLimiterRegistry(ConcurrencyLimitConfig config, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiterRegistry(config, meterRegistry);
+    }
+
+    /**
+     * Binds a request deadline to every fulfillment order request, after the correlation ID filter.
+     * See {@link RequestDeadlineConfig} for the default and maximum budgets.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(RequestDeadlineConfig config) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+            new FilterRegistrationBean<>(new RequestDeadlineFilter(config));
+        registration.addUrlPatterns("/fulfillment_orders", "/fulfillment_orders/*");
+        registration.setOrder(2);
+        return registration;
+    }
+
+    /**
+     * Replays the recorded response of order creations retried with the same Idempotency-Key,
+     * after the deadline filter so that waiting for an in-flight attempt respects the deadline.
+     * See {@link IdempotencyConfig} for the retention and wait settings.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(MongoIdempotentResponseRepository repository,
+                                                                       IdempotencyConfig config,
+                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+            new FilterRegistrationBean<>(new IdempotencyFilter(repository, config, meterRegistry));
+        registration.addUrlPatterns("/fulfillment_orders");
+        registration.setOrder(3);
+        return registration;
     }
 }
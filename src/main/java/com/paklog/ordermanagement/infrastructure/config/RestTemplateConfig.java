@@ -1,33 +1,143 @@
 package com.paklog.ordermanagement.infrastructure.config;
 
-import java.time.Duration;
+import java.net.http.HttpClient;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.paklog.ordermanagement.infrastructure.http.InstrumentedConnectionManager;
+import com.paklog.ordermanagement.infrastructure.resilience.OutboundRequestInterceptor;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
+import com.paklog.ordermanagement.infrastructure.resilience.RetryBudget;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 /**
  * Configuration for RestTemplate used by external service adapters.
- * Configures timeouts and error handling for HTTP clients.
+ * Configures the outbound HTTP client, its connection pool and timeouts.
  */
 @Configuration
 public class RestTemplateConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RestTemplateConfig.class);
+
+    private static final String CLIENT_NAME = "outbound";
+
     /**
      * Creates a RestTemplate bean with sensible defaults for external service calls.
      *
-     * Timeouts:
+     * Timeouts (see {@link OutboundHttpClientConfig}):
      * - Connect timeout: 2 seconds
      * - Read timeout: 3 seconds
+     * - Pool acquire timeout: 500 milliseconds
      *
      * This ensures that validation checks fail fast if external services are slow or unavailable.
+     * Calls are not started once the request deadline has passed, and every call is recorded
+     * with the retry budget.
      */
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    public RestTemplate restTemplate(RestTemplateBuilder builder, ClientHttpRequestFactory outboundRequestFactory,
+                                     RetryBudget retryBudget) {
         return builder
-            .setConnectTimeout(Duration.ofSeconds(2))
-            .setReadTimeout(Duration.ofSeconds(3))
+            .requestFactory(() -> outboundRequestFactory)
+            .additionalInterceptors(new OutboundRequestInterceptor(retryBudget))
+            .build();
+    }
+
+    /**
+     * Creates the request factory shared by all outbound adapters.
+     *
+     * APACHE keeps a bounded pool of keep-alive connections per host, evicts idle and expired
+     * connections, and publishes pool utilization, pool wait time and connect time metrics.
+     * Its pool acquire and response timeouts are capped per request at the time left on the
+     * request deadline.
+     * JDK uses java.net.http.HttpClient, which multiplexes concurrent requests to the same host
+     * over one HTTP/2 connection when the downstream supports it.
+     */
+    @Bean
+    public ClientHttpRequestFactory outboundRequestFactory(OutboundHttpClientConfig config, MeterRegistry meterRegistry) {
+        logger.info("Configuring outbound HTTP client - Type: {}, MaxTotal: {}, MaxPerRoute: {}, ConnectTimeout: {}, ReadTimeout: {}",
+            config.getType(), config.getMaxConnectionsTotal(), config.getMaxConnectionsPerRoute(),
+            config.getConnectTimeout(), config.getReadTimeout());
+
+        return switch (config.getType()) {
+            case JDK -> jdkRequestFactory(config);
+            case APACHE -> apacheRequestFactory(config, meterRegistry);
+        };
+    }
+
+    private ClientHttpRequestFactory apacheRequestFactory(OutboundHttpClientConfig config, MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(config.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(config.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(config.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(config.getReadTimeout()))
+                .setTimeToLive(TimeValue.of(config.getConnectionTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.of(config.getValidateAfterInactivity()))
+                .build())
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(pool, CLIENT_NAME).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(new InstrumentedConnectionManager(pool, meterRegistry, CLIENT_NAME))
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(config.getPoolAcquireTimeout()))
+                .setResponseTimeout(Timeout.of(config.getReadTimeout()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(config.getMaxIdleTime()))
             .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setHttpContextFactory((method, uri) -> deadlineContext(config));
+        return requestFactory;
+    }
+
+    /**
+     * Returns a context whose timeouts are capped at the remaining request deadline,
+     * or null to use the client defaults when no deadline is bound.
+     */
+    private static HttpContext deadlineContext(OutboundHttpClientConfig config) {
+        return RequestDeadline.current()
+            .map(deadline -> {
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.of(deadline.cap(config.getPoolAcquireTimeout())))
+                    .setResponseTimeout(Timeout.of(deadline.cap(config.getReadTimeout())))
+                    .build());
+                return (HttpContext) context;
+            })
+            .orElse(null);
+    }
+
+    private ClientHttpRequestFactory jdkRequestFactory(OutboundHttpClientConfig config) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(config.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(config.getConnectTimeout())
+            .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(config.getReadTimeout());
+        return requestFactory;
     }
 }
@@ -0,0 +1,68 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the outbound retry budget.
+ * Retries are paid for from a token bucket that is filled in proportion to outbound traffic,
+ * so retries can never exceed a fixed share of the calls made.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.resilience.retry-budget")
+public class RetryBudgetConfig {
+
+    /**
+     * Enable the retry budget
+     */
+    private boolean enabled = true;
+
+    /**
+     * Tokens deposited per outbound request; one token pays for one retry
+     */
+    private double retryRatio = 0.1;
+
+    /**
+     * Tokens deposited per second regardless of traffic, so low-traffic periods can still retry
+     */
+    private double minRetriesPerSecond = 1.0;
+
+    /**
+     * Bucket capacity, bounding the burst of retries after a quiet period
+     */
+    private int maxTokens = 20;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    public void setRetryRatio(double retryRatio) {
+        this.retryRatio = retryRatio;
+    }
+
+    public double getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    public void setMinRetriesPerSecond(double minRetriesPerSecond) {
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    public void setMaxTokens(int maxTokens) {
+        this.maxTokens = maxTokens;
+    }
+}
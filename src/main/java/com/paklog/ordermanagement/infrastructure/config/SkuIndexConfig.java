@@ -0,0 +1,114 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the local SKU existence index.
+ * The index is a Bloom filter built from a paged scan of the product catalog and lets
+ * catalog validation reject unknown SKUs without a remote call.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order-management.integration.product-catalog-service.sku-index")
+public class SkuIndexConfig {
+
+    /**
+     * Enable the local SKU existence index
+     */
+    private boolean enabled = false;
+
+    /**
+     * Expected number of SKUs in the catalog, used to size the Bloom filter
+     */
+    private int expectedSkus = 1_000_000;
+
+    /**
+     * Target false positive probability of the Bloom filter
+     */
+    private double falsePositiveProbability = 0.001;
+
+    /**
+     * Page size used when scanning the catalog
+     */
+    private int pageSize = 500;
+
+    /**
+     * Interval between catalog rescans.
+     * SKUs created in the catalog after the last scan are only in the index once they have been
+     * confirmed remotely or the next scan completes.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(15);
+
+    /**
+     * Confirm local positives with a remote lookup.
+     * When disabled, a SKU the index reports as present is accepted without calling the catalog.
+     */
+    private boolean confirmPositives = false;
+
+    /**
+     * Confirm local negatives with a remote lookup.
+     * A SKU created after the last scan is absent from the index, so trusting negatives rejects it
+     * until the next scan; confirmed SKUs are added to the index.
+     */
+    private boolean confirmNegatives = true;
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getExpectedSkus() {
+        return expectedSkus;
+    }
+
+    public void setExpectedSkus(int expectedSkus) {
+        this.expectedSkus = expectedSkus;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public boolean isConfirmPositives() {
+        return confirmPositives;
+    }
+
+    public void setConfirmPositives(boolean confirmPositives) {
+        this.confirmPositives = confirmPositives;
+    }
+
+    public boolean isConfirmNegatives() {
+        return confirmNegatives;
+    }
+
+    public void setConfirmNegatives(boolean confirmNegatives) {
+        this.confirmNegatives = confirmNegatives;
+    }
+}
@@ -0,0 +1,45 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import java.net.http.HttpClient;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.JdkClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.paklog.ordermanagement.infrastructure.resilience.RetryBudget;
+
+/**
+ * Configuration for the WebClient used by the asynchronous external service adapters.
+ * Only active when the reactive integration is enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order-management.integration.reactive.enabled", havingValue = "true")
+public class WebClientConfig {
+
+    /**
+     * Creates a WebClient on the JDK HTTP client, which completes requests on its own selector
+     * thread and multiplexes them over HTTP/2 when the downstream supports it.
+     * Per-request read timeouts and the request deadline are applied by the adapters.
+     * Every call is recorded with the retry budget.
+     */
+    @Bean
+    public WebClient outboundWebClient(ObjectProvider<WebClient.Builder> builderProvider,
+                                       OutboundHttpClientConfig config,
+                                       RetryBudget retryBudget) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(config.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+            .connectTimeout(config.getConnectTimeout())
+            .build();
+
+        return builderProvider.getIfAvailable(WebClient::builder)
+            .clientConnector(new JdkClientHttpConnector(httpClient))
+            .filter((request, next) -> {
+                retryBudget.recordRequest();
+                return next.exchange(request);
+            })
+            .build();
+    }
+}
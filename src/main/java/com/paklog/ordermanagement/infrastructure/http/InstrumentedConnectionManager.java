@@ -0,0 +1,127 @@
+package com.paklog.ordermanagement.infrastructure.http;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.RouteInfo;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Connection manager decorator that records how long callers wait for a pooled connection
+ * and how long new connections take to establish. Pool waits are tagged with their outcome:
+ * success, timeout, interrupted (the caller was cancelled) or error.
+ *
+ * Pool size gauges (leased, available, pending, max) are bound separately with Micrometer's
+ * PoolingHttpClientConnectionManagerMetricsBinder; this class only adds the latencies the
+ * pool itself does not expose.
+ */
+public class InstrumentedConnectionManager implements HttpClientConnectionManager {
+
+    public static final String POOL_WAIT_METRIC = "outbound.http.pool.wait";
+    public static final String CONNECT_METRIC = "outbound.http.connect";
+
+    private final HttpClientConnectionManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final String clientName;
+
+    public InstrumentedConnectionManager(HttpClientConnectionManager delegate, MeterRegistry meterRegistry,
+                                         String clientName) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.clientName = clientName;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest leaseRequest = delegate.lease(id, route, requestTimeout, state);
+        String host = route.getTargetHost().getHostName();
+
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                String outcome = "error";
+                try {
+                    ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                    outcome = "success";
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    outcome = "timeout";
+                    throw e;
+                } catch (InterruptedException e) {
+                    // Cancelled callers stop waiting; their waits say nothing about pool capacity
+                    outcome = "interrupted";
+                    throw e;
+                } finally {
+                    timer(POOL_WAIT_METRIC, host, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+        delegate.release(endpoint, newState, validDuration);
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            delegate.connect(endpoint, connectTimeout, context);
+        } catch (IOException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            timer(CONNECT_METRIC, hostOf(context), outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+        delegate.upgrade(endpoint, context);
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+        delegate.close(closeMode);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private Timer timer(String name, String host, String outcome) {
+        return Timer.builder(name)
+            .tag("client", clientName)
+            .tag("host", host)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private String hostOf(HttpContext context) {
+        RouteInfo route = context != null ? HttpClientContext.adapt(context).getHttpRoute() : null;
+        return route != null ? route.getTargetHost().getHostName() : "unknown";
+    }
+}
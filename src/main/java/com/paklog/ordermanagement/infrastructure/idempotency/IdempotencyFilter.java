@@ -0,0 +1,175 @@
+package com.paklog.ordermanagement.infrastructure.idempotency;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.paklog.ordermanagement.infrastructure.config.IdempotencyConfig;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.MongoIdempotentResponseRepository;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Answers retried order creations from the recorded response of the first attempt.
+ * Registered for POST /fulfillment_orders in ResilienceConfig, after the deadline filter.
+ *
+ * The recorded response is looked up by Idempotency-Key before the request body is read, so a
+ * replay costs one point read instead of DTO conversion, validation, inventory checks and the
+ * intake pipeline. A retry that arrives while the first request with the same key is still
+ * running on this instance waits for it and is answered with its response.
+ *
+ * Only successful responses are recorded. A rejected order is not persisted, so a retry after
+ * the cause has gone (stock replenished, a dependency back) must be evaluated again. Retries
+ * that find no record, or that gave up waiting, run normally; the unique index on the
+ * idempotency key still turns them into replays of the stored order.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final MongoIdempotentResponseRepository repository;
+    private final IdempotencyConfig config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(MongoIdempotentResponseRepository repository, IdempotencyConfig config,
+                             MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!config.isEnabled() || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        return key == null || key.isBlank();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+
+        Optional<IdempotentResponse> recorded = findRecorded(key);
+        if (recorded.isPresent()) {
+            logger.info("Replaying recorded response - IdempotencyKey: {}, Status: {}", key, recorded.get().getStatus());
+            replay(recorded.get(), response, "store");
+            return;
+        }
+
+        CompletableFuture<IdempotentResponse> own = new CompletableFuture<>();
+        CompletableFuture<IdempotentResponse> leader = inFlight.putIfAbsent(key, own);
+        if (leader != null) {
+            IdempotentResponse leaderResponse = awaitLeader(key, leader);
+            if (leaderResponse != null) {
+                logger.info("Replaying in-flight response - IdempotencyKey: {}, Status: {}", key, leaderResponse.getStatus());
+                replay(leaderResponse, response, "in_flight");
+            } else {
+                chain.doFilter(request, response);
+            }
+            return;
+        }
+
+        IdempotentResponse result = null;
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            chain.doFilter(request, wrapper);
+            result = record(key, wrapper);
+            wrapper.copyBodyToResponse();
+        } finally {
+            own.complete(result);
+            inFlight.remove(key, own);
+        }
+    }
+
+    private Optional<IdempotentResponse> findRecorded(String key) {
+        try {
+            return repository.findById(key).filter(recorded -> !recorded.isExpired(Instant.now()));
+        } catch (Exception e) {
+            // The store only saves work; without it the request runs as if it were new
+            logger.warn("Idempotency store lookup failed - IdempotencyKey: {}, Error: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Records the response if it is final, and returns it; null when it is not recorded.
+     */
+    private IdempotentResponse record(String key, ContentCachingResponseWrapper wrapper) {
+        int status = wrapper.getStatus();
+        if (status < 200 || status >= 300) {
+            return null;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        if (body.length > config.getMaxBodyBytes()) {
+            logger.debug("Response too large to record - IdempotencyKey: {}, Size: {} bytes", key, body.length);
+            return null;
+        }
+
+        Instant now = Instant.now();
+        IdempotentResponse recorded = new IdempotentResponse(key, status, wrapper.getContentType(), body,
+            now, now.plus(config.getTtl()));
+        try {
+            repository.save(recorded);
+        } catch (Exception e) {
+            logger.warn("Failed to record response - IdempotencyKey: {}, Error: {}", key, e.getMessage());
+        }
+        // Waiting retries on this instance are answered even if the record could not be stored
+        return recorded;
+    }
+
+    private IdempotentResponse awaitLeader(String key, CompletableFuture<IdempotentResponse> leader)
+            throws ServletException {
+        Duration wait = RequestDeadline.capCurrent(config.getInFlightWait());
+        logger.debug("Waiting for in-flight request - IdempotencyKey: {}, MaxWait: {}ms", key, wait.toMillis());
+        try {
+            return leader.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Gave up waiting for in-flight request - IdempotencyKey: {}, Waited: {}ms", key, wait.toMillis());
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for in-flight request", e);
+        }
+    }
+
+    private void replay(IdempotentResponse recorded, HttpServletResponse response, String source) throws IOException {
+        meterRegistry.counter("order.idempotency.replay", "source", source).increment();
+        response.setStatus(recorded.getStatus());
+        if (recorded.getContentType() != null) {
+            response.setContentType(recorded.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = recorded.getBody();
+        if (body != null && body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+        response.flushBuffer();
+    }
+}
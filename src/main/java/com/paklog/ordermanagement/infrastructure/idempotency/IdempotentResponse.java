@@ -0,0 +1,92 @@
+package com.paklog.ordermanagement.infrastructure.idempotency;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Final HTTP response to a request, recorded by its Idempotency-Key.
+ * MongoDB removes the record once expiresAt has passed, through a TTL index in the index catalog.
+ */
+@Document(collection = "idempotent_responses")
+public class IdempotentResponse {
+
+    @Id
+    private String idempotencyKey;
+    private int status;
+    private String contentType;
+    private byte[] body;
+    private Instant createdAt;
+    private Instant expiresAt;
+
+    public IdempotentResponse() {
+        // Default constructor for frameworks
+    }
+
+    public IdempotentResponse(String idempotencyKey, int status, String contentType, byte[] body,
+                              Instant createdAt, Instant expiresAt) {
+        this.idempotencyKey = idempotencyKey;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Whether the record is past its expiry. MongoDB's TTL monitor only runs periodically, so
+     * an expired record can still be read for a short while.
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.paklog.ordermanagement.infrastructure.messaging;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.ordermanagement.application.service.EventPublisherService;
+import com.paklog.ordermanagement.infrastructure.cache.OrderResponseCache;
+
+/**
+ * Evicts cached order responses when another pod changes the order.
+ *
+ * Every pod consumes the order event topic in its own consumer group, so each one sees every
+ * order event. Any event evicts the order named by its CloudEvent subject; only the envelope is
+ * read. Cached entries are only as old as the running pod, so the listener starts from the
+ * latest offset instead of replaying the topic.
+ */
+@Component
+@ConditionalOnProperty(name = "order-management.order-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCacheInvalidationListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCacheInvalidationListener.class);
+
+    private final OrderResponseCache orderResponseCache;
+    private final ObjectMapper objectMapper;
+
+    public OrderCacheInvalidationListener(OrderResponseCache orderResponseCache, ObjectMapper objectMapper) {
+        this.orderResponseCache = orderResponseCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+        topics = EventPublisherService.KAFKA_TOPIC,
+        groupId = "${order-management.order-cache.consumer-group-prefix:order-management-order-cache}-${random.uuid}",
+        properties = "auto.offset.reset=latest")
+    public void onEvent(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            JsonNode subject = event.path("subject");
+            if (!subject.isTextual()) {
+                logger.debug("Skipping order event without subject - EventId: {}", event.path("id").asText());
+                return;
+            }
+
+            JsonNode time = event.path("time");
+            orderResponseCache.invalidate(UUID.fromString(subject.asText()),
+                time.isTextual() ? OffsetDateTime.parse(time.asText()).toInstant() : null);
+
+        } catch (Exception e) {
+            // A malformed event must not stop the listener
+            logger.warn("Failed to invalidate cached order - Error: {}", e.getMessage());
+        }
+    }
+}
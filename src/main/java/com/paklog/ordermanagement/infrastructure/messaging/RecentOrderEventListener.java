@@ -0,0 +1,91 @@
+package com.paklog.ordermanagement.infrastructure.messaging;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.ordermanagement.application.service.EventPublisherService;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderReceivedEvent;
+import com.paklog.ordermanagement.domain.service.RecentOrderIndex;
+
+/**
+ * Keeps the in-memory duplicate index current with orders received by other pods.
+ *
+ * Every pod consumes the order event topic in its own consumer group, so each one sees every
+ * received order. Only the duplicate detection keys are read from the CloudEvent JSON; the
+ * order itself is not deserialized. The index was warmed from MongoDB at startup, so the
+ * listener starts from the latest offset instead of replaying the topic.
+ */
+@Component
+@ConditionalOnProperty(name = "order-management.duplicate-index.enabled", havingValue = "true", matchIfMissing = true)
+public class RecentOrderEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecentOrderEventListener.class);
+
+    private final RecentOrderIndex recentOrderIndex;
+    private final ObjectMapper objectMapper;
+
+    public RecentOrderEventListener(RecentOrderIndex recentOrderIndex, ObjectMapper objectMapper) {
+        this.recentOrderIndex = recentOrderIndex;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+        topics = EventPublisherService.KAFKA_TOPIC,
+        groupId = "${order-management.duplicate-index.consumer-group-prefix:order-management-duplicate-index}-${random.uuid}",
+        properties = "auto.offset.reset=latest")
+    public void onEvent(String message) {
+        try {
+            JsonNode event = objectMapper.readTree(message);
+            if (!FulfillmentOrderReceivedEvent.EVENT_TYPE.equals(event.path("type").asText())) {
+                return;
+            }
+
+            JsonNode data = event.path("data");
+            if (data.isTextual()) {
+                data = objectMapper.readTree(data.asText());
+            }
+            JsonNode order = data.path("order");
+            if (order.isMissingNode() || order.isNull()) {
+                logger.debug("Skipping received event without order - EventId: {}", event.path("id").asText());
+                return;
+            }
+
+            recentOrderIndex.record(
+                text(order, "idempotency_key"),
+                text(order, "seller_fulfillment_order_id"),
+                text(order, "displayable_order_id"),
+                order.hasNonNull("address_fingerprint") ? order.get("address_fingerprint").asLong() : null,
+                longs(order, "address_band_keys"),
+                order.hasNonNull("received_date") ? LocalDateTime.parse(order.get("received_date").asText()) : null);
+
+        } catch (Exception e) {
+            // A malformed event must not stop the listener
+            logger.warn("Failed to index order event - Error: {}", e.getMessage());
+        }
+    }
+
+    private static List<Long> longs(JsonNode node, String field) {
+        JsonNode array = node.get(field);
+        if (array == null || !array.isArray()) {
+            return null;
+        }
+        List<Long> values = new ArrayList<>(array.size());
+        for (JsonNode value : array) {
+            values.add(value.asLong());
+        }
+        return values;
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.repository.OrderArchiveBatch;
+
+/**
+ * Repository fragment for the archive of terminal orders: moving orders into it, and reading
+ * an order by ID from it when it is no longer operational. Takes precedence over the findById
+ * of the base repository.
+ */
+public interface FulfillmentOrderArchiveRepository {
+
+    Optional<FulfillmentOrder> findById(UUID orderId);
+
+    OrderArchiveBatch archiveOrders(Set<FulfillmentOrderStatus> statuses, LocalDateTime receivedBefore, int limit);
+}
@@ -0,0 +1,145 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
+import com.paklog.ordermanagement.domain.repository.OrderArchiveBatch;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.IndexCatalog;
+
+/**
+ * Moves terminal orders to the archive collection and reads them back from it.
+ *
+ * An order is moved in three steps: it is upserted into the archive with its chunked items
+ * inlined, deleted from the operational collection only if its version is still the one
+ * copied, and then its item chunks are deleted. The archive copy of an order that changed in
+ * between is removed again. Each step can be repeated, so a batch interrupted midway, or
+ * archived by two instances at once, is completed by the next run; only an interruption
+ * between the last two steps can leave item chunks behind, which nothing reads.
+ *
+ * The archive collection is created compressed by the index catalog, and has no index but _id.
+ */
+public class FulfillmentOrderArchiveRepositoryImpl implements FulfillmentOrderArchiveRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public FulfillmentOrderArchiveRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<FulfillmentOrder> findById(UUID orderId) {
+        FulfillmentOrder order = mongoTemplate.findById(orderId, FulfillmentOrder.class);
+        if (order == null) {
+            order = mongoTemplate.findById(orderId, FulfillmentOrder.class, IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE);
+        }
+        return Optional.ofNullable(order);
+    }
+
+    @Override
+    public OrderArchiveBatch archiveOrders(Set<FulfillmentOrderStatus> statuses, LocalDateTime receivedBefore,
+                                           int limit) {
+        List<FulfillmentOrder> orders = mongoTemplate.find(buildCandidateQuery(statuses, receivedBefore, limit),
+            FulfillmentOrder.class);
+        if (orders.isEmpty()) {
+            return new OrderArchiveBatch(0, 0);
+        }
+
+        // Versions as read, before the archive copies are changed
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        for (FulfillmentOrder order : orders) {
+            versions.put(order.getOrderId(), order.getVersion());
+        }
+        List<UUID> chunked = orders.stream()
+            .filter(FulfillmentOrder::hasChunkedItems)
+            .map(FulfillmentOrder::getOrderId)
+            .toList();
+        inlineChunkedItems(orders, chunked);
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        BulkOperations archive = mongoTemplate.bulkOps(BulkMode.UNORDERED, FulfillmentOrder.class,
+            IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE);
+        for (FulfillmentOrder order : orders) {
+            order.setArchivedAt(archivedAt);
+            archive.replaceOne(Query.query(Criteria.where("_id").is(order.getOrderId())), order,
+                FindAndReplaceOptions.options().upsert());
+        }
+        archive.execute();
+
+        long deleted = mongoTemplate.remove(buildVersionedQuery(versions), FulfillmentOrder.class).getDeletedCount();
+        Set<UUID> changed = Set.of();
+        if (deleted < orders.size()) {
+            changed = mongoTemplate.find(buildIdQuery(versions.keySet()), FulfillmentOrder.class).stream()
+                .map(FulfillmentOrder::getOrderId)
+                .collect(Collectors.toSet());
+            if (!changed.isEmpty()) {
+                mongoTemplate.remove(Query.query(Criteria.where("_id").in(changed)),
+                    IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE);
+            }
+        }
+
+        List<UUID> archivedChunked = new ArrayList<>(chunked);
+        archivedChunked.removeAll(changed);
+        if (!archivedChunked.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("orderId").in(archivedChunked)), OrderItemChunk.class);
+        }
+        return new OrderArchiveBatch(orders.size(), orders.size() - changed.size());
+    }
+
+    private void inlineChunkedItems(List<FulfillmentOrder> orders, List<UUID> chunked) {
+        if (chunked.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<OrderItemChunk>> chunks = mongoTemplate.find(
+                Query.query(Criteria.where("orderId").in(chunked)).with(Sort.by("orderId", "chunkIndex")),
+                OrderItemChunk.class).stream()
+            .collect(Collectors.groupingBy(OrderItemChunk::getOrderId));
+        for (FulfillmentOrder order : orders) {
+            if (order.hasChunkedItems()) {
+                order.setItems(OrderItemChunk.join(chunks.getOrDefault(order.getOrderId(), List.of())));
+                order.setItemChunkCount(0);
+            }
+        }
+    }
+
+    /**
+     * Terminal orders older than the cutoff, answered from status_keyset_idx.
+     */
+    static Query buildCandidateQuery(Set<FulfillmentOrderStatus> statuses, LocalDateTime receivedBefore, int limit) {
+        return Query.query(Criteria.where("status").in(statuses).and("receivedDate").lt(receivedBefore))
+            .limit(limit);
+    }
+
+    /**
+     * Matches each order only while it still has the version it was copied with. A missing
+     * version matches orders stored before versioning.
+     */
+    static Query buildVersionedQuery(Map<UUID, Long> versions) {
+        List<Criteria> unchanged = new ArrayList<>();
+        versions.forEach((orderId, version) -> unchanged.add(Criteria.where("_id").is(orderId).and("version").is(version)));
+        return Query.query(new Criteria().orOperator(unchanged));
+    }
+
+    private static Query buildIdQuery(Set<UUID> orderIds) {
+        Query query = Query.query(Criteria.where("_id").in(orderIds));
+        query.fields().include("_id");
+        return query;
+    }
+}
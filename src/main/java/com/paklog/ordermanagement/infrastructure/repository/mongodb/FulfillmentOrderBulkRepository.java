@@ -0,0 +1,15 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+
+/**
+ * Repository fragment for inserting a batch of orders in one round trip.
+ */
+public interface FulfillmentOrderBulkRepository {
+
+    Set<UUID> insertOrders(List<FulfillmentOrder> orders);
+}
@@ -0,0 +1,64 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+
+/**
+ * Batch inserts as one unordered insertMany: a document rejected by a unique index does not
+ * stop the others, and the rejected ones are read from the bulk write errors by their index
+ * in the batch. Any other write error fails the batch, naming every order that was not inserted.
+ */
+public class FulfillmentOrderBulkRepositoryImpl implements FulfillmentOrderBulkRepository {
+
+    static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public FulfillmentOrderBulkRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Set<UUID> insertOrders(List<FulfillmentOrder> orders) {
+        if (orders.isEmpty()) {
+            return Set.of();
+        }
+
+        // Bulk inserts do not initialize the version the way MongoTemplate.insert does
+        for (FulfillmentOrder order : orders) {
+            if (order.getVersion() == null) {
+                order.setVersion(0L);
+            }
+        }
+
+        try {
+            mongoTemplate.bulkOps(BulkMode.UNORDERED, FulfillmentOrder.class).insert(orders).execute();
+            return Set.of();
+        } catch (BulkOperationException e) {
+            return rejectedOrders(orders, e);
+        }
+    }
+
+    static Set<UUID> rejectedOrders(List<FulfillmentOrder> orders, BulkOperationException e) {
+        Set<UUID> rejected = new HashSet<>();
+        boolean failed = false;
+        for (BulkWriteError error : e.getErrors()) {
+            failed |= error.getCode() != DUPLICATE_KEY;
+            rejected.add(orders.get(error.getIndex()).getOrderId());
+        }
+        if (failed) {
+            throw new OrderBatchInsertException(rejected, e);
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,22 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.stream.Stream;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.QueryClass;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.ReadRoute;
+
+/**
+ * Repository fragment for the keyset-paginated order search and the order export, which need
+ * a query built from the filters that are present.
+ */
+public interface FulfillmentOrderSearchRepository {
+
+    @ReadRoute(QueryClass.SEARCH)
+    OrderSearchPage searchOrders(OrderSearchCriteria criteria);
+
+    @ReadRoute(QueryClass.ANALYTICS)
+    Stream<FulfillmentOrder> streamOrders(OrderSearchCriteria criteria);
+}
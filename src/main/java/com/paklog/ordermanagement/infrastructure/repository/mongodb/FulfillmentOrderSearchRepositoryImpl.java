@@ -0,0 +1,139 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPosition;
+
+/**
+ * Keyset-paginated order search.
+ *
+ * Newest-first searches sort on receivedDate and _id, served by received_keyset_idx or, with
+ * a status or shipping speed filter, by status_keyset_idx or speed_keyset_idx. Seller order ID
+ * prefix searches are a range on the unique sellerFulfillmentOrderId index, sorted on it. In
+ * both cases the next page starts strictly after the last sort key returned, so a page costs
+ * the same however deep it is, and orders inserted meanwhile neither repeat nor shift results.
+ *
+ * Exports use the same filters and ordering but read whole orders from one cursor, fetched
+ * from the server a batch at a time as the caller consumes them.
+ */
+public class FulfillmentOrderSearchRepositoryImpl implements FulfillmentOrderSearchRepository {
+
+    private static final String[] SUMMARY_FIELDS = {
+        "sellerFulfillmentOrderId", "displayableOrderId", "displayableOrderDate", "shippingSpeedCategory",
+        "status", "receivedDate", "fulfillmentPolicy", "fulfillmentAction", "itemCount", "itemChunkCount"};
+
+    /**
+     * Orders fetched per getMore of an export cursor.
+     */
+    static final int STREAM_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    public FulfillmentOrderSearchRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public OrderSearchPage searchOrders(OrderSearchCriteria criteria) {
+        Query query = buildQuery(criteria);
+        List<FulfillmentOrder> orders = mongoTemplate.find(query, FulfillmentOrder.class);
+
+        // One extra order tells whether another page follows
+        OrderSearchPosition next = null;
+        if (orders.size() > criteria.getLimit()) {
+            orders = orders.subList(0, criteria.getLimit());
+            next = OrderSearchPosition.of(orders.get(orders.size() - 1), criteria.isBySellerOrderId());
+        }
+        return new OrderSearchPage(orders, next);
+    }
+
+    @Override
+    public Stream<FulfillmentOrder> streamOrders(OrderSearchCriteria criteria) {
+        return mongoTemplate.stream(buildStreamQuery(criteria), FulfillmentOrder.class);
+    }
+
+    static Query buildQuery(OrderSearchCriteria criteria) {
+        Query query = buildFilteredQuery(criteria).limit(criteria.getLimit() + 1);
+        query.fields().include(SUMMARY_FIELDS);
+        if (criteria.isIncludeAddress()) {
+            query.fields().include("destinationAddress");
+        }
+        if (criteria.isIncludeItems()) {
+            query.fields().include("items");
+        }
+        return query;
+    }
+
+    static Query buildStreamQuery(OrderSearchCriteria criteria) {
+        return buildFilteredQuery(criteria).limit(criteria.getLimit()).cursorBatchSize(STREAM_BATCH_SIZE);
+    }
+
+    private static Query buildFilteredQuery(OrderSearchCriteria criteria) {
+        List<Criteria> filters = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            filters.add(Criteria.where("status").is(criteria.getStatus()));
+        }
+        if (criteria.getShippingSpeedCategory() != null) {
+            filters.add(Criteria.where("shippingSpeedCategory").is(criteria.getShippingSpeedCategory()));
+        }
+        if (criteria.getReceivedFrom() != null) {
+            filters.add(Criteria.where("receivedDate").gte(criteria.getReceivedFrom()));
+        }
+        if (criteria.getReceivedTo() != null) {
+            filters.add(Criteria.where("receivedDate").lt(criteria.getReceivedTo()));
+        }
+
+        OrderSearchPosition after = criteria.getAfter();
+        Sort sort;
+        if (criteria.isBySellerOrderId()) {
+            String prefix = criteria.getSellerOrderIdPrefix();
+            // A range rather than a regex, so the index bounds are exact
+            Criteria range = Criteria.where("sellerFulfillmentOrderId").gte(prefix);
+            String upperBound = prefixUpperBound(prefix);
+            if (upperBound != null) {
+                range.lt(upperBound);
+            }
+            filters.add(range);
+            if (after != null) {
+                filters.add(Criteria.where("sellerFulfillmentOrderId").gt(after.getSellerFulfillmentOrderId()));
+            }
+            sort = Sort.by(Sort.Direction.ASC, "sellerFulfillmentOrderId");
+        } else {
+            if (after != null) {
+                filters.add(new Criteria().orOperator(
+                    Criteria.where("receivedDate").lt(after.getReceivedDate()),
+                    Criteria.where("receivedDate").is(after.getReceivedDate()).and("_id").lt(after.getOrderId())));
+            }
+            sort = Sort.by(Sort.Direction.DESC, "receivedDate", "_id");
+        }
+
+        Query query = filters.isEmpty()
+            ? new Query()
+            : new Query(new Criteria().andOperator(filters.toArray(new Criteria[0])));
+        return query.with(sort);
+    }
+
+    /**
+     * The smallest string greater than every string starting with the prefix, or null when
+     * there is none.
+     */
+    static String prefixUpperBound(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE) {
+                return prefix.substring(0, i) + (char) (c + 1);
+            }
+        }
+        return null;
+    }
+}
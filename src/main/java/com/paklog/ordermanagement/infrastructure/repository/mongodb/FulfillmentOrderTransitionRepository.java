@@ -0,0 +1,14 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.Optional;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.StatusTransition;
+
+/**
+ * Repository fragment for atomic status transitions.
+ */
+public interface FulfillmentOrderTransitionRepository {
+
+    Optional<FulfillmentOrder> transitionStatus(StatusTransition transition);
+}
@@ -0,0 +1,53 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.StatusTransition;
+
+/**
+ * Status transitions as a single findAndModify on _id: the status (and expected version)
+ * predicate and the $set of the changed fields are evaluated atomically on the server, so
+ * there is no read-modify-write window in which another transition can be lost.
+ */
+public class FulfillmentOrderTransitionRepositoryImpl implements FulfillmentOrderTransitionRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public FulfillmentOrderTransitionRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<FulfillmentOrder> transitionStatus(StatusTransition transition) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+            buildQuery(transition),
+            buildUpdate(transition),
+            FindAndModifyOptions.options().returnNew(true),
+            FulfillmentOrder.class));
+    }
+
+    static Query buildQuery(StatusTransition transition) {
+        Criteria criteria = Criteria.where("_id").is(transition.getOrderId())
+            .and("status").in(transition.getAllowedFrom());
+        if (transition.getExpectedVersion() != null) {
+            criteria.and("version").is(transition.getExpectedVersion());
+        }
+        return new Query(criteria);
+    }
+
+    static Update buildUpdate(StatusTransition transition) {
+        Update update = new Update().set("status", transition.getTarget());
+        for (Map.Entry<String, Object> change : transition.getChanges().entrySet()) {
+            update.set(change.getKey(), change.getValue());
+        }
+        return update.inc("version", 1);
+    }
+}
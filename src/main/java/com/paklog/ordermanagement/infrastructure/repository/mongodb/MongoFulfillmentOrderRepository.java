@@ -1,32 +1,75 @@
 package com.paklog.ordermanagement.infrastructure.repository.mongodb;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.QueryClass;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.ReadRoute;
 
 @Repository
-public interface MongoFulfillmentOrderRepository extends MongoRepository<FulfillmentOrder, UUID>, FulfillmentOrderRepository {
+public interface MongoFulfillmentOrderRepository extends MongoRepository<FulfillmentOrder, UUID>, FulfillmentOrderRepository,
+        FulfillmentOrderSearchRepository, FulfillmentOrderTransitionRepository, FulfillmentOrderBulkRepository,
+        FulfillmentOrderArchiveRepository {
+    @ReadRoute(QueryClass.CONSISTENT)
     Optional<FulfillmentOrder> findBySellerFulfillmentOrderId(String sellerFulfillmentOrderId);
+    @ReadRoute(QueryClass.CONSISTENT)
     Optional<FulfillmentOrder> findByIdempotencyKey(String idempotencyKey);
+    @ReadRoute(QueryClass.CONSISTENT)
+    List<FulfillmentOrder> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
 
     /**
-     * Finds orders by displayable order ID within a time range.
-     * Spring Data MongoDB will automatically implement this based on method naming convention.
+     * Finds fuzzy duplicate candidates with a covered query: the filter and the projection only
+     * use fields of fuzzy_duplicate_idx, so no documents are fetched.
      */
-    List<FulfillmentOrder> findByDisplayableOrderIdAndReceivedDateBetween(
+    @Query(value = "{ 'displayableOrderId': ?0, 'addressFingerprint': ?1, 'receivedDate': { '$gte': ?2, '$lte': ?3 } }",
+           fields = "{ '_id': 1, 'receivedDate': 1 }")
+    @ReadRoute(QueryClass.DUPLICATE_SCAN)
+    List<FulfillmentOrder> findFuzzyDuplicateCandidates(
         String displayableOrderId,
+        Long addressFingerprint,
         LocalDateTime startTime,
         LocalDateTime endTime
     );
 
+    /**
+     * Finds near-duplicate candidates through near_duplicate_idx. Fetches only the address
+     * needed to confirm the similarity.
+     */
+    @Query(value = "{ 'displayableOrderId': ?0, 'addressBandKeys': { '$in': ?1 }, 'receivedDate': { '$gte': ?2, '$lte': ?3 } }",
+           fields = "{ '_id': 1, 'destinationAddress': 1, 'receivedDate': 1 }")
+    @ReadRoute(QueryClass.DUPLICATE_SCAN)
+    List<FulfillmentOrder> findNearDuplicateCandidates(
+        String displayableOrderId,
+        List<Long> addressBandKeys,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+    );
+
+    /**
+     * Streams the duplicate detection keys of recent orders through a cursor, using the
+     * receivedDate index and projecting away everything else.
+     */
+    @Query(value = "{ 'receivedDate': { '$gte': ?0 } }",
+           fields = "{ 'idempotencyKey': 1, 'sellerFulfillmentOrderId': 1, 'displayableOrderId': 1, " +
+                    "'addressFingerprint': 1, 'addressBandKeys': 1, 'receivedDate': 1 }")
+    @ReadRoute(QueryClass.ANALYTICS)
+    Stream<FulfillmentOrder> streamReceivedSince(LocalDateTime since);
+
     default FulfillmentOrder saveOrder(FulfillmentOrder order) {
         return save(order);
     }
+
+    default FulfillmentOrder insertOrder(FulfillmentOrder order) {
+        return insert(order);
+    }
 }
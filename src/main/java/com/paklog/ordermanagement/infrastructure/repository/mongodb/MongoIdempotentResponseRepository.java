@@ -0,0 +1,10 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.paklog.ordermanagement.infrastructure.idempotency.IdempotentResponse;
+
+@Repository
+public interface MongoIdempotentResponseRepository extends MongoRepository<IdempotentResponse, String> {
+}
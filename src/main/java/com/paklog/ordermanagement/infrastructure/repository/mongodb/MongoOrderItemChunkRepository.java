@@ -0,0 +1,21 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
+import com.paklog.ordermanagement.domain.repository.OrderItemChunkRepository;
+
+@Repository
+public interface MongoOrderItemChunkRepository extends MongoRepository<OrderItemChunk, String>, OrderItemChunkRepository {
+    List<OrderItemChunk> findByOrderIdOrderByChunkIndexAsc(UUID orderId);
+
+    void deleteByOrderId(UUID orderId);
+
+    default void saveChunks(List<OrderItemChunk> chunks) {
+        saveAll(chunks);
+    }
+}
@@ -0,0 +1,48 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.putIfNotNull;
+
+import org.bson.Document;
+
+import com.paklog.ordermanagement.domain.model.Address;
+
+/**
+ * Maps an {@link Address} embedded in an order.
+ */
+final class AddressCodec {
+
+    static final String NAME = "name";
+    static final String ADDRESS_LINE_1 = "addressLine1";
+    static final String ADDRESS_LINE_2 = "addressLine2";
+    static final String CITY = "city";
+    static final String STATE_OR_REGION = "stateOrRegion";
+    static final String POSTAL_CODE = "postalCode";
+    static final String COUNTRY_CODE = "countryCode";
+
+    private AddressCodec() {
+    }
+
+    static Document encode(Address address) {
+        Document document = new Document();
+        putIfNotNull(document, NAME, address.getName());
+        putIfNotNull(document, ADDRESS_LINE_1, address.getAddressLine1());
+        putIfNotNull(document, ADDRESS_LINE_2, address.getAddressLine2());
+        putIfNotNull(document, CITY, address.getCity());
+        putIfNotNull(document, STATE_OR_REGION, address.getStateOrRegion());
+        putIfNotNull(document, POSTAL_CODE, address.getPostalCode());
+        putIfNotNull(document, COUNTRY_CODE, address.getCountryCode());
+        return document;
+    }
+
+    static Address decode(Document document) {
+        Address address = new Address();
+        address.setName(document.getString(NAME));
+        address.setAddressLine1(document.getString(ADDRESS_LINE_1));
+        address.setAddressLine2(document.getString(ADDRESS_LINE_2));
+        address.setCity(document.getString(CITY));
+        address.setStateOrRegion(document.getString(STATE_OR_REGION));
+        address.setPostalCode(document.getString(POSTAL_CODE));
+        address.setCountryCode(document.getString(COUNTRY_CODE));
+        return address;
+    }
+}
@@ -0,0 +1,97 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.types.Binary;
+
+/**
+ * Conversions between field values and the values the reflective converter stores, shared by
+ * the codecs.
+ *
+ * Dates are converted in the system time zone and enums stored by name, as Spring Data does by
+ * default. Numbers are read through {@link Number}, so a value stored as another numeric type
+ * still reads.
+ */
+final class DocumentValues {
+
+    private DocumentValues() {
+    }
+
+    static Date toDate(LocalDateTime value) {
+        return Date.from(value.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    static LocalDateTime toLocalDateTime(Object value) {
+        return value == null ? null : LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneId.systemDefault());
+    }
+
+    static Integer toInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    static int toInt(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+
+    /**
+     * Reads a UUID written in either binary encoding. The driver only decodes the subtype of the
+     * configured representation to a {@link UUID} and hands the other back as {@link Binary}, so
+     * orders written as java-legacy (subtype 3) still read with standard (subtype 4) and back.
+     */
+    static UUID toUuid(Object value) {
+        if (value instanceof Binary binary) {
+            UuidRepresentation representation = binary.getType() == BsonBinarySubType.UUID_LEGACY.getValue()
+                ? UuidRepresentation.JAVA_LEGACY
+                : UuidRepresentation.STANDARD;
+            return new BsonBinary(binary.getType(), binary.getData()).asUuid(representation);
+        }
+        return (UUID) value;
+    }
+
+    static <E extends Enum<E>> E toEnum(Class<E> type, Object value) {
+        return value == null ? null : Enum.valueOf(type, (String) value);
+    }
+
+    /**
+     * Puts the value unless it is null, as the reflective converter leaves null fields out.
+     */
+    static void putIfNotNull(Document document, String key, Object value) {
+        if (value != null) {
+            document.put(key, value);
+        }
+    }
+
+    static <T> List<Object> encodeList(List<T> values, Function<T, Object> encoder) {
+        List<Object> encoded = new ArrayList<>(values.size());
+        for (T value : values) {
+            encoded.add(value == null ? null : encoder.apply(value));
+        }
+        return encoded;
+    }
+
+    static <T> List<T> decodeList(Object value, Function<Document, T> decoder) {
+        if (value == null) {
+            return null;
+        }
+        List<?> values = (List<?>) value;
+        List<T> decoded = new ArrayList<>(values.size());
+        for (Object element : values) {
+            decoded.add(element == null ? null : decoder.apply((Document) element));
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,176 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.decodeList;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.encodeList;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.putIfNotNull;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toDate;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toEnum;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toInt;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toLocalDateTime;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toLong;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toUuid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentAction;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
+
+/**
+ * Maps a {@link FulfillmentOrder}, with its embedded address, items and unfulfillable items,
+ * to and from its stored document without going through the reflective mapping.
+ *
+ * The document is the one the reflective converter writes, field for field and in the same
+ * order: null fields are left out, primitives are always written, and the type hint comes
+ * last. Documents written by either one are read by the other. A field added to the order
+ * must be added here too; FulfillmentOrderCodecTest compares both against a fully populated
+ * order.
+ *
+ * Reading sets only the fields present, so projected documents read as they did before.
+ */
+public final class FulfillmentOrderCodec {
+
+    static final String ID = "_id";
+    static final String SELLER_FULFILLMENT_ORDER_ID = "sellerFulfillmentOrderId";
+    static final String DISPLAYABLE_ORDER_ID = "displayableOrderId";
+    static final String DISPLAYABLE_ORDER_DATE = "displayableOrderDate";
+    static final String DISPLAYABLE_ORDER_COMMENT = "displayableOrderComment";
+    static final String SHIPPING_SPEED_CATEGORY = "shippingSpeedCategory";
+    static final String DESTINATION_ADDRESS = "destinationAddress";
+    static final String STATUS = "status";
+    static final String ITEMS = "items";
+    static final String RECEIVED_DATE = "receivedDate";
+    static final String CANCELLATION_REASON = "cancellationReason";
+    static final String IDEMPOTENCY_KEY = "idempotencyKey";
+    static final String FULFILLMENT_POLICY = "fulfillmentPolicy";
+    static final String FULFILLMENT_ACTION = "fulfillmentAction";
+    static final String UNFULFILLABLE_ITEMS = "unfulfillableItems";
+    static final String ITEM_COUNT = "itemCount";
+    static final String ITEM_CHUNK_COUNT = "itemChunkCount";
+    static final String ADDRESS_FINGERPRINT = "addressFingerprint";
+    static final String ADDRESS_BAND_KEYS = "addressBandKeys";
+    static final String VERSION = "version";
+    static final String ARCHIVED_AT = "archivedAt";
+    static final String TYPE_HINT = "_class";
+
+    private static final String TYPE_ALIAS = FulfillmentOrder.class.getName();
+
+    private FulfillmentOrderCodec() {
+    }
+
+    public static Document encode(FulfillmentOrder order) {
+        Document document = new Document();
+        putIfNotNull(document, ID, order.getOrderId());
+        putIfNotNull(document, SELLER_FULFILLMENT_ORDER_ID, order.getSellerFulfillmentOrderId());
+        putIfNotNull(document, DISPLAYABLE_ORDER_ID, order.getDisplayableOrderId());
+        if (order.getDisplayableOrderDate() != null) {
+            document.put(DISPLAYABLE_ORDER_DATE, toDate(order.getDisplayableOrderDate()));
+        }
+        putIfNotNull(document, DISPLAYABLE_ORDER_COMMENT, order.getDisplayableOrderComment());
+        putIfNotNull(document, SHIPPING_SPEED_CATEGORY, order.getShippingSpeedCategory());
+        if (order.getDestinationAddress() != null) {
+            document.put(DESTINATION_ADDRESS, AddressCodec.encode(order.getDestinationAddress()));
+        }
+        if (order.getStatus() != null) {
+            document.put(STATUS, order.getStatus().name());
+        }
+        if (order.getItems() != null) {
+            document.put(ITEMS, encodeList(order.getItems(), OrderItemCodec::encode));
+        }
+        if (order.getReceivedDate() != null) {
+            document.put(RECEIVED_DATE, toDate(order.getReceivedDate()));
+        }
+        putIfNotNull(document, CANCELLATION_REASON, order.getCancellationReason());
+        putIfNotNull(document, IDEMPOTENCY_KEY, order.getIdempotencyKey());
+        if (order.getFulfillmentPolicy() != null) {
+            document.put(FULFILLMENT_POLICY, order.getFulfillmentPolicy().name());
+        }
+        if (order.getFulfillmentAction() != null) {
+            document.put(FULFILLMENT_ACTION, order.getFulfillmentAction().name());
+        }
+        if (order.getUnfulfillableItems() != null) {
+            document.put(UNFULFILLABLE_ITEMS, encodeList(order.getUnfulfillableItems(), UnfulfillableItemCodec::encode));
+        }
+        document.put(ITEM_COUNT, order.getItemCount());
+        document.put(ITEM_CHUNK_COUNT, order.getItemChunkCount());
+        putIfNotNull(document, ADDRESS_FINGERPRINT, order.getAddressFingerprint());
+        if (order.getAddressBandKeys() != null) {
+            document.put(ADDRESS_BAND_KEYS, new ArrayList<>(order.getAddressBandKeys()));
+        }
+        putIfNotNull(document, VERSION, order.getVersion());
+        if (order.getArchivedAt() != null) {
+            document.put(ARCHIVED_AT, toDate(order.getArchivedAt()));
+        }
+        document.put(TYPE_HINT, TYPE_ALIAS);
+        return document;
+    }
+
+    public static FulfillmentOrder decode(Document document) {
+        FulfillmentOrder order = new FulfillmentOrder();
+        order.setOrderId(toUuid(document.get(ID)));
+        order.setSellerFulfillmentOrderId(document.getString(SELLER_FULFILLMENT_ORDER_ID));
+        order.setDisplayableOrderId(document.getString(DISPLAYABLE_ORDER_ID));
+        order.setDisplayableOrderDate(toLocalDateTime(document.get(DISPLAYABLE_ORDER_DATE)));
+        order.setDisplayableOrderComment(document.getString(DISPLAYABLE_ORDER_COMMENT));
+        order.setShippingSpeedCategory(document.getString(SHIPPING_SPEED_CATEGORY));
+        Document address = document.get(DESTINATION_ADDRESS, Document.class);
+        if (address != null) {
+            order.setDestinationAddress(AddressCodec.decode(address));
+        }
+        order.setStatus(toEnum(FulfillmentOrderStatus.class, document.get(STATUS)));
+        order.setItems(decodeList(document.get(ITEMS), OrderItemCodec::decode));
+        order.setReceivedDate(toLocalDateTime(document.get(RECEIVED_DATE)));
+        order.setCancellationReason(document.getString(CANCELLATION_REASON));
+        order.setIdempotencyKey(document.getString(IDEMPOTENCY_KEY));
+        order.setFulfillmentPolicy(toEnum(FulfillmentPolicy.class, document.get(FULFILLMENT_POLICY)));
+        order.setFulfillmentAction(toEnum(FulfillmentAction.class, document.get(FULFILLMENT_ACTION)));
+        order.setUnfulfillableItems(decodeList(document.get(UNFULFILLABLE_ITEMS), UnfulfillableItemCodec::decode));
+        // After the items, whose setter derives the count: the stored count is kept for chunked items
+        order.setItemCount(toInt(document.get(ITEM_COUNT)));
+        order.setItemChunkCount(toInt(document.get(ITEM_CHUNK_COUNT)));
+        order.setAddressFingerprint(toLong(document.get(ADDRESS_FINGERPRINT)));
+        order.setAddressBandKeys(decodeLongs(document.get(ADDRESS_BAND_KEYS)));
+        order.setVersion(toLong(document.get(VERSION)));
+        order.setArchivedAt(toLocalDateTime(document.get(ARCHIVED_AT)));
+        return order;
+    }
+
+    private static List<Long> decodeLongs(Object value) {
+        if (value == null) {
+            return null;
+        }
+        List<?> values = (List<?>) value;
+        List<Long> decoded = new ArrayList<>(values.size());
+        for (Object element : values) {
+            decoded.add(toLong(element));
+        }
+        return decoded;
+    }
+
+    @WritingConverter
+    public enum Writer implements Converter<FulfillmentOrder, Document> {
+        INSTANCE;
+
+        @Override
+        public Document convert(FulfillmentOrder order) {
+            return encode(order);
+        }
+    }
+
+    @ReadingConverter
+    public enum Reader implements Converter<Document, FulfillmentOrder> {
+        INSTANCE;
+
+        @Override
+        public FulfillmentOrder convert(Document document) {
+            return decode(document);
+        }
+    }
+}
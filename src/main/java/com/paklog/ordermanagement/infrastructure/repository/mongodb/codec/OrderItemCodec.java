@@ -0,0 +1,43 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.putIfNotNull;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toInteger;
+
+import org.bson.Document;
+
+import com.paklog.ordermanagement.domain.model.OrderItem;
+
+/**
+ * Maps an {@link OrderItem} embedded in an order.
+ */
+final class OrderItemCodec {
+
+    static final String SELLER_SKU = "sellerSku";
+    static final String SELLER_FULFILLMENT_ORDER_ITEM_ID = "sellerFulfillmentOrderItemId";
+    static final String QUANTITY = "quantity";
+    static final String GIFT_MESSAGE = "giftMessage";
+    static final String DISPLAYABLE_COMMENT = "displayableComment";
+
+    private OrderItemCodec() {
+    }
+
+    static Document encode(OrderItem item) {
+        Document document = new Document();
+        putIfNotNull(document, SELLER_SKU, item.getSellerSku());
+        putIfNotNull(document, SELLER_FULFILLMENT_ORDER_ITEM_ID, item.getSellerFulfillmentOrderItemId());
+        putIfNotNull(document, QUANTITY, item.getQuantity());
+        putIfNotNull(document, GIFT_MESSAGE, item.getGiftMessage());
+        putIfNotNull(document, DISPLAYABLE_COMMENT, item.getDisplayableComment());
+        return document;
+    }
+
+    static OrderItem decode(Document document) {
+        OrderItem item = new OrderItem();
+        item.setSellerSku(document.getString(SELLER_SKU));
+        item.setSellerFulfillmentOrderItemId(document.getString(SELLER_FULFILLMENT_ORDER_ITEM_ID));
+        item.setQuantity(toInteger(document.get(QUANTITY)));
+        item.setGiftMessage(document.getString(GIFT_MESSAGE));
+        item.setDisplayableComment(document.getString(DISPLAYABLE_COMMENT));
+        return item;
+    }
+}
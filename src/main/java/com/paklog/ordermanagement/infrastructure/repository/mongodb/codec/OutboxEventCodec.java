@@ -0,0 +1,91 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.putIfNotNull;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toDate;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toLocalDateTime;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+import com.paklog.ordermanagement.domain.model.OutboxEvent;
+
+/**
+ * Maps an {@link OutboxEvent} to and from its stored document without going through the
+ * reflective mapping, writing the same document as the reflective converter.
+ *
+ * As with any String ID, an ID that is a valid ObjectId is stored as one, and a new event has
+ * no ID until MongoDB assigns an ObjectId on insert.
+ */
+public final class OutboxEventCodec {
+
+    static final String ID = "_id";
+    static final String EVENT_TYPE = "eventType";
+    static final String EVENT_DATA = "eventData";
+    static final String CREATED_AT = "createdAt";
+    static final String PUBLISHED = "published";
+    static final String TYPE_HINT = "_class";
+
+    private static final String TYPE_ALIAS = OutboxEvent.class.getName();
+
+    private OutboxEventCodec() {
+    }
+
+    public static Document encode(OutboxEvent event) {
+        Document document = new Document();
+        if (event.getId() != null) {
+            document.put(ID, ObjectId.isValid(event.getId()) ? new ObjectId(event.getId()) : event.getId());
+        }
+        putIfNotNull(document, EVENT_TYPE, event.getEventType());
+        putIfNotNull(document, EVENT_DATA, event.getEventData());
+        if (event.getCreatedAt() != null) {
+            document.put(CREATED_AT, toDate(event.getCreatedAt()));
+        }
+        document.put(PUBLISHED, event.isPublished());
+        document.put(TYPE_HINT, TYPE_ALIAS);
+        return document;
+    }
+
+    public static OutboxEvent decode(Document document) {
+        OutboxEvent event = new OutboxEvent();
+        Object id = document.get(ID);
+        if (id != null) {
+            event.setId(id instanceof ObjectId objectId ? objectId.toHexString() : id.toString());
+        }
+        if (document.containsKey(EVENT_TYPE)) {
+            event.setEventType(document.getString(EVENT_TYPE));
+        }
+        if (document.containsKey(EVENT_DATA)) {
+            event.setEventData(document.getString(EVENT_DATA));
+        }
+        if (document.containsKey(CREATED_AT)) {
+            event.setCreatedAt(toLocalDateTime(document.get(CREATED_AT)));
+        }
+        if (document.containsKey(PUBLISHED)) {
+            event.setPublished(Boolean.TRUE.equals(document.get(PUBLISHED)));
+        }
+        return event;
+    }
+
+    @WritingConverter
+    public enum Writer implements Converter<OutboxEvent, Document> {
+        INSTANCE;
+
+        @Override
+        public Document convert(OutboxEvent event) {
+            return encode(event);
+        }
+    }
+
+    @ReadingConverter
+    public enum Reader implements Converter<Document, OutboxEvent> {
+        INSTANCE;
+
+        @Override
+        public OutboxEvent convert(Document document) {
+            return decode(document);
+        }
+    }
+}
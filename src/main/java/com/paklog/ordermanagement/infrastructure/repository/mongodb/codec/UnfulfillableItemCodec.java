@@ -0,0 +1,51 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.putIfNotNull;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toEnum;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.DocumentValues.toInt;
+
+import org.bson.Document;
+
+import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+
+/**
+ * Maps an {@link UnfulfillableItem} embedded in an order. The unfulfillable quantity is stored
+ * as written, not derived again on read.
+ */
+final class UnfulfillableItemCodec {
+
+    static final String SELLER_SKU = "sellerSku";
+    static final String SELLER_FULFILLMENT_ORDER_ITEM_ID = "sellerFulfillmentOrderItemId";
+    static final String REQUESTED_QUANTITY = "requestedQuantity";
+    static final String AVAILABLE_QUANTITY = "availableQuantity";
+    static final String UNFULFILLABLE_QUANTITY = "unfulfillableQuantity";
+    static final String REASON = "reason";
+
+    private UnfulfillableItemCodec() {
+    }
+
+    static Document encode(UnfulfillableItem item) {
+        Document document = new Document();
+        putIfNotNull(document, SELLER_SKU, item.getSellerSku());
+        putIfNotNull(document, SELLER_FULFILLMENT_ORDER_ITEM_ID, item.getSellerFulfillmentOrderItemId());
+        document.put(REQUESTED_QUANTITY, item.getRequestedQuantity());
+        document.put(AVAILABLE_QUANTITY, item.getAvailableQuantity());
+        document.put(UNFULFILLABLE_QUANTITY, item.getUnfulfillableQuantity());
+        if (item.getReason() != null) {
+            document.put(REASON, item.getReason().name());
+        }
+        return document;
+    }
+
+    static UnfulfillableItem decode(Document document) {
+        UnfulfillableItem item = new UnfulfillableItem();
+        item.setSellerSku(document.getString(SELLER_SKU));
+        item.setSellerFulfillmentOrderItemId(document.getString(SELLER_FULFILLMENT_ORDER_ITEM_ID));
+        item.setRequestedQuantity(toInt(document.get(REQUESTED_QUANTITY)));
+        item.setAvailableQuantity(toInt(document.get(AVAILABLE_QUANTITY)));
+        item.setUnfulfillableQuantity(toInt(document.get(UNFULFILLABLE_QUANTITY)));
+        item.setReason(toEnum(UnfulfillableReason.class, document.get(REASON)));
+        return item;
+    }
+}
@@ -0,0 +1,139 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.index;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * Every index the repositories rely on, and the hot queries that must be answered by one.
+ *
+ * This is the single place indexes are declared; entity annotations and automatic index
+ * creation are not used, so an index cannot silently disappear when a field is renamed or an
+ * annotation dropped. Indexes carried over from the annotations keep their names. Indexes that
+ * leave the catalog are not dropped automatically; received_keyset_idx supersedes the former
+ * receivedDate index, which can be dropped once every instance runs this version.
+ *
+ * Each hot query mirrors the filter and sort of a repository query with sample values; the
+ * values do not matter for plan selection, only the shape does. {@link IndexCatalogManager}
+ * runs explain on each of them at startup.
+ */
+public final class IndexCatalog {
+
+    public static final String FULFILLMENT_ORDERS = "fulfillment_orders";
+    public static final String FULFILLMENT_ORDERS_ARCHIVE = "fulfillment_orders_archive";
+    public static final String ITEM_CHUNKS = "fulfillment_order_item_chunks";
+    public static final String OUTBOX = "outbox";
+    public static final String IDEMPOTENT_RESPONSES = "idempotent_responses";
+
+    private IndexCatalog() {
+    }
+
+    /**
+     * Indexes by collection name.
+     */
+    public static Map<String, List<IndexDefinition>> indexes() {
+        return Map.of(
+            FULFILLMENT_ORDERS, List.of(
+                // Back insert-and-catch order creation
+                new Index().on("idempotencyKey", Sort.Direction.ASC).named("idempotencyKey").unique().sparse(),
+                new Index().on("sellerFulfillmentOrderId", Sort.Direction.ASC).named("sellerFulfillmentOrderId")
+                    .unique().sparse(),
+                // Newest-first order search, and the duplicate index warm-up range scan
+                new CompoundIndexDefinition(new Document("receivedDate", 1).append("_id", 1))
+                    .named("received_keyset_idx"),
+                // Newest-first order search by status or by shipping speed
+                new CompoundIndexDefinition(new Document("status", 1).append("receivedDate", 1).append("_id", 1))
+                    .named("status_keyset_idx"),
+                new CompoundIndexDefinition(new Document("shippingSpeedCategory", 1)
+                    .append("receivedDate", 1).append("_id", 1))
+                    .named("speed_keyset_idx"),
+                // Covers the fuzzy duplicate lookup, including the _id it returns, without fetching documents
+                new CompoundIndexDefinition(new Document("displayableOrderId", 1)
+                    .append("addressFingerprint", 1).append("receivedDate", 1).append("_id", 1))
+                    .named("fuzzy_duplicate_idx"),
+                // Multikey index over the LSH band keys for the near-duplicate lookup
+                new CompoundIndexDefinition(new Document("displayableOrderId", 1)
+                    .append("addressBandKeys", 1).append("receivedDate", 1))
+                    .named("near_duplicate_idx")),
+            ITEM_CHUNKS, List.of(
+                new CompoundIndexDefinition(new Document("orderId", 1).append("chunkIndex", 1))
+                    .named("order_chunk_idx").unique()),
+            OUTBOX, List.of(
+                // Holds only unpublished events, so it stays small however large the outbox grows
+                new CompoundIndexDefinition(new Document("published", 1).append("createdAt", 1))
+                    .named("unpublished_idx")
+                    .partial(PartialIndexFilter.of(Criteria.where("published").is(false)))),
+            IDEMPOTENT_RESPONSES, List.of(
+                // TTL index: MongoDB removes a record once its expiresAt has passed
+                new Index().on("expiresAt", Sort.Direction.ASC).named("expiresAt").expire(0, TimeUnit.SECONDS)));
+    }
+
+    /**
+     * Storage engine options of the collections created explicitly rather than on first
+     * insert, by collection name. The archive is written once and rarely read, so it trades
+     * CPU for space with zstd instead of the default snappy block compression.
+     */
+    public static Map<String, Document> storageEngineOptions() {
+        return Map.of(
+            FULFILLMENT_ORDERS_ARCHIVE,
+            new Document("wiredTiger", new Document("configString", "block_compressor=zstd")));
+    }
+
+    /**
+     * Queries that must not scan their collection.
+     */
+    public static List<HotQuery> hotQueries() {
+        Date now = new Date();
+        Document newestFirst = new Document("receivedDate", -1).append("_id", -1);
+        return List.of(
+            new HotQuery("findByIdempotencyKey", FULFILLMENT_ORDERS,
+                new Document("idempotencyKey", "sample"), null),
+            new HotQuery("findBySellerFulfillmentOrderId", FULFILLMENT_ORDERS,
+                new Document("sellerFulfillmentOrderId", "sample"), null),
+            new HotQuery("findFuzzyDuplicateCandidates", FULFILLMENT_ORDERS,
+                new Document("displayableOrderId", "sample").append("addressFingerprint", 0L)
+                    .append("receivedDate", new Document("$gte", now).append("$lte", now)), null),
+            new HotQuery("findNearDuplicateCandidates", FULFILLMENT_ORDERS,
+                new Document("displayableOrderId", "sample")
+                    .append("addressBandKeys", new Document("$in", List.of(0L, 1L)))
+                    .append("receivedDate", new Document("$gte", now).append("$lte", now)), null),
+            new HotQuery("streamReceivedSince", FULFILLMENT_ORDERS,
+                new Document("receivedDate", new Document("$gte", now)), null),
+            new HotQuery("searchOrders", FULFILLMENT_ORDERS,
+                new Document(), newestFirst),
+            new HotQuery("searchOrders(status)", FULFILLMENT_ORDERS,
+                new Document("status", "RECEIVED"), newestFirst),
+            new HotQuery("searchOrders(shippingSpeedCategory)", FULFILLMENT_ORDERS,
+                new Document("shippingSpeedCategory", "STANDARD"), newestFirst),
+            new HotQuery("searchOrders(sellerOrderIdPrefix)", FULFILLMENT_ORDERS,
+                new Document("sellerFulfillmentOrderId", new Document("$gte", "sample").append("$lt", "samplf")),
+                new Document("sellerFulfillmentOrderId", 1)),
+            new HotQuery("archiveOrders", FULFILLMENT_ORDERS,
+                new Document("status", new Document("$in", List.of("SHIPPED", "CANCELLED")))
+                    .append("receivedDate", new Document("$lt", now)), null),
+            new HotQuery("findByOrderIdOrderByChunkIndexAsc", ITEM_CHUNKS,
+                new Document("orderId", "sample"), new Document("chunkIndex", 1)),
+            new HotQuery("findByPublishedFalse", OUTBOX,
+                new Document("published", false), null));
+    }
+
+    /**
+     * A repository query shape to explain.
+     *
+     * @param name the repository method it mirrors
+     * @param collection the collection it reads
+     * @param filter the query filter, with sample values
+     * @param sort the sort, or null
+     */
+    public record HotQuery(String name, String collection, Document filter, Document sort) {
+    }
+}
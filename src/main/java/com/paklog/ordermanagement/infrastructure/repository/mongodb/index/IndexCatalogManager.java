@@ -0,0 +1,181 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.index;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.paklog.ordermanagement.infrastructure.config.IndexCatalogConfig;
+
+/**
+ * Builds the {@link IndexCatalog} indexes in the background at startup and verifies that every
+ * hot query is planned on an index.
+ *
+ * Exposed as the indexCatalog health indicator, which is part of the readiness group: the
+ * instance is out of service until the indexes exist (the unique ones back order creation),
+ * and down when a hot query would scan its collection and the configured action is
+ * FAIL_READINESS. Building retries until MongoDB accepts it, so a database that is briefly
+ * unavailable at startup only delays readiness.
+ */
+@Component
+public class IndexCatalogManager implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IndexCatalogManager.class);
+
+    private static final Duration BUILD_RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    private static final int NAMESPACE_EXISTS = 48;
+
+    enum State { BUILDING, READY, COLLECTION_SCAN }
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexCatalogConfig config;
+
+    private volatile State state = State.BUILDING;
+    private volatile String lastError;
+    private volatile Map<String, String> queryPlans = Map.of();
+
+    public IndexCatalogManager(MongoTemplate mongoTemplate, IndexCatalogConfig config) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = config;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!config.isEnabled()) {
+            logger.info("Index catalog disabled, skipping index build");
+            state = State.READY;
+            return;
+        }
+        Thread.ofVirtual().name("index-catalog").start(this::buildAndVerify);
+    }
+
+    void buildAndVerify() {
+        while (!buildIndexes()) {
+            try {
+                Thread.sleep(BUILD_RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        state = config.isVerifyQueryPlans() ? verifyQueryPlans() : State.READY;
+    }
+
+    /**
+     * Ensures every catalog collection and index exists. Returns false if any could not be built.
+     */
+    boolean buildIndexes() {
+        long start = System.currentTimeMillis();
+        try {
+            for (Map.Entry<String, Document> entry : IndexCatalog.storageEngineOptions().entrySet()) {
+                createCollection(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, List<IndexDefinition>> entry : IndexCatalog.indexes().entrySet()) {
+                for (IndexDefinition index : entry.getValue()) {
+                    String name = mongoTemplate.indexOps(entry.getKey()).ensureIndex(index);
+                    logger.debug("Index ensured - Collection: {}, Index: {}", entry.getKey(), name);
+                }
+            }
+            lastError = null;
+            logger.info("Index catalog built - Duration: {}ms", System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            logger.error("Failed to build index catalog, retrying in {}s - Error: {}",
+                BUILD_RETRY_INTERVAL.toSeconds(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Creates a collection with the given storage engine options, unless it already exists.
+     * An existing collection keeps the options it was created with.
+     */
+    private void createCollection(String name, Document storageEngineOptions) {
+        if (mongoTemplate.collectionExists(name)) {
+            return;
+        }
+        try {
+            mongoTemplate.getDb().createCollection(name,
+                new CreateCollectionOptions().storageEngineOptions(storageEngineOptions));
+            logger.info("Collection created - Collection: {}, StorageEngine: {}", name, storageEngineOptions.toJson());
+        } catch (MongoCommandException e) {
+            // Created by another instance meanwhile
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Explains every hot query and reports the ones planned as a collection scan.
+     */
+    State verifyQueryPlans() {
+        Map<String, String> plans = new LinkedHashMap<>();
+        boolean collectionScan = false;
+        for (IndexCatalog.HotQuery query : IndexCatalog.hotQueries()) {
+            try {
+                QueryPlan plan = QueryPlan.fromExplain(explain(query));
+                if (plan.isCollectionScan()) {
+                    collectionScan = true;
+                    plans.put(query.name(), "COLLSCAN");
+                    String message = "Hot query planned as collection scan - Query: {}, Collection: {}, Stages: {}";
+                    if (config.getOnCollectionScan() == IndexCatalogConfig.CollectionScanAction.FAIL_READINESS) {
+                        logger.error(message, query.name(), query.collection(), plan.stages());
+                    } else {
+                        logger.warn(message, query.name(), query.collection(), plan.stages());
+                    }
+                } else {
+                    plans.put(query.name(), String.join(",", plan.indexNames()));
+                    logger.debug("Hot query plan verified - Query: {}, Indexes: {}", query.name(), plan.indexNames());
+                }
+            } catch (Exception e) {
+                // Explain is a diagnostic; without it the query still runs
+                plans.put(query.name(), "unknown");
+                logger.warn("Failed to explain hot query - Query: {}, Error: {}", query.name(), e.getMessage());
+            }
+        }
+        queryPlans = plans;
+        return collectionScan && config.getOnCollectionScan() == IndexCatalogConfig.CollectionScanAction.FAIL_READINESS
+            ? State.COLLECTION_SCAN
+            : State.READY;
+    }
+
+    private Document explain(IndexCatalog.HotQuery query) {
+        Document find = new Document("find", query.collection()).append("filter", query.filter());
+        if (query.sort() != null) {
+            find.append("sort", query.sort());
+        }
+        return mongoTemplate.getDb().runCommand(new Document("explain", find).append("verbosity", "queryPlanner"));
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = switch (state) {
+            case BUILDING -> Health.outOfService().withDetail("state", "building");
+            case COLLECTION_SCAN -> Health.down().withDetail("state", "collection scan");
+            case READY -> Health.up();
+        };
+        if (lastError != null) {
+            builder.withDetail("error", lastError);
+        }
+        if (!queryPlans.isEmpty()) {
+            builder.withDetail("queryPlans", queryPlans);
+        }
+        return builder.build();
+    }
+}
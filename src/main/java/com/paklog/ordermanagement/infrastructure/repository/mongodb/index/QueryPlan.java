@@ -0,0 +1,52 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+
+/**
+ * The stages and indexes of the winning plan in the output of an explain command.
+ *
+ * The plan tree is walked generically, so the classic layout (inputStage, inputStages), the
+ * slot-based engine layout (queryPlan) and sharded output (shards) are all understood.
+ *
+ * @param stages the stage names, such as IXSCAN, FETCH or COLLSCAN
+ * @param indexNames the names of the indexes scanned
+ */
+public record QueryPlan(Set<String> stages, Set<String> indexNames) {
+
+    public static QueryPlan fromExplain(Document explain) {
+        Set<String> stages = new LinkedHashSet<>();
+        Set<String> indexNames = new LinkedHashSet<>();
+        Object queryPlanner = explain.get("queryPlanner");
+        if (queryPlanner instanceof Document planner) {
+            collect(planner.get("winningPlan"), stages, indexNames);
+        }
+        return new QueryPlan(stages, indexNames);
+    }
+
+    public boolean isCollectionScan() {
+        return stages.contains("COLLSCAN");
+    }
+
+    private static void collect(Object node, Set<String> stages, Set<String> indexNames) {
+        if (node instanceof Map<?, ?> map) {
+            if (map.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (map.get("indexName") instanceof String indexName) {
+                indexNames.add(indexName);
+            }
+            for (Object value : map.values()) {
+                collect(value, stages, indexNames);
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object value : list) {
+                collect(value, stages, indexNames);
+            }
+        }
+    }
+}
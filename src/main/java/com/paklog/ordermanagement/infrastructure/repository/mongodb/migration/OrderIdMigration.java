@@ -0,0 +1,278 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.migration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.UuidRepresentation;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.paklog.ordermanagement.infrastructure.config.OrderIdMigrationConfig;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.IndexCatalog;
+
+/**
+ * Checks at startup that the stored order IDs use the configured UUID encoding
+ * (spring.data.mongodb.uuid-representation) and, when enabled, rewrites java-legacy IDs
+ * (binary subtype 3) as standard ones (subtype 4).
+ *
+ * Only standard IDs keep time-ordered order IDs in order in the _id index, so that inserts
+ * append to it; java-legacy byte-swaps each half of the ID. Lookups by ID only match IDs stored
+ * with the configured encoding, so switching to standard requires rewriting the IDs already
+ * stored: those of the order and archive collections, and the order references of item chunks.
+ *
+ * Exposed as the orderIdMigration health indicator, which is part of the readiness group: the
+ * instance is out of service while checking or migrating, and down when IDs stored with the
+ * other encoding remain. Only the migration towards standard is supported.
+ *
+ * An _id cannot be updated, and a copy cannot be inserted next to the original because of the
+ * unique indexes, so each order is first copied to a staging collection under its new ID, then
+ * deleted and reinserted. Orders left staged by an interrupted run are completed first. The
+ * migration must run while no other instance writes orders.
+ */
+@Component
+public class OrderIdMigration implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIdMigration.class);
+
+    static final String STAGING = "fulfillment_order_id_migration";
+
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(30);
+
+    enum State { CHECKING, MIGRATING, READY, MISMATCH }
+
+    private final MongoTemplate mongoTemplate;
+    private final OrderIdMigrationConfig config;
+    private final UuidRepresentation representation;
+
+    private volatile State state = State.CHECKING;
+    private volatile String lastError;
+    private volatile Map<String, Long> migrated = Map.of();
+    private volatile List<String> mismatched = List.of();
+
+    public OrderIdMigration(MongoTemplate mongoTemplate, OrderIdMigrationConfig config,
+                            MongoProperties mongoProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.config = config;
+        this.representation = mongoProperties.getUuidRepresentation();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        Thread.ofVirtual().name("order-id-migration").start(this::checkAndMigrate);
+    }
+
+    void checkAndMigrate() {
+        while (!run()) {
+            try {
+                Thread.sleep(RETRY_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Migrates the IDs if enabled, then checks for IDs stored with the other encoding.
+     * Returns false if MongoDB could not be queried.
+     */
+    boolean run() {
+        BsonBinarySubType expected = subtypeOf(representation);
+        if (expected == null) {
+            logger.info("Order ID encoding not checked - UuidRepresentation: {}", representation);
+            state = State.READY;
+            return true;
+        }
+        BsonBinarySubType other = expected == BsonBinarySubType.UUID_STANDARD
+            ? BsonBinarySubType.UUID_LEGACY
+            : BsonBinarySubType.UUID_STANDARD;
+
+        long start = System.currentTimeMillis();
+        try {
+            if (config.isEnabled() && expected == BsonBinarySubType.UUID_STANDARD) {
+                state = State.MIGRATING;
+                migrated = migrateToStandard();
+                logger.info("Order IDs migrated to standard encoding - Migrated: {}, Duration: {}ms",
+                    migrated, System.currentTimeMillis() - start);
+            }
+
+            List<String> found = new ArrayList<>();
+            for (Map.Entry<String, String> field : idFields().entrySet()) {
+                if (collection(field.getKey()).find(encodedAs(field.getValue(), other)).limit(1).first() != null) {
+                    found.add(field.getKey());
+                }
+            }
+            if (collection(STAGING).find().limit(1).first() != null) {
+                found.add(STAGING);
+            }
+            mismatched = List.copyOf(found);
+            lastError = null;
+
+            if (found.isEmpty()) {
+                state = State.READY;
+                logger.info("Order ID encoding verified - UuidRepresentation: {}", representation);
+            } else {
+                state = State.MISMATCH;
+                logger.error("Order IDs stored with another encoding than {} - Collections: {}. "
+                    + "Set order-management.order-id-migration.enabled to migrate them to standard",
+                    representation, found);
+            }
+            return true;
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            logger.error("Failed to check order ID encoding, retrying in {}s - Error: {}",
+                RETRY_INTERVAL.toSeconds(), e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, Long> migrateToStandard() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(STAGING, completeStaged());
+        counts.put(IndexCatalog.FULFILLMENT_ORDERS, migrateIds(IndexCatalog.FULFILLMENT_ORDERS));
+        counts.put(IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE, migrateIds(IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE));
+        counts.put(IndexCatalog.ITEM_CHUNKS, migrateReferences(IndexCatalog.ITEM_CHUNKS, "orderId"));
+        return counts;
+    }
+
+    private long completeStaged() {
+        long count = 0;
+        for (BsonDocument staged : collection(STAGING).find()) {
+            complete(staged);
+            count++;
+        }
+        return count;
+    }
+
+    private long migrateIds(String collectionName) {
+        MongoCollection<BsonDocument> collection = collection(collectionName);
+        long count = 0;
+        List<BsonDocument> batch;
+        while (!(batch = collection.find(encodedAs("_id", BsonBinarySubType.UUID_LEGACY))
+                .limit(config.getBatchSize()).into(new ArrayList<>())).isEmpty()) {
+            for (BsonDocument document : batch) {
+                BsonBinary legacyId = document.getBinary("_id");
+                BsonBinary standardId = toStandard(legacyId);
+                document.put("_id", standardId);
+
+                BsonDocument staged = new BsonDocument("_id", new BsonDocument("collection", new BsonString(collectionName))
+                        .append("id", standardId))
+                    .append("legacyId", legacyId)
+                    .append("document", document);
+                collection(STAGING).replaceOne(Filters.eq("_id", staged.get("_id")), staged,
+                    new ReplaceOptions().upsert(true));
+                complete(staged);
+                count++;
+            }
+            logger.debug("Order IDs migrated - Collection: {}, Migrated: {}", collectionName, count);
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the original of a staged order with its copy under the new ID, then unstages it.
+     * Each step can be repeated, so an interrupted run completes it on the next.
+     */
+    private void complete(BsonDocument staged) {
+        BsonDocument key = staged.getDocument("_id");
+        MongoCollection<BsonDocument> target = collection(key.getString("collection").getValue());
+        target.deleteOne(Filters.eq("_id", staged.get("legacyId")));
+        target.replaceOne(Filters.eq("_id", key.get("id")), staged.getDocument("document"),
+            new ReplaceOptions().upsert(true));
+        collection(STAGING).deleteOne(Filters.eq("_id", key));
+    }
+
+    private long migrateReferences(String collectionName, String field) {
+        MongoCollection<BsonDocument> collection = collection(collectionName);
+        long count = 0;
+        List<BsonDocument> batch;
+        while (!(batch = collection.find(encodedAs(field, BsonBinarySubType.UUID_LEGACY))
+                .projection(Projections.include(field)).limit(config.getBatchSize()).into(new ArrayList<>())).isEmpty()) {
+            for (BsonDocument document : batch) {
+                collection.updateOne(Filters.eq("_id", document.get("_id")),
+                    Updates.set(field, toStandard(document.getBinary(field))));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private MongoCollection<BsonDocument> collection(String name) {
+        return mongoTemplate.getCollection(name).withDocumentClass(BsonDocument.class);
+    }
+
+    /**
+     * Order ID fields by collection.
+     */
+    private static Map<String, String> idFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(IndexCatalog.FULFILLMENT_ORDERS, "_id");
+        fields.put(IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE, "_id");
+        fields.put(IndexCatalog.ITEM_CHUNKS, "orderId");
+        return fields;
+    }
+
+    /**
+     * Matches UUIDs of one binary subtype. Binary values sort by length, then subtype, then bytes,
+     * so this is a range over the field's index.
+     */
+    static Bson encodedAs(String field, BsonBinarySubType subtype) {
+        byte[] highest = new byte[16];
+        Arrays.fill(highest, (byte) 0xFF);
+        return Filters.and(
+            Filters.gte(field, new BsonBinary(subtype, new byte[16])),
+            Filters.lte(field, new BsonBinary(subtype, highest)));
+    }
+
+    static BsonBinary toStandard(BsonBinary legacyId) {
+        return new BsonBinary(legacyId.asUuid(UuidRepresentation.JAVA_LEGACY), UuidRepresentation.STANDARD);
+    }
+
+    private static BsonBinarySubType subtypeOf(UuidRepresentation representation) {
+        return switch (representation) {
+            case STANDARD -> BsonBinarySubType.UUID_STANDARD;
+            case JAVA_LEGACY -> BsonBinarySubType.UUID_LEGACY;
+            default -> null;
+        };
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = switch (state) {
+            case CHECKING -> Health.outOfService().withDetail("state", "checking");
+            case MIGRATING -> Health.outOfService().withDetail("state", "migrating");
+            case MISMATCH -> Health.down().withDetail("state", "encoding mismatch")
+                .withDetail("collections", mismatched);
+            case READY -> Health.up();
+        };
+        builder.withDetail("uuidRepresentation", representation);
+        if (!migrated.isEmpty()) {
+            builder.withDetail("migrated", migrated);
+        }
+        if (lastError != null) {
+            builder.withDetail("error", lastError);
+        }
+        return builder.build();
+    }
+}
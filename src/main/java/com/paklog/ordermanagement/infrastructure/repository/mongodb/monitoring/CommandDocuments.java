@@ -0,0 +1,225 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonReader;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+/**
+ * Reads what the monitoring needs from command and reply documents.
+ *
+ * The documents the driver passes to command listeners are backed by its pooled network
+ * buffers and only valid during the call, so anything kept is deep-copied.
+ */
+final class CommandDocuments {
+
+    /**
+     * Collection tag of commands that do not target a collection.
+     */
+    static final String NO_COLLECTION = "none";
+
+    /**
+     * Commands the explain command accepts.
+     */
+    static final Set<String> EXPLAINABLE = Set.of(
+        "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+
+    /**
+     * Session and transaction fields, which explain rejects and which say nothing about the shape.
+     */
+    private static final Set<String> SESSION_FIELDS = Set.of(
+        "lsid", "txnNumber", "autocommit", "startTransaction", "readConcern", "writeConcern");
+
+    private static final Set<String> STATEMENT_FIELDS = Set.of("updates", "deletes");
+
+    private static final BsonString REDACTED = new BsonString("?");
+
+    private CommandDocuments() {
+    }
+
+    /**
+     * Returns the collection a command targets, as the driver metrics tag it.
+     */
+    static String collection(String commandName, BsonDocument command) {
+        BsonValue value = command.get("getMore".equals(commandName) ? "collection" : commandName);
+        return value != null && value.isString() ? value.asString().getValue() : NO_COLLECTION;
+    }
+
+    /**
+     * Copies a command without its driver and session fields. Inserts keep only the number of
+     * documents, bulk updates and deletes only their first statement.
+     */
+    static BsonDocument copy(String commandName, BsonDocument command) {
+        BsonDocument copy = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : command.entrySet()) {
+            String key = field.getKey();
+            BsonValue value = field.getValue();
+            if (key.startsWith("$") || SESSION_FIELDS.contains(key)) {
+                continue;
+            }
+            if ("insert".equals(commandName) && "documents".equals(key) && value.isArray()) {
+                copy.put(key, new BsonInt32(value.asArray().size()));
+            } else if (STATEMENT_FIELDS.contains(key) && value.isArray() && !value.asArray().isEmpty()) {
+                copy.put(key, new BsonArray(List.of(deepCopy(value.asArray().get(0)))));
+            } else {
+                copy.put(key, deepCopy(value));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the shape of a copied command: top-level options are kept, every value inside a
+     * filter, update or pipeline is replaced with "?", and a run of values in an array with one.
+     */
+    static String shape(BsonDocument copy) {
+        BsonDocument shape = new BsonDocument();
+        for (Map.Entry<String, BsonValue> field : copy.entrySet()) {
+            BsonValue value = field.getValue();
+            shape.put(field.getKey(), value.isDocument() || value.isArray() ? redact(value) : value);
+        }
+        return shape.toJson();
+    }
+
+    /**
+     * Returns the number of documents a reply returned, or -1 when the command returns none.
+     */
+    static int documentsReturned(String commandName, BsonDocument reply) {
+        if ("findAndModify".equals(commandName)) {
+            BsonValue value = reply.get("value");
+            return value != null && value.isDocument() ? 1 : 0;
+        }
+        BsonValue cursor = reply.get("cursor");
+        if (cursor == null || !cursor.isDocument()) {
+            return -1;
+        }
+        BsonValue batch = cursor.asDocument().get("getMore".equals(commandName) ? "nextBatch" : "firstBatch");
+        return batch != null && batch.isArray() ? batch.asArray().size() : -1;
+    }
+
+    /**
+     * Returns the encoded size of a document in bytes. Documents read from the wire carry it in
+     * their first four bytes; others are measured without encoding them again.
+     */
+    static int sizeOf(BsonDocument document) {
+        if (document instanceof RawBsonDocument raw) {
+            return raw.getByteBuffer().remaining();
+        }
+        try (BsonReader reader = document.asBsonReader()) {
+            if (reader instanceof BsonBinaryReader binaryReader) {
+                return binaryReader.getBsonInput().readInt32();
+            }
+        }
+        int size = 4 + 1;
+        for (Map.Entry<String, BsonValue> field : document.entrySet()) {
+            size += 1 + cStringSize(field.getKey()) + valueSize(field.getValue());
+        }
+        return size;
+    }
+
+    private static int arraySize(BsonArray array) {
+        int size = 4 + 1;
+        for (int i = 0; i < array.size(); i++) {
+            size += 1 + cStringSize(Integer.toString(i)) + valueSize(array.get(i));
+        }
+        return size;
+    }
+
+    private static int valueSize(BsonValue value) {
+        return switch (value.getBsonType()) {
+            case DOCUMENT -> sizeOf(value.asDocument());
+            case ARRAY -> arraySize(value.asArray());
+            case STRING -> stringSize(value.asString().getValue());
+            case SYMBOL -> stringSize(value.asSymbol().getSymbol());
+            case JAVASCRIPT -> stringSize(value.asJavaScript().getCode());
+            case JAVASCRIPT_WITH_SCOPE -> 4 + stringSize(value.asJavaScriptWithScope().getCode())
+                + sizeOf(value.asJavaScriptWithScope().getScope());
+            case BINARY -> binarySize(value.asBinary());
+            case REGULAR_EXPRESSION -> cStringSize(value.asRegularExpression().getPattern())
+                + cStringSize(value.asRegularExpression().getOptions());
+            case DB_POINTER -> stringSize(value.asDBPointer().getNamespace()) + 12;
+            case OBJECT_ID -> 12;
+            case BOOLEAN -> 1;
+            case INT32 -> 4;
+            case INT64, DOUBLE, DATE_TIME, TIMESTAMP -> 8;
+            case DECIMAL128 -> 16;
+            case NULL, UNDEFINED, MIN_KEY, MAX_KEY, END_OF_DOCUMENT -> 0;
+        };
+    }
+
+    private static int binarySize(BsonBinary binary) {
+        int length = binary.getData().length;
+        return 4 + 1 + length + (binary.getType() == BsonBinarySubType.OLD_BINARY.getValue() ? 4 : 0);
+    }
+
+    private static int stringSize(String value) {
+        return 4 + cStringSize(value);
+    }
+
+    private static int cStringSize(String value) {
+        int size = 1;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static BsonValue deepCopy(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument copy = new BsonDocument();
+            for (Map.Entry<String, BsonValue> field : value.asDocument().entrySet()) {
+                copy.put(field.getKey(), deepCopy(field.getValue()));
+            }
+            return copy;
+        }
+        if (value.isArray()) {
+            BsonArray copy = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                copy.add(deepCopy(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static BsonValue redact(BsonValue value) {
+        if (value.isDocument()) {
+            BsonDocument redacted = new BsonDocument();
+            for (Map.Entry<String, BsonValue> field : value.asDocument().entrySet()) {
+                redacted.put(field.getKey(), redact(field.getValue()));
+            }
+            return redacted;
+        }
+        if (value.isArray()) {
+            BsonArray redacted = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                BsonValue redactedElement = redact(element);
+                if (redactedElement != REDACTED || redacted.isEmpty() || redacted.get(redacted.size() - 1) != REDACTED) {
+                    redacted.add(redactedElement);
+                }
+            }
+            return redacted;
+        }
+        return REDACTED;
+    }
+}
@@ -0,0 +1,48 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records how long commands waited for a pooled MongoDB connection, including checkouts that
+ * failed. The driver's pool gauges show how full the pool is; this shows what that cost.
+ */
+public class ConnectionPoolWaitMonitor implements ConnectionPoolListener {
+
+    private final Timer checkedOut;
+    private final Map<ConnectionCheckOutFailedEvent.Reason, Timer> failed =
+        new EnumMap<>(ConnectionCheckOutFailedEvent.Reason.class);
+
+    public ConnectionPoolWaitMonitor(MeterRegistry meterRegistry) {
+        this.checkedOut = timer(meterRegistry, "checked_out");
+        for (ConnectionCheckOutFailedEvent.Reason reason : ConnectionCheckOutFailedEvent.Reason.values()) {
+            failed.put(reason, timer(meterRegistry, reason.name().toLowerCase()));
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("mongodb.pool.wait")
+            .description("Time spent waiting to check out a MongoDB connection")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        checkedOut.record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        failed.get(event.getReason()).record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,137 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.event.CommandEvent;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the bytes each MongoDB command sent and received and the documents it returned,
+ * tagged by collection and command, and hands commands slower than the threshold to the
+ * {@link SlowCommandLog}.
+ *
+ * The driver calls the listener on the thread running the command, so the listener only reads
+ * sizes and copies the small command documents it may need later; anything that talks to the
+ * database runs elsewhere.
+ */
+public class MongoCommandMonitor implements CommandListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MongoCommandMonitor.class);
+
+    private record Started(String collection, BsonDocument copy) {
+    }
+
+    private record MeterKey(String collection, String command) {
+    }
+
+    private record Meters(DistributionSummary bytesSent, DistributionSummary bytesReceived,
+                          DistributionSummary documents, Counter slow) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final SlowCommandLog slowCommands;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<Integer, Started> started = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    public MongoCommandMonitor(MeterRegistry meterRegistry, SlowCommandLog slowCommands, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowCommands = slowCommands;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        BsonDocument command = event.getCommand();
+        String collection = CommandDocuments.collection(commandName, command);
+        meters(collection, commandName).bytesSent().record(CommandDocuments.sizeOf(command));
+        started.put(event.getRequestId(), new Started(collection, CommandDocuments.copy(commandName, command)));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        String commandName = event.getCommandName();
+        Meters commandMeters = meters(command.collection(), commandName);
+        BsonDocument reply = event.getResponse();
+        commandMeters.bytesReceived().record(CommandDocuments.sizeOf(reply));
+        int documentsReturned = CommandDocuments.documentsReturned(commandName, reply);
+        if (documentsReturned >= 0) {
+            commandMeters.documents().record(documentsReturned);
+        }
+        completed(event, command, commandMeters, event.getElapsedTime(TimeUnit.NANOSECONDS), true, documentsReturned);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        Started command = started.remove(event.getRequestId());
+        if (command == null) {
+            return;
+        }
+        completed(event, command, meters(command.collection(), event.getCommandName()),
+            event.getElapsedTime(TimeUnit.NANOSECONDS), false, -1);
+    }
+
+    private void completed(CommandEvent event, Started command, Meters commandMeters, long elapsedNanos,
+                           boolean succeeded, int documentsReturned) {
+        if (elapsedNanos < slowThresholdNanos) {
+            return;
+        }
+        commandMeters.slow().increment();
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        String commandName = event.getCommandName();
+        SlowCommand slowCommand = new SlowCommand(Instant.now(), event.getDatabaseName(), command.collection(),
+            commandName, durationMillis, succeeded, documentsReturned, CommandDocuments.shape(command.copy()),
+            null, null);
+        logger.debug("Slow MongoDB command - Command: {}, Collection: {}, Duration: {}ms",
+            commandName, command.collection(), durationMillis);
+        slowCommands.record(slowCommand,
+            succeeded && CommandDocuments.EXPLAINABLE.contains(commandName) ? command.copy() : null);
+    }
+
+    private Meters meters(String collection, String command) {
+        return meters.computeIfAbsent(new MeterKey(collection, command), key -> new Meters(
+            bytes(key, "sent"),
+            bytes(key, "received"),
+            DistributionSummary.builder("mongodb.command.documents")
+                .description("Documents returned by MongoDB commands")
+                .baseUnit("documents")
+                .tag("collection", key.collection())
+                .tag("command", key.command())
+                .register(meterRegistry),
+            Counter.builder("mongodb.command.slow")
+                .description("MongoDB commands slower than the slow threshold")
+                .tag("collection", key.collection())
+                .tag("command", key.command())
+                .register(meterRegistry)));
+    }
+
+    private DistributionSummary bytes(MeterKey key, String direction) {
+        return DistributionSummary.builder("mongodb.command.bytes")
+            .description("Encoded size of MongoDB commands and their replies")
+            .baseUnit("bytes")
+            .tag("collection", key.collection())
+            .tag("command", key.command())
+            .tag("direction", direction)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.time.Instant;
+
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.QueryPlan;
+
+/**
+ * A command that took longer than the slow threshold.
+ *
+ * @param completedAt when the command completed
+ * @param database the database the command ran in
+ * @param collection the collection it targeted, or "none"
+ * @param command the command name
+ * @param durationMillis how long the command took
+ * @param succeeded whether the command succeeded
+ * @param documentsReturned the documents returned, or -1 when the command returns none
+ * @param shape the command with every value inside its filter, update or pipeline redacted
+ * @param plan the winning plan when the command was explained, otherwise null
+ * @param explainedAt when the plan was captured, otherwise null
+ */
+public record SlowCommand(Instant completedAt, String database, String collection, String command,
+                          long durationMillis, boolean succeeded, int documentsReturned, String shape,
+                          QueryPlan plan, Instant explainedAt) {
+
+    SlowCommand withPlan(QueryPlan plan, Instant explainedAt) {
+        return new SlowCommand(completedAt, database, collection, command, durationMillis, succeeded,
+            documentsReturned, shape, plan, explainedAt);
+    }
+}
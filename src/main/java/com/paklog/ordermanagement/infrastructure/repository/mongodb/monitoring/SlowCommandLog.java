@@ -0,0 +1,123 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.QueryPlan;
+
+/**
+ * Keeps the most recent slow commands in a fixed-size ring, and explains slow queries to
+ * capture the plan MongoDB chose for them.
+ *
+ * Explains run one at a time on the given executor, never on the thread that ran the command;
+ * a slow command arriving while one runs is kept without a plan. A query whose shape was
+ * explained within the explain interval reuses that plan, so a burst of slow queries does not
+ * turn into a burst of explains against a database that is already slow.
+ */
+public class SlowCommandLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowCommandLog.class);
+
+    /**
+     * Runs the explain command for a command in a database.
+     */
+    @FunctionalInterface
+    public interface Explainer {
+        Document explain(String database, BsonDocument command);
+    }
+
+    private final SlowCommand[] entries;
+    private final Explainer explainer;
+    private final Duration explainInterval;
+    private final Executor executor;
+    private final Semaphore explaining = new Semaphore(1);
+
+    private long recorded;
+
+    /**
+     * @param explainer runs explains, or null to keep slow commands without plans
+     */
+    public SlowCommandLog(int capacity, Explainer explainer, Duration explainInterval, Executor executor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("mongo-monitoring.slow-command-capacity must be at least 1");
+        }
+        this.entries = new SlowCommand[capacity];
+        this.explainer = explainer;
+        this.explainInterval = explainInterval;
+        this.executor = executor;
+    }
+
+    /**
+     * Records a slow command.
+     *
+     * @param explainable the command to explain, or null when it cannot be explained
+     */
+    public void record(SlowCommand command, BsonDocument explainable) {
+        int slot;
+        SlowCommand entry;
+        synchronized (this) {
+            SlowCommand explained = recentlyExplained(command.shape(), command.completedAt());
+            entry = explained == null ? command : command.withPlan(explained.plan(), explained.explainedAt());
+            slot = (int) (recorded++ % entries.length);
+            entries[slot] = entry;
+        }
+
+        if (entry.plan() == null && explainable != null && explainer != null && explaining.tryAcquire()) {
+            try {
+                executor.execute(() -> explain(slot, entry, explainable));
+            } catch (RejectedExecutionException e) {
+                explaining.release();
+            }
+        }
+    }
+
+    /**
+     * Returns the slow commands kept, newest first.
+     */
+    public synchronized List<SlowCommand> recent() {
+        int size = (int) Math.min(recorded, entries.length);
+        List<SlowCommand> recent = new ArrayList<>(size);
+        for (long i = recorded - 1; i >= recorded - size; i--) {
+            recent.add(entries[(int) (i % entries.length)]);
+        }
+        return recent;
+    }
+
+    private SlowCommand recentlyExplained(String shape, Instant now) {
+        Instant notBefore = now.minus(explainInterval);
+        for (SlowCommand entry : entries) {
+            if (entry != null && entry.explainedAt() != null && entry.explainedAt().isAfter(notBefore)
+                    && entry.shape().equals(shape)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void explain(int slot, SlowCommand entry, BsonDocument explainable) {
+        try {
+            QueryPlan plan = QueryPlan.fromExplain(explainer.explain(entry.database(), explainable));
+            synchronized (this) {
+                // The slot may have been overwritten by a newer slow command in the meantime
+                if (entries[slot] == entry) {
+                    entries[slot] = entry.withPlan(plan, Instant.now());
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to explain slow command - Command: {}, Collection: {}, Error: {}",
+                entry.command(), entry.collection(), e.getMessage());
+        } finally {
+            explaining.release();
+        }
+    }
+}
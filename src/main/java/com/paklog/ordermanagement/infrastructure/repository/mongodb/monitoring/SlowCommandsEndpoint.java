@@ -0,0 +1,24 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Exposes the slow command log at /actuator/mongoslowcommands, newest first.
+ */
+@Endpoint(id = "mongoslowcommands")
+public class SlowCommandsEndpoint {
+
+    private final SlowCommandLog slowCommands;
+
+    public SlowCommandsEndpoint(SlowCommandLog slowCommands) {
+        this.slowCommands = slowCommands;
+    }
+
+    @ReadOperation
+    public List<SlowCommand> slowCommands() {
+        return slowCommands.recent();
+    }
+}
@@ -0,0 +1,17 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+/**
+ * Kinds of MongoDB reads, each routed with its own configurable read preference.
+ */
+public enum QueryClass {
+    /** Reads a decision depends on, such as idempotency and uniqueness checks; always on the primary */
+    CONSISTENT,
+    /** Single-order status polling, behind the order response cache */
+    STATUS,
+    /** Paginated order search */
+    SEARCH,
+    /** Candidate scans of fuzzy and near-duplicate detection; the exact duplicate checks are consistent */
+    DUPLICATE_SCAN,
+    /** Bulk scans such as exports and the duplicate index warm-up */
+    ANALYTICS
+}
@@ -0,0 +1,19 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Routes a repository read method as the given query class whatever the caller bound with
+ * {@link ReadRouting#bind(QueryClass)}. Reads without it follow the caller, or the primary.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadRoute {
+
+    QueryClass value();
+}
@@ -0,0 +1,95 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongodb.ReadPreference;
+import com.paklog.ordermanagement.infrastructure.config.ReadRoutingConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Chooses the read preference of each read by its query class, and counts reads by class and
+ * read preference.
+ *
+ * Consistent reads and reads inside a transaction always go to the primary: the former because
+ * a decision depends on them, the latter because MongoDB only runs transactions there.
+ */
+public class ReadRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadRouter.class);
+
+    /**
+     * Smallest staleness bound MongoDB accepts.
+     */
+    static final Duration MIN_MAX_STALENESS = Duration.ofSeconds(90);
+
+    private final Map<QueryClass, ReadPreference> preferences = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Counter> reads = new EnumMap<>(QueryClass.class);
+    private final Map<QueryClass, Counter> transactionalReads = new EnumMap<>(QueryClass.class);
+
+    public ReadRouter(ReadRoutingConfig config, MeterRegistry meterRegistry) {
+        Duration maxStaleness = config.getMaxStaleness();
+        if (maxStaleness.compareTo(MIN_MAX_STALENESS) < 0) {
+            throw new IllegalArgumentException("read-routing.max-staleness must be at least "
+                + MIN_MAX_STALENESS.toSeconds() + " seconds");
+        }
+
+        for (QueryClass queryClass : QueryClass.values()) {
+            ReadRoutingConfig.Mode mode = queryClass == QueryClass.CONSISTENT
+                ? ReadRoutingConfig.Mode.PRIMARY
+                : config.getRoutes().getOrDefault(queryClass, ReadRoutingConfig.Mode.PRIMARY);
+            ReadPreference preference = preference(mode, maxStaleness);
+            preferences.put(queryClass, preference);
+            reads.put(queryClass, counter(meterRegistry, queryClass, preference));
+            transactionalReads.put(queryClass, counter(meterRegistry, queryClass, ReadPreference.primary()));
+        }
+
+        logger.info("Read routing initialized - Routes: {}, MaxStaleness: {}", preferences, maxStaleness);
+    }
+
+    private static ReadPreference preference(ReadRoutingConfig.Mode mode, Duration maxStaleness) {
+        long seconds = maxStaleness.toSeconds();
+        return switch (mode) {
+            case PRIMARY -> ReadPreference.primary();
+            case PRIMARY_PREFERRED -> ReadPreference.primaryPreferred(seconds, TimeUnit.SECONDS);
+            case SECONDARY -> ReadPreference.secondary(seconds, TimeUnit.SECONDS);
+            case SECONDARY_PREFERRED -> ReadPreference.secondaryPreferred(seconds, TimeUnit.SECONDS);
+            case NEAREST -> ReadPreference.nearest(seconds, TimeUnit.SECONDS);
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, QueryClass queryClass, ReadPreference preference) {
+        return Counter.builder("mongodb.reads")
+            .description("MongoDB repository reads by query class and the read preference they were routed with")
+            .tag("query_class", queryClass.name().toLowerCase())
+            .tag("read_preference", preference.getName())
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the read preference for a read of the given class, and counts the read.
+     */
+    public ReadPreference route(QueryClass queryClass) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionalReads.get(queryClass).increment();
+            return ReadPreference.primary();
+        }
+        reads.get(queryClass).increment();
+        return preferences.get(queryClass);
+    }
+
+    /**
+     * Returns the configured read preference of a query class.
+     */
+    public ReadPreference preferenceOf(QueryClass queryClass) {
+        return preferences.get(queryClass);
+    }
+}
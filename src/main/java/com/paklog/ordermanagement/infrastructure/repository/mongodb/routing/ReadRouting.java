@@ -0,0 +1,52 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import java.util.Optional;
+
+/**
+ * The query class of the reads made by the current thread.
+ *
+ * Callers bind a class around work whose reads may be served by a secondary, such as answering
+ * a status poll; repository reads without a {@link ReadRoute} are routed as that class,
+ * including the item chunk reads that complete an order. Reads made with nothing bound go to
+ * the primary.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<QueryClass> CURRENT = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Returns the query class bound to the current thread, if any.
+     */
+    public static Optional<QueryClass> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Binds a query class to the current thread until the returned scope is closed,
+     * then restores the previously bound class.
+     */
+    public static Scope bind(QueryClass queryClass) {
+        QueryClass previous = CURRENT.get();
+        CURRENT.set(queryClass);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Restores the previously bound query class when closed.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
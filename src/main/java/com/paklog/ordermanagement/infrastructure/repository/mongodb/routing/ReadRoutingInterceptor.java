@@ -0,0 +1,72 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import com.mongodb.ReadPreference;
+
+/**
+ * Repository proxy advice that routes each read method call by its query class: the
+ * {@link ReadRoute} of the method, else the class bound by the caller, else
+ * {@link QueryClass#CONSISTENT}. The chosen read preference is bound for the duration of the
+ * call, where {@link RoutingMongoTemplate} applies it. Writes pass through untouched.
+ */
+public class ReadRoutingInterceptor implements MethodInterceptor {
+
+    private static final String[] READ_PREFIXES = {"find", "read", "get", "query", "search", "stream", "count", "exists"};
+
+    private final ReadRouter router;
+    private final Class<?> repositoryInterface;
+    private final Map<Method, Route> routes = new ConcurrentHashMap<>();
+
+    public ReadRoutingInterceptor(ReadRouter router, Class<?> repositoryInterface) {
+        this.router = router;
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Route route = routes.computeIfAbsent(invocation.getMethod(), this::resolve);
+        if (!route.read()) {
+            return invocation.proceed();
+        }
+        QueryClass queryClass = route.queryClass() != null
+            ? route.queryClass()
+            : ReadRouting.current().orElse(QueryClass.CONSISTENT);
+        ReadPreference preference = router.route(queryClass);
+        try (RoutingMongoTemplate.Binding binding = RoutingMongoTemplate.bind(preference)) {
+            return invocation.proceed();
+        }
+    }
+
+    /**
+     * Looks for a {@link ReadRoute} on every declaration of the method in the repository
+     * interface, since a method of the domain repository is declared again, and annotated, on
+     * the MongoDB repository or one of its fragments.
+     */
+    private Route resolve(Method method) {
+        boolean read = false;
+        for (String prefix : READ_PREFIXES) {
+            read |= method.getName().startsWith(prefix);
+        }
+        ReadRoute annotation = method.getAnnotation(ReadRoute.class);
+        for (Method declared : repositoryInterface.getMethods()) {
+            if (annotation == null && declared.getName().equals(method.getName())
+                    && Arrays.equals(declared.getParameterTypes(), method.getParameterTypes())) {
+                annotation = declared.getAnnotation(ReadRoute.class);
+            }
+        }
+        return new Route(read, annotation != null ? annotation.value() : null);
+    }
+
+    /**
+     * @param queryClass the query class declared on the method, or null to follow the caller
+     */
+    private record Route(boolean read, QueryClass queryClass) {
+    }
+}
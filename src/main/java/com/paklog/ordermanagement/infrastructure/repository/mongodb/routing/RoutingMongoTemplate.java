@@ -0,0 +1,55 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+
+/**
+ * MongoTemplate that reads with the read preference bound to the current thread by
+ * {@link ReadRoutingInterceptor}, and with its own read preference otherwise. Writes ignore the
+ * read preference, so binding it for a whole repository call is safe.
+ */
+public class RoutingMongoTemplate extends MongoTemplate {
+
+    private static final ThreadLocal<ReadPreference> CURRENT = new ThreadLocal<>();
+
+    public RoutingMongoTemplate(MongoDatabaseFactory mongoDbFactory, MongoConverter mongoConverter) {
+        super(mongoDbFactory, mongoConverter);
+    }
+
+    /**
+     * Binds a read preference to the current thread until the returned binding is closed,
+     * then restores the previously bound one.
+     */
+    static Binding bind(ReadPreference preference) {
+        ReadPreference previous = CURRENT.get();
+        CURRENT.set(preference);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        ReadPreference bound = CURRENT.get();
+        return bound != null ? collection.withReadPreference(bound) : super.prepareCollection(collection);
+    }
+
+    /**
+     * Restores the previously bound read preference when closed.
+     */
+    @FunctionalInterface
+    interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,264 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptive concurrency limit for calls to one downstream dependency.
+ *
+ * The limit follows an AIMD scheme driven by observed latency: it grows by one for every
+ * successful call made while the limit is at least half used, and is multiplied by the
+ * backoff ratio whenever a call fails with a congestion signal (timeout, connection error,
+ * 5xx or 429) or takes longer than either the slow call threshold or the latency tolerance
+ * times the long-term average latency. Calls beyond the limit are rejected immediately with
+ * {@link ConcurrencyLimitExceededException} instead of queueing, so a slow dependency can
+ * only hold on to a bounded number of request threads. A blocking call that fails because its
+ * thread was interrupted, e.g. a cancelled intake stage, says nothing about the dependency and
+ * releases its permit without a sample.
+ *
+ * Exposes the following meters, tagged with the dependency name:
+ * - resilience.concurrency.limit: current limit
+ * - resilience.concurrency.inflight: calls currently in flight
+ * - resilience.concurrency.rejected: calls rejected because the limit was reached
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Weight of a new sample in the long-term average latency
+     */
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final String name;
+    private final boolean enforced;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long slowCallThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double baselineLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, ConcurrencyLimitConfig config, MeterRegistry meterRegistry) {
+        if (config.getMinLimit() < 1 || config.getMaxLimit() < config.getMinLimit()) {
+            throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min-limit <= max-limit");
+        }
+        if (config.getBackoffRatio() <= 0.0 || config.getBackoffRatio() >= 1.0) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+
+        this.name = name;
+        this.enforced = config.isEnabled();
+        this.minLimit = config.getMinLimit();
+        this.maxLimit = config.getMaxLimit();
+        this.backoffRatio = config.getBackoffRatio();
+        this.latencyTolerance = config.getLatencyTolerance();
+        this.slowCallThresholdNanos = config.getSlowCallThreshold().toNanos();
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, config.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+
+        Gauge.builder("resilience.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("resilience.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Calls currently in flight")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("resilience.concurrency.rejected")
+            .description("Calls rejected because the concurrency limit was reached")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Acquires a permit for one call, or returns empty when the limit is reached.
+     * The returned permit must be completed exactly once.
+     */
+    public Optional<Permit> tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (enforced && current >= limit) {
+                rejectedCounter.increment();
+                return Optional.empty();
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Optional.of(new Permit(current + 1));
+            }
+        }
+    }
+
+    /**
+     * Runs a blocking call under the limit.
+     *
+     * @throws ConcurrencyLimitExceededException if the limit is reached
+     */
+    public <T> T execute(Supplier<T> call) {
+        Permit permit = tryAcquire().orElseThrow(() -> new ConcurrencyLimitExceededException(name, limit));
+        try {
+            T result = call.get();
+            permit.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (Thread.currentThread().isInterrupted()) {
+                permit.onIgnore();
+            } else {
+                permit.onError(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs a non-blocking call under the limit. The permit is acquired on subscription,
+     * so each retry attempt acquires its own. Fails with {@link ConcurrencyLimitExceededException}
+     * if the limit is reached.
+     */
+    public <T> Mono<T> limit(Mono<T> call) {
+        return Mono.defer(() -> {
+            Optional<Permit> acquired = tryAcquire();
+            if (acquired.isEmpty()) {
+                return Mono.error(new ConcurrencyLimitExceededException(name, limit));
+            }
+            Permit permit = acquired.get();
+            return call
+                .doOnSuccess(value -> permit.onSuccess())
+                .doOnError(permit::onError)
+                .doOnCancel(permit::onIgnore);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public double getRejectedCount() {
+        return rejectedCounter.count();
+    }
+
+    /**
+     * Client errors other than 429 mean the dependency answered normally and are not treated as congestion.
+     */
+    static boolean isCongestionSignal(Throwable error) {
+        if (error instanceof HttpStatusCodeException e) {
+            return !e.getStatusCode().is4xxClientError() || e.getStatusCode().value() == 429;
+        }
+        if (error instanceof WebClientResponseException e) {
+            return !e.getStatusCode().is4xxClientError() || e.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    /**
+     * True when the error, or one of its causes, reports that the calling thread was interrupted.
+     * Timeouts are {@link InterruptedIOException} subclasses too and do not count.
+     */
+    public static boolean isInterruption(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException
+                || cause instanceof ClosedByInterruptException
+                || cause.getClass() == InterruptedIOException.class) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void onSample(long latencyNanos, int inFlightAtStart, boolean dropped) {
+        boolean congested = dropped
+            || latencyNanos > slowCallThresholdNanos
+            || (baselineLatencyNanos > 0 && latencyNanos > baselineLatencyNanos * latencyTolerance);
+
+        if (!dropped) {
+            baselineLatencyNanos = baselineLatencyNanos == 0
+                ? latencyNanos
+                : baselineLatencyNanos + (latencyNanos - baselineLatencyNanos) * BASELINE_SMOOTHING;
+        }
+
+        if (congested) {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+        } else if (inFlightAtStart * 2 >= estimatedLimit) {
+            estimatedLimit = Math.min(maxLimit, estimatedLimit + 1);
+        }
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Permit for one in-flight call. Completing it releases the slot and, unless ignored,
+     * feeds the call's latency into the limit.
+     */
+    public final class Permit {
+
+        private final long startNanos = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The dependency answered.
+         */
+        public void onSuccess() {
+            complete(false, true);
+        }
+
+        /**
+         * The call failed; congestion signals shrink the limit, other errors count as answers.
+         * A call that was never started because the request deadline had passed, or that was
+         * interrupted, is ignored.
+         */
+        public void onError(Throwable error) {
+            if (error instanceof DeadlineExceededException || isInterruption(error)) {
+                onIgnore();
+                return;
+            }
+            complete(isCongestionSignal(error), true);
+        }
+
+        /**
+         * The call was abandoned without an outcome; releases the slot without a sample.
+         */
+        public void onIgnore() {
+            complete(false, false);
+        }
+
+        private void complete(boolean dropped, boolean sample) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            inFlight.decrementAndGet();
+            if (sample) {
+                onSample(System.nanoTime() - startNanos, inFlightAtStart, dropped);
+            }
+        }
+    }
+}
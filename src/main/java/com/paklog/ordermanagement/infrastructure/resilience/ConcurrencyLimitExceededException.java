@@ -0,0 +1,25 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+/**
+ * Thrown when a call to a downstream dependency is rejected because the dependency's
+ * adaptive concurrency limit is already reached.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String dependency;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String dependency, int limit) {
+        super("Concurrency limit reached for " + dependency + " (limit: " + limit + ")");
+        this.dependency = dependency;
+        this.limit = limit;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
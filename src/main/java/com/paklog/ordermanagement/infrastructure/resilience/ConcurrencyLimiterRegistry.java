@@ -0,0 +1,31 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds one {@link AdaptiveConcurrencyLimiter} per downstream dependency, keyed by the same
+ * names as the circuit breaker and retry instances ("inventory", "productCatalog").
+ */
+public class ConcurrencyLimiterRegistry {
+
+    private final ConcurrencyLimitConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Returns the limiter for a dependency, creating it on first use.
+     */
+    public AdaptiveConcurrencyLimiter limiter(String name) {
+        return limiters.computeIfAbsent(name, key -> new AdaptiveConcurrencyLimiter(key, config, meterRegistry));
+    }
+}
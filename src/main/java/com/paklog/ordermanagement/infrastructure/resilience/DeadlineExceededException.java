@@ -0,0 +1,22 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an operation is about to start after the current request's deadline has passed.
+ */
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class DeadlineExceededException extends RuntimeException {
+
+    private final String operation;
+
+    public DeadlineExceededException(String operation) {
+        super("Request deadline exceeded before " + operation);
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
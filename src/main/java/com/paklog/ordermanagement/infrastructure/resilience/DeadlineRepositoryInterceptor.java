@@ -0,0 +1,17 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Repository proxy advice that refuses to start a repository call once the request deadline
+ * has passed.
+ */
+public class DeadlineRepositoryInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RequestDeadline.checkCurrent("repository call " + invocation.getMethod().getName());
+        return invocation.proceed();
+    }
+}
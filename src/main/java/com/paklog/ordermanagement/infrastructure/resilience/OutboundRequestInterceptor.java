@@ -0,0 +1,29 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * RestTemplate interceptor that refuses to start a call once the request deadline has passed
+ * and records every call that does start with the retry budget.
+ */
+public class OutboundRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final RetryBudget retryBudget;
+
+    public OutboundRequestInterceptor(RetryBudget retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        RequestDeadline.checkCurrent(request.getMethod() + " " + request.getURI().getHost());
+        retryBudget.recordRequest();
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,116 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Absolute deadline for the work done on behalf of one inbound request.
+ *
+ * The deadline is bound to the handling thread by {@link RequestDeadlineFilter}. Outbound
+ * HTTP calls, retries and repository calls consult it: calls are not started once it has
+ * passed, per-call timeouts are capped at the remaining time, and retries are skipped when
+ * too little time is left for another attempt. Work handed to other threads must re-bind
+ * the deadline with {@link #bind(RequestDeadline)}.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Smallest timeout handed to a client; a zero timeout means "no timeout" to most clients.
+     */
+    private static final Duration MIN_TIMEOUT = Duration.ofMillis(1);
+
+    private final long expiresAtNanos;
+
+    private RequestDeadline(long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Creates a deadline the given time from now.
+     */
+    public static RequestDeadline after(Duration timeout) {
+        return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Returns the deadline bound to the current thread, if any.
+     */
+    public static Optional<RequestDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Binds a deadline to the current thread until the returned scope is closed,
+     * then restores the previously bound deadline.
+     */
+    public static Scope bind(RequestDeadline deadline) {
+        RequestDeadline previous = CURRENT.get();
+        CURRENT.set(deadline);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Fails fast if the current thread's deadline has passed. No-op when no deadline is bound.
+     *
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public static void checkCurrent(String operation) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.checkNotExpired(operation);
+        }
+    }
+
+    /**
+     * Caps a timeout at the time left on the current thread's deadline.
+     */
+    public static Duration capCurrent(Duration timeout) {
+        RequestDeadline deadline = CURRENT.get();
+        return deadline != null ? deadline.cap(timeout) : timeout;
+    }
+
+    public Duration remaining() {
+        long remainingNanos = expiresAtNanos - System.nanoTime();
+        return remainingNanos > 0 ? Duration.ofNanos(remainingNanos) : Duration.ZERO;
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    public void checkNotExpired(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(operation);
+        }
+    }
+
+    /**
+     * Returns the smaller of the timeout and the remaining time, but never less than one millisecond.
+     */
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        Duration capped = remaining.compareTo(timeout) < 0 ? remaining : timeout;
+        return capped.compareTo(MIN_TIMEOUT) < 0 ? MIN_TIMEOUT : capped;
+    }
+
+    /**
+     * Restores the previously bound deadline when closed.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.paklog.ordermanagement.infrastructure.config.RequestDeadlineConfig;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds a {@link RequestDeadline} to every fulfillment order request.
+ * Registered for the fulfillment order endpoints in ResilienceConfig.
+ *
+ * The budget is taken from the X-Request-Timeout-Ms header when present, capped at the
+ * configured maximum, and otherwise defaults to the configured default timeout.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    public static final String REQUEST_TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final RequestDeadlineConfig config;
+
+    public RequestDeadlineFilter(RequestDeadlineConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Duration timeout = resolveTimeout(request);
+        logger.debug("Request deadline set - URI: {}, Timeout: {}ms", request.getRequestURI(), timeout.toMillis());
+
+        try (RequestDeadline.Scope scope = RequestDeadline.bind(RequestDeadline.after(timeout))) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        String header = request.getHeader(REQUEST_TIMEOUT_HEADER);
+        if (header == null || header.isBlank()) {
+            return config.getDefaultTimeout();
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+            if (requested.isNegative() || requested.isZero()) {
+                return config.getDefaultTimeout();
+            }
+            return requested.compareTo(config.getMaxTimeout()) > 0 ? config.getMaxTimeout() : requested;
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring invalid {} header - Value: {}", REQUEST_TIMEOUT_HEADER, header);
+            return config.getDefaultTimeout();
+        }
+    }
+}
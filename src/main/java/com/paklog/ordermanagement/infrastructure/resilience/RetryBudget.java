@@ -0,0 +1,130 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.paklog.ordermanagement.infrastructure.config.RetryBudgetConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Token-bucket budget shared by all outbound retries.
+ *
+ * Every outbound request deposits a fraction of a token (the retry ratio) and the bucket
+ * also refills slowly over time; every retry withdraws a whole token. While a dependency is
+ * failing, retries therefore stop once they reach the configured share of traffic instead
+ * of multiplying the load on it. Retries are also skipped when the current request's
+ * {@link RequestDeadline} does not leave enough time for another attempt.
+ *
+ * Exposes the following meters:
+ * - resilience.retry.budget.tokens: tokens currently available
+ * - resilience.retry.permitted: retries paid for by the budget
+ * - resilience.retry.skipped: retries skipped, tagged with reason "budget" or "deadline"
+ */
+public class RetryBudget {
+
+    /**
+     * Tolerance for the rounding error of summed fractional deposits
+     */
+    private static final double EPSILON = 1e-9;
+
+    private final boolean enabled;
+    private final double retryRatio;
+    private final double minRetriesPerNano;
+    private final double maxTokens;
+    private final LongSupplier nanoClock;
+    private final Counter permittedCounter;
+    private final Counter budgetSkippedCounter;
+    private final Counter deadlineSkippedCounter;
+
+    // Guarded by this
+    private double tokens;
+    private long lastRefillNanos;
+
+    public RetryBudget(RetryBudgetConfig config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::nanoTime);
+    }
+
+    RetryBudget(RetryBudgetConfig config, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = config.isEnabled();
+        this.retryRatio = config.getRetryRatio();
+        this.minRetriesPerNano = config.getMinRetriesPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.maxTokens = config.getMaxTokens();
+        this.nanoClock = nanoClock;
+        this.tokens = maxTokens;
+        this.lastRefillNanos = nanoClock.getAsLong();
+
+        Gauge.builder("resilience.retry.budget.tokens", this, RetryBudget::getAvailableTokens)
+            .description("Retry tokens currently available")
+            .register(meterRegistry);
+        this.permittedCounter = Counter.builder("resilience.retry.permitted")
+            .description("Retries paid for by the retry budget")
+            .register(meterRegistry);
+        this.budgetSkippedCounter = Counter.builder("resilience.retry.skipped")
+            .description("Retries skipped")
+            .tag("reason", "budget")
+            .register(meterRegistry);
+        this.deadlineSkippedCounter = Counter.builder("resilience.retry.skipped")
+            .description("Retries skipped")
+            .tag("reason", "deadline")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Records one outbound request, depositing the retry ratio into the bucket.
+     */
+    public void recordRequest() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            refill();
+            tokens = Math.min(maxTokens, tokens + retryRatio);
+        }
+    }
+
+    /**
+     * Decides whether a failed call may be retried after the given wait.
+     * Returns false when the current request's deadline would pass before the next attempt
+     * could finish, or when the bucket holds less than one token.
+     *
+     * @param nextAttemptNeeds the retry wait plus the minimum useful attempt time
+     */
+    public boolean tryAcquireRetry(Duration nextAttemptNeeds) {
+        boolean enoughTime = RequestDeadline.current()
+            .map(deadline -> deadline.remaining().compareTo(nextAttemptNeeds) > 0)
+            .orElse(true);
+        if (!enoughTime) {
+            deadlineSkippedCounter.increment();
+            return false;
+        }
+        if (!enabled) {
+            permittedCounter.increment();
+            return true;
+        }
+        synchronized (this) {
+            refill();
+            if (tokens < 1.0 - EPSILON) {
+                budgetSkippedCounter.increment();
+                return false;
+            }
+            tokens = Math.max(0.0, tokens - 1.0);
+        }
+        permittedCounter.increment();
+        return true;
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(maxTokens, tokens + (now - lastRefillNanos) * minRetriesPerNano);
+        lastRefillNanos = now;
+    }
+}
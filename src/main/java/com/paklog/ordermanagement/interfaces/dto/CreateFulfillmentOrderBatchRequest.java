@@ -0,0 +1,54 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * A batch of orders to create in one request. The orders are validated one by one, so an
+ * invalid order is reported in its own result instead of failing the batch.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CreateFulfillmentOrderBatchRequest {
+
+    public static final int MAX_ORDERS = 5000;
+
+    @NotEmpty(message = "Batch must have at least one order")
+    @Size(max = MAX_ORDERS, message = "Maximum 5,000 orders per batch")
+    private List<@NotNull(message = "Batch orders must not be null") Entry> orders;
+
+    // Getters and setters
+    public List<Entry> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<Entry> orders) {
+        this.orders = orders;
+    }
+
+    /**
+     * A create request with the idempotency key that the Idempotency-Key header carries for a
+     * single order.
+     */
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public static class Entry extends CreateFulfillmentOrderRequest {
+
+        @NotBlank(message = "Idempotency key is required")
+        @Size(max = 255, message = "Idempotency key must not exceed 255 characters")
+        private String idempotencyKey;
+
+        public String getIdempotencyKey() {
+            return idempotencyKey;
+        }
+
+        public void setIdempotencyKey(String idempotencyKey) {
+            this.idempotencyKey = idempotencyKey;
+        }
+    }
+}
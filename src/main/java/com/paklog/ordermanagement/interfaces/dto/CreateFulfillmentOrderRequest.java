@@ -42,7 +42,7 @@ public class CreateFulfillmentOrderRequest {
     private Address destinationAddress;
 
     @NotEmpty(message = "Order must have at least one item")
-    @Size(max = 100, message = "Maximum 100 items per order")
+    @Size(max = 10000, message = "Maximum 10,000 items per order")
     @Valid
     private List<OrderItem> items;
 
@@ -0,0 +1,30 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * The results of a batch create, one per submitted order and in the same order.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class FulfillmentOrderBatchDto {
+    private List<FulfillmentOrderBatchResultDto> results;
+
+    public FulfillmentOrderBatchDto() {
+    }
+
+    public FulfillmentOrderBatchDto(List<FulfillmentOrderBatchResultDto> results) {
+        this.results = results;
+    }
+
+    // Getters and setters
+    public List<FulfillmentOrderBatchResultDto> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FulfillmentOrderBatchResultDto> results) {
+        this.results = results;
+    }
+}
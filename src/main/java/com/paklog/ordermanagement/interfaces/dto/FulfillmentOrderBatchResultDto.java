@@ -0,0 +1,84 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * The result of one order of a batch. status is the HTTP status the order would have been
+ * answered with on its own; order is present when it was created or replayed, errors when it
+ * was not accepted. line is only set for orders of an NDJSON import.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FulfillmentOrderBatchResultDto {
+    private Long line;
+    private String idempotencyKey;
+    private String outcome;
+    private int status;
+    private FulfillmentOrderDto order;
+    private List<String> errors;
+
+    public FulfillmentOrderBatchResultDto() {
+    }
+
+    public FulfillmentOrderBatchResultDto(String idempotencyKey, String outcome, int status,
+                                          FulfillmentOrderDto order, List<String> errors) {
+        this.idempotencyKey = idempotencyKey;
+        this.outcome = outcome;
+        this.status = status;
+        this.order = order;
+        this.errors = errors;
+    }
+
+    // Getters and setters
+    public Long getLine() {
+        return line;
+    }
+
+    public void setLine(Long line) {
+        this.line = line;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public FulfillmentOrderDto getOrder() {
+        return order;
+    }
+
+    public void setOrder(FulfillmentOrderDto order) {
+        this.order = order;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,41 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * A page of order search results. Pass next_page_token back as page_token, with the same
+ * filters, to get the next page; it is null on the last page.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class FulfillmentOrderPageDto {
+    private List<FulfillmentOrderSummaryDto> orders;
+    private String nextPageToken;
+
+    public FulfillmentOrderPageDto() {
+    }
+
+    public FulfillmentOrderPageDto(List<FulfillmentOrderSummaryDto> orders, String nextPageToken) {
+        this.orders = orders;
+        this.nextPageToken = nextPageToken;
+    }
+
+    // Getters and setters
+    public List<FulfillmentOrderSummaryDto> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<FulfillmentOrderSummaryDto> orders) {
+        this.orders = orders;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+}
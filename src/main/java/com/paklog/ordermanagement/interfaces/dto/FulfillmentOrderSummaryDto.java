@@ -0,0 +1,132 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentAction;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+
+/**
+ * An order in search results. The destination address and items are only present when the
+ * search includes them.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FulfillmentOrderSummaryDto {
+    private UUID orderId;
+    private String sellerFulfillmentOrderId;
+    private String displayableOrderId;
+    private LocalDateTime displayableOrderDate;
+    private String shippingSpeedCategory;
+    private FulfillmentOrderStatus status;
+    private LocalDateTime receivedDate;
+    private FulfillmentPolicy fulfillmentPolicy;
+    private FulfillmentAction fulfillmentAction;
+    private int itemCount;
+    private Address destinationAddress;
+    private List<OrderItem> items;
+
+    // Getters and setters
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getSellerFulfillmentOrderId() {
+        return sellerFulfillmentOrderId;
+    }
+
+    public void setSellerFulfillmentOrderId(String sellerFulfillmentOrderId) {
+        this.sellerFulfillmentOrderId = sellerFulfillmentOrderId;
+    }
+
+    public String getDisplayableOrderId() {
+        return displayableOrderId;
+    }
+
+    public void setDisplayableOrderId(String displayableOrderId) {
+        this.displayableOrderId = displayableOrderId;
+    }
+
+    public LocalDateTime getDisplayableOrderDate() {
+        return displayableOrderDate;
+    }
+
+    public void setDisplayableOrderDate(LocalDateTime displayableOrderDate) {
+        this.displayableOrderDate = displayableOrderDate;
+    }
+
+    public String getShippingSpeedCategory() {
+        return shippingSpeedCategory;
+    }
+
+    public void setShippingSpeedCategory(String shippingSpeedCategory) {
+        this.shippingSpeedCategory = shippingSpeedCategory;
+    }
+
+    public FulfillmentOrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(FulfillmentOrderStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getReceivedDate() {
+        return receivedDate;
+    }
+
+    public void setReceivedDate(LocalDateTime receivedDate) {
+        this.receivedDate = receivedDate;
+    }
+
+    public FulfillmentPolicy getFulfillmentPolicy() {
+        return fulfillmentPolicy;
+    }
+
+    public void setFulfillmentPolicy(FulfillmentPolicy fulfillmentPolicy) {
+        this.fulfillmentPolicy = fulfillmentPolicy;
+    }
+
+    public FulfillmentAction getFulfillmentAction() {
+        return fulfillmentAction;
+    }
+
+    public void setFulfillmentAction(FulfillmentAction fulfillmentAction) {
+        this.fulfillmentAction = fulfillmentAction;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    public Address getDestinationAddress() {
+        return destinationAddress;
+    }
+
+    public void setDestinationAddress(Address destinationAddress) {
+        this.destinationAddress = destinationAddress;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderItem> items) {
+        this.items = items;
+    }
+}
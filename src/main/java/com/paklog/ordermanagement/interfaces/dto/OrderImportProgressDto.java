@@ -0,0 +1,74 @@
+package com.paklog.ordermanagement.interfaces.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * A progress line of an NDJSON import, written after every batch. orders_read and outcomes
+ * are running totals; failures lists the orders of the latest batch that were not accepted.
+ * The last line has complete set, or error when the import stopped before the end of the body.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderImportProgressDto {
+    private long ordersRead;
+    private Map<String, Long> outcomes;
+    private List<FulfillmentOrderBatchResultDto> failures;
+    private boolean complete;
+    private String error;
+
+    public OrderImportProgressDto() {
+    }
+
+    public OrderImportProgressDto(long ordersRead, Map<String, Long> outcomes,
+                                  List<FulfillmentOrderBatchResultDto> failures) {
+        this.ordersRead = ordersRead;
+        this.outcomes = outcomes;
+        this.failures = failures;
+    }
+
+    // Getters and setters
+    public long getOrdersRead() {
+        return ordersRead;
+    }
+
+    public void setOrdersRead(long ordersRead) {
+        this.ordersRead = ordersRead;
+    }
+
+    public Map<String, Long> getOutcomes() {
+        return outcomes;
+    }
+
+    public void setOutcomes(Map<String, Long> outcomes) {
+        this.outcomes = outcomes;
+    }
+
+    public List<FulfillmentOrderBatchResultDto> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<FulfillmentOrderBatchResultDto> failures) {
+        this.failures = failures;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -1,15 +1,32 @@
 package com.paklog.ordermanagement.interfaces.rest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,20 +35,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.paklog.ordermanagement.application.service.EventPublisherService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paklog.ordermanagement.application.service.FulfillmentOrderService;
-import com.paklog.ordermanagement.domain.event.FulfillmentOrderPartiallyAcceptedEvent;
-import com.paklog.ordermanagement.domain.event.FulfillmentOrderStockUnavailableEvent;
-import com.paklog.ordermanagement.domain.event.FulfillmentOrderValidatedEvent;
+import com.paklog.ordermanagement.application.service.OrderIntakePipeline;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
-import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
-import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
-import com.paklog.ordermanagement.domain.service.OrderValidationService;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPosition;
+import com.paklog.ordermanagement.infrastructure.cache.OrderResponseCache;
+import com.paklog.ordermanagement.infrastructure.config.OrderStreamConfig;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.QueryClass;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.routing.ReadRouting;
+import com.paklog.ordermanagement.infrastructure.resilience.DeadlineExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.RequestDeadline;
 import com.paklog.ordermanagement.interfaces.dto.CancelFulfillmentOrderRequest;
+import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderBatchRequest;
 import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderRequest;
+import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderBatchDto;
+import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderBatchResultDto;
 import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderDto;
+import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderPageDto;
+import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderSummaryDto;
+import com.paklog.ordermanagement.interfaces.dto.OrderImportProgressDto;
 
 @RestController
 @RequestMapping("/fulfillment_orders")
@@ -40,16 +72,29 @@ public class FulfillmentOrderController {
 
     private static final Logger logger = LoggerFactory.getLogger(FulfillmentOrderController.class);
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String INCLUDE_ITEMS = "items";
+    private static final String INCLUDE_ADDRESS = "destination_address";
+
     private final FulfillmentOrderService fulfillmentOrderService;
-    private final OrderValidationService orderValidationService;
-    private final EventPublisherService eventPublisherService;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final OrderStreamConfig orderStreamConfig;
+    private final OrderResponseCache orderResponseCache;
 
     public FulfillmentOrderController(FulfillmentOrderService fulfillmentOrderService,
-                                     OrderValidationService orderValidationService,
-                                     EventPublisherService eventPublisherService) {
+                                     OrderIntakePipeline orderIntakePipeline,
+                                     Validator validator,
+                                     ObjectMapper objectMapper,
+                                     OrderStreamConfig orderStreamConfig,
+                                     OrderResponseCache orderResponseCache) {
         this.fulfillmentOrderService = fulfillmentOrderService;
-        this.orderValidationService = orderValidationService;
-        this.eventPublisherService = eventPublisherService;
+        this.orderIntakePipeline = orderIntakePipeline;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.orderStreamConfig = orderStreamConfig;
+        this.orderResponseCache = orderResponseCache;
     }
 
     @PostMapping
@@ -67,33 +112,20 @@ public class FulfillmentOrderController {
             FulfillmentOrder order = convertToDomain(request, idempotencyKey);
             logger.debug("Converted request to domain model - OrderId: {}", order.getOrderId());
 
-            // Validate basic business rules (not inventory)
-            if (!validateOrder(order)) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-            }
+            // Validate, check inventory and duplicates, apply policy and persist
+            OrderIntakePipeline.IntakeResult result = orderIntakePipeline.submit(order);
 
-            // Check inventory availability
-            OrderValidationService.InventoryAvailabilityResult inventoryResult =
-                orderValidationService.checkInventoryAvailability(order);
-
-            // Apply fulfillment policy
-            if (!applyFulfillmentPolicy(order, inventoryResult)) {
-                // FILL_OR_KILL policy and items unavailable
-                logger.warn("Order rejected due to FILL_OR_KILL policy - OrderId: {}, UnavailableItems: {}",
-                    order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
+            if (!result.isAccepted()) {
+                // Validation failed, or FILL_OR_KILL policy and items unavailable
+                logger.warn("Fulfillment order not accepted - OrderId: {}, Outcome: {}, Errors: {}",
+                    order.getOrderId(), result.getOutcome(), result.getErrors());
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
             }
 
-            // Publish validation success event
-            publishValidationEvent(order);
-
-            // Publish inventory-related events based on order state
-            publishInventoryEvents(order);
-
-            // Create and persist the order
-            FulfillmentOrder createdOrder = fulfillmentOrderService.createOrder(order);
-            logger.info("Successfully created fulfillment order - OrderId: {}, Status: {}, FulfillmentAction: {}",
-                    createdOrder.getOrderId(), createdOrder.getStatus(), createdOrder.getFulfillmentAction());
+            FulfillmentOrder createdOrder = result.getOrder();
+            logger.info("Successfully created fulfillment order - OrderId: {}, Status: {}, FulfillmentAction: {}, Outcome: {}",
+                    createdOrder.getOrderId(), createdOrder.getStatus(), createdOrder.getFulfillmentAction(),
+                    result.getOutcome());
 
             // Convert to DTO and return
             FulfillmentOrderDto dto = convertToDto(createdOrder);
@@ -102,6 +134,9 @@ public class FulfillmentOrderController {
 
             return ResponseEntity.status(HttpStatus.ACCEPTED).body(dto);
 
+        } catch (DeadlineExceededException e) {
+            return handleDeadlineExceeded(request, startTime, e);
+
         } catch (IllegalStateException e) {
             return handleConflictError(request, startTime, e);
 
@@ -110,114 +145,6 @@ public class FulfillmentOrderController {
         }
     }
 
-    /**
-     * Validates the order against business rules.
-     *
-     * @param order the order to validate
-     * @return true if validation passes, false otherwise
-     */
-    private boolean validateOrder(FulfillmentOrder order) {
-        OrderValidationService.ValidationResult validationResult = orderValidationService.validate(order);
-        if (!validationResult.isValid()) {
-            logger.warn("Order validation failed - OrderId: {}, Errors: {}",
-                order.getOrderId(), validationResult.getErrors());
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Applies the fulfillment policy based on inventory availability.
-     *
-     * @param order the order to process
-     * @param inventoryResult the inventory availability result
-     * @return true if order should be accepted, false if rejected
-     */
-    private boolean applyFulfillmentPolicy(FulfillmentOrder order,
-                                          OrderValidationService.InventoryAvailabilityResult inventoryResult) {
-        FulfillmentPolicy policy = order.getFulfillmentPolicy();
-
-        if (inventoryResult.isAllAvailable()) {
-            // All items available, no need to apply policy restrictions
-            logger.debug("All items available - OrderId: {}, Policy: {}", order.getOrderId(), policy);
-            return true;
-        }
-
-        // Items are unavailable, apply policy
-        for (UnfulfillableItem item : inventoryResult.getUnfulfillableItems()) {
-            order.addUnfulfillableItem(item);
-        }
-
-        switch (policy) {
-            case FILL_OR_KILL:
-                // Reject the entire order
-                logger.info("FILL_OR_KILL policy: Rejecting order due to unavailable items - OrderId: {}",
-                    order.getOrderId());
-                return false;
-
-            case FILL_ALL:
-                // Accept the order, will publish stock unavailable event
-                logger.info("FILL_ALL policy: Accepting order despite unavailable items - OrderId: {}, UnavailableCount: {}",
-                    order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
-                return true;
-
-            case FILL_ALL_AVAILABLE:
-                // Accept the order with partial fulfillment
-                logger.info("FILL_ALL_AVAILABLE policy: Accepting order for partial fulfillment - OrderId: {}, UnavailableCount: {}",
-                    order.getOrderId(), inventoryResult.getUnfulfillableItems().size());
-                return true;
-
-            default:
-                logger.error("Unknown fulfillment policy - OrderId: {}, Policy: {}", order.getOrderId(), policy);
-                return false;
-        }
-    }
-
-    /**
-     * Publishes inventory-related events based on order state.
-     *
-     * @param order the order with inventory state
-     */
-    private void publishInventoryEvents(FulfillmentOrder order) {
-        if (!order.hasUnfulfillableItems()) {
-            return;
-        }
-
-        FulfillmentPolicy policy = order.getFulfillmentPolicy();
-
-        if (policy == FulfillmentPolicy.FILL_ALL_AVAILABLE && order.isPartiallyFulfillable()) {
-            // Publish partial fulfillment event
-            logger.debug("Publishing FulfillmentOrderPartiallyAcceptedEvent - OrderId: {}", order.getOrderId());
-            FulfillmentOrderPartiallyAcceptedEvent partialEvent =
-                new FulfillmentOrderPartiallyAcceptedEvent(order);
-            eventPublisherService.publishEvent(partialEvent);
-            logger.info("Partial fulfillment event published - OrderId: {}, UnfulfillableItems: {}",
-                order.getOrderId(), order.getUnfulfillableItems().size());
-        }
-
-        if (policy == FulfillmentPolicy.FILL_ALL || order.hasUnfulfillableItems()) {
-            // Publish stock unavailable event
-            logger.debug("Publishing FulfillmentOrderStockUnavailableEvent - OrderId: {}", order.getOrderId());
-            FulfillmentOrderStockUnavailableEvent stockEvent =
-                new FulfillmentOrderStockUnavailableEvent(order);
-            eventPublisherService.publishEvent(stockEvent);
-            logger.info("Stock unavailable event published - OrderId: {}, UnavailableItems: {}",
-                order.getOrderId(), order.getUnfulfillableItems().size());
-        }
-    }
-
-    /**
-     * Publishes validation success event.
-     *
-     * @param order the validated order
-     */
-    private void publishValidationEvent(FulfillmentOrder order) {
-        logger.debug("Publishing FulfillmentOrderValidatedEvent - OrderId: {}", order.getOrderId());
-        FulfillmentOrderValidatedEvent validatedEvent = new FulfillmentOrderValidatedEvent(order);
-        eventPublisherService.publishEvent(validatedEvent);
-        logger.info("Order validation successful - OrderId: {}", order.getOrderId());
-    }
-
     /**
      * Logs completion metrics.
      *
@@ -246,6 +173,22 @@ public class FulfillmentOrderController {
         return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
+    /**
+     * Handles a request that ran out of time before the order could be persisted.
+     *
+     * @param request the original request
+     * @param startTime when the operation started
+     * @param e the exception
+     * @return HTTP 504 Gateway Timeout response
+     */
+    private ResponseEntity<FulfillmentOrderDto> handleDeadlineExceeded(
+            CreateFulfillmentOrderRequest request, Instant startTime, DeadlineExceededException e) {
+        Duration duration = Duration.between(startTime, Instant.now());
+        logger.warn("Deadline exceeded creating fulfillment order - SellerOrderId: {}, Operation: {}, Duration: {}ms",
+                request.getSellerFulfillmentOrderId(), e.getOperation(), duration.toMillis());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+    }
+
     /**
      * Handles general errors.
      *
@@ -262,25 +205,261 @@ public class FulfillmentOrderController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
     }
 
+    /**
+     * Creates a batch of orders, each with its own idempotency key. Every order gets its own
+     * result, with the status it would have been answered with on its own; the batch itself
+     * only fails when it is malformed or cannot be processed at all.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<FulfillmentOrderBatchDto> createFulfillmentOrders(
+            @Valid @RequestBody CreateFulfillmentOrderBatchRequest request) {
+        Instant startTime = Instant.now();
+        List<CreateFulfillmentOrderBatchRequest.Entry> entries = request.getOrders();
+        logger.info("Creating fulfillment order batch - Orders: {}", entries.size());
+
+        try {
+            List<FulfillmentOrderBatchResultDto> results = submitBatch(entries);
+
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.info("Create fulfillment order batch completed - Orders: {}, Duration: {}ms",
+                    entries.size(), duration.toMillis());
+            return ResponseEntity.ok(new FulfillmentOrderBatchDto(results));
+
+        } catch (DeadlineExceededException e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.warn("Deadline exceeded creating fulfillment order batch - Orders: {}, Operation: {}, Duration: {}ms",
+                    entries.size(), e.getOperation(), duration.toMillis());
+            return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).build();
+
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to create fulfillment order batch - Orders: {}, Error: {}, Duration: {}ms",
+                    entries.size(), e.getMessage(), duration.toMillis(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Imports orders from an NDJSON body, one order with its idempotency key per line.
+     * The body is parsed incrementally and submitted in micro-batches, so it is never held in
+     * memory and is only read as fast as orders are persisted. A progress line follows every
+     * batch; the last line has complete set, or an error when the import stopped early. Orders
+     * imported before that are kept, and resubmitting the body replays them by their keys.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importFulfillmentOrders(InputStream body, HttpServletResponse response) throws IOException {
+        Instant startTime = Instant.now();
+        logger.info("Importing fulfillment orders - BatchSize: {}", orderStreamConfig.getImportBatchSize());
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        NdjsonWriter writer = new NdjsonWriter(objectMapper, OrderImportProgressDto.class, response.getOutputStream());
+        long ordersRead = 0;
+        Map<String, Long> outcomes = new TreeMap<>();
+        OrderImportProgressDto progress = new OrderImportProgressDto(0, outcomes, List.of());
+
+        try (NdjsonOrderReader reader = new NdjsonOrderReader(objectMapper, body)) {
+            List<NdjsonOrderReader.Line> lines;
+            while (!(lines = reader.read(orderStreamConfig.getImportBatchSize())).isEmpty()) {
+                // Each batch gets its own budget; the request's would run out long before the body does
+                List<FulfillmentOrderBatchResultDto> results;
+                try (RequestDeadline.Scope scope =
+                         RequestDeadline.bind(RequestDeadline.after(orderStreamConfig.getImportBatchTimeout()))) {
+                    results = importBatch(lines);
+                }
+
+                ordersRead += lines.size();
+                List<FulfillmentOrderBatchResultDto> failures = new ArrayList<>();
+                for (FulfillmentOrderBatchResultDto result : results) {
+                    outcomes.merge(result.getOutcome(), 1L, Long::sum);
+                    if (result.getOrder() == null) {
+                        failures.add(result);
+                    }
+                }
+                progress = new OrderImportProgressDto(ordersRead, outcomes, failures);
+                writer.write(progress);
+                writer.flush();
+                logger.debug("Imported fulfillment order batch - Orders: {}, Failures: {}, OrdersRead: {}",
+                        lines.size(), failures.size(), ordersRead);
+            }
+            progress = new OrderImportProgressDto(ordersRead, outcomes, List.of());
+            progress.setComplete(true);
+
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.info("Import fulfillment orders completed - OrdersRead: {}, Outcomes: {}, Duration: {}ms",
+                    ordersRead, outcomes, duration.toMillis());
+
+        } catch (StreamReadException e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.warn("Malformed fulfillment order import - OrdersRead: {}, Error: {}, Duration: {}ms",
+                    ordersRead, e.getOriginalMessage(), duration.toMillis());
+            progress = new OrderImportProgressDto(ordersRead, outcomes, List.of());
+            progress.setError("Malformed JSON at line " + e.getLocation().getLineNr() + ": " + e.getOriginalMessage());
+
+        } catch (DeadlineExceededException e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.warn("Deadline exceeded importing fulfillment orders - OrdersRead: {}, Operation: {}, Duration: {}ms",
+                    ordersRead, e.getOperation(), duration.toMillis());
+            progress = new OrderImportProgressDto(ordersRead, outcomes, List.of());
+            progress.setError("Deadline exceeded in " + e.getOperation() + " after " + ordersRead + " order(s)");
+
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to import fulfillment orders - OrdersRead: {}, Error: {}, Duration: {}ms",
+                    ordersRead, e.getMessage(), duration.toMillis(), e);
+            progress = new OrderImportProgressDto(ordersRead, outcomes, List.of());
+            progress.setError("Import failed after " + ordersRead + " order(s)");
+        }
+
+        writer.write(progress);
+        writer.finish();
+    }
+
+    /**
+     * Exports the orders matching the filters as NDJSON, one whole order per line, newest first
+     * or by seller order ID when filtering on a seller order ID prefix. Orders are written as
+     * they are read from a database cursor, which only advances as fast as the client reads,
+     * so the result set is never held in memory. An export that fails once it has started
+     * sending is aborted rather than completed, so clients cannot mistake it for a whole one.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportFulfillmentOrders(
+            @RequestParam(value = "status", required = false) FulfillmentOrderStatus status,
+            @RequestParam(value = "received_from", required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime receivedFrom,
+            @RequestParam(value = "received_to", required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime receivedTo,
+            @RequestParam(value = "shipping_speed_category", required = false) String shippingSpeedCategory,
+            @RequestParam(value = "seller_order_id_prefix", required = false) String sellerOrderIdPrefix,
+            @RequestParam(value = "limit", required = false)
+                @Min(value = 1, message = "limit must be at least 1") Integer limit,
+            HttpServletResponse response) throws IOException {
+        Instant startTime = Instant.now();
+        logger.info("Exporting fulfillment orders - Status: {}, ReceivedFrom: {}, ReceivedTo: {}, ShippingSpeed: {}, SellerOrderIdPrefix: {}, Limit: {}",
+                status, receivedFrom, receivedTo, shippingSpeedCategory, sellerOrderIdPrefix, limit);
+
+        OrderSearchCriteria criteria = new OrderSearchCriteria(status, receivedFrom, receivedTo,
+            shippingSpeedCategory, sellerOrderIdPrefix, true, true, null,
+            limit != null ? limit : Integer.MAX_VALUE);
+        long exported = 0;
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (RequestDeadline.Scope scope =
+                 RequestDeadline.bind(RequestDeadline.after(orderStreamConfig.getExportTimeout()));
+             ReadRouting.Scope routing = ReadRouting.bind(QueryClass.ANALYTICS);
+             Stream<FulfillmentOrder> orders = fulfillmentOrderService.streamOrders(criteria)) {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, FulfillmentOrderDto.class, response.getOutputStream());
+            Iterator<FulfillmentOrder> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                RequestDeadline.checkCurrent("exportFulfillmentOrders");
+                writer.write(convertToDto(iterator.next()));
+                exported++;
+            }
+            writer.finish();
+
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.info("Export fulfillment orders completed - Orders: {}, Duration: {}ms",
+                    exported, duration.toMillis());
+
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to export fulfillment orders - Exported: {}, Error: {}, Duration: {}ms",
+                    exported, e.getMessage(), duration.toMillis(), e);
+            if (response.isCommitted()) {
+                // Propagating aborts the response without its final chunk
+                throw e;
+            }
+            response.reset();
+            response.setStatus(e instanceof DeadlineExceededException
+                ? HttpStatus.GATEWAY_TIMEOUT.value()
+                : HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    /**
+     * Lists orders page by page, newest first, or by seller order ID when filtering on a
+     * seller order ID prefix. Results are summaries; include=items and
+     * include=destination_address add those fields.
+     */
+    @GetMapping
+    public ResponseEntity<FulfillmentOrderPageDto> searchFulfillmentOrders(
+            @RequestParam(value = "status", required = false) FulfillmentOrderStatus status,
+            @RequestParam(value = "received_from", required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime receivedFrom,
+            @RequestParam(value = "received_to", required = false)
+                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime receivedTo,
+            @RequestParam(value = "shipping_speed_category", required = false) String shippingSpeedCategory,
+            @RequestParam(value = "seller_order_id_prefix", required = false) String sellerOrderIdPrefix,
+            @RequestParam(value = "include", required = false) Set<String> include,
+            @RequestParam(value = "limit", defaultValue = "50")
+                @Min(value = 1, message = "limit must be at least 1")
+                @Max(value = MAX_PAGE_SIZE, message = "limit must be at most " + MAX_PAGE_SIZE) int limit,
+            @RequestParam(value = "page_token", required = false) String pageToken) {
+        Instant startTime = Instant.now();
+        logger.info("Searching fulfillment orders - Status: {}, ReceivedFrom: {}, ReceivedTo: {}, ShippingSpeed: {}, SellerOrderIdPrefix: {}, Limit: {}",
+                status, receivedFrom, receivedTo, shippingSpeedCategory, sellerOrderIdPrefix, limit);
+
+        try (ReadRouting.Scope routing = ReadRouting.bind(QueryClass.SEARCH)) {
+            Set<String> includedFields = include != null ? include : Set.of();
+            for (String field : includedFields) {
+                if (!INCLUDE_ITEMS.equals(field) && !INCLUDE_ADDRESS.equals(field)) {
+                    throw new IllegalArgumentException("Unknown include: " + field);
+                }
+            }
+            OrderSearchCriteria criteria = new OrderSearchCriteria(status, receivedFrom, receivedTo,
+                shippingSpeedCategory, sellerOrderIdPrefix,
+                includedFields.contains(INCLUDE_ITEMS), includedFields.contains(INCLUDE_ADDRESS),
+                pageToken != null ? OrderSearchPosition.fromPageToken(pageToken) : null, limit);
+
+            OrderSearchPage page = fulfillmentOrderService.searchOrders(criteria);
+
+            List<FulfillmentOrderSummaryDto> orders = page.getOrders().stream()
+                .map(order -> convertToSummaryDto(order, criteria))
+                .toList();
+            String nextPageToken = page.getNext() != null ? page.getNext().toPageToken() : null;
+
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.info("Search fulfillment orders completed - Results: {}, HasMore: {}, Duration: {}ms",
+                    orders.size(), nextPageToken != null, duration.toMillis());
+            return ResponseEntity.ok(new FulfillmentOrderPageDto(orders, nextPageToken));
+
+        } catch (IllegalArgumentException e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.warn("Invalid fulfillment order search - Error: {}, Duration: {}ms",
+                    e.getMessage(), duration.toMillis());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+
+        } catch (Exception e) {
+            Duration duration = Duration.between(startTime, Instant.now());
+            logger.error("Failed to search fulfillment orders - Error: {}, Duration: {}ms",
+                    e.getMessage(), duration.toMillis(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Returns one order. Responses are served from the order response cache as serialized
+     * bodies, so a hot order is answered without reading MongoDB or converting it again.
+     * Misses are read as status polls, which read the primary by default: a secondary may not
+     * have the change that just evicted the entry yet.
+     */
     @GetMapping("/{order_id}")
-    public ResponseEntity<FulfillmentOrderDto> getFulfillmentOrderById(@PathVariable("order_id") UUID orderId) {
+    public ResponseEntity<byte[]> getFulfillmentOrderById(@PathVariable("order_id") UUID orderId) {
         Instant startTime = Instant.now();
         logger.info("Retrieving fulfillment order - OrderId: {}", orderId);
 
-        try {
-            return fulfillmentOrderService.getOrderById(orderId)
-                .map(order -> {
-                    Duration duration = Duration.between(startTime, Instant.now());
-                    logger.info("Successfully retrieved fulfillment order - OrderId: {}, Status: {}, Duration: {}ms",
-                            orderId, order.getStatus(), duration.toMillis());
-                    return ResponseEntity.ok(convertToDto(order));
-                })
-                .orElseGet(() -> {
-                    Duration duration = Duration.between(startTime, Instant.now());
-                    logger.warn("Fulfillment order not found - OrderId: {}, Duration: {}ms",
-                            orderId, duration.toMillis());
-                    return ResponseEntity.notFound().build();
-                });
+        try (ReadRouting.Scope routing = ReadRouting.bind(QueryClass.STATUS)) {
+            byte[] body = orderResponseCache.get(orderId, this::loadOrderBody);
+            Duration duration = Duration.between(startTime, Instant.now());
+            if (body == null) {
+                logger.warn("Fulfillment order not found - OrderId: {}, Duration: {}ms",
+                        orderId, duration.toMillis());
+                return ResponseEntity.notFound().build();
+            }
+            logger.info("Successfully retrieved fulfillment order - OrderId: {}, Duration: {}ms",
+                    orderId, duration.toMillis());
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+
         } catch (Exception e) {
             Duration duration = Duration.between(startTime, Instant.now());
             logger.error("Failed to retrieve fulfillment order - OrderId: {}, Error: {}, Duration: {}ms",
@@ -298,6 +477,8 @@ public class FulfillmentOrderController {
 
         try {
             fulfillmentOrderService.cancelOrder(orderId, request.getCancellationReason());
+            // Other pods evict the order when its cancelled event arrives
+            orderResponseCache.invalidate(orderId);
 
             Duration duration = Duration.between(startTime, Instant.now());
             logger.info("Successfully cancelled fulfillment order - OrderId: {}, Duration: {}ms",
@@ -325,10 +506,84 @@ public class FulfillmentOrderController {
         }
     }
 
+    /**
+     * Submits the entries of a batch together. Entries failing bean validation are answered
+     * without entering the intake; the results are in the order of the entries.
+     */
+    private List<FulfillmentOrderBatchResultDto> submitBatch(List<CreateFulfillmentOrderBatchRequest.Entry> entries) {
+        List<FulfillmentOrderBatchResultDto> results = new ArrayList<>(entries.size());
+        List<FulfillmentOrder> orders = new ArrayList<>(entries.size());
+        List<Integer> positions = new ArrayList<>(entries.size());
+        for (CreateFulfillmentOrderBatchRequest.Entry entry : entries) {
+            Set<ConstraintViolation<CreateFulfillmentOrderBatchRequest.Entry>> violations = validator.validate(entry);
+            if (violations.isEmpty()) {
+                positions.add(results.size());
+                orders.add(convertToDomain(entry, entry.getIdempotencyKey()));
+                results.add(null);
+            } else {
+                List<String> errors = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList();
+                results.add(invalidResult(entry.getIdempotencyKey(), errors));
+            }
+        }
+
+        List<OrderIntakePipeline.IntakeResult> intakeResults =
+            orders.isEmpty() ? List.of() : orderIntakePipeline.submitBatch(orders);
+        for (int i = 0; i < intakeResults.size(); i++) {
+            results.set(positions.get(i), convertToBatchResultDto(orders.get(i), intakeResults.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Submits one batch of an import. Lines that could not be read are answered as invalid.
+     */
+    private List<FulfillmentOrderBatchResultDto> importBatch(List<NdjsonOrderReader.Line> lines) {
+        List<CreateFulfillmentOrderBatchRequest.Entry> entries = new ArrayList<>(lines.size());
+        for (NdjsonOrderReader.Line line : lines) {
+            if (line.entry() != null) {
+                entries.add(line.entry());
+            }
+        }
+        Iterator<FulfillmentOrderBatchResultDto> submitted = submitBatch(entries).iterator();
+
+        List<FulfillmentOrderBatchResultDto> results = new ArrayList<>(lines.size());
+        for (NdjsonOrderReader.Line line : lines) {
+            FulfillmentOrderBatchResultDto result = line.entry() != null
+                ? submitted.next()
+                : invalidResult(null, List.of(line.error()));
+            result.setLine(line.number());
+            results.add(result);
+        }
+        return results;
+    }
+
+    private static FulfillmentOrderBatchResultDto invalidResult(String idempotencyKey, List<String> errors) {
+        return new FulfillmentOrderBatchResultDto(idempotencyKey,
+            OrderIntakePipeline.IntakeResult.Outcome.INVALID.name(), HttpStatus.BAD_REQUEST.value(), null, errors);
+    }
+
+    /**
+     * Reads an order and serializes its response body, or returns null if it does not exist.
+     */
+    private byte[] loadOrderBody(UUID orderId) {
+        return fulfillmentOrderService.getOrderById(orderId)
+            .map(order -> {
+                try {
+                    return objectMapper.writeValueAsBytes(convertToDto(order));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize order " + orderId, e);
+                }
+            })
+            .orElse(null);
+    }
+
     // Helper methods for conversion
     private FulfillmentOrder convertToDomain(CreateFulfillmentOrderRequest request, String idempotencyKey) {
         return new FulfillmentOrder(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             request.getSellerFulfillmentOrderId(),
             request.getDisplayableOrderId(),
             request.getDisplayableOrderDate(),
@@ -359,4 +614,40 @@ public class FulfillmentOrderController {
         // Note: unfulfillableItems are communicated asynchronously via domain events
         return dto;
     }
+
+    private FulfillmentOrderBatchResultDto convertToBatchResultDto(FulfillmentOrder order,
+                                                                 OrderIntakePipeline.IntakeResult result) {
+        HttpStatus status = switch (result.getOutcome()) {
+            case CREATED, REPLAYED -> HttpStatus.ACCEPTED;
+            case CONFLICT -> HttpStatus.CONFLICT;
+            case INVALID, REJECTED -> HttpStatus.BAD_REQUEST;
+        };
+        return new FulfillmentOrderBatchResultDto(
+            order.getIdempotencyKey(),
+            result.getOutcome().name(),
+            status.value(),
+            result.isAccepted() ? convertToDto(result.getOrder()) : null,
+            result.isAccepted() ? null : result.getErrors());
+    }
+
+    private FulfillmentOrderSummaryDto convertToSummaryDto(FulfillmentOrder order, OrderSearchCriteria criteria) {
+        FulfillmentOrderSummaryDto dto = new FulfillmentOrderSummaryDto();
+        dto.setOrderId(order.getOrderId());
+        dto.setSellerFulfillmentOrderId(order.getSellerFulfillmentOrderId());
+        dto.setDisplayableOrderId(order.getDisplayableOrderId());
+        dto.setDisplayableOrderDate(order.getDisplayableOrderDate());
+        dto.setShippingSpeedCategory(order.getShippingSpeedCategory());
+        dto.setStatus(order.getStatus());
+        dto.setReceivedDate(order.getReceivedDate());
+        dto.setFulfillmentPolicy(order.getFulfillmentPolicy());
+        dto.setFulfillmentAction(order.getFulfillmentAction());
+        dto.setItemCount(order.getItemCount());
+        if (criteria.isIncludeAddress()) {
+            dto.setDestinationAddress(order.getDestinationAddress());
+        }
+        if (criteria.isIncludeItems()) {
+            dto.setItems(order.getItems());
+        }
+        return dto;
+    }
 }
@@ -0,0 +1,89 @@
+package com.paklog.ordermanagement.interfaces.rest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderBatchRequest;
+
+/**
+ * Reads the orders of an NDJSON import with Jackson's streaming parser, a bounded number at a
+ * time, so only the orders of the batch being read are held in memory however long the body is.
+ *
+ * A line that is valid JSON but does not bind to an order is returned with its error and
+ * reading continues with the next line. Malformed JSON ends the import with a
+ * {@link StreamReadException}, since the start of the next order cannot be found reliably.
+ */
+class NdjsonOrderReader implements Closeable {
+
+    private final ObjectReader entryReader;
+    private final JsonParser parser;
+
+    NdjsonOrderReader(ObjectMapper objectMapper, InputStream body) throws IOException {
+        this.entryReader = objectMapper.readerFor(CreateFulfillmentOrderBatchRequest.Entry.class);
+        this.parser = objectMapper.getFactory().createParser(body);
+    }
+
+    /**
+     * Reads up to the given number of orders.
+     *
+     * @return the lines read, empty at the end of the body
+     * @throws StreamReadException if the body is not valid JSON
+     */
+    List<Line> read(int maxLines) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        while (lines.size() < maxLines) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                break;
+            }
+            long lineNumber = parser.currentTokenLocation().getLineNr();
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                lines.add(new Line(lineNumber, null, "Expected a JSON object"));
+                continue;
+            }
+            try {
+                lines.add(new Line(lineNumber, entryReader.readValue(parser), null));
+            } catch (DatabindException e) {
+                skipToRoot();
+                lines.add(new Line(lineNumber, null, e.getOriginalMessage()));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Skips the rest of the order that failed to bind, up to its closing brace.
+     */
+    private void skipToRoot() throws IOException {
+        while (!parser.getParsingContext().inRoot()) {
+            if (parser.nextToken() == null) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * One order of the import: the entry, or the error that prevented reading it.
+     *
+     * @param number the line the order starts on
+     * @param entry the order, or null if it could not be read
+     * @param error why the order could not be read, or null
+     */
+    record Line(long number, CreateFulfillmentOrderBatchRequest.Entry entry, String error) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.paklog.ordermanagement.interfaces.rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes values as NDJSON, one per line, through a single buffered generator. Nothing reaches
+ * the output stream until the buffer fills or {@link #flush()} is called, so a large export is
+ * sent in buffer-sized chunks rather than a write per value.
+ */
+class NdjsonWriter {
+
+    private final ObjectWriter writer;
+    private final JsonGenerator generator;
+
+    NdjsonWriter(ObjectMapper objectMapper, Class<?> type, OutputStream out) throws IOException {
+        this.writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        // Lines are terminated below instead of separated by the default space
+        this.generator.setRootValueSeparator(null);
+    }
+
+    void write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+    }
+
+    void flush() throws IOException {
+        generator.flush();
+    }
+
+    /**
+     * Flushes the remaining lines and closes the output stream. Not called when writing fails
+     * part-way, so that a failed response is not completed as if it were whole.
+     */
+    void finish() throws IOException {
+        generator.close();
+    }
+}
@@ -1,6 +1,7 @@
 package com.paklog.ordermanagement.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderEvent;
 import com.paklog.ordermanagement.domain.event.FulfillmentOrderReceivedEvent;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
@@ -38,6 +39,9 @@ class EventPublisherServiceTest {
     @Captor
     private ArgumentCaptor<OutboxEvent> outboxEventCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<OutboxEvent>> outboxEventsCaptor;
+
     private EventPublisherService eventPublisherService;
 
     @BeforeEach
@@ -72,6 +76,23 @@ class EventPublisherServiceTest {
         assertNotNull(capturedEvent.getCreatedAt());
     }
 
+    @Test
+    void testPublishEvents_WritesOutboxInOneInsert() throws Exception {
+        // Given
+        List<FulfillmentOrderEvent> events = List.of(
+                new FulfillmentOrderReceivedEvent(createTestOrder()),
+                new FulfillmentOrderReceivedEvent(createTestOrder()));
+        when(objectMapper.writeValueAsString(any())).thenReturn("{\"orderId\":\"123\"}");
+
+        // When
+        eventPublisherService.publishEvents(events);
+
+        // Then
+        verify(outboxEventRepository).insert(outboxEventsCaptor.capture());
+        verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+        assertEquals(2, outboxEventsCaptor.getValue().size());
+    }
+
     @Test
     void testPublishOutboxEvents() {
         // Given
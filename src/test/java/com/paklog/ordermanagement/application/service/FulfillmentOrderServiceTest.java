@@ -4,14 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,13 +23,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
+import com.paklog.ordermanagement.domain.config.LargeOrderConfig;
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderReceivedEvent;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
 import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
 import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+import com.paklog.ordermanagement.domain.repository.OrderItemChunkRepository;
 
 @ExtendWith(MockitoExtension.class)
 class FulfillmentOrderServiceTest {
@@ -33,9 +44,15 @@ class FulfillmentOrderServiceTest {
     @Mock
     private FulfillmentOrderRepository fulfillmentOrderRepository;
 
+    @Mock
+    private OrderItemChunkRepository orderItemChunkRepository;
+
     @Mock
     private EventPublisherService eventPublisherService;
 
+    @Spy
+    private LargeOrderConfig largeOrderConfig = new LargeOrderConfig();
+
     @InjectMocks
     private FulfillmentOrderService fulfillmentOrderService;
 
@@ -47,17 +64,16 @@ class FulfillmentOrderServiceTest {
     }
 
     @Test
-    void createOrderShouldPersistWhenIdempotencyKeyIsNew() {
-        when(fulfillmentOrderRepository.findByIdempotencyKey(order.getIdempotencyKey()))
-            .thenReturn(Optional.empty());
-        when(fulfillmentOrderRepository.findBySellerFulfillmentOrderId(order.getSellerFulfillmentOrderId()))
-            .thenReturn(Optional.empty());
-        when(fulfillmentOrderRepository.saveOrder(order)).thenReturn(order);
+    void createOrderShouldInsertInOneRoundTripWhenKeysAreNew() {
+        when(fulfillmentOrderRepository.insertOrder(order)).thenReturn(order);
 
         FulfillmentOrder created = fulfillmentOrderService.createOrder(order);
 
         assertThat(created.getStatus()).isEqualTo(FulfillmentOrderStatus.RECEIVED);
-        verify(fulfillmentOrderRepository).saveOrder(order);
+        assertThat(created.getAddressFingerprint()).isNotNull();
+        verify(fulfillmentOrderRepository).insertOrder(order);
+        verify(fulfillmentOrderRepository, never()).findByIdempotencyKey(anyString());
+        verify(fulfillmentOrderRepository, never()).findBySellerFulfillmentOrderId(anyString());
         verify(eventPublisherService).publishEvent(any());
     }
 
@@ -65,6 +81,8 @@ class FulfillmentOrderServiceTest {
     void createOrderShouldReturnExistingOrderWhenIdempotencyKeyMatches() {
         FulfillmentOrder existing = buildOrder("seller-id-2", order.getIdempotencyKey());
         existing.receive();
+        when(fulfillmentOrderRepository.insertOrder(order))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error, index: idempotencyKey"));
         when(fulfillmentOrderRepository.findByIdempotencyKey(order.getIdempotencyKey()))
             .thenReturn(Optional.of(existing));
 
@@ -72,22 +90,169 @@ class FulfillmentOrderServiceTest {
 
         assertThat(result).isSameAs(existing);
         verify(fulfillmentOrderRepository, never()).findBySellerFulfillmentOrderId(anyString());
-        verify(fulfillmentOrderRepository, never()).saveOrder(any());
         verifyNoInteractions(eventPublisherService);
     }
 
     @Test
     void createOrderShouldFailWhenSellerFulfillmentOrderIdExists() {
+        when(fulfillmentOrderRepository.insertOrder(order))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error, index: sellerFulfillmentOrderId"));
         when(fulfillmentOrderRepository.findByIdempotencyKey(order.getIdempotencyKey()))
             .thenReturn(Optional.empty());
-        when(fulfillmentOrderRepository.findBySellerFulfillmentOrderId(order.getSellerFulfillmentOrderId()))
-            .thenReturn(Optional.of(buildOrder(order.getSellerFulfillmentOrderId(), "other-key")));
 
         assertThrows(IllegalStateException.class, () -> fulfillmentOrderService.createOrder(order));
-        verify(fulfillmentOrderRepository, never()).saveOrder(any());
         verifyNoInteractions(eventPublisherService);
     }
 
+    @Test
+    void createOrderShouldRemoveItemChunksWhenInsertIsRejected() {
+        largeOrderConfig.setItemThreshold(1);
+        FulfillmentOrder large = buildOrder("seller-id-3", null, 3);
+        when(fulfillmentOrderRepository.insertOrder(large))
+            .thenThrow(new DuplicateKeyException("E11000 duplicate key error, index: sellerFulfillmentOrderId"));
+
+        assertThrows(IllegalStateException.class, () -> fulfillmentOrderService.createOrder(large));
+        verify(orderItemChunkRepository).deleteByOrderId(large.getOrderId());
+        verify(fulfillmentOrderRepository, never()).findByIdempotencyKey(any());
+    }
+
+    @Test
+    void createOrdersShouldInsertOnceAndResolveRejectedOrders() {
+        largeOrderConfig.setItemThreshold(1);
+        FulfillmentOrder large = buildOrder("seller-id-2", "key-2", 3);
+        FulfillmentOrder replay = buildOrder("seller-id-3", "key-3");
+        FulfillmentOrder taken = buildOrder("seller-id-4", "key-4");
+        FulfillmentOrder existing = buildOrder("seller-id-3", "key-3");
+        when(fulfillmentOrderRepository.insertOrders(List.of(order, large, replay, taken))).thenAnswer(invocation -> {
+            assertThat(large.getItems()).as("items inline in the order document").isNull();
+            return Set.of(replay.getOrderId(), taken.getOrderId());
+        });
+        when(fulfillmentOrderRepository.findByIdempotencyKeyIn(List.of("key-3", "key-4"))).thenReturn(List.of(existing));
+
+        Map<UUID, FulfillmentOrder> created = fulfillmentOrderService.createOrders(List.of(order, large, replay, taken));
+
+        assertThat(created).containsOnlyKeys(order.getOrderId(), large.getOrderId(), replay.getOrderId());
+        assertThat(created.get(replay.getOrderId())).isSameAs(existing);
+        assertThat(large.getItems()).hasSize(3);
+        assertThat(order.getStatus()).isEqualTo(FulfillmentOrderStatus.RECEIVED);
+        verify(orderItemChunkRepository).saveChunks(argThat(chunks -> chunks.size() == 1));
+        verify(eventPublisherService).publishEvents(argThat(events -> events.size() == 2));
+        verify(fulfillmentOrderRepository, never()).insertOrder(any());
+    }
+
+    @Test
+    void createOrdersShouldPublishInsertedOrdersBeforeRethrowingAFailedInsert() {
+        largeOrderConfig.setItemThreshold(1);
+        FulfillmentOrder failed = buildOrder("seller-id-2", "key-2", 3);
+        OrderBatchInsertException failure =
+            new OrderBatchInsertException(Set.of(failed.getOrderId()), new IllegalStateException("write failed"));
+        when(fulfillmentOrderRepository.insertOrders(List.of(order, failed))).thenThrow(failure);
+
+        assertThat(assertThrows(OrderBatchInsertException.class,
+            () -> fulfillmentOrderService.createOrders(List.of(order, failed)))).isSameAs(failure);
+
+        verify(eventPublisherService).publishEvents(argThat(events -> events.size() == 1
+            && ((FulfillmentOrderReceivedEvent.FulfillmentOrderData) events.get(0).getData()).getOrder() == order));
+        verify(orderItemChunkRepository).deleteByOrderId(failed.getOrderId());
+        verify(fulfillmentOrderRepository, never()).findByIdempotencyKeyIn(any());
+    }
+
+    @Test
+    void receiveAndSaveShouldStoreItemsOfLargeOrderInChunks() {
+        largeOrderConfig.setItemThreshold(4);
+        largeOrderConfig.setChunkSize(3);
+        FulfillmentOrder large = buildOrder("seller-id-3", "key-3", 7);
+        when(fulfillmentOrderRepository.insertOrder(large)).thenAnswer(invocation -> {
+            assertThat(large.getItems()).as("items inline in the order document").isNull();
+            return large;
+        });
+
+        FulfillmentOrder saved = fulfillmentOrderService.receiveAndSave(large);
+
+        assertThat(saved.getItems()).hasSize(7);
+        assertThat(saved.getItemChunkCount()).isEqualTo(3);
+        verify(orderItemChunkRepository).saveChunks(argThat(chunks -> chunks.size() == 3
+            && chunks.get(2).getChunkIndex() == 2 && chunks.get(2).getItems().size() == 1));
+        verify(eventPublisherService).publishEvent(argThat(event -> {
+            FulfillmentOrderReceivedEvent.FulfillmentOrderData data =
+                (FulfillmentOrderReceivedEvent.FulfillmentOrderData) event.getData();
+            return data.getOrder().getItems() == null
+                && data.getItemsSummary().getItemCount() == 7
+                && data.getItemsSummary().getTotalQuantity() == 7;
+        }));
+    }
+
+    @Test
+    void receiveAndSaveShouldKeepItemsOfSmallOrderInline() {
+        when(fulfillmentOrderRepository.insertOrder(order)).thenReturn(order);
+
+        fulfillmentOrderService.receiveAndSave(order);
+
+        assertThat(order.hasChunkedItems()).isFalse();
+        verifyNoInteractions(orderItemChunkRepository);
+    }
+
+    @Test
+    void getOrderByIdShouldLoadChunkedItems() {
+        FulfillmentOrder large = buildOrder("seller-id-3", "key-3", 5);
+        List<OrderItem> items = large.getItems();
+        large.chunkItems(2);
+        large.setItems(null);
+        when(fulfillmentOrderRepository.findById(large.getOrderId())).thenReturn(Optional.of(large));
+        when(orderItemChunkRepository.findByOrderIdOrderByChunkIndexAsc(large.getOrderId()))
+            .thenReturn(OrderItemChunk.split(large.getOrderId(), items, 2));
+
+        FulfillmentOrder loaded = fulfillmentOrderService.getOrderById(large.getOrderId()).orElseThrow();
+
+        assertThat(loaded.getItems()).containsExactlyElementsOf(items);
+    }
+
+    @Test
+    void cancelOrderShouldApplyOneConditionalTransition() {
+        order.receive();
+        order.cancel("customer request");
+        when(fulfillmentOrderRepository.transitionStatus(any())).thenReturn(Optional.of(order));
+
+        FulfillmentOrder cancelled = fulfillmentOrderService.cancelOrder(order.getOrderId(), "customer request");
+
+        assertThat(cancelled.getStatus()).isEqualTo(FulfillmentOrderStatus.CANCELLED);
+        verify(fulfillmentOrderRepository).transitionStatus(argThat(transition ->
+            transition.getOrderId().equals(order.getOrderId())
+                && transition.getTarget() == FulfillmentOrderStatus.CANCELLED
+                && transition.getAllowedFrom().equals(FulfillmentOrder.CANCELLABLE_STATUSES)
+                && "customer request".equals(transition.getChanges().get("cancellationReason"))));
+        verify(fulfillmentOrderRepository, never()).findById(any());
+        verify(fulfillmentOrderRepository, never()).saveOrder(any());
+        verify(eventPublisherService).publishEvent(any());
+    }
+
+    @Test
+    void cancelOrderShouldReportWhyTheTransitionWasRejected() {
+        FulfillmentOrder shipped = buildOrder("seller-id-4", "key-4");
+        shipped.setStatus(FulfillmentOrderStatus.SHIPPED);
+        UUID missing = UUID.randomUUID();
+        when(fulfillmentOrderRepository.transitionStatus(any())).thenReturn(Optional.empty());
+        when(fulfillmentOrderRepository.findById(shipped.getOrderId())).thenReturn(Optional.of(shipped));
+        when(fulfillmentOrderRepository.findById(missing)).thenReturn(Optional.empty());
+
+        IllegalStateException notCancellable = assertThrows(IllegalStateException.class,
+            () -> fulfillmentOrderService.cancelOrder(shipped.getOrderId(), "too late"));
+        assertThrows(IllegalArgumentException.class, () -> fulfillmentOrderService.cancelOrder(missing, "gone"));
+
+        assertThat(notCancellable.getMessage()).contains("already been shipped");
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    private FulfillmentOrder buildOrder(String sellerId, String idempotencyKey, int itemCount) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem("sku-" + i, "item-" + i, 1, null, null));
+        }
+        FulfillmentOrder built = buildOrder(sellerId, idempotencyKey);
+        built.setItems(items);
+        return built;
+    }
+
     private FulfillmentOrder buildOrder(String sellerId, String idempotencyKey) {
         return new FulfillmentOrder(
             UUID.randomUUID(),
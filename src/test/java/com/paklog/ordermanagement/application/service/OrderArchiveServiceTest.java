@@ -0,0 +1,118 @@
+package com.paklog.ordermanagement.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.paklog.ordermanagement.domain.config.OrderArchiveConfig;
+import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+import com.paklog.ordermanagement.domain.repository.OrderArchiveBatch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiveServiceTest {
+
+    @Mock
+    private FulfillmentOrderRepository fulfillmentOrderRepository;
+
+    @Mock
+    private OrderIntakePipeline orderIntakePipeline;
+
+    private OrderArchiveConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Duration> pauses;
+    private OrderArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        config = new OrderArchiveConfig();
+        config.setBatchSize(100);
+        config.setMaxOrdersPerSecond(1000);
+        meterRegistry = new SimpleMeterRegistry();
+        pauses = new ArrayList<>();
+        service = new OrderArchiveService(fulfillmentOrderRepository, orderIntakePipeline, config, meterRegistry) {
+            @Override
+            boolean pause(Duration duration) {
+                pauses.add(duration);
+                return true;
+            }
+        };
+    }
+
+    @Test
+    void shouldArchiveBatchesUntilNoCandidateIsLeft() {
+        when(fulfillmentOrderRepository.archiveOrders(any(), any(), anyInt()))
+            .thenReturn(new OrderArchiveBatch(100, 100), new OrderArchiveBatch(100, 98), new OrderArchiveBatch(30, 30));
+
+        assertThat(service.archiveOrders()).isEqualTo(228);
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(fulfillmentOrderRepository, times(3)).archiveOrders(eq(config.getStatuses()), cutoff.capture(), eq(100));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(89));
+        assertThat(meterRegistry.get("order.archive.orders").tag("outcome", "archived").counter().count())
+            .isEqualTo(228);
+        assertThat(meterRegistry.get("order.archive.orders").tag("outcome", "changed").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("order.archive.batch").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void fullBatchesShouldBePacedToTheMaximumRate() {
+        when(fulfillmentOrderRepository.archiveOrders(any(), any(), anyInt()))
+            .thenReturn(new OrderArchiveBatch(100, 100), new OrderArchiveBatch(0, 0));
+
+        service.archiveOrders();
+
+        // 100 orders at 1000 per second take at least 100ms, less the time the batch took
+        assertThat(pauses).singleElement()
+            .satisfies(pause -> assertThat(pause).isBetween(Duration.ofMillis(50), Duration.ofMillis(100)));
+    }
+
+    @Test
+    void shouldPauseWhileIntakeIsBusy() {
+        config.setMaxIntakeInFlight(8);
+        when(orderIntakePipeline.getInFlight()).thenReturn(20, 9, 3);
+        when(fulfillmentOrderRepository.archiveOrders(any(), any(), anyInt())).thenReturn(new OrderArchiveBatch(0, 0));
+
+        service.archiveOrders();
+
+        assertThat(pauses).containsExactly(config.getIntakeBackoff(), config.getIntakeBackoff());
+        assertThat(meterRegistry.get("order.archive.intake.pauses").counter().count()).isEqualTo(2);
+        verify(fulfillmentOrderRepository).archiveOrders(any(), any(), anyInt());
+    }
+
+    @Test
+    void runShouldStopAtTheMaximumRunDuration() {
+        config.setMaxRunDuration(Duration.ZERO);
+
+        assertThat(service.archiveOrders()).isZero();
+        verify(fulfillmentOrderRepository, never()).archiveOrders(any(), any(), anyInt());
+    }
+
+    @Test
+    void disabledArchiveShouldNotRun() {
+        config.setEnabled(false);
+
+        service.archiveScheduled();
+
+        verify(fulfillmentOrderRepository, never()).archiveOrders(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,291 @@
+package com.paklog.ordermanagement.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.paklog.ordermanagement.domain.event.FulfillmentOrderValidatedEvent;
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+import com.paklog.ordermanagement.domain.service.OrderValidationService;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.InventoryAvailabilityResult;
+import com.paklog.ordermanagement.domain.service.OrderValidationService.ValidationResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakePipelineTest {
+
+    @Mock
+    private OrderValidationService orderValidationService;
+
+    @Mock
+    private FulfillmentOrderService fulfillmentOrderService;
+
+    @Mock
+    private EventPublisherService eventPublisherService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderIntakePipeline pipeline;
+    private FulfillmentOrder order;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new OrderIntakePipeline(orderValidationService, fulfillmentOrderService,
+            eventPublisherService, meterRegistry, null);
+        order = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+
+        lenient().when(fulfillmentOrderService.findByIdempotencyKey(any())).thenReturn(Optional.empty());
+        lenient().when(orderValidationService.validateBusinessRules(any())).thenReturn(ValidationResult.success());
+        lenient().when(orderValidationService.validateProductCatalog(any())).thenReturn(ValidationResult.success());
+        lenient().when(orderValidationService.checkInventoryAvailability(any()))
+            .thenReturn(InventoryAvailabilityResult.allAvailable());
+    }
+
+    @Test
+    void submitShouldCreateOrderWhenAllChecksPass() {
+        when(fulfillmentOrderService.createOrder(order)).thenReturn(order);
+
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(order);
+
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.CREATED);
+        assertThat(result.isAccepted()).isTrue();
+        assertThat(result.getOrder()).isSameAs(order);
+        verify(eventPublisherService).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldReturnExistingOrderOnIdempotentReplay() {
+        FulfillmentOrder existing = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        when(fulfillmentOrderService.findByIdempotencyKey(order.getIdempotencyKey()))
+            .thenReturn(Optional.of(existing));
+
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(order);
+
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.REPLAYED);
+        assertThat(result.getOrder()).isSameAs(existing);
+        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldCancelRemainingChecksWhenValidationFails() {
+        CountDownLatch inventoryStarted = new CountDownLatch(1);
+        when(orderValidationService.checkInventoryAvailability(any())).thenAnswer(invocation -> {
+            inventoryStarted.countDown();
+            Thread.sleep(Duration.ofSeconds(30));
+            return InventoryAvailabilityResult.allAvailable();
+        });
+        when(orderValidationService.validateBusinessRules(any())).thenAnswer(invocation -> {
+            inventoryStarted.await(5, TimeUnit.SECONDS);
+            return ValidationResult.failure(List.of("Order must contain at least one item"));
+        });
+
+        Instant start = Instant.now();
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(order);
+
+        assertThat(Duration.between(start, Instant.now())).isLessThan(Duration.ofSeconds(10));
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.INVALID);
+        assertThat(result.getErrors()).containsExactly("Order must contain at least one item");
+        assertThat(meterRegistry.find("order.intake.stage")
+            .tags("stage", "inventory", "outcome", "cancelled").timer()).isNotNull();
+        verify(fulfillmentOrderService, never()).createOrder(any());
+    }
+
+    @Test
+    void submitShouldPropagateDuplicateSellerOrderId() {
+        doThrow(new IllegalStateException("Order with sellerFulfillmentOrderId already exists"))
+            .when(fulfillmentOrderService).createOrder(order);
+
+        assertThrows(IllegalStateException.class, () -> pipeline.submit(order));
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldReturnReplayWhenConcurrentRequestWonTheInsert() {
+        FulfillmentOrder existing = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        when(fulfillmentOrderService.createOrder(order)).thenReturn(existing);
+
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(order);
+
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.REPLAYED);
+        assertThat(result.getOrder()).isSameAs(existing);
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldRejectFillOrKillOrderWithUnavailableItems() {
+        FulfillmentOrder fillOrKill = buildOrder(FulfillmentPolicy.FILL_OR_KILL);
+        when(orderValidationService.checkInventoryAvailability(fillOrKill)).thenReturn(
+            InventoryAvailabilityResult.partiallyAvailable(List.of(
+                new UnfulfillableItem("sku-1", "item-1", 1, 0, UnfulfillableReason.INSUFFICIENT_STOCK))));
+
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(fillOrKill);
+
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.REJECTED);
+        assertThat(result.isAccepted()).isFalse();
+        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldPublishStockEventsForPartiallyAvailableOrder() {
+        when(orderValidationService.checkInventoryAvailability(order)).thenReturn(
+            InventoryAvailabilityResult.partiallyAvailable(List.of(
+                new UnfulfillableItem("sku-1", "item-1", 1, 0, UnfulfillableReason.INSUFFICIENT_STOCK))));
+        when(fulfillmentOrderService.createOrder(order)).thenReturn(order);
+
+        OrderIntakePipeline.IntakeResult result = pipeline.submit(order);
+
+        assertThat(result.getOutcome()).isEqualTo(OrderIntakePipeline.IntakeResult.Outcome.CREATED);
+        assertThat(order.hasUnfulfillableItems()).isTrue();
+        verify(eventPublisherService, times(2)).publishEvent(any());
+    }
+
+    @Test
+    void submitShouldRecordEveryStage() {
+        when(fulfillmentOrderService.createOrder(order)).thenReturn(order);
+
+        pipeline.submit(order);
+
+        for (String stage : List.of("idempotency", "business-rules",
+                "product-catalog", "inventory", "events", "persist")) {
+            assertThat(meterRegistry.find("order.intake.stage")
+                .tags("stage", stage, "outcome", "success").timer())
+                .as("timer for stage %s", stage)
+                .isNotNull();
+        }
+    }
+
+    @Test
+    void submitBatchShouldReportEveryOrderInSubmissionOrder() {
+        FulfillmentOrder created = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        FulfillmentOrder replayed = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        replayed.setIdempotencyKey("key-2");
+        FulfillmentOrder invalid = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        invalid.setIdempotencyKey("key-3");
+        FulfillmentOrder repeated = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        FulfillmentOrder conflicting = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        conflicting.setIdempotencyKey("key-4");
+        FulfillmentOrder existing = buildOrder(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+
+        when(fulfillmentOrderService.findByIdempotencyKeys(any())).thenReturn(Map.of("key-2", existing));
+        when(orderValidationService.validate(any(FulfillmentOrder.class), any()))
+            .thenAnswer(invocation -> invocation.getArgument(0) == invalid
+                ? ValidationResult.failure(List.of("Order must contain at least one item"))
+                : ValidationResult.success());
+        when(orderValidationService.checkInventoryAvailability(any(FulfillmentOrder.class), any()))
+            .thenReturn(InventoryAvailabilityResult.allAvailable());
+        when(fulfillmentOrderService.createOrders(List.of(created, conflicting)))
+            .thenReturn(Map.of(created.getOrderId(), created));
+
+        List<OrderIntakePipeline.IntakeResult> results =
+            pipeline.submitBatch(List.of(created, replayed, invalid, repeated, conflicting));
+
+        assertThat(results).extracting(OrderIntakePipeline.IntakeResult::getOutcome).containsExactly(
+            OrderIntakePipeline.IntakeResult.Outcome.CREATED,
+            OrderIntakePipeline.IntakeResult.Outcome.REPLAYED,
+            OrderIntakePipeline.IntakeResult.Outcome.INVALID,
+            OrderIntakePipeline.IntakeResult.Outcome.INVALID,
+            OrderIntakePipeline.IntakeResult.Outcome.CONFLICT);
+        assertThat(results.get(1).getOrder()).isSameAs(existing);
+        verify(orderValidationService, times(1)).lookUpCatalog(List.of(created, replayed, invalid, conflicting));
+        verify(orderValidationService, times(1)).lookUpInventory(List.of(created, replayed, invalid, conflicting));
+        verify(eventPublisherService).publishEvents(argThat(events -> events.size() == 1));
+        verify(eventPublisherService, never()).publishEvent(any());
+    }
+
+    @Test
+    void submitBatchShouldPublishEventsOfCreatedOrdersTogether() {
+        FulfillmentOrder first = buildOrder(FulfillmentPolicy.FILL_ALL);
+        FulfillmentOrder second = buildOrder(FulfillmentPolicy.FILL_ALL);
+        second.setIdempotencyKey("key-2");
+        when(fulfillmentOrderService.findByIdempotencyKeys(any())).thenReturn(Map.of());
+        when(orderValidationService.validate(any(FulfillmentOrder.class), any())).thenReturn(ValidationResult.success());
+        when(orderValidationService.checkInventoryAvailability(any(FulfillmentOrder.class), any()))
+            .thenReturn(InventoryAvailabilityResult.partiallyAvailable(List.of(
+                new UnfulfillableItem("sku-1", "item-1", 1, 0, UnfulfillableReason.INSUFFICIENT_STOCK))));
+        when(fulfillmentOrderService.createOrders(any()))
+            .thenReturn(Map.of(first.getOrderId(), first, second.getOrderId(), second));
+
+        pipeline.submitBatch(List.of(first, second));
+
+        // Validated and stock unavailable events for each order, in one outbox write
+        verify(eventPublisherService).publishEvents(argThat(events -> events.size() == 4));
+        assertThat(meterRegistry.find("order.intake.stage").tags("stage", "batch-persist").timer()).isNotNull();
+    }
+
+    @Test
+    void submitBatchShouldPublishEventsOfOrdersInsertedBeforeAFailure() {
+        FulfillmentOrder inserted = buildOrder(FulfillmentPolicy.FILL_ALL);
+        FulfillmentOrder failed = buildOrder(FulfillmentPolicy.FILL_ALL);
+        failed.setIdempotencyKey("key-2");
+        when(fulfillmentOrderService.findByIdempotencyKeys(any())).thenReturn(Map.of());
+        when(orderValidationService.validate(any(FulfillmentOrder.class), any())).thenReturn(ValidationResult.success());
+        when(orderValidationService.checkInventoryAvailability(any(FulfillmentOrder.class), any()))
+            .thenReturn(InventoryAvailabilityResult.allAvailable());
+        OrderBatchInsertException failure =
+            new OrderBatchInsertException(Set.of(failed.getOrderId()), new IllegalStateException("write failed"));
+        when(fulfillmentOrderService.createOrders(any())).thenThrow(failure);
+
+        assertThat(assertThrows(OrderBatchInsertException.class,
+            () -> pipeline.submitBatch(List.of(inserted, failed)))).isSameAs(failure);
+
+        verify(eventPublisherService).publishEvents(argThat(events -> events.size() == 1
+            && events.get(0).getData() instanceof FulfillmentOrderValidatedEvent.FulfillmentOrderData data
+            && data.getOrder() == inserted));
+    }
+
+    private FulfillmentOrder buildOrder(FulfillmentPolicy policy) {
+        return new FulfillmentOrder(
+            UUID.randomUUID(),
+            "seller-id-1",
+            "display-id-1",
+            LocalDateTime.now(),
+            "comment",
+            "STANDARD",
+            new Address(
+                "John Doe",
+                "123 Main St",
+                "Apt 4",
+                "Metropolis",
+                "NY",
+                "12345",
+                "US"
+            ),
+            List.of(new OrderItem("sku-1", "item-1", 1, "msg", "comment")),
+            "key-1",
+            policy
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.paklog.ordermanagement.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AddressFingerprint Tests")
+class AddressFingerprintTest {
+
+    @Test
+    @DisplayName("Should ignore case and surrounding or repeated whitespace")
+    void shouldNormalizeFields() {
+        Address address = new Address("John Doe", "123 Main St", "Apt 4B", "New York", "NY", "10001", "US");
+        Address variant = new Address("  JOHN\t doe ", "123  main\nst", "Suite 9", "NYC", "New York", " 10001", "US");
+
+        assertThat(AddressFingerprint.of(variant, 2)).isEqualTo(AddressFingerprint.of(address, 2));
+    }
+
+    @Test
+    @DisplayName("Should differ when a compared field or the item count differs")
+    void shouldDifferOnComparedFields() {
+        Address address = new Address("John Doe", "123 Main St", "Apt 4B", "New York", "NY", "10001", "US");
+        Long fingerprint = AddressFingerprint.of(address, 2);
+
+        assertThat(AddressFingerprint.of(address, 3)).isNotEqualTo(fingerprint);
+        assertThat(AddressFingerprint.of(
+            new Address("John Doe", "123 Main St", "Apt 4B", "New York", "NY", "10002", "US"), 2))
+            .isNotEqualTo(fingerprint);
+        assertThat(AddressFingerprint.of(
+            new Address("John Do", "e123 Main St", "Apt 4B", "New York", "NY", "10001", "US"), 2))
+            .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("Should have no fingerprint without an address")
+    void shouldBeNullWithoutAddress() {
+        assertThat(AddressFingerprint.of(null, 1)).isNull();
+    }
+}
@@ -0,0 +1,254 @@
+package com.paklog.ordermanagement.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class AddressMinHashTest {
+
+    private static final double THRESHOLD = 0.7;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Maria", "Wei", "Aisha", "Carlos", "Olga", "Kenji", "Fatima", "Liam", "Sofia",
+        "Noah", "Emma", "Arjun", "Chloe", "Mateo", "Hana", "Lucas", "Zara", "Ivan", "Nora"};
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Chen", "Khan", "Rodriguez", "Ivanova", "Tanaka", "Ali", "Murphy", "Rossi",
+        "Johnson", "Brown", "Patel", "Martin", "Lopez", "Kim", "Silva", "Ahmed", "Petrov", "Berg"};
+    private static final String[] STREETS = {
+        "Main", "Oak", "Maple", "Cedar", "Pine", "Elm", "Washington", "Lake", "Hill", "Park",
+        "Sunset", "River", "Highland", "Church", "Mill", "Spring", "Ridge", "Meadow", "Forest", "Bay"};
+    private static final String[][] SUFFIXES = {
+        {"Street", "St"}, {"Avenue", "Ave"}, {"Road", "Rd"}, {"Boulevard", "Blvd"}, {"Drive", "Dr"}, {"Lane", "Ln"}};
+    private static final String[] CITIES = {
+        "Metropolis", "Springfield", "Riverside", "Fairview", "Greenville", "Madison", "Georgetown", "Salem"};
+
+    @Test
+    void unitDesignatorsAndSuffixSpellingsShouldNormalizeAlike() {
+        Address first = new Address("John Doe", "123 Main Street", "Apt 4", "Metropolis", "NY", "12345", "US");
+        Address second = new Address("JOHN  DOE", "123 Main St.", "#4", "metropolis", "NY", "12345", "US");
+
+        assertThat(AddressMinHash.similarity(first, second)).isEqualTo(1.0);
+        assertThat(AddressMinHash.bandKeys(first, 2)).isEqualTo(AddressMinHash.bandKeys(second, 2));
+    }
+
+    @Test
+    void differentNumbersShouldNeverMatch() {
+        Address first = new Address("John Doe", "123 Main St", "Apt 4", "Metropolis", "NY", "12345", "US");
+        Address otherHouse = new Address("John Doe", "125 Main St", "Apt 4", "Metropolis", "NY", "12345", "US");
+        Address otherUnit = new Address("John Doe", "123 Main St", "Apt 5", "Metropolis", "NY", "12345", "US");
+
+        assertThat(AddressMinHash.similarity(first, otherHouse)).isZero();
+        assertThat(AddressMinHash.similarity(first, otherUnit)).isZero();
+        assertThat(shareBand(AddressMinHash.bandKeys(first, 1), AddressMinHash.bandKeys(otherHouse, 1))).isFalse();
+    }
+
+    @Test
+    void differentItemCountShouldNotShareBandKeys() {
+        Address address = new Address("John Doe", "123 Main St", null, "Metropolis", "NY", "12345", "US");
+
+        assertThat(shareBand(AddressMinHash.bandKeys(address, 1), AddressMinHash.bandKeys(address, 2))).isFalse();
+    }
+
+    @Test
+    void typoShouldStayAboveThreshold() {
+        Address first = new Address("John Doe", "123 Main St", null, "Metropolis", "NY", "12345", "US");
+        Address typo = new Address("Jonh Doe", "123 Main St", null, "Metropolis", "NY", "12345", "US");
+
+        assertThat(AddressMinHash.similarity(first, typo)).isGreaterThanOrEqualTo(THRESHOLD);
+    }
+
+    @Test
+    void streetWordsShouldAllowOneTypoButNotAnotherStreet() {
+        assertThat(AddressMinHash.isTypo("main", "mian")).isTrue();
+        assertThat(AddressMinHash.isTypo("washington", "washngton")).isTrue();
+        assertThat(AddressMinHash.isTypo("highland", "highlend")).isTrue();
+        assertThat(AddressMinHash.isTypo("hill", "mill")).isFalse();
+        assertThat(AddressMinHash.isTypo("oak", "elm")).isFalse();
+
+        Address first = new Address("John Doe", "123 Oak Boulevard", null, "Metropolis", "NY", "12345", "US");
+        Address misspelled = new Address("John Doe", "123 Oka Boulevadr", null, "Metropolis", "NY", "12345", "US");
+        Address otherStreet = new Address("John Doe", "123 Elm Boulevard", null, "Metropolis", "NY", "12345", "US");
+
+        assertThat(AddressMinHash.similarity(first, misspelled)).isGreaterThanOrEqualTo(THRESHOLD);
+        assertThat(AddressMinHash.similarity(first, otherStreet)).isZero();
+    }
+
+    @Test
+    void nullAddressShouldHaveNoBandKeys() {
+        assertThat(AddressMinHash.bandKeys(null, 1)).isNull();
+        assertThat(AddressMinHash.similarity(null, null)).isZero();
+    }
+
+    /**
+     * Precision and recall on a synthetic corpus: each base address is paired with a perturbed
+     * resubmission (reformatted unit, suffix spelling, case and punctuation, one typo) and with
+     * a hard negative that differs in one component only (another recipient, another house
+     * number, or another street with the same house number).
+     * A pair is flagged when it shares a band key and its similarity reaches the threshold,
+     * the same two steps the near-duplicate check takes.
+     */
+    @Test
+    void syntheticCorpusShouldReachPrecisionAndRecallTargets() {
+        Random random = new Random(42);
+        int pairs = 2_000;
+        int truePositives = 0;
+        int falseNegatives = 0;
+        int falsePositives = 0;
+
+        for (int i = 0; i < pairs; i++) {
+            Address base = randomAddress(random);
+            Address duplicate = perturb(base, random);
+            Address negative = hardNegative(base, random);
+
+            if (flagged(base, duplicate)) {
+                truePositives++;
+            } else {
+                falseNegatives++;
+            }
+            if (flagged(base, negative)) {
+                falsePositives++;
+            }
+        }
+
+        double recall = (double) truePositives / (truePositives + falseNegatives);
+        double precision = (double) truePositives / (truePositives + falsePositives);
+
+        assertThat(recall).as("recall").isGreaterThanOrEqualTo(0.95);
+        assertThat(precision).as("precision").isGreaterThanOrEqualTo(0.95);
+    }
+
+    private static boolean flagged(Address first, Address second) {
+        return shareBand(AddressMinHash.bandKeys(first, 3), AddressMinHash.bandKeys(second, 3))
+            && AddressMinHash.similarity(first, second) >= THRESHOLD;
+    }
+
+    private static boolean shareBand(List<Long> first, List<Long> second) {
+        Set<Long> keys = new HashSet<>(first);
+        for (Long key : second) {
+            if (keys.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Address randomAddress(Random random) {
+        String[] suffix = pick(SUFFIXES, random);
+        return new Address(
+            pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random),
+            (1 + random.nextInt(9999)) + " " + pick(STREETS, random) + " " + suffix[0],
+            random.nextBoolean() ? "Apt " + (1 + random.nextInt(40)) : null,
+            pick(CITIES, random),
+            "NY",
+            String.format("%05d", random.nextInt(100_000)),
+            "US");
+    }
+
+    private static Address perturb(Address base, Random random) {
+        String name = base.getName();
+        String line1 = base.getAddressLine1();
+        String line2 = base.getAddressLine2();
+        String city = base.getCity();
+
+        for (int change : distinctChanges(random, 2)) {
+            switch (change) {
+                case 0 -> line2 = line2 == null ? null : line2.replace("Apt ", random.nextBoolean() ? "#" : "Unit ");
+                case 1 -> line1 = abbreviateSuffix(line1);
+                case 2 -> name = name.toUpperCase();
+                case 3 -> line1 = line1.replace(" ", "  ") + ".";
+                case 4 -> {
+                    if (random.nextBoolean()) {
+                        name = typo(name, random);
+                    } else {
+                        line1 = typo(line1, random);
+                    }
+                }
+                default -> city = city.toLowerCase();
+            }
+        }
+        return new Address(name, line1, line2, city, base.getStateOrRegion(), base.getPostalCode(),
+            base.getCountryCode());
+    }
+
+    private static Address hardNegative(Address base, Random random) {
+        String line1 = base.getAddressLine1();
+        int space = line1.indexOf(' ');
+        String number = line1.substring(0, space);
+        String street = line1.substring(space + 1, line1.indexOf(' ', space + 1));
+
+        switch (random.nextInt(3)) {
+            case 0 -> {
+                // Another recipient at the same address
+                String[] parts = base.getName().split(" ");
+                String name = other(FIRST_NAMES, parts[0], random) + " " + other(LAST_NAMES, parts[1], random);
+                return new Address(name, line1, base.getAddressLine2(), base.getCity(),
+                    base.getStateOrRegion(), base.getPostalCode(), base.getCountryCode());
+            }
+            case 1 -> {
+                // Same recipient and street, another house number
+                int otherNumber = Integer.parseInt(number) + 1 + random.nextInt(10);
+                return new Address(base.getName(), otherNumber + line1.substring(space),
+                    base.getAddressLine2(), base.getCity(), base.getStateOrRegion(), base.getPostalCode(),
+                    base.getCountryCode());
+            }
+            default -> {
+                // Same recipient and house number, another street
+                String otherLine1 = line1.replace(" " + street + " ", " " + other(STREETS, street, random) + " ");
+                return new Address(base.getName(), otherLine1, base.getAddressLine2(), base.getCity(),
+                    base.getStateOrRegion(), base.getPostalCode(), base.getCountryCode());
+            }
+        }
+    }
+
+    private static List<Integer> distinctChanges(Random random, int count) {
+        List<Integer> changes = new ArrayList<>();
+        while (changes.size() < count) {
+            int change = random.nextInt(6);
+            if (!changes.contains(change)) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    private static String abbreviateSuffix(String line1) {
+        for (String[] suffix : SUFFIXES) {
+            if (line1.endsWith(" " + suffix[0])) {
+                return line1.substring(0, line1.length() - suffix[0].length()) + suffix[1];
+            }
+        }
+        return line1;
+    }
+
+    /**
+     * Swaps two adjacent letters inside a word.
+     */
+    private static String typo(String value, Random random) {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            int i = 1 + random.nextInt(value.length() - 2);
+            if (Character.isLetter(value.charAt(i)) && Character.isLetter(value.charAt(i + 1))
+                    && value.charAt(i) != value.charAt(i + 1)) {
+                return value.substring(0, i) + value.charAt(i + 1) + value.charAt(i) + value.substring(i + 2);
+            }
+        }
+        return value;
+    }
+
+    private static String other(String[] values, String current, Random random) {
+        String value;
+        do {
+            value = pick(values, random);
+        } while (value.equals(current));
+        return value;
+    }
+
+    private static <T> T pick(T[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,67 @@
+package com.paklog.ordermanagement.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency JPY = Currency.getInstance("JPY");
+
+    @Test
+    @DisplayName("Should convert decimal amounts to minor units rounding half up")
+    void shouldConvertToMinorUnits() {
+        assertThat(Money.of(new BigDecimal("12.34"), Money.USD).getMinorUnits()).isEqualTo(1234);
+        assertThat(Money.of(new BigDecimal("0.005"), Money.USD).getMinorUnits()).isEqualTo(1);
+        assertThat(Money.of(new BigDecimal("1000000"), Money.USD).getMinorUnits()).isEqualTo(100_000_000);
+        assertThat(Money.of(new BigDecimal("1234.5"), JPY).getMinorUnits()).isEqualTo(1235);
+    }
+
+    @Test
+    @DisplayName("Should render amounts with the currency's fraction digits")
+    void shouldRenderPlainString() {
+        assertThat(Money.ofMinor(123450, Money.USD).toPlainString()).isEqualTo("1234.50");
+        assertThat(Money.ofMinor(5, Money.USD).toString()).isEqualTo("0.05 USD");
+        assertThat(Money.ofMinor(500, JPY).toPlainString()).isEqualTo("500");
+        assertThat(Money.ofMinor(1234, Money.USD).toBigDecimal()).isEqualTo(new BigDecimal("12.34"));
+    }
+
+    @Test
+    @DisplayName("Should add and multiply exactly")
+    void shouldAddAndMultiply() {
+        Money total = Money.ofMinor(999, Money.USD).times(3).plus(Money.ofMinor(3, Money.USD));
+
+        assertThat(total).isEqualTo(Money.ofMinor(3000, Money.USD));
+        assertThat(total.isGreaterThan(Money.ofMinor(2999, Money.USD))).isTrue();
+        assertThat(total.isLessThan(Money.zero(Money.USD))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail on overflow instead of wrapping around")
+    void shouldFailOnOverflow() {
+        Money large = Money.ofMinor(Long.MAX_VALUE, Money.USD);
+
+        assertThrows(ArithmeticException.class, () -> large.plus(Money.ofMinor(1, Money.USD)));
+        assertThrows(ArithmeticException.class, () -> large.times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+30"), Money.USD));
+    }
+
+    @Test
+    @DisplayName("Should refuse to combine different currencies")
+    void shouldRejectCurrencyMismatch() {
+        Money dollars = Money.ofMinor(100, Money.USD);
+        Money euros = Money.ofMinor(100, EUR);
+
+        assertThat(dollars.hasSameCurrency(euros)).isFalse();
+        assertThat(dollars).isNotEqualTo(euros);
+        assertThrows(IllegalArgumentException.class, () -> dollars.plus(euros));
+        assertThrows(IllegalArgumentException.class, () -> dollars.compareTo(euros));
+    }
+}
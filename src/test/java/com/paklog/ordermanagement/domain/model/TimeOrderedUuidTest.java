@@ -0,0 +1,113 @@
+package com.paklog.ordermanagement.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTest {
+
+    private static final long NOW = Instant.parse("2026-03-01T10:00:00Z").toEpochMilli();
+
+    @Test
+    void shouldBeVersion7WithTheCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuid.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(TimeOrderedUuid.timestampOf(id).toEpochMilli())
+            .isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    void idsShouldIncreaseWithinAndAcrossMilliseconds() {
+        TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+        SplittableRandom random = new SplittableRandom(42);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(sequence.next(NOW + i / 100, random));
+        }
+
+        assertThat(ids).isSortedAccordingTo(UUID::compareTo);
+        assertThat(ids).doesNotHaveDuplicates();
+        // Canonical strings sort the same way, as MongoDB compares the binary form
+        assertThat(ids.stream().map(UUID::toString).toList()).isSorted();
+    }
+
+    @Test
+    void idsShouldKeepIncreasingWhenTheClockStepsBack() {
+        TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+        SplittableRandom random = new SplittableRandom(42);
+
+        UUID first = sequence.next(NOW, random);
+        UUID second = sequence.next(NOW - 5_000, random);
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(TimeOrderedUuid.timestampOf(second)).isEqualTo(Instant.ofEpochMilli(NOW));
+    }
+
+    @Test
+    void exhaustedCounterShouldBorrowTheNextMillisecond() {
+        TimeOrderedUuid.Sequence sequence = new TimeOrderedUuid.Sequence();
+        SplittableRandom random = new SplittableRandom(42);
+        UUID previous = sequence.next(NOW, random);
+        int sameMillisecond = 1;
+        boolean increasing = true;
+        UUID next;
+        while (TimeOrderedUuid.timestampOf(next = sequence.next(NOW, random)).toEpochMilli() == NOW) {
+            increasing &= next.compareTo(previous) > 0;
+            previous = next;
+            sameMillisecond++;
+        }
+
+        assertThat(increasing).isTrue();
+        assertThat(next).isGreaterThan(previous);
+        assertThat(TimeOrderedUuid.timestampOf(next)).isEqualTo(Instant.ofEpochMilli(NOW + 1));
+        // The fewest IDs one millisecond is guaranteed to hold
+        assertThat(sameMillisecond).isGreaterThanOrEqualTo(1 << 25);
+    }
+
+    @Test
+    void concurrentThreadsShouldNotCollide() throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    Set<UUID> local = new HashSet<>();
+                    for (int i = 0; i < 50_000; i++) {
+                        local.add(TimeOrderedUuid.next());
+                    }
+                    ids.addAll(local);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(8 * 50_000);
+    }
+
+    @Test
+    void randomUuidsShouldHaveNoTimestamp() {
+        assertThatThrownBy(() -> TimeOrderedUuid.timestampOf(UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.paklog.ordermanagement.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateOrderDetectionServiceTest {
+
+    @Mock
+    private FulfillmentOrderRepository repository;
+
+    @Mock
+    private RecentOrderIndex recentOrderIndex;
+
+    private DuplicateOrderDetectionService service;
+    private FulfillmentOrder order;
+
+    @BeforeEach
+    void setUp() {
+        service = new DuplicateOrderDetectionService(repository, new OrderValidationConfig(), recentOrderIndex);
+        order = new FulfillmentOrder(
+            UUID.randomUUID(),
+            "seller-id-1",
+            "display-id-1",
+            LocalDateTime.now(),
+            "comment",
+            "STANDARD",
+            new Address("John Doe", "123 Main St", "Apt 4", "Metropolis", "NY", "12345", "US"),
+            List.of(new OrderItem("sku-1", "item-1", 1, "msg", "comment")),
+            "key-1",
+            FulfillmentPolicy.FILL_ALL_AVAILABLE
+        );
+    }
+
+    @Test
+    void warmIndexMissShouldSkipMongo() {
+        when(recentOrderIndex.isWarm()).thenReturn(true);
+
+        DuplicateOrderDetectionService.DuplicateCheckResult result = service.checkForDuplicate(order);
+
+        assertThat(result.isDuplicate()).isFalse();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void warmIndexHitShouldBeConfirmedInMongo() {
+        FulfillmentOrder existing = new FulfillmentOrder();
+        existing.setOrderId(UUID.randomUUID());
+        when(recentOrderIndex.isWarm()).thenReturn(true);
+        when(recentOrderIndex.mightContainIdempotencyKey("key-1")).thenReturn(true);
+        when(repository.findByIdempotencyKey("key-1")).thenReturn(Optional.of(existing));
+
+        DuplicateOrderDetectionService.DuplicateCheckResult result = service.checkForDuplicate(order);
+
+        assertThat(result.isDuplicate()).isTrue();
+        assertThat(result.getReason()).isEqualTo(DuplicateOrderDetectionService.DuplicateReason.IDEMPOTENCY_KEY);
+        assertThat(result.getExistingOrder()).isSameAs(existing);
+    }
+
+    @Test
+    void warmIndexFalsePositiveShouldFallThroughToNextCriterion() {
+        when(recentOrderIndex.isWarm()).thenReturn(true);
+        when(recentOrderIndex.mightContainSellerOrderId("seller-id-1")).thenReturn(true);
+        when(repository.findBySellerFulfillmentOrderId("seller-id-1")).thenReturn(Optional.empty());
+
+        DuplicateOrderDetectionService.DuplicateCheckResult result = service.checkForDuplicate(order);
+
+        assertThat(result.isDuplicate()).isFalse();
+        verify(repository, never()).findByIdempotencyKey(any());
+        verify(repository, never()).findFuzzyDuplicateCandidates(any(), anyLong(), any(), any());
+    }
+
+    @Test
+    void nearMatchShouldBeConfirmedByAddressSimilarity() {
+        FulfillmentOrder similar = new FulfillmentOrder();
+        similar.setOrderId(UUID.randomUUID());
+        similar.setDestinationAddress(
+            new Address("JOHN DOE", "123 Main Street", "#4", "Metropolis", "NY", "12345", "US"));
+        FulfillmentOrder otherStreet = new FulfillmentOrder();
+        otherStreet.setOrderId(UUID.randomUUID());
+        otherStreet.setDestinationAddress(
+            new Address("John Doe", "123 Oak St", "Apt 4", "Metropolis", "NY", "12345", "US"));
+        when(recentOrderIndex.isWarm()).thenReturn(true);
+        when(recentOrderIndex.mightContainAnyAddressBand(any(), any())).thenReturn(true);
+        when(repository.findNearDuplicateCandidates(any(), any(), any(), any()))
+            .thenReturn(List.of(otherStreet, similar));
+        when(repository.findById(similar.getOrderId())).thenReturn(Optional.of(similar));
+
+        DuplicateOrderDetectionService.DuplicateCheckResult result = service.checkForDuplicate(order);
+
+        assertThat(result.isDuplicate()).isTrue();
+        assertThat(result.getReason()).isEqualTo(DuplicateOrderDetectionService.DuplicateReason.NEAR_MATCH);
+        assertThat(result.getExistingOrder()).isSameAs(similar);
+    }
+
+    @Test
+    void coldIndexShouldQueryMongoForEveryCriterion() {
+        when(recentOrderIndex.isWarm()).thenReturn(false);
+        when(repository.findByIdempotencyKey("key-1")).thenReturn(Optional.empty());
+        when(repository.findBySellerFulfillmentOrderId("seller-id-1")).thenReturn(Optional.empty());
+        when(repository.findFuzzyDuplicateCandidates(any(), any(), any(), any())).thenReturn(List.of());
+
+        DuplicateOrderDetectionService.DuplicateCheckResult result = service.checkForDuplicate(order);
+
+        assertThat(result.isDuplicate()).isFalse();
+        verify(repository).findFuzzyDuplicateCandidates(any(), any(), any(), any());
+        verify(repository).findNearDuplicateCandidates(any(), any(), any(), any());
+    }
+}
@@ -1,20 +1,41 @@
 package com.paklog.ordermanagement.domain.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.paklog.ordermanagement.domain.config.LargeOrderConfig;
 import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.Money;
 import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+import com.paklog.ordermanagement.domain.port.AsyncInventoryServicePort;
+import com.paklog.ordermanagement.domain.port.AsyncProductCatalogServicePort;
+import com.paklog.ordermanagement.domain.port.InventoryServicePort;
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort;
+import com.paklog.ordermanagement.domain.service.validation.ValidationErrorCode;
 
 @DisplayName("OrderValidationService Tests")
 class OrderValidationServiceTest {
@@ -185,8 +206,393 @@ class OrderValidationServiceTest {
         assertThat(result.isValid()).isTrue();
     }
 
+    @Test
+    @DisplayName("Should report invalid SKUs from the async catalog port")
+    void shouldReportInvalidSkusFromAsyncCatalog() {
+        // Given
+        config.setCheckProductCatalog(true);
+        AsyncProductCatalogServicePort asyncCatalog = mock(AsyncProductCatalogServicePort.class);
+        when(asyncCatalog.validateProductsAsync(anyList())).thenReturn(CompletableFuture.completedFuture(
+            ProductCatalogServicePort.ProductValidationResult.invalid(List.of("SKU-002"), "1 of 2 SKUs not found")));
+        OrderValidationService service = new OrderValidationService(config, null, null, null, asyncCatalog);
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createValidOrder());
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).anyMatch(error -> error.contains("Invalid SKUs found: SKU-002"));
+    }
+
+    @Test
+    @DisplayName("Should report an error when the async catalog lookup fails")
+    void shouldReportErrorWhenAsyncCatalogFails() {
+        // Given
+        config.setCheckProductCatalog(true);
+        AsyncProductCatalogServicePort asyncCatalog = mock(AsyncProductCatalogServicePort.class);
+        when(asyncCatalog.validateProductsAsync(anyList()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("catalog down")));
+        OrderValidationService service = new OrderValidationService(config, null, null, null, asyncCatalog);
+
+        // When
+        OrderValidationService.ValidationResult result = service.validateProductCatalog(createValidOrder());
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).containsExactly("Unable to validate product catalog: catalog down");
+    }
+
+    @Test
+    @DisplayName("Should map unavailable items from the async inventory port")
+    void shouldMapUnavailableItemsFromAsyncInventory() {
+        // Given
+        AsyncInventoryServicePort asyncInventory = mock(AsyncInventoryServicePort.class);
+        when(asyncInventory.checkAvailabilityAsync(anyMap())).thenReturn(CompletableFuture.completedFuture(
+            InventoryServicePort.InventoryCheckResult.unavailable(
+                List.of(new InventoryServicePort.UnavailableItem("SKU-001", 5, 2)), "1 of 2 items unavailable")));
+        OrderValidationService service = new OrderValidationService(config, null, null, asyncInventory, null);
+
+        // When
+        OrderValidationService.InventoryAvailabilityResult result =
+            service.checkInventoryAvailability(createValidOrder());
+
+        // Then
+        assertThat(result.isAllAvailable()).isFalse();
+        assertThat(result.getUnfulfillableItems()).hasSize(1);
+        assertThat(result.getUnfulfillableItems().get(0).getReason()).isEqualTo(UnfulfillableReason.INSUFFICIENT_STOCK);
+        assertThat(result.getUnfulfillableItems().get(0).getSellerFulfillmentOrderItemId()).isEqualTo("ITEM-SKU-001");
+    }
+
+    @Test
+    @DisplayName("Should treat all items as unavailable when the async inventory lookup fails")
+    void shouldTreatAllUnavailableWhenAsyncInventoryFails() {
+        // Given
+        AsyncInventoryServicePort asyncInventory = mock(AsyncInventoryServicePort.class);
+        when(asyncInventory.checkAvailabilityAsync(anyMap()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("inventory down")));
+        OrderValidationService service = new OrderValidationService(config, null, null, asyncInventory, null);
+
+        // When
+        OrderValidationService.InventoryAvailabilityResult result =
+            service.checkInventoryAvailability(createValidOrder());
+
+        // Then
+        assertThat(result.hasServiceError()).isTrue();
+        assertThat(result.getUnfulfillableItems()).hasSize(2)
+            .allMatch(item -> item.getReason() == UnfulfillableReason.INVENTORY_SERVICE_ERROR);
+    }
+
+    @Test
+    @DisplayName("Should look up a batch through the async inventory port")
+    void shouldLookUpBatchThroughAsyncInventory() {
+        // Given
+        AsyncInventoryServicePort asyncInventory = mock(AsyncInventoryServicePort.class);
+        when(asyncInventory.checkAvailabilityAsync(anyMap())).thenReturn(CompletableFuture.completedFuture(
+            InventoryServicePort.InventoryCheckResult.unavailable(
+                List.of(new InventoryServicePort.UnavailableItem("SKU-002", 3, 0)), "1 of 2 items unavailable")));
+        OrderValidationService service = new OrderValidationService(config, null, null, asyncInventory, null);
+        FulfillmentOrder order = createValidOrder();
+
+        // When
+        OrderValidationService.InventoryAvailabilityResult result =
+            service.checkInventoryAvailability(order, service.lookUpInventory(List.of(order)));
+
+        // Then
+        assertThat(result.getUnfulfillableItems()).extracting(item -> item.getReason())
+            .containsExactly(UnfulfillableReason.SKU_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for an async lookup when the thread is interrupted")
+    void shouldAbandonAsyncLookupWhenInterrupted() {
+        // Given
+        AsyncInventoryServicePort asyncInventory = mock(AsyncInventoryServicePort.class);
+        when(asyncInventory.checkAvailabilityAsync(anyMap())).thenReturn(new CompletableFuture<>());
+        OrderValidationService service = new OrderValidationService(config, null, null, asyncInventory, null);
+
+        // When / Then
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> service.checkInventoryAvailability(createValidOrder()))
+                .isInstanceOf(CancellationException.class);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("Should propagate a cancelled lookup instead of reporting it as a failure")
+    void shouldPropagateCancelledLookups() {
+        // Given
+        config.setCheckProductCatalog(true);
+        InventoryServicePort inventory = mock(InventoryServicePort.class);
+        ProductCatalogServicePort catalog = mock(ProductCatalogServicePort.class);
+        when(inventory.checkAvailability(anyMap())).thenThrow(new CancellationException("Inventory check cancelled"));
+        when(catalog.validateProducts(anyList())).thenThrow(new CancellationException("Product existence check cancelled"));
+        OrderValidationService service = new OrderValidationService(config, inventory, catalog);
+
+        // When / Then
+        assertThatThrownBy(() -> service.checkInventoryAvailability(createValidOrder()))
+            .isInstanceOf(CancellationException.class);
+        assertThatThrownBy(() -> service.validateProductCatalog(createValidOrder()))
+            .isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    @DisplayName("Should report violation codes alongside rendered messages")
+    void shouldReportViolationCodes() {
+        // Given
+        FulfillmentOrder order = createValidOrder();
+        order.setItems(new ArrayList<>());
+        order.setShippingSpeedCategory(null);
+
+        // When
+        OrderValidationService.ValidationResult result = validationService.validate(order);
+
+        // Then
+        assertThat(result.getErrorCodes()).containsExactly(
+            ValidationErrorCode.ITEMS_REQUIRED, ValidationErrorCode.SHIPPING_SPEED_REQUIRED);
+        assertThat(result.getErrors()).containsExactly(
+            "Order must contain at least one item", "Shipping speed category is required");
+    }
+
+    @Test
+    @DisplayName("Should recompile rules when configuration changes")
+    void shouldRecompileRulesWhenConfigChanges() {
+        // Given
+        FulfillmentOrder order = createValidOrder();
+        assertThat(validationService.validate(order).isValid()).isTrue();
+
+        // When
+        config.setMaxTotalQuantity(5);
+
+        // Then
+        OrderValidationService.ValidationResult result = validationService.validate(order);
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).anyMatch(error -> error.contains("exceeds maximum allowed (5)"));
+    }
+
+    @Test
+    @DisplayName("Should accept duplicate SKUs when strict rejection is disabled")
+    void shouldAcceptDuplicateSkusWhenRejectionDisabled() {
+        // Given
+        config.setRejectDuplicateSkus(false);
+        FulfillmentOrder order = createValidOrder();
+        order.setItems(new ArrayList<>(List.of(createOrderItem("SKU-001", 1), createOrderItem("SKU-001", 2))));
+
+        // When
+        OrderValidationService.ValidationResult result = validationService.validate(order);
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject order value below the configured minimum")
+    void shouldRejectOrderValueBelowMinimum() {
+        // Given
+        config.setEnableOrderValueValidation(true);
+        config.setMinOrderValue(new BigDecimal("100.00"));
+        OrderValidationService service = serviceWithPrices(
+            Map.of("SKU-001", Money.ofMinor(999, Money.USD), "SKU-002", Money.ofMinor(1050, Money.USD)));
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createValidOrder());
+
+        // Then
+        assertThat(result.getErrorCodes()).containsExactly(ValidationErrorCode.ORDER_VALUE_BELOW_MINIMUM);
+        assertThat(result.getErrors()).containsExactly("Order value ($81.45) is below minimum ($100.00)");
+    }
+
+    @Test
+    @DisplayName("Should reject order value above the configured maximum")
+    void shouldRejectOrderValueAboveMaximum() {
+        // Given
+        config.setEnableOrderValueValidation(true);
+        config.setMaxOrderValue(new BigDecimal("50"));
+        OrderValidationService service = serviceWithPrices(
+            Map.of("SKU-001", Money.ofMinor(999, Money.USD), "SKU-002", Money.ofMinor(1050, Money.USD)));
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createValidOrder());
+
+        // Then
+        assertThat(result.getErrors()).containsExactly("Order value ($81.45) exceeds maximum ($50.00)");
+    }
+
+    @Test
+    @DisplayName("Should reject order value that overflows instead of wrapping around")
+    void shouldRejectOverflowingOrderValue() {
+        // Given
+        config.setEnableOrderValueValidation(true);
+        OrderValidationService service = serviceWithPrices(
+            Map.of("SKU-001", Money.ofMinor(Long.MAX_VALUE / 2, Money.USD),
+                "SKU-002", Money.ofMinor(1, Money.USD)));
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createValidOrder());
+
+        // Then
+        assertThat(result.getErrorCodes()).containsExactly(ValidationErrorCode.ORDER_VALUE_OVERFLOW);
+    }
+
+    @Test
+    @DisplayName("Should not compare prices in a different currency against the limits")
+    void shouldReportCurrencyMismatch() {
+        // Given
+        config.setEnableOrderValueValidation(true);
+        OrderValidationService service = serviceWithPrices(
+            Map.of("SKU-001", Money.ofMinor(999, Currency.getInstance("EUR")),
+                "SKU-002", Money.ofMinor(1050, Money.USD)));
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createValidOrder());
+
+        // Then
+        assertThat(result.getErrorCodes()).containsExactly(ValidationErrorCode.ORDER_VALUE_CURRENCY_MISMATCH);
+        assertThat(result.getErrors().get(0)).contains("SKU-001 is in EUR");
+    }
+
+    @Test
+    @DisplayName("Should reject orders with more items than allowed")
+    void shouldRejectTooManyItems() {
+        // Given
+        config.setMaxItemsPerOrder(3);
+        FulfillmentOrder order = createOrderWithItems(4);
+
+        // When
+        OrderValidationService.ValidationResult result = validationService.validate(order);
+
+        // Then
+        assertThat(result.getErrorCodes()).containsExactly(ValidationErrorCode.TOO_MANY_ITEMS);
+        assertThat(result.getErrors()).containsExactly("Order contains 4 items, which exceeds maximum allowed (3)");
+    }
+
+    @Test
+    @DisplayName("Should look up large orders in chunks and merge the results")
+    void shouldValidateLargeOrderInChunks() {
+        // Given
+        config.setCheckProductCatalog(true);
+        LargeOrderConfig largeOrderConfig = new LargeOrderConfig();
+        largeOrderConfig.setItemThreshold(4);
+        largeOrderConfig.setChunkSize(2);
+        ProductCatalogServicePort catalog = mock(ProductCatalogServicePort.class);
+        when(catalog.validateProducts(anyList())).thenAnswer(invocation -> {
+            List<String> skus = invocation.getArgument(0);
+            assertThat(skus).hasSizeLessThanOrEqualTo(2);
+            return skus.contains("SKU-3")
+                ? ProductCatalogServicePort.ProductValidationResult.invalid(List.of("SKU-3"), "1 of 2 SKUs not found")
+                : ProductCatalogServicePort.ProductValidationResult.valid();
+        });
+        OrderValidationService service = new OrderValidationService(config, null, catalog, null, null, largeOrderConfig);
+
+        // When
+        OrderValidationService.ValidationResult result = service.validate(createOrderWithItems(5));
+
+        // Then
+        verify(catalog, times(3)).validateProducts(anyList());
+        assertThat(result.getErrors()).containsExactly(
+            "Invalid SKUs found: SKU-3. These products do not exist in the catalog.");
+    }
+
+    @Test
+    @DisplayName("Should look up each distinct SKU of a batch once")
+    void shouldLookUpBatchSkusOnce() {
+        config.setCheckProductCatalog(true);
+        ProductCatalogServicePort catalog = mock(ProductCatalogServicePort.class);
+        when(catalog.validateProducts(anyList())).thenReturn(
+            ProductCatalogServicePort.ProductValidationResult.invalid(List.of("SKU-404"), "1 SKU not found"));
+        InventoryServicePort inventory = mock(InventoryServicePort.class);
+        when(inventory.checkAvailability(anyMap())).thenReturn(InventoryServicePort.InventoryCheckResult.unavailable(
+            List.of(new InventoryServicePort.UnavailableItem("SKU-001", 7, 4)), "1 item unavailable"));
+        OrderValidationService service = new OrderValidationService(config, inventory, catalog);
+
+        FulfillmentOrder small = createValidOrder();
+        FulfillmentOrder large = createValidOrder();
+        large.setItems(new ArrayList<>(List.of(createOrderItem("SKU-001", 7), createOrderItem("SKU-404", 1))));
+        List<FulfillmentOrder> batch = List.of(small, large);
+
+        OrderValidationService.CatalogLookup catalogLookup = service.lookUpCatalog(batch);
+        OrderValidationService.InventoryLookup inventoryLookup = service.lookUpInventory(batch);
+
+        verify(catalog, times(1)).validateProducts(List.of("SKU-001", "SKU-002", "SKU-404"));
+        verify(inventory, times(1)).checkAvailability(Map.of("SKU-001", 7, "SKU-002", 3, "SKU-404", 1));
+
+        assertThat(service.validate(small, catalogLookup).isValid()).isTrue();
+        assertThat(service.validate(large, catalogLookup).getErrorCodes()).containsExactly(ValidationErrorCode.INVALID_SKUS);
+
+        // 4 units of SKU-001 are short for both the 5 and the 7 requested
+        assertThat(service.checkInventoryAvailability(small, inventoryLookup).getUnfulfillableItems())
+            .singleElement()
+            .satisfies(item -> {
+                assertThat(item.getSellerSku()).isEqualTo("SKU-001");
+                assertThat(item.getRequestedQuantity()).isEqualTo(5);
+                assertThat(item.getAvailableQuantity()).isEqualTo(4);
+                assertThat(item.getReason()).isEqualTo(UnfulfillableReason.INSUFFICIENT_STOCK);
+            });
+        assertThat(service.checkInventoryAvailability(large, inventoryLookup).getUnfulfillableItems()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep orders of a batch within the available stock")
+    void shouldAcceptBatchOrdersWithinAvailableStock() {
+        InventoryServicePort inventory = mock(InventoryServicePort.class);
+        when(inventory.checkAvailability(anyMap())).thenReturn(InventoryServicePort.InventoryCheckResult.unavailable(
+            List.of(new InventoryServicePort.UnavailableItem("SKU-001", 9, 6)), "1 item unavailable"));
+        OrderValidationService service = new OrderValidationService(config, inventory, null);
+
+        FulfillmentOrder within = createValidOrder();
+        FulfillmentOrder beyond = createValidOrder();
+        beyond.setItems(new ArrayList<>(List.of(createOrderItem("SKU-001", 9))));
+
+        OrderValidationService.InventoryLookup lookup = service.lookUpInventory(List.of(within, beyond));
+
+        assertThat(service.checkInventoryAvailability(within, lookup).isAllAvailable()).isTrue();
+        assertThat(service.checkInventoryAvailability(beyond, lookup).isAllAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report a failed batch lookup on every order")
+    void shouldReportFailedBatchLookupPerOrder() {
+        config.setCheckProductCatalog(true);
+        ProductCatalogServicePort catalog = mock(ProductCatalogServicePort.class);
+        when(catalog.validateProducts(anyList())).thenThrow(new RuntimeException("catalog down"));
+        InventoryServicePort inventory = mock(InventoryServicePort.class);
+        when(inventory.checkAvailability(anyMap())).thenThrow(new RuntimeException("inventory down"));
+        OrderValidationService service = new OrderValidationService(config, inventory, catalog);
+        FulfillmentOrder order = createValidOrder();
+
+        OrderValidationService.ValidationResult validation =
+            service.validate(order, service.lookUpCatalog(List.of(order)));
+        OrderValidationService.InventoryAvailabilityResult availability =
+            service.checkInventoryAvailability(order, service.lookUpInventory(List.of(order)));
+
+        assertThat(validation.getErrorCodes()).containsExactly(ValidationErrorCode.PRODUCT_CATALOG_UNAVAILABLE);
+        assertThat(availability.hasServiceError()).isTrue();
+        assertThat(availability.getUnfulfillableItems()).hasSize(2);
+    }
+
     // Helper methods
 
+    private FulfillmentOrder createOrderWithItems(int itemCount) {
+        FulfillmentOrder order = createValidOrder();
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(createOrderItem("SKU-" + i, 1));
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    private OrderValidationService serviceWithPrices(Map<String, Money> prices) {
+        Map<String, ProductCatalogServicePort.ProductDetails> details = new HashMap<>();
+        prices.forEach((sku, price) -> details.put(sku,
+            new ProductCatalogServicePort.ProductDetails(sku, "Product " + sku, price, true, "general")));
+        ProductCatalogServicePort catalog = mock(ProductCatalogServicePort.class);
+        when(catalog.getProductDetails(anyList())).thenReturn(details);
+        return new OrderValidationService(config, null, catalog);
+    }
+
     private FulfillmentOrder createValidOrder() {
         Address address = new Address(
             "John Doe",
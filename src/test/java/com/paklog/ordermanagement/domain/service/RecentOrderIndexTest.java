@@ -0,0 +1,179 @@
+package com.paklog.ordermanagement.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.domain.config.DuplicateIndexConfig;
+import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.FulfillmentOrderRepository;
+
+class RecentOrderIndexTest {
+
+    private static final Instant START = Instant.parse("2026-03-01T10:15:00Z");
+
+    private FulfillmentOrderRepository repository;
+    private DuplicateIndexConfig indexConfig;
+    private MutableClock clock;
+    private RecentOrderIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FulfillmentOrderRepository.class);
+        indexConfig = new DuplicateIndexConfig();
+        OrderValidationConfig validationConfig = new OrderValidationConfig();
+        validationConfig.setDuplicateDetectionWindowHours(24);
+        clock = new MutableClock(START);
+        index = new RecentOrderIndex(repository, validationConfig, indexConfig, clock);
+    }
+
+    @Test
+    void recordedKeysShouldBeFoundAndOthersNot() {
+        index.record("key-1", "seller-1", "display-1", 42L, null, now());
+
+        assertThat(index.mightContainIdempotencyKey("key-1")).isTrue();
+        assertThat(index.mightContainSellerOrderId("seller-1")).isTrue();
+        assertThat(index.mightContainAddress("display-1", 42L)).isTrue();
+
+        assertThat(index.mightContainIdempotencyKey("key-2")).isFalse();
+        assertThat(index.mightContainSellerOrderId("seller-2")).isFalse();
+        assertThat(index.mightContainAddress("display-1", 43L)).isFalse();
+        assertThat(index.mightContainAddress("display-2", 42L)).isFalse();
+    }
+
+    @Test
+    void keysShouldNotMatchAcrossKinds() {
+        index.record("same-value", null, null, null, null, now());
+
+        assertThat(index.mightContainIdempotencyKey("same-value")).isTrue();
+        assertThat(index.mightContainSellerOrderId("same-value")).isFalse();
+    }
+
+    @Test
+    void keysShouldExpireWhenTheirHourLeavesTheWindow() {
+        index.record("key-1", "seller-1", "display-1", 42L, null, now());
+
+        clock.advance(Duration.ofHours(24));
+        assertThat(index.mightContainIdempotencyKey("key-1")).isTrue();
+
+        clock.advance(Duration.ofHours(1));
+        assertThat(index.mightContainIdempotencyKey("key-1")).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void reusedBucketShouldDropTheKeysOfItsPreviousHour() {
+        index.record("old-key", null, null, null, null, now());
+
+        // Same ring slot, one full ring later
+        clock.advance(Duration.ofHours(25));
+        index.record("new-key", null, null, null, null, now());
+
+        assertThat(index.mightContainIdempotencyKey("new-key")).isTrue();
+        assertThat(index.mightContainIdempotencyKey("old-key")).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ordersReceivedBeforeTheWindowShouldBeIgnored() {
+        index.record("key-1", null, null, null, null, now().minusHours(30));
+
+        assertThat(index.mightContainIdempotencyKey("key-1")).isFalse();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void bucketShouldGrowBeyondItsInitialCapacity() {
+        for (int i = 0; i < 10_000; i++) {
+            index.record("key-" + i, null, null, null, null, now());
+        }
+
+        assertThat(index.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(index.mightContainIdempotencyKey("key-" + i)).isTrue();
+        }
+        assertThat(index.mightContainIdempotencyKey("key-10000")).isFalse();
+    }
+
+    @Test
+    void warmShouldLoadRecentOrdersFromRepository() {
+        FulfillmentOrder order = new FulfillmentOrder();
+        order.setIdempotencyKey("key-1");
+        order.setSellerFulfillmentOrderId("seller-1");
+        order.setReceivedDate(now().minusHours(2));
+        when(repository.streamReceivedSince(now().minusHours(24))).thenReturn(Stream.of(order));
+
+        assertThat(index.isWarm()).isFalse();
+        index.warm();
+
+        assertThat(index.isWarm()).isTrue();
+        assertThat(index.mightContainIdempotencyKey("key-1")).isTrue();
+        assertThat(index.mightContainSellerOrderId("seller-1")).isTrue();
+    }
+
+    @Test
+    void warmShouldStayColdWhenLoadingFails() {
+        when(repository.streamReceivedSince(any())).thenThrow(new RuntimeException("connection refused"));
+
+        index.warm();
+
+        assertThat(index.isWarm()).isFalse();
+    }
+
+    @Test
+    void warmShouldNotLoadWhenDisabled() {
+        indexConfig.setEnabled(false);
+
+        index.warm();
+
+        assertThat(index.isWarm()).isFalse();
+        verify(repository, never()).streamReceivedSince(any());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.paklog.ordermanagement.domain.service.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.domain.config.OrderValidationConfig;
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.ShippingSpeedCategory;
+
+@DisplayName("CompiledRuleSet Tests")
+class CompiledRuleSetTest {
+
+    private OrderValidationConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new OrderValidationConfig();
+    }
+
+    @Test
+    @DisplayName("Should report no violations for a valid order")
+    void shouldPassValidOrder() {
+        Violations violations = CompiledRuleSet.compile(config).evaluate(createOrder(10));
+
+        assertThat(violations.isEmpty()).isTrue();
+        assertThat(violations.codes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find duplicates with the pairwise scan on short item lists")
+    void shouldFindDuplicatesInShortList() {
+        FulfillmentOrder order = createOrder(3);
+        order.getItems().add(createItem("SKU-1", 1));
+
+        Violations violations = CompiledRuleSet.compile(config).evaluate(order);
+
+        assertThat(violations.codes()).containsExactly(ValidationErrorCode.DUPLICATE_SKUS);
+        assertThat(violations.messages()).containsExactly(
+            "Duplicate SKUs found in order: SKU-1. Please consolidate quantities for duplicate items.");
+    }
+
+    @Test
+    @DisplayName("Should find duplicates with the index table on long item lists")
+    void shouldFindDuplicatesInLongList() {
+        FulfillmentOrder order = createOrder(CompiledRuleSet.LINEAR_DUPLICATE_SCAN_LIMIT + 10);
+        order.getItems().add(createItem("SKU-12", 1));
+        order.getItems().add(createItem("SKU-3", 1));
+
+        Violations violations = CompiledRuleSet.compile(config).evaluate(order);
+
+        assertThat(violations.codes()).containsExactly(ValidationErrorCode.DUPLICATE_SKUS);
+        assertThat(violations.messages().get(0)).contains("SKU-12, SKU-3");
+    }
+
+    @Test
+    @DisplayName("Should capture thresholds at compile time")
+    void shouldCaptureThresholdsAtCompileTime() {
+        CompiledRuleSet rules = CompiledRuleSet.compile(config);
+        long revision = rules.getRevision();
+
+        config.setMaxTotalQuantity(1);
+
+        assertThat(rules.evaluate(createOrder(2)).isEmpty()).isTrue();
+        assertThat(config.getRevision()).isGreaterThan(revision);
+        assertThat(CompiledRuleSet.compile(config).evaluate(createOrder(2)).codes())
+            .containsExactly(ValidationErrorCode.TOTAL_QUANTITY_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("Should match shipping speed categories ignoring case")
+    void shouldMatchShippingSpeedIgnoringCase() {
+        CompiledRuleSet rules = CompiledRuleSet.compile(config);
+        FulfillmentOrder order = createOrder(1);
+
+        order.setShippingSpeedCategory("next_day");
+        assertThat(rules.evaluate(order).isEmpty()).isTrue();
+
+        order.setShippingSpeedCategory("OVERNIGHT");
+        Violations violations = rules.evaluate(order);
+        assertThat(violations.codes()).containsExactly(ValidationErrorCode.SHIPPING_SPEED_INVALID);
+        assertThat(violations.messages().get(0)).startsWith("Invalid shipping speed category: OVERNIGHT");
+        for (ShippingSpeedCategory category : ShippingSpeedCategory.values()) {
+            assertThat(violations.messages().get(0)).contains(category.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Should grow beyond the initial violation capacity")
+    void shouldGrowViolations() {
+        Violations violations = new Violations();
+        for (int i = 0; i < 10; i++) {
+            violations.add(ValidationErrorCode.ORDER_VALUE_UNAVAILABLE, "error " + i);
+        }
+
+        assertThat(violations.size()).isEqualTo(10);
+        assertThat(violations.messages()).last().isEqualTo("Unable to validate order value: error 9");
+    }
+
+    private FulfillmentOrder createOrder(int itemCount) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(createItem("SKU-" + i, 1));
+        }
+        return new FulfillmentOrder(
+            UUID.randomUUID(),
+            "SELLER-ORDER-123",
+            "ORDER-456",
+            LocalDateTime.now(),
+            "comment",
+            "STANDARD",
+            new Address("John Doe", "123 Main St", "Apt 4B", "New York", "NY", "10001", "US"),
+            items,
+            "idempotency-key-123"
+        );
+    }
+
+    private OrderItem createItem(String sku, int quantity) {
+        return new OrderItem(sku, "ITEM-" + sku, quantity, null, null);
+    }
+}
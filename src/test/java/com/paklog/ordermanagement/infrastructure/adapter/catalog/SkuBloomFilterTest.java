@@ -0,0 +1,59 @@
+package com.paklog.ordermanagement.infrastructure.adapter.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SkuBloomFilter Tests")
+class SkuBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added SKU as absent")
+    void shouldHaveNoFalseNegatives() {
+        SkuBloomFilter filter = new SkuBloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("SKU-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("SKU-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positive rate near the configured target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        SkuBloomFilter filter = new SkuBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("SKU-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("OTHER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Should report SKUs as absent in an empty filter")
+    void shouldReportAbsentWhenEmpty() {
+        SkuBloomFilter filter = new SkuBloomFilter(100, 0.01);
+
+        assertThat(filter.mightContain("SKU-001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new SkuBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new SkuBloomFilter(100, 1.0));
+    }
+}
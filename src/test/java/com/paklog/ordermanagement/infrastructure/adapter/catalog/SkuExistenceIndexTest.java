@@ -0,0 +1,130 @@
+package com.paklog.ordermanagement.infrastructure.adapter.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.paklog.ordermanagement.domain.port.ProductCatalogServicePort.ProductValidationResult;
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+import com.paklog.ordermanagement.infrastructure.config.SkuIndexConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class SkuExistenceIndexTest {
+
+    private static final String URL = "http://catalog";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private SkuIndexConfig config;
+    private SkuExistenceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        config = new SkuIndexConfig();
+        config.setExpectedSkus(1_000);
+        config.setPageSize(2);
+        index = new SkuExistenceIndex(restTemplate, URL, config);
+    }
+
+    @Test
+    void refreshShouldLoadAllPages() {
+        stubCatalogPages();
+
+        index.refresh();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.getIndexedSkuCount()).isEqualTo(3);
+        assertThat(index.mightContain("SKU-1")).isTrue();
+        assertThat(index.mightContain("SKU-3")).isTrue();
+        assertThat(index.mightContain("SKU-404")).isFalse();
+    }
+
+    @Test
+    void failedRefreshShouldKeepIndexNotReady() {
+        when(restTemplate.getForObject(startsWith(URL + "/products?page=0"), eq(ProductPageResponse.class)))
+            .thenThrow(new ResourceAccessException("catalog down"));
+
+        index.refresh();
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.mightContain("SKU-404")).isTrue();
+    }
+
+    @Test
+    void adapterShouldRejectAbsentSkusWithoutRemoteLookupWhenNegativesAreTrusted() {
+        stubCatalogPages();
+        index.refresh();
+        config.setConfirmNegatives(false);
+        ProductCatalogServiceAdapter adapter = new ProductCatalogServiceAdapter(restTemplate, URL, index,
+            new ConcurrencyLimiterRegistry(new ConcurrencyLimitConfig(), new SimpleMeterRegistry()));
+
+        ProductValidationResult result = adapter.validateProducts(List.of("SKU-1", "SKU-404"));
+
+        assertThat(result.isAllValid()).isFalse();
+        assertThat(result.getInvalidSkus()).containsExactly("SKU-404");
+        verify(restTemplate, never()).getForObject(URL + "/products/SKU-404", ProductResponse.class);
+        verify(restTemplate, never()).getForObject(URL + "/products/SKU-1", ProductResponse.class);
+    }
+
+    @Test
+    void adapterShouldAcceptSkusCreatedAfterTheLastScan() {
+        stubCatalogPages();
+        index.refresh();
+        when(restTemplate.getForObject(URL + "/products/SKU-NEW", ProductResponse.class))
+            .thenReturn(product("SKU-NEW"));
+        ProductCatalogServiceAdapter adapter = new ProductCatalogServiceAdapter(restTemplate, URL, index,
+            new ConcurrencyLimiterRegistry(new ConcurrencyLimitConfig(), new SimpleMeterRegistry()));
+
+        assertThat(adapter.validateProducts(List.of("SKU-1", "SKU-NEW")).isAllValid()).isTrue();
+        assertThat(adapter.validateProducts(List.of("SKU-NEW")).isAllValid()).isTrue();
+
+        // Looked up once, then known locally
+        verify(restTemplate).getForObject(URL + "/products/SKU-NEW", ProductResponse.class);
+        verify(restTemplate, never()).getForObject(URL + "/products/SKU-1", ProductResponse.class);
+    }
+
+    @Test
+    void adapterShouldConfirmPositivesRemotelyWhenConfigured() {
+        stubCatalogPages();
+        index.refresh();
+        config.setConfirmPositives(true);
+        when(restTemplate.getForObject(URL + "/products/SKU-1", ProductResponse.class))
+            .thenReturn(product("SKU-1"));
+        ProductCatalogServiceAdapter adapter = new ProductCatalogServiceAdapter(restTemplate, URL, index,
+            new ConcurrencyLimiterRegistry(new ConcurrencyLimitConfig(), new SimpleMeterRegistry()));
+
+        ProductValidationResult result = adapter.validateProducts(List.of("SKU-1"));
+
+        assertThat(result.isAllValid()).isTrue();
+        verify(restTemplate).getForObject(URL + "/products/SKU-1", ProductResponse.class);
+    }
+
+    private void stubCatalogPages() {
+        when(restTemplate.getForObject(URL + "/products?page=0&size=2", ProductPageResponse.class))
+            .thenReturn(new ProductPageResponse(List.of(product("SKU-1"), product("SKU-2")), false));
+        when(restTemplate.getForObject(URL + "/products?page=1&size=2", ProductPageResponse.class))
+            .thenReturn(new ProductPageResponse(List.of(product("SKU-3")), true));
+    }
+
+    private ProductResponse product(String sku) {
+        return new ProductResponse(sku, "Product " + sku, BigDecimal.TEN, true, "General");
+    }
+}
@@ -0,0 +1,67 @@
+package com.paklog.ordermanagement.infrastructure.adapter.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InventoryServiceAdapterTest {
+
+    private static final String URL = "http://inventory";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ConcurrencyLimiterRegistry limiters =
+        new ConcurrencyLimiterRegistry(new ConcurrencyLimitConfig(), new SimpleMeterRegistry());
+    private final InventoryServiceAdapter adapter = new InventoryServiceAdapter(restTemplate, URL, limiters);
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void interruptedCheckShouldStopWithoutShrinkingTheLimit() {
+        when(restTemplate.getForObject(startsWith(URL), eq(InventoryStockLevelResponse.class))).thenAnswer(invocation -> {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Closed by interrupt");
+        });
+        Map<String, Integer> items = new LinkedHashMap<>();
+        items.put("SKU-1", 1);
+        items.put("SKU-2", 1);
+        items.put("SKU-3", 1);
+
+        assertThatThrownBy(() -> adapter.checkAvailability(items)).isInstanceOf(CancellationException.class);
+
+        verify(restTemplate, times(1)).getForObject(startsWith(URL), eq(InventoryStockLevelResponse.class));
+        assertThat(limiters.limiter("inventory").getLimit()).isEqualTo(new ConcurrencyLimitConfig().getInitialLimit());
+        assertThat(limiters.limiter("inventory").getInFlight()).isZero();
+    }
+
+    @Test
+    void failedLookupShouldStillCountTheSkuAsUnavailable() {
+        when(restTemplate.getForObject(startsWith(URL), eq(InventoryStockLevelResponse.class)))
+            .thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThat(adapter.checkAvailability(Map.of("SKU-1", 1)).isAllAvailable()).isFalse();
+        assertThat(limiters.limiter("inventory").getLimit())
+            .isLessThan(new ConcurrencyLimitConfig().getInitialLimit());
+    }
+}
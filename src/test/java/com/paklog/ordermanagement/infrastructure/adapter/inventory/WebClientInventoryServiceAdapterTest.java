@@ -0,0 +1,87 @@
+package com.paklog.ordermanagement.infrastructure.adapter.inventory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.paklog.ordermanagement.domain.port.InventoryServicePort.InventoryCheckResult;
+import com.paklog.ordermanagement.domain.port.InventoryServicePort.UnavailableItem;
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+import com.paklog.ordermanagement.infrastructure.config.OutboundHttpClientConfig;
+import com.paklog.ordermanagement.infrastructure.config.ReactiveIntegrationConfig;
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimiterRegistry;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class WebClientInventoryServiceAdapterTest {
+
+    private static final String URL = "http://inventory";
+
+    @Test
+    void shouldReportAvailableWhenAllSkusHaveStock() {
+        WebClientInventoryServiceAdapter adapter = adapter(request -> json(HttpStatus.OK,
+            "{\"sku\":\"SKU-1\",\"available_to_promise\":10}"));
+
+        InventoryCheckResult result = adapter.checkAvailabilityAsync(Map.of("SKU-1", 5)).join();
+
+        assertThat(result.isAllAvailable()).isTrue();
+    }
+
+    @Test
+    void shouldReportShortfallNotFoundAndErrorsAsUnavailable() {
+        WebClientInventoryServiceAdapter adapter = adapter(request -> {
+            String path = request.url().getPath();
+            if (path.endsWith("/SKU-LOW")) {
+                return json(HttpStatus.OK, "{\"sku\":\"SKU-LOW\",\"available_to_promise\":2}");
+            }
+            if (path.endsWith("/SKU-MISSING")) {
+                return json(HttpStatus.NOT_FOUND, "{}");
+            }
+            return json(HttpStatus.INTERNAL_SERVER_ERROR, "{}");
+        });
+
+        Map<String, Integer> items = new LinkedHashMap<>();
+        items.put("SKU-LOW", 5);
+        items.put("SKU-MISSING", 1);
+        items.put("SKU-ERROR", 3);
+
+        InventoryCheckResult result = adapter.checkAvailabilityAsync(items).join();
+
+        assertThat(result.isAllAvailable()).isFalse();
+        assertThat(result.getUnavailableItems())
+            .extracting(UnavailableItem::getSku, UnavailableItem::getAvailable)
+            .containsExactlyInAnyOrder(
+                Tuple.tuple("SKU-LOW", 2),
+                Tuple.tuple("SKU-MISSING", 0),
+                Tuple.tuple("SKU-ERROR", 0));
+    }
+
+    private WebClientInventoryServiceAdapter adapter(ExchangeFunction exchangeFunction) {
+        WebClient webClient = WebClient.builder().exchangeFunction(exchangeFunction).build();
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build());
+        return new WebClientInventoryServiceAdapter(webClient, URL, CircuitBreakerRegistry.ofDefaults(),
+            retryRegistry, new ConcurrencyLimiterRegistry(new ConcurrencyLimitConfig(), new SimpleMeterRegistry()),
+            new OutboundHttpClientConfig(), new ReactiveIntegrationConfig());
+    }
+
+    private Mono<ClientResponse> json(HttpStatus status, String body) {
+        return Mono.just(ClientResponse.create(status)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .body(body)
+            .build());
+    }
+}
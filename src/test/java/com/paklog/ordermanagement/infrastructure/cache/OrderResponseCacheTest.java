@@ -0,0 +1,232 @@
+package com.paklog.ordermanagement.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.infrastructure.config.OrderCacheConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderResponseCacheTest {
+
+    private static final Instant START = Instant.parse("2026-03-01T10:00:00Z");
+
+    private OrderCacheConfig config;
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        config = new OrderCacheConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(START);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void hotReadsShouldBeServedWithoutLoading() {
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+
+        byte[] first = cache.get(orderId, this::load);
+        byte[] second = cache.get(orderId, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(requests("local", "hit")).isEqualTo(1);
+        assertThat(requests("local", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    void absentOrdersShouldNotBeCached() {
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+
+        assertThat(cache.get(orderId, id -> null)).isNull();
+        assertThat(cache.get(orderId, this::load)).isNotNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationShouldForceTheNextReadToLoad() {
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+        cache.get(orderId, this::load);
+        clock.advance(Duration.ofSeconds(2));
+
+        cache.invalidate(orderId, START.plusSeconds(1));
+        cache.get(orderId, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("order.cache.invalidation.lag").timer().max(TimeUnit.MILLISECONDS))
+            .isEqualTo(1000);
+        assertThat(meterRegistry.get("order.cache.evictions").tag("cause", "invalidated").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void loadRacingAnInvalidationShouldNotBeStored() {
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+
+        // The order changes while the old version is being read
+        cache.get(orderId, id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+        cache.get(orderId, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getBytes()).isPositive();
+    }
+
+    @Test
+    void entriesShouldExpireAfterTheirTimeToLive() {
+        config.setTtl(Duration.ofMinutes(5));
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+        cache.get(orderId, this::load);
+
+        clock.advance(Duration.ofMinutes(4));
+        cache.get(orderId, this::load);
+        clock.advance(Duration.ofMinutes(2));
+        cache.get(orderId, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("order.cache.entry.age").timer().max(TimeUnit.MILLISECONDS))
+            .isEqualTo(Duration.ofMinutes(4).toMillis());
+    }
+
+    @Test
+    void sizeBoundShouldEvictEntriesNotReadSinceTheLastSweep() {
+        int bodySize = load(UUID.randomUUID()).length;
+        config.setMaxBytes(bodySize * 2L);
+        OrderResponseCache cache = cache(null);
+        UUID hot = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        cache.get(hot, this::load);
+        cache.get(cold, this::load);
+        cache.get(hot, this::load);
+
+        cache.get(UUID.randomUUID(), this::load);
+        loads.set(0);
+        cache.get(hot, this::load);
+        cache.get(cold, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getBytes()).isLessThanOrEqualTo(bodySize * 2L);
+        assertThat(meterRegistry.get("order.cache.evictions").tag("cause", "size").counter().count())
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void sharedTierShouldServeOtherPodsMisses() {
+        InMemorySharedOrderCache shared = new InMemorySharedOrderCache(clock);
+        OrderResponseCache pod1 = cache(shared);
+        OrderResponseCache pod2 = new OrderResponseCache(config, shared, new SimpleMeterRegistry(), clock);
+        UUID orderId = UUID.randomUUID();
+
+        byte[] loaded = pod1.get(orderId, this::load);
+        byte[] fromShared = pod2.get(orderId, this::load);
+
+        assertThat(fromShared).isEqualTo(loaded);
+        assertThat(loads).hasValue(1);
+
+        pod1.invalidate(orderId);
+        pod2.invalidate(orderId);
+        pod2.get(orderId, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failingSharedTierShouldBeTreatedAsAMiss() {
+        OrderResponseCache cache = cache(new SharedOrderCache() {
+            @Override
+            public byte[] get(UUID orderId) {
+                throw new IllegalStateException("unreachable");
+            }
+
+            @Override
+            public void put(UUID orderId, byte[] body, Duration ttl) {
+                throw new IllegalStateException("unreachable");
+            }
+
+            @Override
+            public void evict(UUID orderId) {
+                throw new IllegalStateException("unreachable");
+            }
+        });
+        UUID orderId = UUID.randomUUID();
+
+        assertThat(cache.get(orderId, this::load)).isNotNull();
+        cache.invalidate(orderId);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void disabledCacheShouldAlwaysLoad() {
+        config.setEnabled(false);
+        OrderResponseCache cache = cache(null);
+        UUID orderId = UUID.randomUUID();
+
+        cache.get(orderId, this::load);
+        cache.get(orderId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private OrderResponseCache cache(SharedOrderCache shared) {
+        return new OrderResponseCache(config, shared, meterRegistry, clock);
+    }
+
+    private byte[] load(UUID orderId) {
+        loads.incrementAndGet();
+        return ("{\"order_id\":\"" + orderId + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.get("order.cache.requests").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.paklog.ordermanagement.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.infrastructure.resilience.ConcurrencyLimitExceededException;
+import com.paklog.ordermanagement.infrastructure.resilience.RetryBudget;
+
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class ResilienceConfigTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void exhaustedRetriesShouldSpendOneTokenPerRetry() {
+        RetryBudget budget = budget(20);
+        Retry retry = retry(budget);
+
+        assertThatThrownBy(() -> retry.executeSupplier(this::fail)).hasMessage("inventory down");
+
+        assertThat(calls).hasValue(MAX_ATTEMPTS);
+        assertThat(budget.getAvailableTokens()).isEqualTo(20.0 - (MAX_ATTEMPTS - 1));
+        assertThat(meterRegistry.get("resilience.retry.permitted").counter().count()).isEqualTo(MAX_ATTEMPTS - 1);
+    }
+
+    @Test
+    void exhaustedReactiveRetriesShouldSpendOneTokenPerRetry() {
+        RetryBudget budget = budget(20);
+        Mono<String> call = Mono.fromSupplier(this::fail).transformDeferred(RetryOperator.of(retry(budget)));
+
+        assertThatThrownBy(call::block).hasMessage("inventory down");
+
+        assertThat(calls).hasValue(MAX_ATTEMPTS);
+        assertThat(budget.getAvailableTokens()).isEqualTo(20.0 - (MAX_ATTEMPTS - 1));
+    }
+
+    @Test
+    void emptyBudgetShouldStopRetryingWithTheLastFailure() {
+        RetryBudget budget = budget(1);
+        Retry retry = retry(budget);
+
+        assertThatThrownBy(() -> retry.executeSupplier(this::fail)).hasMessage("inventory down");
+
+        assertThat(calls).hasValue(2);
+        assertThat(meterRegistry.get("resilience.retry.permitted").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("resilience.retry.skipped").tag("reason", "budget").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shedCallsShouldNotBeRetriedOrCharged() {
+        RetryBudget budget = budget(20);
+        Retry retry = retry(budget);
+
+        assertThatThrownBy(() -> retry.executeSupplier(() -> {
+            calls.incrementAndGet();
+            throw new ConcurrencyLimitExceededException("inventory", 20);
+        })).isInstanceOf(ConcurrencyLimitExceededException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(budget.getAvailableTokens()).isEqualTo(20.0);
+    }
+
+    private RetryBudget budget(int maxTokens) {
+        RetryBudgetConfig config = new RetryBudgetConfig();
+        config.setMaxTokens(maxTokens);
+        config.setMinRetriesPerSecond(0.0);
+        return new RetryBudget(config, meterRegistry);
+    }
+
+    private static Retry retry(RetryBudget budget) {
+        return Retry.of("inventory", ResilienceConfig.retryConfig(budget, MAX_ATTEMPTS, Duration.ofMillis(1), Duration.ZERO));
+    }
+
+    private String fail() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("inventory down");
+    }
+}
@@ -0,0 +1,121 @@
+package com.paklog.ordermanagement.infrastructure.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InstrumentedConnectionManagerTest {
+
+    private final HttpRoute route = new HttpRoute(new HttpHost("http", "inventory", 8085));
+
+    private HttpClientConnectionManager delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedConnectionManager connectionManager;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(HttpClientConnectionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        connectionManager = new InstrumentedConnectionManager(delegate, meterRegistry, "outbound");
+    }
+
+    @Test
+    void leaseShouldRecordPoolWaitTime() throws Exception {
+        LeaseRequest leaseRequest = mock(LeaseRequest.class);
+        ConnectionEndpoint endpoint = mock(ConnectionEndpoint.class);
+        when(delegate.lease("id", route, Timeout.ofSeconds(1), null)).thenReturn(leaseRequest);
+        when(leaseRequest.get(any())).thenReturn(endpoint);
+
+        ConnectionEndpoint leased = connectionManager.lease("id", route, Timeout.ofSeconds(1), null)
+            .get(Timeout.ofSeconds(1));
+
+        assertThat(leased).isSameAs(endpoint);
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.POOL_WAIT_METRIC)
+            .tag("host", "inventory").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leaseTimeoutShouldBeRecordedAndRethrown() throws Exception {
+        LeaseRequest leaseRequest = mock(LeaseRequest.class);
+        when(delegate.lease("id", route, Timeout.ofSeconds(1), null)).thenReturn(leaseRequest);
+        when(leaseRequest.get(any())).thenThrow(new TimeoutException("pool exhausted"));
+
+        LeaseRequest instrumented = connectionManager.lease("id", route, Timeout.ofSeconds(1), null);
+
+        assertThrows(TimeoutException.class, () -> instrumented.get(Timeout.ofSeconds(1)));
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.POOL_WAIT_METRIC)
+            .tag("outcome", "timeout").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void interruptedLeaseShouldNotBeRecordedAsSuccess() throws Exception {
+        LeaseRequest leaseRequest = mock(LeaseRequest.class);
+        when(delegate.lease("id", route, Timeout.ofSeconds(1), null)).thenReturn(leaseRequest);
+        when(leaseRequest.get(any())).thenThrow(new InterruptedException());
+
+        LeaseRequest instrumented = connectionManager.lease("id", route, Timeout.ofSeconds(1), null);
+
+        assertThrows(InterruptedException.class, () -> instrumented.get(Timeout.ofSeconds(1)));
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.POOL_WAIT_METRIC)
+            .tag("outcome", "interrupted").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(InstrumentedConnectionManager.POOL_WAIT_METRIC)
+            .tag("outcome", "success").timer()).isNull();
+    }
+
+    @Test
+    void failedLeaseShouldBeRecordedAsError() throws Exception {
+        LeaseRequest leaseRequest = mock(LeaseRequest.class);
+        when(delegate.lease("id", route, Timeout.ofSeconds(1), null)).thenReturn(leaseRequest);
+        when(leaseRequest.get(any())).thenThrow(new ExecutionException(new IOException("pool closed")));
+
+        LeaseRequest instrumented = connectionManager.lease("id", route, Timeout.ofSeconds(1), null);
+
+        assertThrows(ExecutionException.class, () -> instrumented.get(Timeout.ofSeconds(1)));
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.POOL_WAIT_METRIC)
+            .tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void connectShouldRecordConnectTimePerHost() throws Exception {
+        ConnectionEndpoint endpoint = mock(ConnectionEndpoint.class);
+        HttpClientContext context = HttpClientContext.create();
+        context.setAttribute(HttpClientContext.HTTP_ROUTE, route);
+
+        connectionManager.connect(endpoint, TimeValue.ofSeconds(2), context);
+
+        verify(delegate).connect(endpoint, TimeValue.ofSeconds(2), context);
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.CONNECT_METRIC)
+            .tag("host", "inventory").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void connectFailureShouldBeRecordedAsError() throws Exception {
+        ConnectionEndpoint endpoint = mock(ConnectionEndpoint.class);
+        doThrow(new IOException("refused")).when(delegate).connect(any(), any(), any());
+
+        assertThrows(IOException.class, () -> connectionManager.connect(endpoint, TimeValue.ofSeconds(2), null));
+        assertThat(meterRegistry.get(InstrumentedConnectionManager.CONNECT_METRIC)
+            .tag("host", "unknown").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,193 @@
+package com.paklog.ordermanagement.infrastructure.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.paklog.ordermanagement.infrastructure.config.IdempotencyConfig;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.MongoIdempotentResponseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class IdempotencyFilterTest {
+
+    private MongoIdempotentResponseRepository repository;
+    private IdempotencyConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MongoIdempotentResponseRepository.class);
+        config = new IdempotencyConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new IdempotencyFilter(repository, config, meterRegistry);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void recordedResponseShouldBeReplayedWithoutRunningTheChain() throws Exception {
+        Instant now = Instant.now();
+        when(repository.findById("key-1")).thenReturn(Optional.of(new IdempotentResponse(
+            "key-1", 201, "application/json", "{\"order_id\":\"1\"}".getBytes(StandardCharsets.UTF_8),
+            now, now.plusSeconds(60))));
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("key-1"), response, chain);
+
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"order_id\":\"1\"}");
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(meterRegistry.counter("order.idempotency.replay", "source", "store").count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredRecordShouldNotBeReplayed() throws Exception {
+        Instant now = Instant.now();
+        when(repository.findById("key-1")).thenReturn(Optional.of(new IdempotentResponse(
+            "key-1", 201, "application/json", new byte[0], now.minusSeconds(120), now.minusSeconds(60))));
+        AtomicInteger calls = new AtomicInteger();
+
+        filter.doFilter(post("key-1"), new MockHttpServletResponse(), respond(201, "{}", calls));
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void successfulResponseShouldBeRecordedAndPassedThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("key-1"), response, respond(201, "{\"order_id\":\"1\"}", new AtomicInteger()));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"order_id\":\"1\"}");
+        ArgumentCaptor<IdempotentResponse> saved = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(repository).save(saved.capture());
+        assertThat(saved.getValue().getIdempotencyKey()).isEqualTo("key-1");
+        assertThat(saved.getValue().getStatus()).isEqualTo(201);
+        assertThat(new String(saved.getValue().getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"order_id\":\"1\"}");
+        assertThat(saved.getValue().getExpiresAt()).isAfter(Instant.now().plus(config.getTtl()).minusSeconds(60));
+    }
+
+    @Test
+    void rejectedResponseShouldNotBeRecorded() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("key-1"), response, respond(422, "{\"errors\":[]}", new AtomicInteger()));
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).isEqualTo("{\"errors\":[]}");
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void storeFailureShouldNotFailTheRequest() throws Exception {
+        when(repository.findById(any())).thenThrow(new RuntimeException("connection refused"));
+        when(repository.save(any())).thenThrow(new RuntimeException("connection refused"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(post("key-1"), response, respond(201, "{}", new AtomicInteger()));
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{}");
+    }
+
+    @Test
+    void requestsWithoutKeyOrOtherMethodsShouldPassThrough() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/fulfillment_orders");
+        get.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/fulfillment_orders"),
+            new MockHttpServletResponse(), respond(201, "{}", calls));
+        filter.doFilter(get, new MockHttpServletResponse(), respond(200, "[]", calls));
+
+        assertThat(calls).hasValue(2);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void concurrentRetryShouldWaitForTheInFlightRequest() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        FilterChain slowChain = (request, response) -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            try {
+                releaseLeader.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((jakarta.servlet.http.HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"order_id\":\"1\"}");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MockHttpServletResponse leaderResponse = new MockHttpServletResponse();
+            MockHttpServletResponse followerResponse = new MockHttpServletResponse();
+            Future<?> leader = executor.submit(() -> {
+                filter.doFilter(post("key-1"), leaderResponse, slowChain);
+                return null;
+            });
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> follower = executor.submit(() -> {
+                filter.doFilter(post("key-1"), followerResponse, slowChain);
+                return null;
+            });
+
+            Thread.sleep(50);
+            releaseLeader.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+            follower.get(5, TimeUnit.SECONDS);
+
+            assertThat(calls).hasValue(1);
+            assertThat(followerResponse.getStatus()).isEqualTo(201);
+            assertThat(followerResponse.getContentAsString()).isEqualTo("{\"order_id\":\"1\"}");
+            assertThat(followerResponse.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(meterRegistry.counter("order.idempotency.replay", "source", "in_flight").count())
+                .isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MockHttpServletRequest post(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/fulfillment_orders");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        return request;
+    }
+
+    private static FilterChain respond(int status, String body, AtomicInteger calls) {
+        return (request, response) -> {
+            calls.incrementAndGet();
+            ((jakarta.servlet.http.HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write(body);
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.client.result.DeleteResult;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.OrderItemChunk;
+import com.paklog.ordermanagement.domain.repository.OrderArchiveBatch;
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.IndexCatalog;
+
+class FulfillmentOrderArchiveRepositoryImplTest {
+
+    private static final Set<FulfillmentOrderStatus> TERMINAL = Set.of(FulfillmentOrderStatus.SHIPPED);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations archive;
+    private FulfillmentOrderArchiveRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        archive = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, FulfillmentOrder.class, IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE))
+            .thenReturn(archive);
+        repository = new FulfillmentOrderArchiveRepositoryImpl(mongoTemplate);
+    }
+
+    @Test
+    void findByIdShouldFallBackToTheArchive() {
+        UUID orderId = UUID.randomUUID();
+        FulfillmentOrder archived = order(0);
+        when(mongoTemplate.findById(orderId, FulfillmentOrder.class, IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE))
+            .thenReturn(archived);
+
+        assertThat(repository.findById(orderId)).containsSame(archived);
+    }
+
+    @Test
+    void findByIdShouldNotReadTheArchiveForOperationalOrders() {
+        FulfillmentOrder operational = order(0);
+        when(mongoTemplate.findById(operational.getOrderId(), FulfillmentOrder.class)).thenReturn(operational);
+
+        assertThat(repository.findById(operational.getOrderId())).containsSame(operational);
+        verify(mongoTemplate, never()).findById(any(), eq(FulfillmentOrder.class), anyString());
+    }
+
+    @Test
+    void unchangedOrdersShouldBeMovedWithTheirChunkedItemsInline() {
+        FulfillmentOrder inline = order(0);
+        FulfillmentOrder chunked = order(2);
+        OrderItem item = new OrderItem("SKU-1", "item-1", 1, null, null);
+        when(mongoTemplate.find(any(Query.class), eq(FulfillmentOrder.class))).thenReturn(List.of(inline, chunked));
+        when(mongoTemplate.find(any(Query.class), eq(OrderItemChunk.class)))
+            .thenReturn(List.of(new OrderItemChunk(chunked.getOrderId(), 0, List.of(item))));
+        when(mongoTemplate.remove(any(Query.class), eq(FulfillmentOrder.class))).thenReturn(DeleteResult.acknowledged(2));
+
+        OrderArchiveBatch batch = repository.archiveOrders(TERMINAL, CUTOFF, 10);
+
+        assertThat(batch).isEqualTo(new OrderArchiveBatch(2, 2));
+        ArgumentCaptor<FulfillmentOrder> copies = ArgumentCaptor.forClass(FulfillmentOrder.class);
+        verify(archive, times(2)).replaceOne(any(Query.class), copies.capture(),
+            any(FindAndReplaceOptions.class));
+        verify(archive).execute();
+        assertThat(copies.getAllValues()).allSatisfy(copy -> assertThat(copy.getArchivedAt()).isNotNull());
+        assertThat(chunked.getItemChunkCount()).isZero();
+        assertThat(chunked.getItems()).containsExactly(item);
+        verify(mongoTemplate).remove(any(Query.class), eq(OrderItemChunk.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE));
+    }
+
+    @Test
+    void ordersChangedWhileMovedShouldStayOperational() {
+        FulfillmentOrder unchanged = order(0);
+        FulfillmentOrder changed = order(2);
+        when(mongoTemplate.find(any(Query.class), eq(FulfillmentOrder.class)))
+            .thenReturn(List.of(unchanged, changed))
+            .thenReturn(List.of(changed));
+        when(mongoTemplate.remove(any(Query.class), eq(FulfillmentOrder.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        OrderArchiveBatch batch = repository.archiveOrders(TERMINAL, CUTOFF, 10);
+
+        assertThat(batch).isEqualTo(new OrderArchiveBatch(2, 1));
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(IndexCatalog.FULFILLMENT_ORDERS_ARCHIVE));
+        assertThat(removed.getValue().getQueryObject().get("_id", Document.class).get("$in"))
+            .asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+            .containsExactly(changed.getOrderId());
+        // The changed order still reads its items from its chunks
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(OrderItemChunk.class));
+    }
+
+    @Test
+    void noCandidatesShouldWriteNothing() {
+        when(mongoTemplate.find(any(Query.class), eq(FulfillmentOrder.class))).thenReturn(List.of());
+
+        assertThat(repository.archiveOrders(TERMINAL, CUTOFF, 10)).isEqualTo(new OrderArchiveBatch(0, 0));
+        verify(archive, never()).execute();
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(FulfillmentOrder.class));
+    }
+
+    @Test
+    void candidateQueryShouldSelectOldOrdersInTheStatuses() {
+        Query query = FulfillmentOrderArchiveRepositoryImpl.buildCandidateQuery(TERMINAL, CUTOFF, 50);
+
+        assertThat(query.getQueryObject().get("status", Document.class).get("$in"))
+            .asInstanceOf(InstanceOfAssertFactories.COLLECTION)
+            .containsExactly(FulfillmentOrderStatus.SHIPPED);
+        assertThat(query.getQueryObject().get("receivedDate", Document.class).get("$lt")).isEqualTo(CUTOFF);
+        assertThat(query.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void versionedQueryShouldMatchEachOrderAtItsCopiedVersion() {
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        versions.put(first, 3L);
+        versions.put(second, null);
+
+        List<Object> unchanged = FulfillmentOrderArchiveRepositoryImpl.buildVersionedQuery(versions)
+            .getQueryObject().getList("$or", Object.class);
+
+        assertThat(unchanged).containsExactly(
+            new Document("_id", first).append("version", 3L),
+            new Document("_id", second).append("version", null));
+    }
+
+    private static FulfillmentOrder order(int itemChunkCount) {
+        FulfillmentOrder order = new FulfillmentOrder();
+        order.setOrderId(UUID.randomUUID());
+        order.setStatus(FulfillmentOrderStatus.SHIPPED);
+        order.setVersion(1L);
+        order.setItemChunkCount(itemChunkCount);
+        return order;
+    }
+}
@@ -0,0 +1,90 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.repository.OrderBatchInsertException;
+
+class FulfillmentOrderBulkRepositoryImplTest {
+
+    @Test
+    void ordersShouldBeInsertedUnorderedWithAnInitialVersion() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, FulfillmentOrder.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        List<FulfillmentOrder> orders = List.of(order(), order());
+
+        assertThat(new FulfillmentOrderBulkRepositoryImpl(mongoTemplate).insertOrders(orders)).isEmpty();
+
+        verify(bulkOperations).insert(eq(orders));
+        verify(bulkOperations).execute();
+        assertThat(orders).allSatisfy(order -> assertThat(order.getVersion()).isZero());
+    }
+
+    @Test
+    void duplicateKeyErrorsShouldNameTheRejectedOrders() {
+        List<FulfillmentOrder> orders = List.of(order(), order(), order());
+
+        assertThat(FulfillmentOrderBulkRepositoryImpl.rejectedOrders(orders,
+                bulkFailure(FulfillmentOrderBulkRepositoryImpl.DUPLICATE_KEY, 0, 2)))
+            .containsExactlyInAnyOrder(orders.get(0).getOrderId(), orders.get(2).getOrderId());
+    }
+
+    @Test
+    void otherWriteErrorsShouldFailTheBatchNamingEveryOrderNotInserted() {
+        List<FulfillmentOrder> orders = List.of(order(), order(), order());
+        List<BulkWriteError> errors = List.of(
+            new BulkWriteError(FulfillmentOrderBulkRepositoryImpl.DUPLICATE_KEY, "duplicate", new BsonDocument(), 0),
+            new BulkWriteError(121, "validation failed", new BsonDocument(), 2));
+        BulkOperationException failure = bulkFailure(errors);
+
+        assertThatThrownBy(() -> FulfillmentOrderBulkRepositoryImpl.rejectedOrders(orders, failure))
+            .isInstanceOf(OrderBatchInsertException.class)
+            .hasCause(failure)
+            .satisfies(e -> assertThat(((OrderBatchInsertException) e).getNotInserted())
+                .containsExactlyInAnyOrder(orders.get(0).getOrderId(), orders.get(2).getOrderId()));
+    }
+
+    private static BulkOperationException bulkFailure(int code, int... indexes) {
+        List<BulkWriteError> errors = new ArrayList<>();
+        for (int index : indexes) {
+            errors.add(new BulkWriteError(code, "write error", new BsonDocument(), index));
+        }
+        return bulkFailure(errors);
+    }
+
+    private static BulkOperationException bulkFailure(List<BulkWriteError> errors) {
+        MongoBulkWriteException cause = new MongoBulkWriteException(BulkWriteResult.unacknowledged(), errors, null,
+            new ServerAddress(), Set.of());
+        return new BulkOperationException("bulk write failed", cause);
+    }
+
+    private static FulfillmentOrder order() {
+        FulfillmentOrder order = new FulfillmentOrder();
+        order.setOrderId(UUID.randomUUID());
+        return order;
+    }
+}
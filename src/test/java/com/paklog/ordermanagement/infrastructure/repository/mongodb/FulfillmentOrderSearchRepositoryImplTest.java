@@ -0,0 +1,126 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPosition;
+
+class FulfillmentOrderSearchRepositoryImplTest {
+
+    @Test
+    void newestFirstSearchShouldContinueAfterTheLastSortKey() {
+        LocalDateTime receivedDate = LocalDateTime.of(2026, 3, 1, 10, 0);
+        UUID orderId = UUID.randomUUID();
+        OrderSearchCriteria criteria = new OrderSearchCriteria(FulfillmentOrderStatus.RECEIVED, null, null,
+            null, null, false, false, OrderSearchPosition.byReceivedDate(receivedDate, orderId), 20);
+
+        Query query = FulfillmentOrderSearchRepositoryImpl.buildQuery(criteria);
+
+        assertThat(query.getSortObject()).isEqualTo(new Document("receivedDate", -1).append("_id", -1));
+        assertThat(query.getLimit()).isEqualTo(21);
+        assertThat(query.getSkip()).isZero();
+        @SuppressWarnings("unchecked")
+        List<Document> filters = (List<Document>) query.getQueryObject().get("$and");
+        assertThat(filters).containsExactly(
+            new Document("status", FulfillmentOrderStatus.RECEIVED),
+            new Document("$or", List.of(
+                new Document("receivedDate", new Document("$lt", receivedDate)),
+                new Document("receivedDate", receivedDate).append("_id", new Document("$lt", orderId)))));
+    }
+
+    @Test
+    void prefixSearchShouldBeAnIndexRangeSortedBySellerOrderId() {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(null, null, null, null, "SELLER-",
+            false, false, OrderSearchPosition.bySellerOrderId("SELLER-42"), 20);
+
+        Query query = FulfillmentOrderSearchRepositoryImpl.buildQuery(criteria);
+
+        assertThat(query.getSortObject()).isEqualTo(new Document("sellerFulfillmentOrderId", 1));
+        @SuppressWarnings("unchecked")
+        List<Document> filters = (List<Document>) query.getQueryObject().get("$and");
+        assertThat(filters).containsExactly(
+            new Document("sellerFulfillmentOrderId", new Document("$gte", "SELLER-").append("$lt", "SELLER.")),
+            new Document("sellerFulfillmentOrderId", new Document("$gt", "SELLER-42")));
+    }
+
+    @Test
+    void summaryProjectionShouldOmitItemsAndAddressUnlessIncluded() {
+        Query summary = FulfillmentOrderSearchRepositoryImpl.buildQuery(
+            new OrderSearchCriteria(null, null, null, null, null, false, false, null, 10));
+        Query full = FulfillmentOrderSearchRepositoryImpl.buildQuery(
+            new OrderSearchCriteria(null, null, null, null, null, true, true, null, 10));
+
+        assertThat(summary.getFieldsObject()).containsKeys("status", "receivedDate", "itemCount")
+            .doesNotContainKeys("items", "destinationAddress");
+        assertThat(full.getFieldsObject()).containsKeys("items", "destinationAddress");
+    }
+
+    @Test
+    void streamQueryShouldReadWholeOrdersInSearchOrder() {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(FulfillmentOrderStatus.RECEIVED, null, null,
+            null, null, false, false, null, Integer.MAX_VALUE);
+
+        Query query = FulfillmentOrderSearchRepositoryImpl.buildStreamQuery(criteria);
+
+        assertThat(query.getQueryObject()).isEqualTo(new Document("$and",
+            List.of(new Document("status", FulfillmentOrderStatus.RECEIVED))));
+        assertThat(query.getSortObject()).isEqualTo(new Document("receivedDate", -1).append("_id", -1));
+        assertThat(query.getLimit()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(query.getFieldsObject()).isEmpty();
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(FulfillmentOrderSearchRepositoryImpl.STREAM_BATCH_SIZE);
+    }
+
+    @Test
+    void extraResultShouldProduceTheNextPosition() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        List<FulfillmentOrder> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FulfillmentOrder order = new FulfillmentOrder();
+            order.setOrderId(UUID.randomUUID());
+            order.setReceivedDate(LocalDateTime.of(2026, 3, 1, 10, 0).minusMinutes(i));
+            results.add(order);
+        }
+        when(mongoTemplate.find(any(Query.class), eq(FulfillmentOrder.class))).thenReturn(results);
+        FulfillmentOrderSearchRepositoryImpl repository = new FulfillmentOrderSearchRepositoryImpl(mongoTemplate);
+
+        OrderSearchPage page = repository.searchOrders(
+            new OrderSearchCriteria(null, null, null, null, null, false, false, null, 2));
+
+        assertThat(page.getOrders()).hasSize(2);
+        assertThat(page.getNext().getOrderId()).isEqualTo(results.get(1).getOrderId());
+        assertThat(page.getNext().getReceivedDate()).isEqualTo(results.get(1).getReceivedDate());
+    }
+
+    @Test
+    void pageTokenShouldRoundTripAndRejectGarbage() {
+        OrderSearchPosition position = OrderSearchPosition.byReceivedDate(LocalDateTime.of(2026, 3, 1, 10, 0, 5, 123_000_000),
+            UUID.randomUUID());
+
+        OrderSearchPosition decoded = OrderSearchPosition.fromPageToken(position.toPageToken());
+
+        assertThat(decoded.getReceivedDate()).isEqualTo(position.getReceivedDate());
+        assertThat(decoded.getOrderId()).isEqualTo(position.getOrderId());
+        assertThat(OrderSearchPosition.fromPageToken(OrderSearchPosition.bySellerOrderId("a~b").toPageToken())
+            .getSellerFulfillmentOrderId()).isEqualTo("a~b");
+        assertThatThrownBy(() -> OrderSearchPosition.fromPageToken("%%%"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
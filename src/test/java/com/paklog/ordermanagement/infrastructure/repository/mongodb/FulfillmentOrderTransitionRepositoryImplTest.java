@@ -0,0 +1,75 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.StatusTransition;
+
+class FulfillmentOrderTransitionRepositoryImplTest {
+
+    @Test
+    void transitionShouldMatchAllowedStatesAndSetOnlyChangedFields() {
+        UUID orderId = UUID.randomUUID();
+        StatusTransition transition = FulfillmentOrder.cancellation(orderId, "customer request");
+
+        Query query = FulfillmentOrderTransitionRepositoryImpl.buildQuery(transition);
+        Update update = FulfillmentOrderTransitionRepositoryImpl.buildUpdate(transition);
+
+        assertThat(query.getQueryObject().get("_id")).isEqualTo(orderId);
+        assertThat(query.getQueryObject().get("status", Document.class).get("$in"))
+            .isEqualTo(FulfillmentOrder.CANCELLABLE_STATUSES);
+        assertThat(query.getQueryObject()).doesNotContainKey("version");
+        assertThat(update.getUpdateObject()).isEqualTo(new Document()
+            .append("$set", new Document("status", FulfillmentOrderStatus.CANCELLED)
+                .append("cancellationReason", "customer request"))
+            .append("$inc", new Document("version", 1)));
+    }
+
+    @Test
+    void expectedVersionShouldBePartOfThePredicate() {
+        StatusTransition transition = FulfillmentOrder.cancellation(UUID.randomUUID(), "reason").expectingVersion(7L);
+
+        Query query = FulfillmentOrderTransitionRepositoryImpl.buildQuery(transition);
+
+        assertThat(query.getQueryObject().get("version")).isEqualTo(7L);
+    }
+
+    @Test
+    void transitionShouldReturnTheNewDocument() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        FulfillmentOrderTransitionRepositoryImpl repository = new FulfillmentOrderTransitionRepositoryImpl(mongoTemplate);
+
+        assertThat(repository.transitionStatus(FulfillmentOrder.cancellation(UUID.randomUUID(), "reason"))).isEmpty();
+
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), any(Update.class), options.capture(),
+            eq(FulfillmentOrder.class));
+        assertThat(options.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    void managedFieldsShouldNotBeSetDirectly() {
+        StatusTransition transition = StatusTransition.of(UUID.randomUUID(),
+            FulfillmentOrder.CANCELLABLE_STATUSES, FulfillmentOrderStatus.CANCELLED);
+
+        assertThatThrownBy(() -> transition.set("version", 3L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> transition.set("status", FulfillmentOrderStatus.SHIPPED))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
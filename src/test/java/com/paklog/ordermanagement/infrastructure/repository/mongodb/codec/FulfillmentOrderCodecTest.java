@@ -0,0 +1,201 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+
+import com.mongodb.MongoClientSettings;
+import com.paklog.ordermanagement.domain.model.Address;
+import com.paklog.ordermanagement.domain.model.FulfillmentAction;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
+import com.paklog.ordermanagement.domain.model.OrderItem;
+import com.paklog.ordermanagement.domain.model.TimeOrderedUuid;
+import com.paklog.ordermanagement.domain.model.UnfulfillableItem;
+import com.paklog.ordermanagement.domain.model.UnfulfillableReason;
+import com.paklog.ordermanagement.infrastructure.config.MongoCodecConfig;
+
+class FulfillmentOrderCodecTest {
+
+    static final Codec<Document> DOCUMENT_CODEC = CodecRegistries.withUuidRepresentation(
+        MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.STANDARD).get(Document.class);
+    private static final Codec<Document> LEGACY_DOCUMENT_CODEC = CodecRegistries.withUuidRepresentation(
+        MongoClientSettings.getDefaultCodecRegistry(), UuidRepresentation.JAVA_LEGACY).get(Document.class);
+
+    private final MappingMongoConverter reflective = converter(new MongoCustomConversions(List.of()));
+
+    @Test
+    void fullyPopulatedOrderShouldEncodeToTheSameBytesAsTheReflectiveMapping() {
+        FulfillmentOrder order = fullyPopulatedOrder();
+
+        assertThat(bytes(FulfillmentOrderCodec.encode(order))).isEqualTo(bytes(reflectiveDocument(order)));
+    }
+
+    @Test
+    void fullyPopulatedOrderShouldCoverEveryStoredField() {
+        // Fails when a field is added to the order but not to the test order, or to the codec
+        List<String> storedFields = new ArrayList<>();
+        reflective.getMappingContext().getRequiredPersistentEntity(FulfillmentOrder.class)
+            .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> storedFields.add(property.getFieldName()));
+
+        assertThat(reflectiveDocument(fullyPopulatedOrder()).keySet()).containsAll(storedFields);
+    }
+
+    @Test
+    void sparseOrderShouldEncodeToTheSameBytesAsTheReflectiveMapping() {
+        FulfillmentOrder order = new FulfillmentOrder();
+        order.setOrderId(UUID.randomUUID());
+        order.setStatus(FulfillmentOrderStatus.NEW);
+        order.setItemCount(800);
+        order.setItemChunkCount(2);
+
+        assertThat(bytes(FulfillmentOrderCodec.encode(order))).isEqualTo(bytes(reflectiveDocument(order)));
+    }
+
+    @Test
+    void reflectivelyWrittenDocumentShouldDecodeToTheSameOrder() {
+        Document document = reflectiveDocument(fullyPopulatedOrder());
+
+        assertThat(FulfillmentOrderCodec.decode(document))
+            .usingRecursiveComparison()
+            .isEqualTo(reflective.read(FulfillmentOrder.class, document));
+    }
+
+    @Test
+    void orderShouldSurviveARoundTrip() {
+        FulfillmentOrder order = fullyPopulatedOrder();
+        Document stored = new RawBsonDocument(FulfillmentOrderCodec.encode(order), DOCUMENT_CODEC)
+            .decode(DOCUMENT_CODEC);
+
+        assertThat(FulfillmentOrderCodec.decode(stored))
+            .usingRecursiveComparison()
+            .isEqualTo(order);
+    }
+
+    @Test
+    void legacyEncodedOrderShouldDecodeWithEitherRepresentation() {
+        FulfillmentOrder order = fullyPopulatedOrder();
+        RawBsonDocument stored = new RawBsonDocument(FulfillmentOrderCodec.encode(order), LEGACY_DOCUMENT_CODEC);
+
+        assertThat(FulfillmentOrderCodec.decode(stored.decode(LEGACY_DOCUMENT_CODEC)))
+            .usingRecursiveComparison()
+            .isEqualTo(order);
+        assertThat(FulfillmentOrderCodec.decode(stored.decode(DOCUMENT_CODEC)))
+            .usingRecursiveComparison()
+            .isEqualTo(order);
+    }
+
+    @Test
+    void standardEncodedOrderShouldDecodeWithTheLegacyRepresentation() {
+        FulfillmentOrder order = fullyPopulatedOrder();
+        RawBsonDocument stored = new RawBsonDocument(FulfillmentOrderCodec.encode(order), DOCUMENT_CODEC);
+
+        assertThat(FulfillmentOrderCodec.decode(stored.decode(LEGACY_DOCUMENT_CODEC)).getOrderId())
+            .isEqualTo(order.getOrderId());
+    }
+
+    @Test
+    void projectedDocumentShouldDecodeLikeTheReflectiveMapping() {
+        Document projected = new Document("_id", UUID.randomUUID())
+            .append("status", "SHIPPED")
+            .append("items", List.of(new Document("sellerSku", "SKU-1").append("quantity", 2)))
+            .append("receivedDate", new Date());
+
+        FulfillmentOrder order = FulfillmentOrderCodec.decode(projected);
+
+        assertThat(order).usingRecursiveComparison().isEqualTo(reflective.read(FulfillmentOrder.class, projected));
+        assertThat(order.getItemCount()).isEqualTo(1);
+        assertThat(order.getDestinationAddress()).isNull();
+    }
+
+    @Test
+    void registeredCodecsShouldReplaceTheReflectiveMapping() {
+        MongoCustomConversions conversions = new MongoCodecConfig().mongoCustomConversions();
+        MappingMongoConverter converter = converter(conversions);
+        FulfillmentOrder order = fullyPopulatedOrder();
+        Document written = new Document();
+        converter.write(order, written);
+
+        assertThat(conversions.hasCustomReadTarget(Document.class, FulfillmentOrder.class)).isTrue();
+        assertThat(bytes(written)).isEqualTo(bytes(reflectiveDocument(order)));
+        assertThat(converter.read(FulfillmentOrder.class, written)).usingRecursiveComparison().isEqualTo(order);
+    }
+
+    @Test
+    void repositoriesShouldStillBeCreatedWithTheCodecsRegistered() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter(new MongoCodecConfig().mongoCustomConversions()));
+
+        // The codecs make the order a simple type; its mapping metadata must remain for repositories
+        assertThat(new MongoRepositoryFactory(mongoTemplate).getEntityInformation(FulfillmentOrder.class))
+            .satisfies(entity -> {
+                assertThat(entity.getIdType()).isEqualTo(UUID.class);
+                assertThat(entity.getCollectionName()).isEqualTo("fulfillment_orders");
+                assertThat(entity.isVersioned()).isTrue();
+            });
+    }
+
+    static MappingMongoConverter converter(MongoCustomConversions conversions) {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+
+    static byte[] bytes(Document document) {
+        RawBsonDocument raw = new RawBsonDocument(document, DOCUMENT_CODEC);
+        byte[] bytes = new byte[raw.getByteBuffer().remaining()];
+        raw.getByteBuffer().get(bytes);
+        return bytes;
+    }
+
+    private Document reflectiveDocument(FulfillmentOrder order) {
+        Document document = new Document();
+        reflective.write(order, document);
+        return document;
+    }
+
+    static FulfillmentOrder fullyPopulatedOrder() {
+        Address address = new Address("Jane Doe", "1 Main St", "Suite 2", "Springfield", "IL", "62701", "US");
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            items.add(new OrderItem("SKU-" + i, "item-" + i, i + 1, i % 2 == 0 ? "Happy birthday" : null, "Fragile"));
+        }
+        FulfillmentOrder order = new FulfillmentOrder(TimeOrderedUuid.next(), "seller-1", "display-1",
+            LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_000_000), "Thank you", "STANDARD", address, items, "idem-1");
+        order.receive();
+        order.setReceivedDate(LocalDateTime.of(2026, 3, 1, 10, 16));
+        order.setFulfillmentAction(FulfillmentAction.PARTIAL);
+        order.getUnfulfillableItems().add(new UnfulfillableItem("SKU-1", "item-1", 2, 1, UnfulfillableReason.INSUFFICIENT_STOCK));
+        order.setCancellationReason("Customer request");
+        order.setAddressFingerprint(-1234567890123L);
+        order.setAddressBandKeys(List.of(11L, 22L, 33L));
+        order.setVersion(4L);
+        order.setArchivedAt(LocalDateTime.of(2026, 6, 1, 0, 0));
+        return order;
+    }
+}
@@ -0,0 +1,63 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.codec;
+
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.FulfillmentOrderCodecTest.bytes;
+import static com.paklog.ordermanagement.infrastructure.repository.mongodb.codec.FulfillmentOrderCodecTest.converter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import com.paklog.ordermanagement.domain.model.OutboxEvent;
+
+class OutboxEventCodecTest {
+
+    private final MappingMongoConverter reflective = converter(new MongoCustomConversions(List.of()));
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"507f1f77bcf86cd799439011", "not-an-object-id"})
+    void eventShouldEncodeToTheSameBytesAsTheReflectiveMapping(String id) {
+        OutboxEvent event = event(id);
+
+        assertThat(bytes(OutboxEventCodec.encode(event))).isEqualTo(bytes(reflectiveDocument(event)));
+    }
+
+    @Test
+    void reflectivelyWrittenDocumentShouldDecodeToTheSameEvent() {
+        Document document = reflectiveDocument(event(new ObjectId().toHexString()));
+        document.put("published", true);
+
+        assertThat(OutboxEventCodec.decode(document))
+            .usingRecursiveComparison()
+            .isEqualTo(reflective.read(OutboxEvent.class, document));
+    }
+
+    @Test
+    void objectIdShouldReadAsItsHexString() {
+        ObjectId id = new ObjectId();
+
+        assertThat(OutboxEventCodec.decode(new Document("_id", id)).getId()).isEqualTo(id.toHexString());
+    }
+
+    private Document reflectiveDocument(OutboxEvent event) {
+        Document document = new Document();
+        reflective.write(event, document);
+        return document;
+    }
+
+    private static OutboxEvent event(String id) {
+        OutboxEvent event = new OutboxEvent("FulfillmentOrderReceived", "{\"orderId\":\"42\"}");
+        event.setId(id);
+        event.setCreatedAt(LocalDateTime.of(2026, 3, 1, 10, 0, 0, 250_000_000));
+        return event;
+    }
+}
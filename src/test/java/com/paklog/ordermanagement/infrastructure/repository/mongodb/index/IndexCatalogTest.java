@@ -0,0 +1,60 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+
+class IndexCatalogTest {
+
+    @Test
+    void everyHotQueryShouldHaveAnIndexOnItsLeadingField() {
+        Map<String, List<IndexDefinition>> indexes = IndexCatalog.indexes();
+
+        for (IndexCatalog.HotQuery query : IndexCatalog.hotQueries()) {
+            // A query without filter must be served by an index on its sort
+            Document shape = query.filter().isEmpty() ? query.sort() : query.filter();
+            String leadingField = shape.keySet().iterator().next();
+            List<IndexDefinition> collectionIndexes = indexes.getOrDefault(query.collection(), List.of());
+
+            assertThat(collectionIndexes)
+                .as(query.name())
+                .anyMatch(index -> firstKey(index).equals(leadingField));
+        }
+    }
+
+    @Test
+    void indexNamesShouldBeUniquePerCollection() {
+        for (Map.Entry<String, List<IndexDefinition>> entry : IndexCatalog.indexes().entrySet()) {
+            List<String> names = new ArrayList<>();
+            for (IndexDefinition index : entry.getValue()) {
+                names.add(index.getIndexOptions().getString("name"));
+            }
+            Set<String> distinct = new HashSet<>(names);
+
+            assertThat(names).as(entry.getKey()).doesNotContainNull().hasSameSizeAs(distinct);
+        }
+    }
+
+    @Test
+    void orderCreationShouldBeBackedByUniqueIndexes() {
+        List<IndexDefinition> orderIndexes = IndexCatalog.indexes().get(IndexCatalog.FULFILLMENT_ORDERS);
+
+        assertThat(orderIndexes)
+            .filteredOn(index -> Boolean.TRUE.equals(index.getIndexOptions().get("unique")))
+            .extracting(IndexCatalogTest::firstKey)
+            .containsExactlyInAnyOrder("idempotencyKey", "sellerFulfillmentOrderId");
+    }
+
+    private static String firstKey(IndexDefinition index) {
+        Document keys = index.getIndexKeys();
+        return keys.keySet().iterator().next();
+    }
+}
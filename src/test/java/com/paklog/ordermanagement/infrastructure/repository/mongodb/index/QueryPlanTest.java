@@ -0,0 +1,60 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class QueryPlanTest {
+
+    @Test
+    void classicPlanShouldReportIndexScan() {
+        Document explain = Document.parse("""
+            { "queryPlanner": { "winningPlan": {
+                "stage": "FETCH",
+                "inputStage": { "stage": "IXSCAN", "indexName": "idempotencyKey" } } } }
+            """);
+
+        QueryPlan plan = QueryPlan.fromExplain(explain);
+
+        assertThat(plan.isCollectionScan()).isFalse();
+        assertThat(plan.stages()).containsExactly("FETCH", "IXSCAN");
+        assertThat(plan.indexNames()).containsExactly("idempotencyKey");
+    }
+
+    @Test
+    void slotBasedPlanShouldBeUnderstood() {
+        Document explain = Document.parse("""
+            { "queryPlanner": { "winningPlan": {
+                "queryPlan": { "stage": "COLLSCAN", "direction": "forward" },
+                "slotBasedPlan": { "stages": "[1] scan s1 s2" } } } }
+            """);
+
+        assertThat(QueryPlan.fromExplain(explain).isCollectionScan()).isTrue();
+    }
+
+    @Test
+    void shardedPlanShouldReportScansOnAnyShard() {
+        Document explain = Document.parse("""
+            { "queryPlanner": { "winningPlan": { "stage": "SHARD_MERGE", "shards": [
+                { "winningPlan": { "stage": "FETCH", "inputStage": { "stage": "IXSCAN", "indexName": "receivedDate" } } },
+                { "winningPlan": { "stage": "COLLSCAN" } } ] } } }
+            """);
+
+        QueryPlan plan = QueryPlan.fromExplain(explain);
+
+        assertThat(plan.isCollectionScan()).isTrue();
+        assertThat(plan.indexNames()).containsExactly("receivedDate");
+    }
+
+    @Test
+    void rejectedPlansShouldBeIgnored() {
+        Document explain = Document.parse("""
+            { "queryPlanner": {
+                "winningPlan": { "stage": "IXSCAN", "indexName": "fuzzy_duplicate_idx" },
+                "rejectedPlans": [ { "stage": "COLLSCAN" } ] } }
+            """);
+
+        assertThat(QueryPlan.fromExplain(explain).isCollectionScan()).isFalse();
+    }
+}
@@ -0,0 +1,108 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoCollection;
+import com.paklog.ordermanagement.infrastructure.config.OrderIdMigrationConfig;
+
+class OrderIdMigrationTest {
+
+    private static final UUID ORDER_ID = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+
+    @Test
+    void legacyIdsShouldBeRewrittenAsTheSameStandardUuid() {
+        BsonBinary legacy = new BsonBinary(ORDER_ID, UuidRepresentation.JAVA_LEGACY);
+
+        BsonBinary standard = OrderIdMigration.toStandard(legacy);
+
+        assertThat(standard.getType()).isEqualTo(BsonBinarySubType.UUID_STANDARD.getValue());
+        assertThat(standard.asUuid()).isEqualTo(ORDER_ID);
+        assertThat(standard.getData()).isNotEqualTo(legacy.getData());
+    }
+
+    @Test
+    void encodedAsShouldSelectOneSubtypeByRange() {
+        Bson filter = OrderIdMigration.encodedAs("_id", BsonBinarySubType.UUID_LEGACY);
+
+        BsonDocument range = filter.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry())
+            .getArray("$and").get(0).asDocument();
+
+        BsonBinary lowest = range.getDocument("_id").getBinary("$gte");
+        assertThat(lowest.getType()).isEqualTo(BsonBinarySubType.UUID_LEGACY.getValue());
+        assertThat(lowest.getData()).hasSize(16).containsOnly(0);
+    }
+
+    @Test
+    void shouldBeOutOfServiceUntilChecked() {
+        OrderIdMigration migration = migration(mock(MongoTemplate.class), UuidRepresentation.STANDARD);
+
+        assertThat(migration.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    void shouldBeUpWhenNoIdHasTheOtherEncoding() {
+        MongoTemplate mongoTemplate = mongoTemplate(null);
+        OrderIdMigration migration = migration(mongoTemplate, UuidRepresentation.JAVA_LEGACY);
+
+        assertThat(migration.run()).isTrue();
+
+        assertThat(migration.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void shouldBeDownWhenIdsHaveTheOtherEncoding() {
+        MongoTemplate mongoTemplate = mongoTemplate(new BsonDocument());
+        OrderIdMigration migration = migration(mongoTemplate, UuidRepresentation.STANDARD);
+
+        assertThat(migration.run()).isTrue();
+
+        assertThat(migration.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(migration.health().getDetails()).containsKey("collections");
+    }
+
+    @Test
+    void shouldRetryWhenMongoIsUnavailable() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollection(anyString())).thenThrow(new IllegalStateException("unavailable"));
+        OrderIdMigration migration = migration(mongoTemplate, UuidRepresentation.STANDARD);
+
+        assertThat(migration.run()).isFalse();
+
+        assertThat(migration.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(migration.health().getDetails()).containsEntry("error", "unavailable");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MongoTemplate mongoTemplate(BsonDocument found) {
+        MongoCollection<BsonDocument> collection = mock(MongoCollection.class, RETURNS_DEEP_STUBS);
+        when(collection.find(any(Bson.class)).limit(1).first()).thenReturn(found);
+        when(collection.find().limit(1).first()).thenReturn(null);
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class, RETURNS_DEEP_STUBS);
+        when(mongoTemplate.getCollection(anyString()).withDocumentClass(BsonDocument.class)).thenReturn(collection);
+        return mongoTemplate;
+    }
+
+    private static OrderIdMigration migration(MongoTemplate mongoTemplate, UuidRepresentation representation) {
+        MongoProperties properties = new MongoProperties();
+        properties.setUuidRepresentation(representation);
+        return new OrderIdMigration(mongoTemplate, new OrderIdMigrationConfig(), properties);
+    }
+}
@@ -0,0 +1,139 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+
+class CommandDocumentsTest {
+
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    @Test
+    void sizeShouldMatchTheEncodedSize() {
+        BsonDocument document = new BsonDocument("insert", new BsonString("fulfillment_orders"))
+            .append("ordered", BsonBoolean.TRUE)
+            .append("id", new BsonBinary(UUID.randomUUID(), UuidRepresentation.STANDARD))
+            .append("name", new BsonString("Zoë 北京 📦"))
+            .append("count", new BsonInt32(3))
+            .append("version", new BsonInt64(4))
+            .append("ratio", new BsonDouble(0.5))
+            .append("at", new BsonDateTime(1_700_000_000_000L))
+            .append("ts", new BsonTimestamp(1, 2))
+            .append("amount", new BsonDecimal128(Decimal128.parse("12.50")))
+            .append("objectId", new BsonObjectId())
+            .append("pattern", new BsonRegularExpression("^SKU-", "i"))
+            .append("missing", BsonNull.VALUE)
+            .append("nested", new BsonDocument("a", new BsonArray(List.of(new BsonInt32(1), new BsonString("b")))))
+            // Sequence documents arrive as wire-backed documents inside a plain command
+            .append("documents", new BsonArray(List.of(raw(new BsonDocument("_id", new BsonInt32(1))))));
+
+        assertThat(CommandDocuments.sizeOf(document)).isEqualTo(raw(document).getByteBuffer().remaining());
+    }
+
+    @Test
+    void wireBackedDocumentShouldBeMeasuredFromItsLengthPrefix() {
+        RawBsonDocument raw = raw(new BsonDocument("find", new BsonString("fulfillment_orders")));
+        BsonDocument wireBacked = new BsonDocument() {
+            @Override
+            public BsonReader asBsonReader() {
+                return new BsonBinaryReader(raw.getByteBuffer().asNIO());
+            }
+        };
+
+        assertThat(CommandDocuments.sizeOf(wireBacked)).isEqualTo(raw.getByteBuffer().remaining());
+    }
+
+    @Test
+    void collectionShouldComeFromTheCommandName() {
+        assertThat(CommandDocuments.collection("find", new BsonDocument("find", new BsonString("outbox"))))
+            .isEqualTo("outbox");
+        assertThat(CommandDocuments.collection("getMore", new BsonDocument("getMore", new BsonInt64(42))
+            .append("collection", new BsonString("outbox"))))
+            .isEqualTo("outbox");
+        assertThat(CommandDocuments.collection("ping", new BsonDocument("ping", new BsonInt32(1))))
+            .isEqualTo(CommandDocuments.NO_COLLECTION);
+    }
+
+    @Test
+    void copyShouldDropSessionFieldsAndKeepTheFirstStatement() {
+        BsonDocument update = new BsonDocument("update", new BsonString("fulfillment_orders"))
+            .append("ordered", BsonBoolean.TRUE)
+            .append("updates", new BsonArray(List.of(statement("SHIPPED"), statement("CANCELLED"))))
+            .append("lsid", new BsonDocument("id", new BsonBinary(UUID.randomUUID(), UuidRepresentation.STANDARD)))
+            .append("txnNumber", new BsonInt64(1))
+            .append("$db", new BsonString("order_management"));
+
+        assertThat(CommandDocuments.copy("update", update)).isEqualTo(
+            new BsonDocument("update", new BsonString("fulfillment_orders"))
+                .append("ordered", BsonBoolean.TRUE)
+                .append("updates", new BsonArray(List.of(statement("SHIPPED")))));
+    }
+
+    @Test
+    void insertCopyShouldKeepOnlyTheNumberOfDocuments() {
+        BsonDocument insert = new BsonDocument("insert", new BsonString("outbox"))
+            .append("documents", new BsonArray(List.of(new BsonDocument(), new BsonDocument())));
+
+        assertThat(CommandDocuments.copy("insert", insert).get("documents")).isEqualTo(new BsonInt32(2));
+    }
+
+    @Test
+    void shapeShouldRedactValuesButKeepOptionsAndStructure() {
+        BsonDocument find = new BsonDocument("find", new BsonString("fulfillment_orders"))
+            .append("filter", new BsonDocument("status", new BsonDocument("$in", new BsonArray(List.of(
+                    new BsonString("SHIPPED"), new BsonString("CANCELLED")))))
+                .append("sellerFulfillmentOrderId", new BsonString("seller-1")))
+            .append("limit", new BsonInt32(1));
+
+        assertThat(CommandDocuments.shape(CommandDocuments.copy("find", find))).isEqualTo(
+            "{\"find\": \"fulfillment_orders\", \"filter\": {\"status\": {\"$in\": [\"?\"]}, "
+                + "\"sellerFulfillmentOrderId\": \"?\"}, \"limit\": 1}");
+    }
+
+    @Test
+    void documentsReturnedShouldCountTheBatch() {
+        BsonDocument firstBatch = new BsonDocument("cursor", new BsonDocument("firstBatch",
+            new BsonArray(List.of(new BsonDocument(), new BsonDocument()))));
+        BsonDocument nextBatch = new BsonDocument("cursor", new BsonDocument("nextBatch",
+            new BsonArray(List.of(new BsonDocument()))));
+
+        assertThat(CommandDocuments.documentsReturned("find", firstBatch)).isEqualTo(2);
+        assertThat(CommandDocuments.documentsReturned("getMore", nextBatch)).isEqualTo(1);
+        assertThat(CommandDocuments.documentsReturned("findAndModify", new BsonDocument("value", BsonNull.VALUE)))
+            .isZero();
+        assertThat(CommandDocuments.documentsReturned("insert", new BsonDocument("n", new BsonInt32(2))))
+            .isEqualTo(-1);
+    }
+
+    private static BsonDocument statement(String status) {
+        return new BsonDocument("q", new BsonDocument("status", new BsonString(status)))
+            .append("u", new BsonDocument("$set", new BsonDocument("archived", BsonBoolean.TRUE)));
+    }
+
+    private static RawBsonDocument raw(BsonDocument document) {
+        return new RawBsonDocument(document, CODEC);
+    }
+}
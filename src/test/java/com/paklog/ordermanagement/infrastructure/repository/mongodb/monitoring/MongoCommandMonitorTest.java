@@ -0,0 +1,148 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.mongodb.MongoException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MongoCommandMonitorTest {
+
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId(), new ServerAddress());
+    private static final ConnectionDescription CONNECTION = new ConnectionDescription(SERVER_ID);
+    private static final String DATABASE = "order_management";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowCommandLog slowCommands = mock(SlowCommandLog.class);
+    private final MongoCommandMonitor monitor = new MongoCommandMonitor(meterRegistry, slowCommands,
+        Duration.ofMillis(100));
+
+    @Test
+    void succeededCommandShouldRecordBytesAndDocuments() {
+        CommandStartedEvent started = started(1, "find", find());
+        BsonDocument reply = new BsonDocument("cursor", new BsonDocument("firstBatch",
+            new BsonArray(List.of(new BsonDocument("_id", new BsonInt32(1)), new BsonDocument("_id", new BsonInt32(2))))))
+            .append("ok", new BsonDouble(1));
+
+        monitor.commandStarted(started);
+        monitor.commandSucceeded(succeeded(1, "find", reply, 5));
+
+        assertThat(meterRegistry.get("mongodb.command.bytes").tag("collection", "fulfillment_orders")
+            .tag("command", "find").tag("direction", "sent").summary().totalAmount())
+            .isEqualTo(size(started.getCommand()));
+        assertThat(meterRegistry.get("mongodb.command.bytes").tag("direction", "received").summary().totalAmount())
+            .isEqualTo(size(reply));
+        assertThat(meterRegistry.get("mongodb.command.documents").tag("command", "find").summary().totalAmount())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("mongodb.command.slow").counter().count()).isZero();
+        verifyNoInteractions(slowCommands);
+    }
+
+    @Test
+    void slowQueryShouldBeLoggedWithItsShapeAndExplainableCommand() {
+        monitor.commandStarted(started(2, "find", find()));
+        monitor.commandSucceeded(succeeded(2, "find", new BsonDocument("ok", new BsonDouble(1)), 250));
+
+        ArgumentCaptor<SlowCommand> slowCommand = ArgumentCaptor.forClass(SlowCommand.class);
+        ArgumentCaptor<BsonDocument> explainable = ArgumentCaptor.forClass(BsonDocument.class);
+        verify(slowCommands).record(slowCommand.capture(), explainable.capture());
+        assertThat(slowCommand.getValue()).satisfies(command -> {
+            assertThat(command.database()).isEqualTo(DATABASE);
+            assertThat(command.collection()).isEqualTo("fulfillment_orders");
+            assertThat(command.command()).isEqualTo("find");
+            assertThat(command.durationMillis()).isEqualTo(250);
+            assertThat(command.succeeded()).isTrue();
+            assertThat(command.shape()).isEqualTo("{\"find\": \"fulfillment_orders\", \"filter\": {\"status\": \"?\"}}");
+        });
+        assertThat(explainable.getValue()).isEqualTo(find());
+        assertThat(meterRegistry.get("mongodb.command.slow").tag("command", "find").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void slowFailedCommandShouldBeLoggedWithoutExplaining() {
+        monitor.commandStarted(started(3, "find", find()));
+        monitor.commandFailed(new CommandFailedEvent(null, 1, 3, CONNECTION, DATABASE, "find",
+            TimeUnit.MILLISECONDS.toNanos(300), new MongoException("timed out")));
+
+        ArgumentCaptor<SlowCommand> slowCommand = ArgumentCaptor.forClass(SlowCommand.class);
+        verify(slowCommands).record(slowCommand.capture(), eq(null));
+        assertThat(slowCommand.getValue().succeeded()).isFalse();
+        assertThat(slowCommand.getValue().documentsReturned()).isEqualTo(-1);
+    }
+
+    @Test
+    void commandWithoutAStartedEventShouldBeIgnored() {
+        monitor.commandSucceeded(succeeded(4, "find", new BsonDocument("ok", new BsonDouble(1)), 500));
+
+        verify(slowCommands, never()).record(any(), any());
+        assertThat(meterRegistry.find("mongodb.command.bytes").summary()).isNull();
+    }
+
+    @Test
+    void poolWaitShouldBeRecordedByOutcome() {
+        ConnectionPoolWaitMonitor poolMonitor = new ConnectionPoolWaitMonitor(meterRegistry);
+
+        poolMonitor.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(SERVER_ID), 1,
+            TimeUnit.MILLISECONDS.toNanos(7)));
+        poolMonitor.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(SERVER_ID, 2,
+            ConnectionCheckOutFailedEvent.Reason.TIMEOUT, TimeUnit.MILLISECONDS.toNanos(500)));
+
+        assertThat(meterRegistry.get("mongodb.pool.wait").tag("outcome", "checked_out").timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(7);
+        assertThat(meterRegistry.get("mongodb.pool.wait").tag("outcome", "timeout").timer()
+            .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+    }
+
+    private static BsonDocument find() {
+        return new BsonDocument("find", new BsonString("fulfillment_orders"))
+            .append("filter", new BsonDocument("status", new BsonString("SHIPPED")));
+    }
+
+    private static CommandStartedEvent started(int requestId, String commandName, BsonDocument command) {
+        BsonDocument withSession = command.clone()
+            .append("$db", new BsonString(DATABASE))
+            .append("lsid", new BsonDocument("id", new BsonInt32(1)));
+        return new CommandStartedEvent(null, 1, requestId, CONNECTION, DATABASE, commandName,
+            new RawBsonDocument(withSession, new BsonDocumentCodec()));
+    }
+
+    private static CommandSucceededEvent succeeded(int requestId, String commandName, BsonDocument reply,
+                                                   long elapsedMillis) {
+        return new CommandSucceededEvent(null, 1, requestId, CONNECTION, DATABASE, commandName,
+            new RawBsonDocument(reply, new BsonDocumentCodec()), TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+    }
+
+    private static double size(BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec()).getByteBuffer().remaining();
+    }
+}
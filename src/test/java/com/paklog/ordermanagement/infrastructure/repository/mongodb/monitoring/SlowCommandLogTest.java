@@ -0,0 +1,102 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.infrastructure.repository.mongodb.index.QueryPlan;
+
+class SlowCommandLogTest {
+
+    private static final BsonDocument FIND = new BsonDocument("find", new BsonString("fulfillment_orders"));
+    private static final Document EXPLAIN = new Document("queryPlanner", new Document("winningPlan",
+        new Document("stage", "FETCH").append("inputStage", new Document("stage", "IXSCAN").append("indexName", "status_1"))));
+
+    private final AtomicInteger explains = new AtomicInteger();
+    private final List<Runnable> pending = new ArrayList<>();
+
+    @Test
+    void logShouldKeepTheNewestCommandsUpToItsCapacity() {
+        SlowCommandLog log = new SlowCommandLog(2, null, Duration.ofMinutes(1), Runnable::run);
+
+        log.record(command("a"), null);
+        log.record(command("b"), null);
+        log.record(command("c"), null);
+
+        assertThat(log.recent()).extracting(SlowCommand::shape).containsExactly("c", "b");
+    }
+
+    @Test
+    void slowQueryShouldBeExplainedOffTheCallingThread() {
+        SlowCommandLog log = new SlowCommandLog(10, explainer(), Duration.ofMinutes(1), pending::add);
+
+        log.record(command("a"), FIND);
+
+        assertThat(log.recent().get(0).plan()).isNull();
+        pending.forEach(Runnable::run);
+        assertThat(log.recent().get(0).plan()).isEqualTo(new QueryPlan(Set.of("FETCH", "IXSCAN"), Set.of("status_1")));
+        assertThat(log.recent().get(0).explainedAt()).isNotNull();
+    }
+
+    @Test
+    void recentlyExplainedShapeShouldReuseItsPlan() {
+        SlowCommandLog log = new SlowCommandLog(10, explainer(), Duration.ofMinutes(1), Runnable::run);
+
+        log.record(command("a"), FIND);
+        log.record(command("a"), FIND);
+
+        assertThat(explains).hasValue(1);
+        assertThat(log.recent()).allSatisfy(command -> assertThat(command.plan()).isNotNull());
+    }
+
+    @Test
+    void onlyOneExplainShouldRunAtATime() {
+        SlowCommandLog log = new SlowCommandLog(10, explainer(), Duration.ofMinutes(1), pending::add);
+
+        log.record(command("a"), FIND);
+        log.record(command("b"), FIND);
+
+        assertThat(pending).hasSize(1);
+    }
+
+    @Test
+    void failedExplainShouldKeepTheCommandWithoutAPlan() {
+        SlowCommandLog log = new SlowCommandLog(10, (database, command) -> {
+            throw new IllegalStateException("not primary");
+        }, Duration.ofMinutes(1), Runnable::run);
+
+        log.record(command("a"), FIND);
+        log.record(command("b"), FIND);
+
+        assertThat(log.recent()).extracting(SlowCommand::plan).containsOnlyNulls();
+    }
+
+    @Test
+    void capacityShouldBePositive() {
+        assertThatThrownBy(() -> new SlowCommandLog(0, null, Duration.ofMinutes(1), Runnable::run))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private SlowCommandLog.Explainer explainer() {
+        return (database, command) -> {
+            explains.incrementAndGet();
+            return EXPLAIN;
+        };
+    }
+
+    private static SlowCommand command(String shape) {
+        return new SlowCommand(Instant.now(), "order_management", "fulfillment_orders", "find", 250, true, 1,
+            shape, null, null);
+    }
+}
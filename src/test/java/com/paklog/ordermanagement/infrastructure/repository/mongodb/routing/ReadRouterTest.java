@@ -0,0 +1,100 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.mongodb.ReadPreference;
+import com.paklog.ordermanagement.infrastructure.config.ReadRoutingConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadRouterTest {
+
+    private ReadRoutingConfig config;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new ReadRoutingConfig();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void nonCriticalClassesShouldPreferSecondariesWithinTheStalenessBound() {
+        ReadRouter router = new ReadRouter(config, meterRegistry);
+
+        ReadPreference preference = router.route(QueryClass.SEARCH);
+
+        assertThat(preference.getName()).isEqualTo("secondaryPreferred");
+        assertThat(preference).isEqualTo(ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS));
+        assertThat(reads("search", "secondaryPreferred")).isEqualTo(1);
+    }
+
+    @Test
+    void statusPollsShouldReadThePrimaryByDefault() {
+        // Cache misses from a lagging secondary would be served until the cache TTL
+        ReadRouter router = new ReadRouter(config, meterRegistry);
+
+        assertThat(router.route(QueryClass.STATUS)).isEqualTo(ReadPreference.primary());
+    }
+
+    @Test
+    void consistentReadsShouldAlwaysGoToThePrimary() {
+        config.getRoutes().put(QueryClass.CONSISTENT, ReadRoutingConfig.Mode.NEAREST);
+        ReadRouter router = new ReadRouter(config, meterRegistry);
+
+        assertThat(router.route(QueryClass.CONSISTENT)).isEqualTo(ReadPreference.primary());
+        assertThat(reads("consistent", "primary")).isEqualTo(1);
+    }
+
+    @Test
+    void classesWithoutARouteShouldGoToThePrimary() {
+        config.getRoutes().remove(QueryClass.SEARCH);
+        config.getRoutes().put(QueryClass.ANALYTICS, ReadRoutingConfig.Mode.SECONDARY);
+        ReadRouter router = new ReadRouter(config, meterRegistry);
+
+        assertThat(router.preferenceOf(QueryClass.SEARCH)).isEqualTo(ReadPreference.primary());
+        assertThat(router.preferenceOf(QueryClass.ANALYTICS))
+            .isEqualTo(ReadPreference.secondary(90, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void readsInATransactionShouldGoToThePrimary() {
+        ReadRouter router = new ReadRouter(config, meterRegistry);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThat(router.route(QueryClass.SEARCH)).isEqualTo(ReadPreference.primary());
+        assertThat(reads("search", "primary")).isEqualTo(1);
+        assertThat(reads("search", "secondaryPreferred")).isZero();
+    }
+
+    @Test
+    void stalenessBoundBelowTheMongoMinimumShouldBeRejected() {
+        config.setMaxStaleness(Duration.ofSeconds(30));
+
+        assertThatThrownBy(() -> new ReadRouter(config, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("90 seconds");
+    }
+
+    private double reads(String queryClass, String readPreference) {
+        return meterRegistry.get("mongodb.reads")
+            .tag("query_class", queryClass)
+            .tag("read_preference", readPreference)
+            .counter().count();
+    }
+}
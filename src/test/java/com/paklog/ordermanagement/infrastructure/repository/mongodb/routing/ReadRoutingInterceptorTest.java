@@ -0,0 +1,147 @@
+package com.paklog.ordermanagement.infrastructure.repository.mongodb.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.client.MongoCollection;
+import com.paklog.ordermanagement.infrastructure.config.ReadRoutingConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadRoutingInterceptorTest {
+
+    private RoutingMongoTemplate template;
+    private MongoCollection<Document> collection;
+    private List<ReadPreference> readPreferences;
+    private OrderStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        template = new RoutingMongoTemplate(mock(MongoDatabaseFactory.class),
+            new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()));
+        readPreferences = new ArrayList<>();
+        collection = mock(MongoCollection.class);
+        when(collection.withReadPreference(any())).thenAnswer(invocation -> {
+            readPreferences.add(invocation.getArgument(0));
+            return collection;
+        });
+
+        ProxyFactory proxyFactory = new ProxyFactory(new RecordingStore());
+        proxyFactory.addInterface(MongoOrderStore.class);
+        proxyFactory.addAdvice(new ReadRoutingInterceptor(
+            new ReadRouter(new ReadRoutingConfig(), new SimpleMeterRegistry()), MongoOrderStore.class));
+        store = (OrderStore) proxyFactory.getProxy();
+    }
+
+    @Test
+    void readsShouldFollowTheClassBoundByTheCaller() {
+        try (ReadRouting.Scope scope = ReadRouting.bind(QueryClass.SEARCH)) {
+            store.findById("order-1");
+        }
+
+        assertThat(readPreferences).extracting(ReadPreference::getName).containsExactly("secondaryPreferred");
+    }
+
+    @Test
+    void readsWithNothingBoundShouldGoToThePrimary() {
+        store.findById("order-1");
+
+        assertThat(readPreferences).containsExactly(ReadPreference.primary());
+    }
+
+    @Test
+    void declaredRouteShouldWinOverTheCaller() {
+        try (ReadRouting.Scope scope = ReadRouting.bind(QueryClass.SEARCH)) {
+            store.findByIdempotencyKey("key-1");
+        }
+        store.search("prefix");
+
+        assertThat(readPreferences).extracting(ReadPreference::getName)
+            .containsExactly("primary", "secondaryPreferred");
+    }
+
+    @Test
+    void writesShouldNotBeRouted() {
+        try (ReadRouting.Scope scope = ReadRouting.bind(QueryClass.SEARCH)) {
+            store.save("order-1");
+        }
+
+        assertThat(readPreferences).isEmpty();
+        assertThat(ReadRouting.current()).isEmpty();
+    }
+
+    /**
+     * Stands in for a domain repository.
+     */
+    interface OrderStore {
+
+        String findById(String orderId);
+
+        String findByIdempotencyKey(String idempotencyKey);
+
+        List<String> search(String prefix);
+
+        void save(String order);
+    }
+
+    /**
+     * Stands in for the MongoDB repository that declares the routes.
+     */
+    interface MongoOrderStore extends OrderStore, SearchFragment {
+
+        @Override
+        @ReadRoute(QueryClass.CONSISTENT)
+        String findByIdempotencyKey(String idempotencyKey);
+    }
+
+    /**
+     * Stands in for a repository fragment that declares a route.
+     */
+    interface SearchFragment {
+
+        @ReadRoute(QueryClass.SEARCH)
+        List<String> search(String prefix);
+    }
+
+    private class RecordingStore implements MongoOrderStore {
+
+        @Override
+        public String findById(String orderId) {
+            template.prepareCollection(collection);
+            return orderId;
+        }
+
+        @Override
+        public String findByIdempotencyKey(String idempotencyKey) {
+            template.prepareCollection(collection);
+            return idempotencyKey;
+        }
+
+        @Override
+        public List<String> search(String prefix) {
+            template.prepareCollection(collection);
+            return List.of(prefix);
+        }
+
+        @Override
+        public void save(String order) {
+            template.prepareCollection(collection);
+        }
+    }
+}
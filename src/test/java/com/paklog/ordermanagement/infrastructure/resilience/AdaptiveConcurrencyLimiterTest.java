@@ -0,0 +1,180 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.paklog.ordermanagement.infrastructure.config.ConcurrencyLimitConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private ConcurrencyLimitConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new ConcurrencyLimitConfig();
+        config.setInitialLimit(4);
+        config.setMinLimit(1);
+        config.setMaxLimit(8);
+        config.setSlowCallThreshold(Duration.ofSeconds(10));
+        config.setLatencyTolerance(1000.0);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void rejectsCallsBeyondLimitAndCountsThem() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThatThrownBy(() -> limiter.execute(() -> "x"))
+            .isInstanceOf(ConcurrencyLimitExceededException.class);
+        assertThat(meterRegistry.get("resilience.concurrency.rejected").tag("name", "inventory").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("resilience.concurrency.inflight").tag("name", "inventory").gauge().value())
+            .isEqualTo(4.0);
+
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::onIgnore);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    void growsWhileUtilizedAndShrinksOnCongestion() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        saturateAndSucceed(limiter);
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+
+        int grown = limiter.getLimit();
+        limiter.tryAcquire().orElseThrow().onError(new ResourceAccessException("Read timed out"));
+
+        assertThat(limiter.getLimit()).isLessThan(grown);
+        assertThat(meterRegistry.get("resilience.concurrency.limit").tag("name", "inventory").gauge().value())
+            .isEqualTo(limiter.getLimit());
+    }
+
+    @Test
+    void neverShrinksBelowMinimumOrGrowsAboveMaximum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire().orElseThrow().onError(new ResourceAccessException("Connection refused"));
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndSucceed(limiter);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void slowCallsCountAsCongestion() throws InterruptedException {
+        config.setSlowCallThreshold(Duration.ofMillis(1));
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire().orElseThrow();
+        Thread.sleep(5);
+        permit.onSuccess();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void clientErrorsAreAnswersButTooManyRequestsIsCongestion() {
+        assertThat(AdaptiveConcurrencyLimiter.isCongestionSignal(HttpClientErrorException.create(
+            HttpStatus.NOT_FOUND, "Not Found", null, null, null))).isFalse();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestionSignal(HttpClientErrorException.create(
+            HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestionSignal(new ResourceAccessException("timeout"))).isTrue();
+    }
+
+    @Test
+    void interruptedCallsReleaseTheirPermitWithoutShrinkingTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        try {
+            assertThatThrownBy(() -> limiter.execute(() -> {
+                Thread.currentThread().interrupt();
+                throw new ResourceAccessException("Closed by interrupt");
+            })).isInstanceOf(ResourceAccessException.class);
+        } finally {
+            Thread.interrupted();
+        }
+        limiter.tryAcquire().orElseThrow().onError(
+            new ResourceAccessException("I/O error", new InterruptedIOException("Request aborted")));
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void timeoutsAreNotInterruptions() {
+        assertThat(AdaptiveConcurrencyLimiter.isInterruption(
+            new ResourceAccessException("Request aborted", new InterruptedIOException()))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isInterruption(new IllegalStateException(new InterruptedException())))
+            .isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isInterruption(
+            new ResourceAccessException("Read timed out", new SocketTimeoutException()))).isFalse();
+    }
+
+    @Test
+    void disabledLimiterNeverRejects() {
+        config.setEnabled(false);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("inventory", config, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isPresent();
+        }
+        assertThat(limiter.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void monoCallsAcquireOnSubscribeAndReleaseOnCompletion() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("productCatalog", config, meterRegistry);
+
+        assertThat(limiter.limit(Mono.just("ok")).block()).isEqualTo("ok");
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new ResourceAccessException("timeout"))).block())
+            .isInstanceOf(ResourceAccessException.class);
+        assertThat(limiter.getInFlight()).isZero();
+
+        for (int i = 0; i < limiter.getLimit(); i++) {
+            limiter.tryAcquire().orElseThrow();
+        }
+        assertThatThrownBy(() -> limiter.limit(Mono.just("ok")).block())
+            .isInstanceOf(ConcurrencyLimitExceededException.class);
+    }
+
+    /**
+     * Fills the limit, then completes every call successfully.
+     */
+    private void saturateAndSucceed(AdaptiveConcurrencyLimiter limiter) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit;
+        while ((permit = limiter.tryAcquire()).isPresent()) {
+            permits.add(permit.get());
+        }
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+    }
+}
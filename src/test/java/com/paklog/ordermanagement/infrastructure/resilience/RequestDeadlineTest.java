@@ -0,0 +1,51 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class RequestDeadlineTest {
+
+    @Test
+    void capsTimeoutsAtRemainingTime() {
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofMillis(200));
+
+        assertThat(deadline.cap(Duration.ofSeconds(3))).isLessThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(deadline.cap(Duration.ofMillis(50))).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    void expiredDeadlineFailsFastButNeverYieldsZeroTimeout() {
+        RequestDeadline deadline = RequestDeadline.after(Duration.ZERO);
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+        assertThat(deadline.cap(Duration.ofSeconds(3))).isEqualTo(Duration.ofMillis(1));
+        assertThatThrownBy(() -> deadline.checkNotExpired("inventory lookup"))
+            .isInstanceOf(DeadlineExceededException.class)
+            .hasMessageContaining("inventory lookup");
+    }
+
+    @Test
+    void bindingIsScopedToCurrentThreadAndRestoresPrevious() {
+        RequestDeadline outer = RequestDeadline.after(Duration.ofSeconds(10));
+        RequestDeadline inner = RequestDeadline.after(Duration.ZERO);
+
+        assertThat(RequestDeadline.current()).isEmpty();
+        RequestDeadline.checkCurrent("no deadline bound");
+
+        try (RequestDeadline.Scope outerScope = RequestDeadline.bind(outer)) {
+            try (RequestDeadline.Scope innerScope = RequestDeadline.bind(inner)) {
+                assertThat(RequestDeadline.current()).containsSame(inner);
+                assertThatThrownBy(() -> RequestDeadline.checkCurrent("repository call"))
+                    .isInstanceOf(DeadlineExceededException.class);
+            }
+            assertThat(RequestDeadline.current()).containsSame(outer);
+            assertThat(RequestDeadline.capCurrent(Duration.ofSeconds(3))).isEqualTo(Duration.ofSeconds(3));
+        }
+        assertThat(RequestDeadline.current()).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package com.paklog.ordermanagement.infrastructure.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paklog.ordermanagement.infrastructure.config.RetryBudgetConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RetryBudgetTest {
+
+    private static final Duration NEXT_ATTEMPT = Duration.ofMillis(1300);
+
+    private final AtomicLong clock = new AtomicLong();
+    private RetryBudgetConfig config;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        config = new RetryBudgetConfig();
+        config.setRetryRatio(0.1);
+        config.setMinRetriesPerSecond(1.0);
+        config.setMaxTokens(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void capsRetriesToShareOfTraffic() {
+        RetryBudget budget = new RetryBudget(config, meterRegistry, clock::get);
+
+        // Drain the initial burst allowance
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isFalse();
+
+        // Ten requests pay for one retry
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isFalse();
+
+        assertThat(meterRegistry.get("resilience.retry.skipped").tag("reason", "budget").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("resilience.retry.permitted").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void refillsOverTimeUpToCapacity() {
+        RetryBudget budget = new RetryBudget(config, meterRegistry, clock::get);
+        budget.tryAcquireRetry(NEXT_ATTEMPT);
+        budget.tryAcquireRetry(NEXT_ATTEMPT);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(budget.getAvailableTokens()).isEqualTo(2.0);
+    }
+
+    @Test
+    void skipsRetryWhenDeadlineLeavesTooLittleTime() {
+        RetryBudget budget = new RetryBudget(config, meterRegistry, clock::get);
+
+        try (RequestDeadline.Scope scope = RequestDeadline.bind(RequestDeadline.after(Duration.ofMillis(500)))) {
+            assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isFalse();
+        }
+        assertThat(budget.getAvailableTokens()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("resilience.retry.skipped").tag("reason", "deadline").counter().count())
+            .isEqualTo(1.0);
+
+        try (RequestDeadline.Scope scope = RequestDeadline.bind(RequestDeadline.after(Duration.ofSeconds(10)))) {
+            assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+        }
+    }
+
+    @Test
+    void disabledBudgetOnlyEnforcesDeadline() {
+        config.setEnabled(false);
+        RetryBudget budget = new RetryBudget(config, meterRegistry, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(budget.tryAcquireRetry(NEXT_ATTEMPT)).isTrue();
+        }
+    }
+}
@@ -5,14 +5,21 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -22,19 +29,27 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.paklog.ordermanagement.application.service.EventPublisherService;
 import com.paklog.ordermanagement.application.service.FulfillmentOrderService;
+import com.paklog.ordermanagement.application.service.OrderIntakePipeline;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
+import com.paklog.ordermanagement.domain.model.FulfillmentOrderStatus;
 import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
 import com.paklog.ordermanagement.domain.model.OrderItem;
-import com.paklog.ordermanagement.domain.service.OrderValidationService;
+import com.paklog.ordermanagement.domain.repository.OrderSearchCriteria;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPage;
+import com.paklog.ordermanagement.domain.repository.OrderSearchPosition;
+import com.paklog.ordermanagement.infrastructure.cache.OrderResponseCache;
+import com.paklog.ordermanagement.infrastructure.config.OrderStreamConfig;
 import com.paklog.ordermanagement.interfaces.dto.CancelFulfillmentOrderRequest;
+import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderBatchRequest;
 import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderRequest;
 import com.paklog.ordermanagement.interfaces.dto.FulfillmentOrderDto;
 
 @WebMvcTest(FulfillmentOrderController.class)
+@Import(OrderStreamConfig.class)
 @ActiveProfiles("test")
 class FulfillmentOrderControllerTest {
 
@@ -48,10 +63,10 @@ class FulfillmentOrderControllerTest {
     private FulfillmentOrderService fulfillmentOrderService;
 
     @MockBean
-    private OrderValidationService orderValidationService;
+    private OrderIntakePipeline orderIntakePipeline;
 
     @MockBean
-    private EventPublisherService eventPublisherService;
+    private OrderResponseCache orderResponseCache;
 
     private FulfillmentOrder testOrder;
     private FulfillmentOrderDto testOrderDto;
@@ -60,21 +75,19 @@ class FulfillmentOrderControllerTest {
     void setUp() {
         testOrder = createTestOrder();
         testOrderDto = convertToDto(testOrder);
-
-        // Mock validation service to return success by default
-        when(orderValidationService.validate(any(FulfillmentOrder.class)))
-            .thenReturn(OrderValidationService.ValidationResult.success());
-
-        // Mock inventory check to return all available by default
-        when(orderValidationService.checkInventoryAvailability(any(FulfillmentOrder.class)))
-            .thenReturn(OrderValidationService.InventoryAvailabilityResult.allAvailable());
+        // Read through to the service unless a test caches a body
+        when(orderResponseCache.get(any(UUID.class), any())).thenAnswer(invocation -> {
+            Function<UUID, byte[]> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
     }
 
     @Test
     void testCreateFulfillmentOrder_Success() throws Exception {
         // Given
         CreateFulfillmentOrderRequest request = createTestRequest();
-        when(fulfillmentOrderService.createOrder(any(FulfillmentOrder.class))).thenReturn(testOrder);
+        when(orderIntakePipeline.submit(any(FulfillmentOrder.class)))
+                .thenReturn(OrderIntakePipeline.IntakeResult.created(testOrder));
 
         // When & Then
         mockMvc.perform(post("/fulfillment_orders")
@@ -91,7 +104,7 @@ class FulfillmentOrderControllerTest {
     void testCreateFulfillmentOrder_Conflict() throws Exception {
         // Given
         CreateFulfillmentOrderRequest request = createTestRequest();
-        when(fulfillmentOrderService.createOrder(any(FulfillmentOrder.class)))
+        when(orderIntakePipeline.submit(any(FulfillmentOrder.class)))
                 .thenThrow(new IllegalStateException("Order with sellerFulfillmentOrderId already exists"));
 
         // When & Then
@@ -102,6 +115,132 @@ class FulfillmentOrderControllerTest {
                 .andExpect(status().isConflict());
     }
 
+    @Test
+    void testCreateFulfillmentOrderBatch_ReportsEachOrder() throws Exception {
+        // Given
+        CreateFulfillmentOrderBatchRequest request = new CreateFulfillmentOrderBatchRequest();
+        CreateFulfillmentOrderBatchRequest.Entry invalid = createTestBatchEntry("key-2");
+        invalid.setSellerFulfillmentOrderId(null);
+        request.setOrders(List.of(createTestBatchEntry("key-1"), invalid, createTestBatchEntry("key-3")));
+        when(orderIntakePipeline.submitBatch(any())).thenReturn(List.of(
+                OrderIntakePipeline.IntakeResult.created(testOrder),
+                OrderIntakePipeline.IntakeResult.conflict("Order with sellerFulfillmentOrderId already exists")));
+
+        // When & Then
+        mockMvc.perform(post("/fulfillment_orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(3))
+                .andExpect(jsonPath("$.results[0].idempotency_key").value("key-1"))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].status").value(202))
+                .andExpect(jsonPath("$.results[0].order.order_id").value(testOrder.getOrderId().toString()))
+                .andExpect(jsonPath("$.results[1].outcome").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].errors[0]").value(
+                        "sellerFulfillmentOrderId: Seller fulfillment order ID is required"))
+                .andExpect(jsonPath("$.results[2].outcome").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[2].status").value(409))
+                .andExpect(jsonPath("$.results[2].order").doesNotExist());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FulfillmentOrder>> submitted = ArgumentCaptor.forClass(List.class);
+        verify(orderIntakePipeline).submitBatch(submitted.capture());
+        assertThat(submitted.getValue()).extracting(FulfillmentOrder::getIdempotencyKey)
+                .containsExactly("key-1", "key-3");
+    }
+
+    @Test
+    void testCreateFulfillmentOrderBatch_RejectsEmptyBatch() throws Exception {
+        mockMvc.perform(post("/fulfillment_orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orders\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderIntakePipeline, never()).submitBatch(any());
+    }
+
+    @Test
+    void testImportFulfillmentOrders_ReportsProgressPerBatch() throws Exception {
+        // Given
+        String body = objectMapper.writeValueAsString(createTestBatchEntry("key-1")) + "\n"
+                + "{\"idempotency_key\": \"key-2\", \"items\": {\"seller_sku\": \"SKU-1\"}}\n"
+                + objectMapper.writeValueAsString(createTestBatchEntry("key-3")) + "\n";
+        when(orderIntakePipeline.submitBatch(any())).thenReturn(List.of(
+                OrderIntakePipeline.IntakeResult.created(testOrder),
+                OrderIntakePipeline.IntakeResult.conflict("Order with sellerFulfillmentOrderId already exists")));
+
+        // When
+        String response = mockMvc.perform(post("/fulfillment_orders/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode progress = objectMapper.readTree(lines[0]);
+        assertThat(progress.get("orders_read").asLong()).isEqualTo(3);
+        assertThat(progress.get("outcomes").get("CREATED").asLong()).isEqualTo(1);
+        assertThat(progress.get("outcomes").get("INVALID").asLong()).isEqualTo(1);
+        assertThat(progress.get("outcomes").get("CONFLICT").asLong()).isEqualTo(1);
+        assertThat(progress.get("failures")).extracting(failure -> failure.get("line").asLong())
+                .containsExactly(2L, 3L);
+        assertThat(progress.get("complete").asBoolean()).isFalse();
+        JsonNode last = objectMapper.readTree(lines[1]);
+        assertThat(last.get("complete").asBoolean()).isTrue();
+        assertThat(last.get("orders_read").asLong()).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FulfillmentOrder>> submitted = ArgumentCaptor.forClass(List.class);
+        verify(orderIntakePipeline).submitBatch(submitted.capture());
+        assertThat(submitted.getValue()).extracting(FulfillmentOrder::getIdempotencyKey)
+                .containsExactly("key-1", "key-3");
+    }
+
+    @Test
+    void testImportFulfillmentOrders_StopsAtMalformedJson() throws Exception {
+        // When
+        String response = mockMvc.perform(post("/fulfillment_orders/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"idempotency_key\": \"key-1\",\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode last = objectMapper.readTree(response.trim());
+        assertThat(last.get("complete").asBoolean()).isFalse();
+        assertThat(last.get("error").asText()).startsWith("Malformed JSON at line 2");
+        verify(orderIntakePipeline, never()).submitBatch(any());
+    }
+
+    @Test
+    void testExportFulfillmentOrders_StreamsOneOrderPerLine() throws Exception {
+        // Given
+        FulfillmentOrder otherOrder = createTestOrder();
+        when(fulfillmentOrderService.streamOrders(any(OrderSearchCriteria.class)))
+                .thenReturn(Stream.of(testOrder, otherOrder));
+
+        // When
+        String response = mockMvc.perform(get("/fulfillment_orders/export").param("status", "RECEIVED"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(response).endsWith("\n");
+        assertThat(response.split("\n")).extracting(line -> objectMapper.readTree(line).get("order_id").asText())
+                .containsExactly(testOrder.getOrderId().toString(), otherOrder.getOrderId().toString());
+
+        ArgumentCaptor<OrderSearchCriteria> criteria = ArgumentCaptor.forClass(OrderSearchCriteria.class);
+        verify(fulfillmentOrderService).streamOrders(criteria.capture());
+        assertThat(criteria.getValue().getStatus()).isEqualTo(FulfillmentOrderStatus.RECEIVED);
+        assertThat(criteria.getValue().getLimit()).isEqualTo(Integer.MAX_VALUE);
+    }
+
     @Test
     void testGetFulfillmentOrderById_Success() throws Exception {
         // Given
@@ -115,6 +254,22 @@ class FulfillmentOrderControllerTest {
                 .andExpect(jsonPath("$.order_id").value(testOrderDto.getOrderId().toString()));
     }
 
+    @Test
+    void testGetFulfillmentOrderById_ServesCachedBodyWithoutLoading() throws Exception {
+        // Given
+        UUID orderId = testOrder.getOrderId();
+        byte[] cached = objectMapper.writeValueAsBytes(testOrderDto);
+        when(orderResponseCache.get(any(UUID.class), any())).thenReturn(cached);
+
+        // When & Then
+        mockMvc.perform(get("/fulfillment_orders/{order_id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(cached));
+
+        verify(fulfillmentOrderService, never()).getOrderById(any());
+    }
+
     @Test
     void testGetFulfillmentOrderById_NotFound() throws Exception {
         // Given
@@ -126,6 +281,79 @@ class FulfillmentOrderControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testSearchFulfillmentOrders_ReturnsSummariesAndNextPageToken() throws Exception {
+        // Given
+        OrderSearchPosition next = OrderSearchPosition.byReceivedDate(testOrder.getReceivedDate(), testOrder.getOrderId());
+        when(fulfillmentOrderService.searchOrders(any(OrderSearchCriteria.class)))
+                .thenReturn(new OrderSearchPage(List.of(testOrder), next));
+
+        // When & Then
+        mockMvc.perform(get("/fulfillment_orders").param("status", "NEW").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].order_id").value(testOrder.getOrderId().toString()))
+                .andExpect(jsonPath("$.orders[0].item_count").value(1))
+                .andExpect(jsonPath("$.orders[0].items").doesNotExist())
+                .andExpect(jsonPath("$.orders[0].destination_address").doesNotExist())
+                .andExpect(jsonPath("$.next_page_token").value(next.toPageToken()));
+
+        ArgumentCaptor<OrderSearchCriteria> criteria = ArgumentCaptor.forClass(OrderSearchCriteria.class);
+        verify(fulfillmentOrderService).searchOrders(criteria.capture());
+        assertThat(criteria.getValue().getStatus()).isEqualTo(FulfillmentOrderStatus.NEW);
+        assertThat(criteria.getValue().getLimit()).isEqualTo(1);
+        assertThat(criteria.getValue().getAfter()).isNull();
+    }
+
+    @Test
+    void testSearchFulfillmentOrders_IncludesRequestedFields() throws Exception {
+        // Given
+        when(fulfillmentOrderService.searchOrders(any(OrderSearchCriteria.class)))
+                .thenReturn(new OrderSearchPage(List.of(testOrder), null));
+
+        // When & Then
+        mockMvc.perform(get("/fulfillment_orders").param("include", "items", "destination_address"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders[0].items[0].seller_sku").value("SKU-123"))
+                .andExpect(jsonPath("$.orders[0].destination_address.name").value("John Doe"))
+                .andExpect(jsonPath("$.next_page_token").doesNotExist());
+    }
+
+    @Test
+    void testSearchFulfillmentOrders_PageTokenContinuesFromPosition() throws Exception {
+        // Given
+        OrderSearchPosition position = OrderSearchPosition.bySellerOrderId("SELLER-42");
+        when(fulfillmentOrderService.searchOrders(any(OrderSearchCriteria.class)))
+                .thenReturn(new OrderSearchPage(List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/fulfillment_orders")
+                .param("seller_order_id_prefix", "SELLER-")
+                .param("page_token", position.toPageToken()))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<OrderSearchCriteria> criteria = ArgumentCaptor.forClass(OrderSearchCriteria.class);
+        verify(fulfillmentOrderService).searchOrders(criteria.capture());
+        assertThat(criteria.getValue().getAfter().getSellerFulfillmentOrderId()).isEqualTo("SELLER-42");
+    }
+
+    @Test
+    void testSearchFulfillmentOrders_RejectsInvalidRequests() throws Exception {
+        String receivedDateToken = OrderSearchPosition.byReceivedDate(LocalDateTime.now(), UUID.randomUUID()).toPageToken();
+
+        mockMvc.perform(get("/fulfillment_orders").param("page_token", "not-a-token"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/fulfillment_orders")
+                .param("seller_order_id_prefix", "SELLER-")
+                .param("page_token", receivedDateToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/fulfillment_orders").param("include", "everything"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/fulfillment_orders").param("limit", "1000"))
+                .andExpect(status().isBadRequest());
+
+        verify(fulfillmentOrderService, never()).searchOrders(any());
+    }
+
     @Test
     void testCancelFulfillmentOrder_Success() throws Exception {
         // Given
@@ -138,6 +366,8 @@ class FulfillmentOrderControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isAccepted());
+
+        verify(orderResponseCache).invalidate(orderId);
     }
 
     @Test
@@ -168,6 +398,19 @@ class FulfillmentOrderControllerTest {
         return request;
     }
 
+    private CreateFulfillmentOrderBatchRequest.Entry createTestBatchEntry(String idempotencyKey) {
+        CreateFulfillmentOrderBatchRequest.Entry entry = new CreateFulfillmentOrderBatchRequest.Entry();
+        entry.setIdempotencyKey(idempotencyKey);
+        entry.setSellerFulfillmentOrderId("seller-" + idempotencyKey);
+        entry.setDisplayableOrderId("display-123");
+        entry.setDisplayableOrderDate(LocalDateTime.now());
+        entry.setShippingSpeedCategory("STANDARD");
+        entry.setDestinationAddress(createTestAddress());
+        entry.setItems(createTestItems());
+        entry.setFulfillmentPolicy(FulfillmentPolicy.FILL_ALL_AVAILABLE);
+        return entry;
+    }
+
     private FulfillmentOrder createTestOrder() {
         FulfillmentOrder order = new FulfillmentOrder(
                 UUID.randomUUID(),
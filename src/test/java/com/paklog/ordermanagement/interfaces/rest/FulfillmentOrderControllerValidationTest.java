@@ -17,17 +17,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.paklog.ordermanagement.application.service.EventPublisherService;
 import com.paklog.ordermanagement.application.service.FulfillmentOrderService;
+import com.paklog.ordermanagement.application.service.OrderIntakePipeline;
 import com.paklog.ordermanagement.domain.model.Address;
 import com.paklog.ordermanagement.domain.model.FulfillmentOrder;
 import com.paklog.ordermanagement.domain.model.FulfillmentPolicy;
 import com.paklog.ordermanagement.domain.model.OrderItem;
-import com.paklog.ordermanagement.domain.service.OrderValidationService;
+import com.paklog.ordermanagement.infrastructure.cache.OrderResponseCache;
+import com.paklog.ordermanagement.infrastructure.config.OrderStreamConfig;
 import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderRequest;
 
 @WebMvcTest(controllers = FulfillmentOrderController.class,
@@ -35,6 +37,7 @@ import com.paklog.ordermanagement.interfaces.dto.CreateFulfillmentOrderRequest;
         type = org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE,
         classes = GlobalExceptionHandler.class
     ))
+@Import(OrderStreamConfig.class)
 @DisplayName("FulfillmentOrderController Validation Tests")
 class FulfillmentOrderControllerValidationTest {
 
@@ -48,10 +51,10 @@ class FulfillmentOrderControllerValidationTest {
     private FulfillmentOrderService fulfillmentOrderService;
 
     @MockBean
-    private OrderValidationService orderValidationService;
+    private OrderIntakePipeline orderIntakePipeline;
 
     @MockBean
-    private EventPublisherService eventPublisherService;
+    private OrderResponseCache orderResponseCache;
 
     @Test
     @DisplayName("Should reject request when Idempotency-Key header is missing")
@@ -65,7 +68,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -82,7 +85,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -99,7 +102,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -116,7 +119,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -133,7 +136,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -150,7 +153,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -167,7 +170,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -184,7 +187,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -210,7 +213,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -229,7 +232,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
 
-        verify(fulfillmentOrderService, never()).createOrder(any());
+        verify(orderIntakePipeline, never()).submit(any());
     }
 
     @Test
@@ -239,11 +242,8 @@ class FulfillmentOrderControllerValidationTest {
         CreateFulfillmentOrderRequest request = createValidRequest();
         FulfillmentOrder createdOrder = createMockOrder();
 
-        when(orderValidationService.validate(any()))
-            .thenReturn(OrderValidationService.ValidationResult.success());
-        when(orderValidationService.checkInventoryAvailability(any()))
-            .thenReturn(OrderValidationService.InventoryAvailabilityResult.allAvailable());
-        when(fulfillmentOrderService.createOrder(any())).thenReturn(createdOrder);
+        when(orderIntakePipeline.submit(any()))
+            .thenReturn(OrderIntakePipeline.IntakeResult.created(createdOrder));
 
         // When & Then
         mockMvc.perform(post("/fulfillment_orders")
@@ -252,7 +252,7 @@ class FulfillmentOrderControllerValidationTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isAccepted());
 
-        verify(fulfillmentOrderService).createOrder(any());
+        verify(orderIntakePipeline).submit(any());
     }
 
     // Helper methods
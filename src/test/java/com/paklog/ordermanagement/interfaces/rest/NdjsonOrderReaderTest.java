@@ -0,0 +1,68 @@
+package com.paklog.ordermanagement.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class NdjsonOrderReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldReadAtMostTheRequestedNumberOfLines() throws Exception {
+        try (NdjsonOrderReader reader = reader("""
+                {"idempotency_key": "key-1"}
+                {"idempotency_key": "key-2"}
+
+                {"idempotency_key": "key-3"}
+                """)) {
+            List<NdjsonOrderReader.Line> first = reader.read(2);
+            List<NdjsonOrderReader.Line> second = reader.read(2);
+
+            assertThat(first).extracting(line -> line.entry().getIdempotencyKey()).containsExactly("key-1", "key-2");
+            assertThat(second).extracting(NdjsonOrderReader.Line::number).containsExactly(4L);
+            assertThat(reader.read(2)).isEmpty();
+        }
+    }
+
+    @Test
+    void lineThatDoesNotBindShouldBeReportedAndSkipped() throws Exception {
+        try (NdjsonOrderReader reader = reader("""
+                {"idempotency_key": "key-1", "items": [{"seller_sku": "SKU-1", "quantity": "many"}], "shipping_speed_category": "STANDARD"}
+                [1, 2]
+                {"idempotency_key": "key-3"}
+                """)) {
+            List<NdjsonOrderReader.Line> lines = reader.read(10);
+
+            assertThat(lines).hasSize(3);
+            assertThat(lines.get(0).entry()).isNull();
+            assertThat(lines.get(0).error()).contains("many");
+            assertThat(lines.get(1).error()).isEqualTo("Expected a JSON object");
+            assertThat(lines.get(2).number()).isEqualTo(3);
+            assertThat(lines.get(2).entry().getIdempotencyKey()).isEqualTo("key-3");
+        }
+    }
+
+    @Test
+    void malformedJsonShouldEndTheImport() throws Exception {
+        try (NdjsonOrderReader reader = reader("""
+                {"idempotency_key": "key-1"}
+                {"idempotency_key": }
+                """)) {
+            assertThatThrownBy(() -> reader.read(10)).isInstanceOf(StreamReadException.class);
+        }
+    }
+
+    private NdjsonOrderReader reader(String body) throws Exception {
+        return new NdjsonOrderReader(objectMapper, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}